@@ -100,7 +100,9 @@ public final class ApacheClientProperties {
     /**
      * Connection Manager which will be used to create {@link org.apache.http.client.HttpClient}.
      * <p/>
-     * The value MUST be an instance of {@link org.apache.http.conn.HttpClientConnectionManager}.
+     * The value MUST be an instance of {@link org.apache.http.conn.HttpClientConnectionManager} or, if
+     * {@link #NON_BLOCKING} is enabled, of {@link org.apache.http.nio.conn.NHttpClientConnectionManager} that is then
+     * used by the non-blocking requests only.
      * <p/>
      * If the property is absent a default Connection Manager will be used
      * ({@link org.apache.http.impl.conn.BasicHttpClientConnectionManager}).
@@ -158,6 +160,82 @@ public final class ApacheClientProperties {
      */
     public static final String RETRY_HANDLER = "jersey.config.apache.client.retryHandler";
 
+    /**
+     * A value of {@code true} enables the non-blocking execution of asynchronous requests.
+     * <p>
+     * If enabled, requests invoked via {@link javax.ws.rs.client.SyncInvoker#async() async()} or
+     * {@link javax.ws.rs.client.SyncInvoker#rx() rx()} invokers are executed by an
+     * {@link org.apache.http.nio.client.HttpAsyncClient} backed by an NIO reactor and a pooled connection manager, so no
+     * thread is blocked while the request is in flight. Response entities are streamed to the reading thread as they
+     * arrive. Synchronous requests are still executed by the blocking {@link org.apache.http.client.HttpClient}.
+     * <p/>
+     * The {@link #CREDENTIALS_PROVIDER}, {@link #DISABLE_COOKIES}, {@link #PREEMPTIVE_BASIC_AUTHENTICATION},
+     * {@link #REQUEST_CONFIG} and {@link #CONNECTION_MANAGER_SHARED} properties as well as the proxy settings apply
+     * to the non-blocking requests too. A {@link org.apache.http.nio.conn.NHttpClientConnectionManager} instance
+     * may be provided via {@link #CONNECTION_MANAGER}. Request entities of the non-blocking requests are always
+     * buffered and {@link #RETRY_HANDLER} is not supported.
+     * <p>
+     * Unless a connection manager is provided, the non-blocking requests are executed on a connection pool limited by
+     * {@link #NON_BLOCKING_MAX_CONNECTIONS_PER_ROUTE} and {@link #NON_BLOCKING_MAX_CONNECTIONS}. Requests exceeding the
+     * limits wait in the pool for a free connection.
+     * <p>
+     * This property may only be set prior to constructing Apache connector using {@link ApacheConnectorProvider}.
+     * <p/>
+     * The value MUST be an instance of {@link java.lang.Boolean}.
+     * <p/>
+     * The default value is {@code false}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 2.27
+     */
+    public static final String NON_BLOCKING = "jersey.config.apache.client.nonBlocking";
+
+    /**
+     * Maximal number of connections per route ({@link Integer} value) of the connection pool used by the
+     * {@link #NON_BLOCKING non-blocking} requests. The property is ignored if a connection manager is provided via
+     * {@link #CONNECTION_MANAGER}.
+     * <p>
+     * This property may only be set prior to constructing Apache connector using {@link ApacheConnectorProvider}.
+     * <p/>
+     * The default value is {@value #DEFAULT_NON_BLOCKING_MAX_CONNECTIONS_PER_ROUTE}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 2.27
+     */
+    public static final String NON_BLOCKING_MAX_CONNECTIONS_PER_ROUTE =
+            "jersey.config.apache.client.nonBlocking.maxConnectionsPerRoute";
+
+    /**
+     * Default value of the {@link #NON_BLOCKING_MAX_CONNECTIONS_PER_ROUTE} property.
+     *
+     * @since 2.27
+     */
+    public static final int DEFAULT_NON_BLOCKING_MAX_CONNECTIONS_PER_ROUTE = 100;
+
+    /**
+     * Maximal total number of connections ({@link Integer} value) of the connection pool used by the
+     * {@link #NON_BLOCKING non-blocking} requests. The property is ignored if a connection manager is provided via
+     * {@link #CONNECTION_MANAGER}.
+     * <p>
+     * This property may only be set prior to constructing Apache connector using {@link ApacheConnectorProvider}.
+     * <p/>
+     * The default value is {@value #DEFAULT_NON_BLOCKING_MAX_CONNECTIONS}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 2.27
+     */
+    public static final String NON_BLOCKING_MAX_CONNECTIONS = "jersey.config.apache.client.nonBlocking.maxConnections";
+
+    /**
+     * Default value of the {@link #NON_BLOCKING_MAX_CONNECTIONS} property.
+     *
+     * @since 2.27
+     */
+    public static final int DEFAULT_NON_BLOCKING_MAX_CONNECTIONS = 1000;
+
     /**
      * Get the value of the specified property.
      *
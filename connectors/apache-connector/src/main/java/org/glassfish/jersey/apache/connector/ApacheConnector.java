@@ -47,13 +47,22 @@ import java.io.Closeable;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -75,6 +84,7 @@ import org.glassfish.jersey.client.ClientResponse;
 import org.glassfish.jersey.client.RequestEntityProcessing;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
 import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.message.internal.HeaderUtils;
 import org.glassfish.jersey.message.internal.OutboundMessageContext;
@@ -84,6 +94,7 @@ import org.glassfish.jersey.message.internal.Statuses;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.AuthCache;
@@ -96,6 +107,7 @@ import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.config.ConnectionConfig;
 import org.apache.http.config.Registry;
@@ -111,6 +123,7 @@ import org.apache.http.conn.ssl.SSLContexts;
 import org.apache.http.entity.AbstractHttpEntity;
 import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.entity.ContentLengthStrategy;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.auth.BasicScheme;
 import org.apache.http.impl.client.BasicAuthCache;
 import org.apache.http.impl.client.BasicCookieStore;
@@ -121,7 +134,23 @@ import org.apache.http.impl.conn.DefaultManagedHttpClientConnection;
 import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.impl.io.ChunkedOutputStream;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.apache.http.io.SessionOutputBuffer;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.protocol.HttpContext;
 import org.apache.http.util.TextUtils;
 import org.apache.http.util.VersionInfo;
 
@@ -141,6 +170,9 @@ import org.apache.http.util.VersionInfo;
  * <li>{@link ClientProperties#REQUEST_ENTITY_PROCESSING} - default value is {@link RequestEntityProcessing#CHUNKED}</li>
  * <li>{@link ApacheClientProperties#PREEMPTIVE_BASIC_AUTHENTICATION}</li>
  * <li>{@link ApacheClientProperties#RETRY_HANDLER}</li>
+ * <li>{@link ApacheClientProperties#NON_BLOCKING}</li>
+ * <li>{@link ApacheClientProperties#NON_BLOCKING_MAX_CONNECTIONS_PER_ROUTE}</li>
+ * <li>{@link ApacheClientProperties#NON_BLOCKING_MAX_CONNECTIONS}</li>
  * </ul>
  * <p>
  * This connector uses {@link RequestEntityProcessing#CHUNKED chunked encoding} as a default setting. This can
@@ -174,6 +206,12 @@ import org.apache.http.util.VersionInfo;
  * connection-based resources.
  * </p>
  * <p>
+ * Asynchronous requests are by default executed by the blocking HTTP client on the client's async request executor
+ * thread. If {@link ApacheClientProperties#NON_BLOCKING} is enabled, asynchronous requests are executed by the Apache
+ * HTTP Async Client instead and the response (including the streamed response entity) is delivered without blocking
+ * any thread for the duration of the request.
+ * </p>
+ * <p>
  * The following methods are currently supported: HEAD, GET, POST, PUT, DELETE, OPTIONS, PATCH and TRACE.
  * </p>
  *
@@ -200,6 +238,8 @@ class ApacheConnector implements Connector {
     private final CookieStore cookieStore;
     private final boolean preemptiveBasicAuth;
     private final RequestConfig requestConfig;
+    private final CloseableHttpAsyncClient asyncClient;
+    private final ExecutorService callbackExecutor;
 
     /**
      * Create the new Apache HTTP Client connector.
@@ -208,9 +248,11 @@ class ApacheConnector implements Connector {
      * @param config client configuration.
      */
     ApacheConnector(final Client client, final Configuration config) {
+        final boolean nonBlocking = PropertiesHelper.isProperty(config.getProperties(), ApacheClientProperties.NON_BLOCKING);
         final Object connectionManager = config.getProperties().get(ApacheClientProperties.CONNECTION_MANAGER);
         if (connectionManager != null) {
-            if (!(connectionManager instanceof HttpClientConnectionManager)) {
+            if (!(connectionManager instanceof HttpClientConnectionManager)
+                    && !(nonBlocking && connectionManager instanceof NHttpClientConnectionManager)) {
                 LOGGER.log(
                         Level.WARNING,
                         LocalizationMessages.IGNORING_VALUE_OF_PROPERTY(
@@ -245,9 +287,11 @@ class ApacheConnector implements Connector {
 
         final RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
 
+        CredentialsProvider defaultCredentialsProvider = null;
         final Object credentialsProvider = config.getProperty(ApacheClientProperties.CREDENTIALS_PROVIDER);
         if (credentialsProvider != null && (credentialsProvider instanceof CredentialsProvider)) {
-            clientBuilder.setDefaultCredentialsProvider((CredentialsProvider) credentialsProvider);
+            defaultCredentialsProvider = (CredentialsProvider) credentialsProvider;
+            clientBuilder.setDefaultCredentialsProvider(defaultCredentialsProvider);
         }
 
         final Object retryHandler = config.getProperties().get(ApacheClientProperties.RETRY_HANDLER);
@@ -255,11 +299,12 @@ class ApacheConnector implements Connector {
             clientBuilder.setRetryHandler((HttpRequestRetryHandler) retryHandler);
         }
 
+        HttpHost proxy = null;
         final Object proxyUri;
         proxyUri = config.getProperty(ClientProperties.PROXY_URI);
         if (proxyUri != null) {
             final URI u = getProxyUri(proxyUri);
-            final HttpHost proxy = new HttpHost(u.getHost(), u.getPort(), u.getScheme());
+            proxy = new HttpHost(u.getHost(), u.getPort(), u.getScheme());
             final String userName;
             userName = ClientProperties.getValue(config.getProperties(), ClientProperties.PROXY_USERNAME, String.class);
             if (userName != null) {
@@ -272,6 +317,7 @@ class ApacheConnector implements Connector {
                             new AuthScope(u.getHost(), u.getPort()),
                             new UsernamePasswordCredentials(userName, password)
                     );
+                    defaultCredentialsProvider = credsProvider;
                     clientBuilder.setDefaultCredentialsProvider(credsProvider);
                 }
             }
@@ -305,6 +351,93 @@ class ApacheConnector implements Connector {
         }
         clientBuilder.setDefaultRequestConfig(requestConfig);
         this.client = clientBuilder.build();
+
+        if (nonBlocking) {
+            this.asyncClient = createAsyncClient(client, config, sslContext, defaultCredentialsProvider, proxy);
+            this.callbackExecutor = createCallbackExecutor(config);
+        } else {
+            this.asyncClient = null;
+            this.callbackExecutor = null;
+        }
+    }
+
+    private CloseableHttpAsyncClient createAsyncClient(final Client client,
+                                                       final Configuration config,
+                                                       final SSLContext sslContext,
+                                                       final CredentialsProvider credentialsProvider,
+                                                       final HttpHost proxy) {
+        final HttpAsyncClientBuilder clientBuilder = HttpAsyncClientBuilder.create();
+
+        final Object cmObject = config.getProperties().get(ApacheClientProperties.CONNECTION_MANAGER);
+        if (cmObject instanceof NHttpClientConnectionManager) {
+            clientBuilder.setConnectionManager((NHttpClientConnectionManager) cmObject);
+            clientBuilder.setConnectionManagerShared(PropertiesHelper.getValue(
+                    config.getProperties(), ApacheClientProperties.CONNECTION_MANAGER_SHARED, false, null));
+        } else {
+            clientBuilder.setConnectionManager(createAsyncConnectionManager(client, config, sslContext));
+        }
+
+        if (credentialsProvider != null) {
+            clientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+        }
+        if (proxy != null) {
+            clientBuilder.setProxy(proxy);
+        }
+        if (cookieStore != null) {
+            clientBuilder.setDefaultCookieStore(cookieStore);
+        }
+        clientBuilder.setDefaultRequestConfig(requestConfig);
+
+        final CloseableHttpAsyncClient asyncClient = clientBuilder.build();
+        asyncClient.start();
+        return asyncClient;
+    }
+
+    private static NHttpClientConnectionManager createAsyncConnectionManager(final Client client,
+                                                                             final Configuration config,
+                                                                             final SSLContext sslContext) {
+        final SSLIOSessionStrategy sslStrategy = new SSLIOSessionStrategy(
+                sslContext != null ? sslContext : SSLContexts.createDefault(),
+                client.getHostnameVerifier());
+
+        final Registry<SchemeIOSessionStrategy> registry = RegistryBuilder.<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", sslStrategy)
+                .build();
+
+        final PoolingNHttpClientConnectionManager connectionManager;
+        try {
+            connectionManager = new PoolingNHttpClientConnectionManager(
+                    new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT), registry);
+        } catch (final IOReactorException e) {
+            throw new ProcessingException(LocalizationMessages.FAILED_TO_START_IO_REACTOR(), e);
+        }
+
+        // the non-blocking requests do not occupy a thread each, the pool must allow many more concurrent connections than
+        // the blocking one
+        final int maxPerRoute = PropertiesHelper.getValue(config.getProperties(),
+                ApacheClientProperties.NON_BLOCKING_MAX_CONNECTIONS_PER_ROUTE,
+                ApacheClientProperties.DEFAULT_NON_BLOCKING_MAX_CONNECTIONS_PER_ROUTE, Integer.class, null);
+        final int maxTotal = PropertiesHelper.getValue(config.getProperties(),
+                ApacheClientProperties.NON_BLOCKING_MAX_CONNECTIONS,
+                ApacheClientProperties.DEFAULT_NON_BLOCKING_MAX_CONNECTIONS, Integer.class, null);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setMaxTotal(Math.max(maxTotal, maxPerRoute));
+        return connectionManager;
+    }
+
+    private static ExecutorService createCallbackExecutor(final Configuration config) {
+        final ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("jersey-apache-connector-callback-%d")
+                .setDaemon(true)
+                .build();
+
+        final Object threadPoolSize = config.getProperties().get(ClientProperties.ASYNC_THREADPOOL_SIZE);
+        if (threadPoolSize != null && threadPoolSize instanceof Integer && (Integer) threadPoolSize > 0) {
+            return Executors.newFixedThreadPool((Integer) threadPoolSize, threadFactory);
+        } else {
+            return Executors.newCachedThreadPool(threadFactory);
+        }
     }
 
     private HttpClientConnectionManager getConnectionManager(final Client client,
@@ -313,7 +446,7 @@ class ApacheConnector implements Connector {
         final Object cmObject = config.getProperties().get(ApacheClientProperties.CONNECTION_MANAGER);
 
         // Connection manager from configuration.
-        if (cmObject != null) {
+        if (cmObject != null && !(cmObject instanceof NHttpClientConnectionManager)) {
             if (cmObject instanceof HttpClientConnectionManager) {
                 return (HttpClientConnectionManager) cmObject;
             } else {
@@ -376,18 +509,26 @@ class ApacheConnector implements Connector {
                 new PoolingHttpClientConnectionManager(registry, new ConnectionFactory(chunkSize));
 
         if (useSystemProperties) {
-            String s = System.getProperty("http.keepAlive", "true");
-            if ("true".equalsIgnoreCase(s)) {
-                s = System.getProperty("http.maxConnections", "5");
-                final int max = Integer.parseInt(s);
-                connectionManager.setDefaultMaxPerRoute(max);
-                connectionManager.setMaxTotal(2 * max);
-            }
+            setMaxConnections(connectionManager);
         }
 
         return connectionManager;
     }
 
+    /**
+     * Set the connection limits of the pool according to the {@code http.keepAlive} and {@code http.maxConnections}
+     * system properties.
+     */
+    private static void setMaxConnections(final ConnPoolControl<HttpRoute> connectionManager) {
+        String s = System.getProperty("http.keepAlive", "true");
+        if ("true".equalsIgnoreCase(s)) {
+            s = System.getProperty("http.maxConnections", "5");
+            final int max = Integer.parseInt(s);
+            connectionManager.setDefaultMaxPerRoute(max);
+            connectionManager.setMaxTotal(2 * max);
+        }
+    }
+
     private static String[] split(final String s) {
         if (TextUtils.isBlank(s)) {
             return null;
@@ -427,63 +568,17 @@ class ApacheConnector implements Connector {
 
     @Override
     public ClientResponse apply(final ClientRequest clientRequest) throws ProcessingException {
-        final HttpUriRequest request = getUriHttpRequest(clientRequest);
+        final HttpUriRequest request = getUriHttpRequest(clientRequest, false);
         final Map<String, String> clientHeadersSnapshot = writeOutBoundHeaders(clientRequest.getHeaders(), request);
 
         try {
             final CloseableHttpResponse response;
-            final HttpClientContext context = HttpClientContext.create();
-            if (preemptiveBasicAuth) {
-                final AuthCache authCache = new BasicAuthCache();
-                final BasicScheme basicScheme = new BasicScheme();
-                authCache.put(getHost(request), basicScheme);
-                context.setAuthCache(authCache);
-            }
-
-            // If a request-specific CredentialsProvider exists, use it instead of the default one
-            CredentialsProvider credentialsProvider =
-                    clientRequest.resolveProperty(ApacheClientProperties.CREDENTIALS_PROVIDER, CredentialsProvider.class);
-            if (credentialsProvider != null) {
-                context.setCredentialsProvider(credentialsProvider);
-            }
+            final HttpClientContext context = createContext(clientRequest, request);
 
             response = client.execute(getHost(request), request, context);
             HeaderUtils.checkHeaderChanges(clientHeadersSnapshot, clientRequest.getHeaders(), this.getClass().getName());
 
-            final Response.StatusType status = response.getStatusLine().getReasonPhrase() == null
-                    ? Statuses.from(response.getStatusLine().getStatusCode())
-                    : Statuses.from(response.getStatusLine().getStatusCode(), response.getStatusLine().getReasonPhrase());
-
-            final ClientResponse responseContext = new ClientResponse(status, clientRequest);
-            final List<URI> redirectLocations = context.getRedirectLocations();
-            if (redirectLocations != null && !redirectLocations.isEmpty()) {
-                responseContext.setResolvedRequestUri(redirectLocations.get(redirectLocations.size() - 1));
-            }
-
-            final Header[] respHeaders = response.getAllHeaders();
-            final MultivaluedMap<String, String> headers = responseContext.getHeaders();
-            for (final Header header : respHeaders) {
-                final String headerName = header.getName();
-                List<String> list = headers.get(headerName);
-                if (list == null) {
-                    list = new ArrayList<>();
-                }
-                list.add(header.getValue());
-                headers.put(headerName, list);
-            }
-
-            final HttpEntity entity = response.getEntity();
-
-            if (entity != null) {
-                if (headers.get(HttpHeaders.CONTENT_LENGTH) == null) {
-                    headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(entity.getContentLength()));
-                }
-
-                final Header contentEncoding = entity.getContentEncoding();
-                if (headers.get(HttpHeaders.CONTENT_ENCODING) == null && contentEncoding != null) {
-                    headers.add(HttpHeaders.CONTENT_ENCODING, contentEncoding.getValue());
-                }
-            }
+            final ClientResponse responseContext = toClientResponse(clientRequest, response, context);
 
             try {
                 responseContext.setEntityStream(new HttpClientResponseInputStream(getInputStream(response)));
@@ -497,9 +592,70 @@ class ApacheConnector implements Connector {
         }
     }
 
+    private HttpClientContext createContext(final ClientRequest clientRequest, final HttpUriRequest request) {
+        final HttpClientContext context = HttpClientContext.create();
+        if (preemptiveBasicAuth) {
+            final AuthCache authCache = new BasicAuthCache();
+            final BasicScheme basicScheme = new BasicScheme();
+            authCache.put(getHost(request), basicScheme);
+            context.setAuthCache(authCache);
+        }
+
+        // If a request-specific CredentialsProvider exists, use it instead of the default one
+        CredentialsProvider credentialsProvider =
+                clientRequest.resolveProperty(ApacheClientProperties.CREDENTIALS_PROVIDER, CredentialsProvider.class);
+        if (credentialsProvider != null) {
+            context.setCredentialsProvider(credentialsProvider);
+        }
+        return context;
+    }
+
+    private static ClientResponse toClientResponse(final ClientRequest clientRequest,
+                                                   final HttpResponse response,
+                                                   final HttpClientContext context) {
+        final Response.StatusType status = response.getStatusLine().getReasonPhrase() == null
+                ? Statuses.from(response.getStatusLine().getStatusCode())
+                : Statuses.from(response.getStatusLine().getStatusCode(), response.getStatusLine().getReasonPhrase());
+
+        final ClientResponse responseContext = new ClientResponse(status, clientRequest);
+        final List<URI> redirectLocations = context.getRedirectLocations();
+        if (redirectLocations != null && !redirectLocations.isEmpty()) {
+            responseContext.setResolvedRequestUri(redirectLocations.get(redirectLocations.size() - 1));
+        }
+
+        final Header[] respHeaders = response.getAllHeaders();
+        final MultivaluedMap<String, String> headers = responseContext.getHeaders();
+        for (final Header header : respHeaders) {
+            final String headerName = header.getName();
+            List<String> list = headers.get(headerName);
+            if (list == null) {
+                list = new ArrayList<>();
+            }
+            list.add(header.getValue());
+            headers.put(headerName, list);
+        }
+
+        final HttpEntity entity = response.getEntity();
+
+        if (entity != null) {
+            if (headers.get(HttpHeaders.CONTENT_LENGTH) == null) {
+                headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(entity.getContentLength()));
+            }
+
+            final Header contentEncoding = entity.getContentEncoding();
+            if (headers.get(HttpHeaders.CONTENT_ENCODING) == null && contentEncoding != null) {
+                headers.add(HttpHeaders.CONTENT_ENCODING, contentEncoding.getValue());
+            }
+        }
+        return responseContext;
+    }
+
     @Override
     public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
         try {
+            if (asyncClient != null) {
+                return applyNonBlocking(request, callback);
+            }
             ClientResponse response = apply(request);
             callback.response(response);
             return CompletableFuture.completedFuture(response);
@@ -511,6 +667,37 @@ class ApacheConnector implements Connector {
         }
     }
 
+    private Future<?> applyNonBlocking(final ClientRequest clientRequest, final AsyncConnectorCallback callback) {
+        // the request entity is buffered on the calling thread, the reactor threads must never block on the entity providers
+        final HttpUriRequest request = getUriHttpRequest(clientRequest, true);
+        final Map<String, String> clientHeadersSnapshot = writeOutBoundHeaders(clientRequest.getHeaders(), request);
+        // the entity has been buffered already, the entity providers cannot change the headers any more
+        HeaderUtils.checkHeaderChanges(clientHeadersSnapshot, clientRequest.getHeaders(), this.getClass().getName());
+
+        final HttpClientContext context = createContext(clientRequest, request);
+        final NonBlockingResponseConsumer consumer = new NonBlockingResponseConsumer(clientRequest, context, callback);
+
+        final Future<ClientResponse> future = asyncClient.execute(
+                HttpAsyncMethods.create(getHost(request), request), consumer, context, new FutureCallback<ClientResponse>() {
+                    @Override
+                    public void completed(final ClientResponse result) {
+                        // the response has already been delivered once the response head has been received
+                    }
+
+                    @Override
+                    public void failed(final Exception ex) {
+                        consumer.fail(ex);
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        consumer.fail(new CancellationException());
+                    }
+                });
+        consumer.future = future;
+        return future;
+    }
+
     @Override
     public String getName() {
         return "Apache HttpClient " + release;
@@ -522,6 +709,16 @@ class ApacheConnector implements Connector {
             client.close();
         } catch (final IOException e) {
             throw new ProcessingException(LocalizationMessages.FAILED_TO_STOP_CLIENT(), e);
+        } finally {
+            if (asyncClient != null) {
+                try {
+                    asyncClient.close();
+                } catch (final IOException e) {
+                    throw new ProcessingException(LocalizationMessages.FAILED_TO_STOP_CLIENT(), e);
+                } finally {
+                    callbackExecutor.shutdown();
+                }
+            }
         }
     }
 
@@ -529,7 +726,7 @@ class ApacheConnector implements Connector {
         return new HttpHost(request.getURI().getHost(), request.getURI().getPort(), request.getURI().getScheme());
     }
 
-    private HttpUriRequest getUriHttpRequest(final ClientRequest clientRequest) {
+    private HttpUriRequest getUriHttpRequest(final ClientRequest clientRequest, final boolean bufferingRequired) {
         final RequestConfig.Builder requestConfigBuilder = RequestConfig.copy(requestConfig);
 
         final int connectTimeout = clientRequest.resolveProperty(ClientProperties.CONNECT_TIMEOUT, -1);
@@ -546,8 +743,8 @@ class ApacheConnector implements Connector {
                 clientRequest.resolveProperty(ClientProperties.FOLLOW_REDIRECTS, requestConfig.isRedirectsEnabled());
         requestConfigBuilder.setRedirectsEnabled(redirectsEnabled);
 
-        final Boolean bufferingEnabled = clientRequest.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING,
-                RequestEntityProcessing.class) == RequestEntityProcessing.BUFFERED;
+        final Boolean bufferingEnabled = bufferingRequired || clientRequest.resolveProperty(
+                ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.class) == RequestEntityProcessing.BUFFERED;
         final HttpEntity entity = getHttpEntity(clientRequest, bufferingEnabled);
 
         return RequestBuilder
@@ -661,6 +858,209 @@ class ApacheConnector implements Connector {
         };
     }
 
+    /**
+     * Response consumer of the non-blocking requests.
+     * <p>
+     * The response is delivered to the connector callback as soon as the response head is received, the response entity
+     * is then streamed to the reading thread by the {@link NonBlockingEntityStream}.
+     * </p>
+     */
+    private final class NonBlockingResponseConsumer extends AbstractAsyncResponseConsumer<ClientResponse> {
+
+        private final ClientRequest clientRequest;
+        private final HttpClientContext context;
+        private final AsyncConnectorCallback callback;
+        private final AtomicBoolean delivered = new AtomicBoolean();
+
+        private volatile NonBlockingEntityStream entityStream;
+        private volatile Future<ClientResponse> future;
+        private ClientResponse response;
+
+        private NonBlockingResponseConsumer(final ClientRequest clientRequest,
+                                            final HttpClientContext context,
+                                            final AsyncConnectorCallback callback) {
+            this.clientRequest = clientRequest;
+            this.context = context;
+            this.callback = callback;
+        }
+
+        @Override
+        protected void onResponseReceived(final HttpResponse httpResponse) {
+            response = toClientResponse(clientRequest, httpResponse, context);
+            entityStream = new NonBlockingEntityStream(() -> {
+                final Future<ClientResponse> f = future;
+                if (f != null) {
+                    f.cancel(true);
+                }
+            });
+            response.setEntityStream(new BufferedInputStream(entityStream, ReaderWriter.BUFFER_SIZE));
+
+            if (delivered.compareAndSet(false, true)) {
+                final ClientResponse clientResponse = response;
+                callbackExecutor.execute(() -> callback.response(clientResponse));
+            }
+        }
+
+        @Override
+        protected void onEntityEnclosed(final HttpEntity entity, final ContentType contentType) {
+            // entity headers have already been processed
+        }
+
+        @Override
+        protected void onContentReceived(final ContentDecoder decoder, final IOControl ioControl) throws IOException {
+            entityStream.consume(decoder, ioControl);
+        }
+
+        @Override
+        protected ClientResponse buildResult(final HttpContext context) {
+            entityStream.complete();
+            return response;
+        }
+
+        @Override
+        protected void releaseResources() {
+            // nothing to release, the entity stream is released by the reading thread
+        }
+
+        private void fail(final Exception ex) {
+            if (delivered.compareAndSet(false, true)) {
+                callbackExecutor.execute(() -> callback.failure(new ProcessingException(ex)));
+            } else {
+                entityStream.fail(ex);
+            }
+        }
+    }
+
+    /**
+     * Input stream fed by the I/O reactor with the received response entity content.
+     * <p>
+     * The reactor input is suspended whenever the number of received but not yet read bytes exceeds
+     * {@link #MAX_BUFFERED} and resumed once the reading thread has consumed half of them.
+     * </p>
+     */
+    private static final class NonBlockingEntityStream extends InputStream {
+
+        private static final int MAX_BUFFERED = 16 * ReaderWriter.BUFFER_SIZE;
+
+        private final Deque<ByteBuffer> chunks = new ArrayDeque<>();
+        private final Runnable abort;
+
+        private int buffered;
+        private IOControl suspended;
+        private boolean complete;
+        private boolean closed;
+        private IOException failure;
+
+        private NonBlockingEntityStream(final Runnable abort) {
+            this.abort = abort;
+        }
+
+        private synchronized void consume(final ContentDecoder decoder, final IOControl ioControl) throws IOException {
+            ByteBuffer chunk = ByteBuffer.allocate(ReaderWriter.BUFFER_SIZE);
+            while (decoder.read(chunk) > 0) {
+                if (!chunk.hasRemaining()) {
+                    enqueue(chunk);
+                    chunk = ByteBuffer.allocate(ReaderWriter.BUFFER_SIZE);
+                }
+            }
+            if (chunk.position() > 0) {
+                enqueue(chunk);
+            }
+
+            if (buffered >= MAX_BUFFERED && suspended == null) {
+                ioControl.suspendInput();
+                suspended = ioControl;
+            }
+            notifyAll();
+        }
+
+        private void enqueue(final ByteBuffer chunk) {
+            if (!closed) {
+                chunk.flip();
+                chunks.add(chunk);
+                buffered += chunk.remaining();
+            }
+        }
+
+        private synchronized void complete() {
+            complete = true;
+            notifyAll();
+        }
+
+        private synchronized void fail(final Exception ex) {
+            if (!complete) {
+                failure = ex instanceof IOException ? (IOException) ex : new IOException(ex);
+                notifyAll();
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public synchronized int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            while (chunks.isEmpty()) {
+                if (failure != null) {
+                    throw failure;
+                }
+                if (complete || closed) {
+                    return -1;
+                }
+                try {
+                    wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+
+            final ByteBuffer chunk = chunks.peek();
+            final int read = Math.min(len, chunk.remaining());
+            chunk.get(b, off, read);
+            if (!chunk.hasRemaining()) {
+                chunks.poll();
+            }
+            buffered -= read;
+            resume();
+            return read;
+        }
+
+        @Override
+        public synchronized int available() {
+            return buffered;
+        }
+
+        @Override
+        public void close() {
+            final boolean aborted;
+            synchronized (this) {
+                aborted = !closed && !complete && failure == null;
+                closed = true;
+                chunks.clear();
+                buffered = 0;
+                resume();
+                notifyAll();
+            }
+            if (aborted) {
+                abort.run();
+            }
+        }
+
+        private void resume() {
+            if (suspended != null && buffered < MAX_BUFFERED / 2) {
+                suspended.requestInput();
+                suspended = null;
+            }
+        }
+    }
+
     private static class ConnectionFactory extends ManagedHttpClientConnectionFactory {
 
         private static final AtomicLong COUNTER = new AtomicLong();
@@ -0,0 +1,213 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.apache.connector;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests asynchronous requests executed by the connector with {@link ApacheClientProperties#NON_BLOCKING} enabled.
+ */
+public class NonBlockingTest extends JerseyTest {
+
+    private static final int LARGE_ENTITY_SIZE = 4 * 1024 * 1024;
+    private static final long OPERATION_DURATION = 1000;
+    private static final int CONCURRENT_REQUESTS = 16;
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Path("test")
+    public static class TestResource {
+
+        @GET
+        @Path("large")
+        public StreamingOutput large() {
+            return out -> {
+                final byte[] chunk = new byte[1024];
+                for (int i = 0; i < LARGE_ENTITY_SIZE / chunk.length; i++) {
+                    out.write(chunk);
+                }
+            };
+        }
+
+        @POST
+        @Path("echo")
+        public String echo(final String entity) {
+            return "echo:" + entity;
+        }
+
+        @GET
+        @Path("slow")
+        public void slow(@Suspended final AsyncResponse asyncResponse) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            new Thread(() -> {
+                try {
+                    Thread.sleep(OPERATION_DURATION);
+                    inFlight.decrementAndGet();
+                    asyncResponse.resume("slow");
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    inFlight.decrementAndGet();
+                    asyncResponse.resume(e);
+                }
+            }).start();
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(TestResource.class);
+    }
+
+    @Override
+    protected void configureClient(final ClientConfig config) {
+        config.property(ApacheClientProperties.NON_BLOCKING, true);
+        // a single async request thread would serialize the requests if the connector blocked it
+        config.property(ClientProperties.ASYNC_THREADPOOL_SIZE, 1);
+        config.connectorProvider(new ApacheConnectorProvider());
+    }
+
+    @Test
+    public void testPost() throws Exception {
+        final Response response = target("test/echo").request().async().post(Entity.text("hello")).get();
+
+        assertEquals(200, response.getStatus());
+        assertEquals("echo:hello", response.readEntity(String.class));
+    }
+
+    @Test
+    public void testRx() throws Exception {
+        final CompletionStage<String> stage = target("test/echo").request().rx().post(Entity.text("rx"), String.class);
+
+        assertEquals("echo:rx", stage.toCompletableFuture().get());
+    }
+
+    @Test
+    public void testStreamedEntity() throws Exception {
+        final Response response = target("test/large").request().async().get().get();
+
+        long size = 0;
+        try (InputStream entity = response.readEntity(InputStream.class)) {
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = entity.read(buffer)) >= 0) {
+                size += read;
+                // slow reader to get the reactor input suspended
+                if (size % (512 * 1024) == 0) {
+                    Thread.sleep(10);
+                }
+            }
+        }
+        assertEquals(LARGE_ENTITY_SIZE, size);
+    }
+
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        inFlight.set(0);
+        maxInFlight.set(0);
+        final long tic = System.currentTimeMillis();
+
+        final List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(target("test/slow").request().async().get(String.class));
+        }
+        for (final Future<String> future : futures) {
+            assertEquals("slow", future.get(10 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS));
+        }
+
+        final long toc = System.currentTimeMillis();
+        assertThat("Requests have not been executed concurrently.", toc - tic,
+                Matchers.lessThan(CONCURRENT_REQUESTS * OPERATION_DURATION));
+        // more than the five connections per route the blocking pool allows by default
+        assertThat("Requests have not been executed concurrently.", maxInFlight.get(), Matchers.greaterThan(5));
+    }
+
+    @Test
+    public void testConnectionLimit() throws Exception {
+        inFlight.set(0);
+        maxInFlight.set(0);
+
+        final Client client = ClientBuilder.newClient(new ClientConfig()
+                .property(ApacheClientProperties.NON_BLOCKING, true)
+                .property(ApacheClientProperties.NON_BLOCKING_MAX_CONNECTIONS_PER_ROUTE, 2)
+                .connectorProvider(new ApacheConnectorProvider()));
+        try {
+            final List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(client.target(getBaseUri()).path("test/slow").request().async().get(String.class));
+            }
+            for (final Future<String> future : futures) {
+                assertEquals("slow", future.get(10 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS));
+            }
+        } finally {
+            client.close();
+        }
+        assertThat("Connection limit has not been applied.", maxInFlight.get(), Matchers.lessThanOrEqualTo(2));
+    }
+}
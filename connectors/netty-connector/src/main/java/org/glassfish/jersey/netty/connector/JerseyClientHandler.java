@@ -63,35 +63,79 @@ import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 
 /**
  * Jersey implementation of Netty channel handler.
+ * <p>
+ * The handler either serves a single request/response exchange on a dedicated channel, or, in case the connector
+ * pools connections, a sequence of exchanges {@link #start(ClientRequest, AsyncConnectorCallback, CompletableFuture,
+ * NettyConnector.PooledConnection) started} on a pooled channel.
+ * </p>
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
 class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
 
     private final NettyConnector connector;
-    private final LinkedBlockingDeque<InputStream> isList = new LinkedBlockingDeque<>();
+    private final boolean pooled;
 
-    private final AsyncConnectorCallback asyncConnectorCallback;
-    private final ClientRequest jerseyRequest;
-    private final CompletableFuture future;
+    private volatile LinkedBlockingDeque<InputStream> isList = new LinkedBlockingDeque<>();
+    private volatile AsyncConnectorCallback asyncConnectorCallback;
+    private volatile ClientRequest jerseyRequest;
+    private volatile CompletableFuture future;
+    private volatile NettyConnector.PooledConnection pooledConnection;
+    private volatile boolean keepAlive;
+    private volatile boolean responseReceived;
 
     JerseyClientHandler(NettyConnector nettyConnector, ClientRequest request,
                         AsyncConnectorCallback callback, CompletableFuture future) {
         this.connector = nettyConnector;
+        this.pooled = false;
         this.asyncConnectorCallback = callback;
         this.jerseyRequest = request;
         this.future = future;
     }
 
+    /**
+     * Create handler of a pooled channel. Exchanges are started using
+     * {@link #start(ClientRequest, AsyncConnectorCallback, CompletableFuture, NettyConnector.PooledConnection)}.
+     *
+     * @param nettyConnector Netty connector.
+     */
+    JerseyClientHandler(NettyConnector nettyConnector) {
+        this.connector = nettyConnector;
+        this.pooled = true;
+    }
+
+    /**
+     * Start a new request/response exchange on a pooled channel.
+     *
+     * @param request    Jersey client request.
+     * @param callback   asynchronous connector callback.
+     * @param future     future completed once the response is available.
+     * @param connection pooled connection notified once the whole response has been received.
+     */
+    void start(ClientRequest request, AsyncConnectorCallback callback, CompletableFuture future,
+               NettyConnector.PooledConnection connection) {
+        this.isList = new LinkedBlockingDeque<>();
+        this.asyncConnectorCallback = callback;
+        this.jerseyRequest = request;
+        this.future = future;
+        this.responseReceived = false;
+        this.pooledConnection = connection;
+    }
+
     @Override
     public void channelRead0(ChannelHandlerContext ctx, HttpObject msg) {
+        final LinkedBlockingDeque<InputStream> isList = this.isList;
+
         if (msg instanceof HttpResponse) {
             final HttpResponse response = (HttpResponse) msg;
+            keepAlive = HttpUtil.isKeepAlive(response);
+            responseReceived = true;
 
             final ClientResponse jerseyResponse = new ClientResponse(new Response.StatusType() {
                 @Override
@@ -118,12 +162,14 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
             if ((response.headers().contains(HttpHeaderNames.CONTENT_LENGTH) && HttpUtil.getContentLength(response) > 0)
                     || HttpUtil.isTransferEncodingChunked(response)) {
 
-                ctx.channel().closeFuture().addListener(new GenericFutureListener<Future<? super Void>>() {
-                    @Override
-                    public void operationComplete(Future<? super Void> future) throws Exception {
-                        isList.add(NettyInputStream.END_OF_INPUT_ERROR);
-                    }
-                });
+                if (pooledConnection == null) {
+                    ctx.channel().closeFuture().addListener(new GenericFutureListener<Future<? super Void>>() {
+                        @Override
+                        public void operationComplete(Future<? super Void> future) throws Exception {
+                            isList.add(NettyInputStream.END_OF_INPUT_ERROR);
+                        }
+                    });
+                }
 
                 jerseyResponse.setEntityStream(new NettyInputStream(isList));
             } else {
@@ -136,10 +182,12 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
             }
 
             if (asyncConnectorCallback != null) {
+                final AsyncConnectorCallback callback = asyncConnectorCallback;
+                final CompletableFuture future = this.future;
                 connector.executorService.execute(new Runnable() {
                     @Override
                     public void run() {
-                        asyncConnectorCallback.response(jerseyResponse);
+                        callback.response(jerseyResponse);
                         future.complete(jerseyResponse);
                     }
                 });
@@ -161,22 +209,78 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
             }
 
             if (msg instanceof LastHttpContent) {
+                final NettyConnector.PooledConnection connection = pooledConnection;
+                if (connection != null) {
+                    // the exchange is complete, the channel may be handed over to the next request. Release it before
+                    // the end of the entity is signalled, so that a subsequent request may reuse the connection.
+                    pooledConnection = null;
+                    connection.responseReceived(keepAlive);
+                }
+
                 isList.add(NettyInputStream.END_OF_INPUT);
             }
         }
     }
 
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (pooledConnection != null) {
+            failed(new IOException("Channel closed."));
+        }
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof IdleStateEvent) {
+            if (pooledConnection == null) {
+                // prune idle pooled connection
+                ctx.close();
+            }
+        } else {
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, final Throwable cause) {
-        if (asyncConnectorCallback != null) {
+        failed(cause);
+    }
+
+    /**
+     * Fail the current exchange. An exchange on a pooled channel that failed before any response has been received is
+     * {@link NettyConnector.PooledConnection#retry() retried} on a new connection if possible.
+     *
+     * @param cause failure cause.
+     */
+    void failed(final Throwable cause) {
+        final NettyConnector.PooledConnection connection = pooledConnection;
+        if (connection != null) {
+            pooledConnection = null;
+            if (!connection.discard()) {
+                // the exchange has been failed already
+                return;
+            }
+            if (!responseReceived && connection.retry()) {
+                return;
+            }
+        } else if (pooled) {
+            // no exchange in progress on the pooled channel
+            return;
+        }
+
+        final AsyncConnectorCallback callback = asyncConnectorCallback;
+        if (callback != null) {
             connector.executorService.execute(new Runnable() {
                 @Override
                 public void run() {
-                    asyncConnectorCallback.failure(cause);
+                    callback.failure(cause);
                 }
             });
         }
-        future.completeExceptionally(cause);
+        if (future != null) {
+            future.completeExceptionally(cause);
+        }
         isList.add(NettyInputStream.END_OF_INPUT_ERROR);
     }
 }
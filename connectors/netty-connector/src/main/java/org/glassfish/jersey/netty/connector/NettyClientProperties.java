@@ -0,0 +1,114 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.netty.connector;
+
+import java.util.Map;
+
+import org.glassfish.jersey.internal.util.PropertiesClass;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+
+/**
+ * Configuration options specific to the Netty connector.
+ *
+ * @since 2.27
+ */
+@PropertiesClass
+public final class NettyClientProperties {
+
+    /**
+     * A maximal number of open connections to each destination. A destination is determined by the following:
+     * <ul>
+     * <li>protocol (HTTP/HTTPS)</li>
+     * <li>host</li>
+     * <li>port</li>
+     * <li>proxy configuration</li>
+     * </ul>
+     * <p/>
+     * If set to a positive {@link Integer} value, the connector keeps the connections alive and reuses them for
+     * subsequent requests to the same destination. Requests exceeding the limit wait until a connection is released;
+     * if {@link org.glassfish.jersey.client.ClientProperties#CONNECT_TIMEOUT} is set, the request fails once it has been
+     * waiting for a connection longer than the connect timeout. A connection of a synchronous request that has failed
+     * with a {@link org.glassfish.jersey.client.ClientProperties#READ_TIMEOUT read timeout} is closed, not reused.
+     * <p/>
+     * The default value is {@value #DEFAULT_MAX_CONNECTIONS_PER_DESTINATION}, which means that connections are not
+     * pooled and a new connection is opened for each request.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     */
+    public static final String MAX_CONNECTIONS_PER_DESTINATION = "jersey.config.client.netty.maxConnectionsPerDestination";
+
+    /**
+     * An amount of time in milliseconds ({@link Integer} value) after which an idle pooled connection is closed.
+     * A non-positive value means that idle connections are not pruned.
+     * <p/>
+     * The property is applied only if connection pooling is enabled by {@link #MAX_CONNECTIONS_PER_DESTINATION}.
+     * <p/>
+     * The default value is {@value #DEFAULT_IDLE_CONNECTION_PRUNE_TIMEOUT}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     */
+    public static final String IDLE_CONNECTION_PRUNE_TIMEOUT = "jersey.config.client.netty.idleConnectionPruneTimeout";
+
+    /**
+     * Default value for the {@link #MAX_CONNECTIONS_PER_DESTINATION} property.
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_DESTINATION = 0;
+
+    /**
+     * Default value for the {@link #IDLE_CONNECTION_PRUNE_TIMEOUT} property.
+     */
+    public static final int DEFAULT_IDLE_CONNECTION_PRUNE_TIMEOUT = 60_000;
+
+    public static <T> T getValue(final Map<String, ?> properties, final String key, final Class<T> type) {
+        return PropertiesHelper.getValue(properties, key, type, null);
+    }
+
+    public static <T> T getValue(final Map<String, ?> properties, final String key, T defaultValue, final Class<T> type) {
+        return PropertiesHelper.getValue(properties, key, defaultValue, type, null);
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private NettyClientProperties() {
+        throw new AssertionError("No instances allowed.");
+    }
+}
@@ -44,14 +44,23 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.ws.rs.ProcessingException;
@@ -65,6 +74,11 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.ChannelPoolHandler;
+import io.netty.channel.pool.FixedChannelPool;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -77,10 +91,13 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.proxy.HttpProxyHandler;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.JdkSslContext;
 import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.GenericFutureListener;
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.ClientRequest;
@@ -97,10 +114,20 @@ import org.glassfish.jersey.netty.connector.internal.JerseyChunkedInput;
  */
 class NettyConnector implements Connector {
 
+    /**
+     * Methods of requests that may be repeated on a new connection if a reused connection fails.
+     */
+    private static final Set<String> IDEMPOTENT_METHODS = new HashSet<>(Arrays.asList(
+            "GET", "HEAD", "OPTIONS", "TRACE", "PUT", "DELETE"));
+
     final ExecutorService executorService;
     final EventLoopGroup group;
     final Client client;
 
+    private final int maxConnectionsPerDestination;
+    private final int idleConnectionPruneTimeout;
+    private final ConcurrentMap<Destination, ChannelPool> pools = new ConcurrentHashMap<>();
+
     NettyConnector(Client client) {
 
         final Object threadPoolSize = client.getConfiguration().getProperties().get(ClientProperties.ASYNC_THREADPOOL_SIZE);
@@ -111,6 +138,13 @@ class NettyConnector implements Connector {
             executorService = Executors.newCachedThreadPool();
         }
 
+        this.maxConnectionsPerDestination = NettyClientProperties.getValue(client.getConfiguration().getProperties(),
+                NettyClientProperties.MAX_CONNECTIONS_PER_DESTINATION,
+                NettyClientProperties.DEFAULT_MAX_CONNECTIONS_PER_DESTINATION, Integer.class);
+        this.idleConnectionPruneTimeout = NettyClientProperties.getValue(client.getConfiguration().getProperties(),
+                NettyClientProperties.IDLE_CONNECTION_PRUNE_TIMEOUT,
+                NettyClientProperties.DEFAULT_IDLE_CONNECTION_PRUNE_TIMEOUT, Integer.class);
+
         this.group = new NioEventLoopGroup();
         this.client = client;
     }
@@ -121,19 +155,19 @@ class NettyConnector implements Connector {
         final AtomicReference<ClientResponse> syncResponse = new AtomicReference<>(null);
         final AtomicReference<Throwable> syncException = new AtomicReference<>(null);
 
-        try {
-            Future<?> resultFuture = apply(jerseyRequest, new AsyncConnectorCallback() {
-                @Override
-                public void response(ClientResponse response) {
-                    syncResponse.set(response);
-                }
+        final Future<?> resultFuture = apply(jerseyRequest, new AsyncConnectorCallback() {
+            @Override
+            public void response(ClientResponse response) {
+                syncResponse.set(response);
+            }
 
-                @Override
-                public void failure(Throwable failure) {
-                    syncException.set(failure);
-                }
-            });
+            @Override
+            public void failure(Throwable failure) {
+                syncException.set(failure);
+            }
+        });
 
+        try {
             Integer timeout = ClientProperties.getValue(jerseyRequest.getConfiguration().getProperties(),
                                                         ClientProperties.READ_TIMEOUT, 0);
 
@@ -145,6 +179,14 @@ class NettyConnector implements Connector {
         } catch (ExecutionException ex) {
             Throwable e = ex.getCause() == null ? ex : ex.getCause();
             throw new ProcessingException(e.getMessage(), e);
+        } catch (TimeoutException ex) {
+            // abandon the exchange, its connection must not be left waiting for the response
+            resultFuture.cancel(true);
+            throw new ProcessingException(ex.getMessage(), ex);
+        } catch (InterruptedException ex) {
+            resultFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(ex.getMessage(), ex);
         } catch (Exception ex) {
             throw new ProcessingException(ex.getMessage(), ex);
         }
@@ -162,6 +204,11 @@ class NettyConnector implements Connector {
 
         final CompletableFuture<Object> settableFuture = new CompletableFuture<>();
 
+        if (maxConnectionsPerDestination > 0) {
+            applyPooled(jerseyRequest, jerseyCallback, settableFuture, false);
+            return settableFuture;
+        }
+
         final URI requestUri = jerseyRequest.getUri();
         String host = requestUri.getHost();
         int port = requestUri.getPort() != -1 ? requestUri.getPort() : "https".equals(requestUri.getScheme()) ? 443 : 80;
@@ -175,32 +222,7 @@ class NettyConnector implements Connector {
                  protected void initChannel(SocketChannel ch) throws Exception {
                      ChannelPipeline p = ch.pipeline();
 
-                     // Enable HTTPS if necessary.
-                     if ("https".equals(requestUri.getScheme())) {
-                         // making client authentication optional for now; it could be extracted to configurable property
-                         JdkSslContext jdkSslContext = new JdkSslContext(client.getSslContext(), true, ClientAuth.NONE);
-                         p.addLast(jdkSslContext.newHandler(ch.alloc()));
-                     }
-
-                     // http proxy
-                     Configuration config = jerseyRequest.getConfiguration();
-                     final Object proxyUri = config.getProperties().get(ClientProperties.PROXY_URI);
-                     if (proxyUri != null) {
-                         final URI u = getProxyUri(proxyUri);
-
-                         final String userName = ClientProperties.getValue(
-                                 config.getProperties(), ClientProperties.PROXY_USERNAME, String.class);
-                         final String password = ClientProperties.getValue(
-                                 config.getProperties(), ClientProperties.PROXY_PASSWORD, String.class);
-
-                         p.addLast(new HttpProxyHandler(new InetSocketAddress(u.getHost(),
-                                                                              u.getPort() == -1 ? 8080 : u.getPort()),
-                                                        userName, password));
-                     }
-
-                     p.addLast(new HttpClientCodec());
-                     p.addLast(new ChunkedWriteHandler());
-                     p.addLast(new HttpContentDecompressor());
+                     initPipeline(ch, requestUri, jerseyRequest.getConfiguration());
                      p.addLast(new JerseyClientHandler(NettyConnector.this, jerseyRequest, jerseyCallback, settableFuture));
                  }
              });
@@ -228,33 +250,14 @@ class NettyConnector implements Connector {
 
             ch.closeFuture().addListener(closeListener);
 
-            HttpRequest nettyRequest;
-
-            if (jerseyRequest.hasEntity()) {
-                nettyRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
-                                                      HttpMethod.valueOf(jerseyRequest.getMethod()),
-                                                      requestUri.getRawPath());
-            } else {
-                nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1,
-                                                          HttpMethod.valueOf(jerseyRequest.getMethod()),
-                                                          requestUri.getRawPath());
-            }
-
-            // headers
-            for (final Map.Entry<String, List<String>> e : jerseyRequest.getStringHeaders().entrySet()) {
-                nettyRequest.headers().add(e.getKey(), e.getValue());
-            }
-
-            // host header - http 1.1
-            nettyRequest.headers().add(HttpHeaderNames.HOST, jerseyRequest.getUri().getHost());
-
-            if (jerseyRequest.hasEntity()) {
-                if (jerseyRequest.getLengthLong() == -1) {
-                    HttpUtil.setTransferEncodingChunked(nettyRequest, true);
-                } else {
-                    nettyRequest.headers().add(HttpHeaderNames.CONTENT_LENGTH, jerseyRequest.getLengthLong());
+            // the exchange has been abandoned, e.g. after a timeout of a synchronous request
+            settableFuture.whenComplete((response, failure) -> {
+                if (settableFuture.isCancelled()) {
+                    ch.close();
                 }
-            }
+            });
+
+            final HttpRequest nettyRequest = createNettyRequest(jerseyRequest);
 
             if (jerseyRequest.hasEntity()) {
                 // Send the HTTP request.
@@ -306,6 +309,185 @@ class NettyConnector implements Connector {
         return settableFuture;
     }
 
+    private void applyPooled(final ClientRequest jerseyRequest,
+                             final AsyncConnectorCallback jerseyCallback,
+                             final CompletableFuture<Object> settableFuture,
+                             final boolean retried) {
+
+        final ChannelPool pool = pools.computeIfAbsent(new Destination(jerseyRequest), this::createPool);
+
+        pool.acquire().addListener((io.netty.util.concurrent.Future<Channel> acquired) -> {
+            if (!acquired.isSuccess()) {
+                jerseyCallback.failure(acquired.cause());
+                settableFuture.completeExceptionally(acquired.cause());
+                return;
+            }
+
+            final Channel ch = acquired.getNow();
+            if (settableFuture.isDone()) {
+                // the exchange has been abandoned while waiting for the connection
+                pool.release(ch);
+                return;
+            }
+
+            // a request that has not been sent completely may be repeated only if it is idempotent
+            final Runnable retry = retried || jerseyRequest.hasEntity() || !IDEMPOTENT_METHODS.contains(jerseyRequest.getMethod())
+                    ? null : () -> applyPooled(jerseyRequest, jerseyCallback, settableFuture, true);
+            final PooledConnection connection = new PooledConnection(pool, ch, retry);
+            final JerseyClientHandler handler = ch.pipeline().get(JerseyClientHandler.class);
+            handler.start(jerseyRequest, jerseyCallback, settableFuture, connection);
+            // the exchange has been abandoned, e.g. after a timeout of a synchronous request: the response may still
+            // arrive on the channel, close it instead of passing it to the next request
+            settableFuture.whenComplete((response, failure) -> {
+                if (settableFuture.isCancelled()) {
+                    connection.discard();
+                }
+            });
+
+            final HttpRequest nettyRequest = createNettyRequest(jerseyRequest);
+
+            if (jerseyRequest.hasEntity()) {
+                // Send the HTTP request.
+                ch.writeAndFlush(nettyRequest);
+
+                final JerseyChunkedInput jerseyChunkedInput = new JerseyChunkedInput(ch);
+                jerseyRequest.setStreamProvider(contentLength -> jerseyChunkedInput);
+
+                final boolean chunked = HttpUtil.isTransferEncodingChunked(nettyRequest);
+                if (chunked) {
+                    ch.write(new HttpChunkedInput(jerseyChunkedInput));
+                } else {
+                    ch.write(jerseyChunkedInput);
+                }
+
+                executorService.execute(() -> {
+                    try {
+                        jerseyRequest.writeEntity();
+                        if (!chunked) {
+                            // terminate the message so that the connection can be used for the next request
+                            ch.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+                        }
+                        connection.requestSent();
+                    } catch (IOException e) {
+                        handler.failed(e);
+                        connection.discard();
+                    }
+                });
+
+                ch.flush();
+            } else {
+                // Send the HTTP request.
+                ch.writeAndFlush(nettyRequest).addListener(written -> {
+                    if (written.isSuccess()) {
+                        connection.requestSent();
+                    } else {
+                        handler.failed(written.cause());
+                    }
+                });
+            }
+        });
+    }
+
+    private ChannelPool createPool(final Destination destination) {
+        final Bootstrap b = new Bootstrap();
+        b.group(group)
+         .channel(NioSocketChannel.class)
+         .remoteAddress(destination.host, destination.port);
+
+        // connect timeout
+        final Integer connectTimeout = ClientProperties.getValue(destination.configuration.getProperties(),
+                                                                 ClientProperties.CONNECT_TIMEOUT, 0);
+        if (connectTimeout > 0) {
+            b.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout);
+        }
+
+        final ChannelPoolHandler handler = new AbstractChannelPoolHandler() {
+            @Override
+            public void channelCreated(final Channel ch) throws Exception {
+                initPipeline(ch, destination.uri, destination.configuration);
+
+                final ChannelPipeline p = ch.pipeline();
+                if (idleConnectionPruneTimeout > 0) {
+                    p.addLast(new IdleStateHandler(0, 0, idleConnectionPruneTimeout, TimeUnit.MILLISECONDS));
+                }
+                p.addLast(new JerseyClientHandler(NettyConnector.this));
+            }
+        };
+
+        if (connectTimeout > 0) {
+            // waiting for a connection released by another request is bounded by the connect timeout as well
+            return new FixedChannelPool(b, handler, ChannelHealthChecker.ACTIVE, FixedChannelPool.AcquireTimeoutAction.FAIL,
+                    connectTimeout, maxConnectionsPerDestination, Integer.MAX_VALUE);
+        }
+        return new FixedChannelPool(b, handler, maxConnectionsPerDestination);
+    }
+
+    /**
+     * Add the TLS, proxy and HTTP codec handlers to the channel pipeline.
+     */
+    private void initPipeline(final Channel ch, final URI requestUri, final Configuration config) {
+        final ChannelPipeline p = ch.pipeline();
+
+        // Enable HTTPS if necessary.
+        if ("https".equals(requestUri.getScheme())) {
+            // making client authentication optional for now; it could be extracted to configurable property
+            JdkSslContext jdkSslContext = new JdkSslContext(client.getSslContext(), true, ClientAuth.NONE);
+            p.addLast(jdkSslContext.newHandler(ch.alloc()));
+        }
+
+        // http proxy
+        final Object proxyUri = config.getProperties().get(ClientProperties.PROXY_URI);
+        if (proxyUri != null) {
+            final URI u = getProxyUri(proxyUri);
+
+            final String userName = ClientProperties.getValue(
+                    config.getProperties(), ClientProperties.PROXY_USERNAME, String.class);
+            final String password = ClientProperties.getValue(
+                    config.getProperties(), ClientProperties.PROXY_PASSWORD, String.class);
+
+            p.addLast(new HttpProxyHandler(new InetSocketAddress(u.getHost(),
+                                                                 u.getPort() == -1 ? 8080 : u.getPort()),
+                                           userName, password));
+        }
+
+        p.addLast(new HttpClientCodec());
+        p.addLast(new ChunkedWriteHandler());
+        p.addLast(new HttpContentDecompressor());
+    }
+
+    private static HttpRequest createNettyRequest(final ClientRequest jerseyRequest) {
+        final URI requestUri = jerseyRequest.getUri();
+        final HttpRequest nettyRequest;
+
+        if (jerseyRequest.hasEntity()) {
+            nettyRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+                                                  HttpMethod.valueOf(jerseyRequest.getMethod()),
+                                                  requestUri.getRawPath());
+        } else {
+            nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1,
+                                                      HttpMethod.valueOf(jerseyRequest.getMethod()),
+                                                      requestUri.getRawPath());
+        }
+
+        // headers
+        for (final Map.Entry<String, List<String>> e : jerseyRequest.getStringHeaders().entrySet()) {
+            nettyRequest.headers().add(e.getKey(), e.getValue());
+        }
+
+        // host header - http 1.1
+        nettyRequest.headers().add(HttpHeaderNames.HOST, jerseyRequest.getUri().getHost());
+
+        if (jerseyRequest.hasEntity()) {
+            if (jerseyRequest.getLengthLong() == -1) {
+                HttpUtil.setTransferEncodingChunked(nettyRequest, true);
+            } else {
+                nettyRequest.headers().add(HttpHeaderNames.CONTENT_LENGTH, jerseyRequest.getLengthLong());
+            }
+        }
+
+        return nettyRequest;
+    }
+
     @Override
     public String getName() {
         return "Netty 4.1.x";
@@ -313,6 +495,10 @@ class NettyConnector implements Connector {
 
     @Override
     public void close() {
+        for (final ChannelPool pool : pools.values()) {
+            pool.close();
+        }
+        pools.clear();
         group.shutdownGracefully();
         executorService.shutdown();
     }
@@ -327,4 +513,145 @@ class NettyConnector implements Connector {
             throw new ProcessingException(LocalizationMessages.WRONG_PROXY_URI_TYPE(ClientProperties.PROXY_URI));
         }
     }
+
+    /**
+     * Pooled connection destination. Connections are pooled per scheme, host, port and proxy settings, as these
+     * determine the channel pipeline.
+     */
+    private static final class Destination {
+
+        private final URI uri;
+        private final String host;
+        private final int port;
+        private final Object proxyUri;
+        private final Object proxyUserName;
+        private final Object proxyPassword;
+        private final Configuration configuration;
+
+        private Destination(final ClientRequest jerseyRequest) {
+            final URI requestUri = jerseyRequest.getUri();
+            final Map<String, Object> properties = jerseyRequest.getConfiguration().getProperties();
+
+            this.uri = URI.create(requestUri.getScheme() + "://" + requestUri.getRawAuthority());
+            this.host = requestUri.getHost();
+            this.port = requestUri.getPort() != -1 ? requestUri.getPort() : "https".equals(requestUri.getScheme()) ? 443 : 80;
+            this.proxyUri = properties.get(ClientProperties.PROXY_URI);
+            this.proxyUserName = properties.get(ClientProperties.PROXY_USERNAME);
+            this.proxyPassword = properties.get(ClientProperties.PROXY_PASSWORD);
+            this.configuration = jerseyRequest.getConfiguration();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Destination that = (Destination) o;
+            return port == that.port
+                    && uri.getScheme().equals(that.uri.getScheme())
+                    && host.equals(that.host)
+                    && Objects.equals(proxyUri, that.proxyUri)
+                    && Objects.equals(proxyUserName, that.proxyUserName)
+                    && Objects.equals(proxyPassword, that.proxyPassword);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uri.getScheme(), host, port, proxyUri, proxyUserName, proxyPassword);
+        }
+    }
+
+    /**
+     * Pooled connection used by a single request/response exchange. The connection is returned to the pool once both
+     * the request has been sent and the response has been received, or closed if it cannot be reused.
+     */
+    static final class PooledConnection {
+
+        /**
+         * Channel attribute set once the channel has served an exchange and has been returned to the pool.
+         */
+        private static final AttributeKey<Boolean> REUSED = AttributeKey.valueOf(PooledConnection.class, "REUSED");
+
+        private final ChannelPool pool;
+        private final Channel channel;
+        private final Runnable retry;
+        private final boolean reused;
+        private final AtomicInteger pending = new AtomicInteger(2);
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        private volatile boolean reusable = true;
+
+        private PooledConnection(final ChannelPool pool, final Channel channel, final Runnable retry) {
+            this.pool = pool;
+            this.channel = channel;
+            this.retry = retry;
+            this.reused = Boolean.TRUE.equals(channel.attr(REUSED).get());
+        }
+
+        /**
+         * Repeat the failed exchange on a new connection. The exchange is repeated only if the request is idempotent and
+         * has not been repeated already, and if the connection has been reused, since the server may have closed
+         * the idle connection at the same time the request was sent.
+         *
+         * @return {@code true} if the exchange is being repeated.
+         */
+        boolean retry() {
+            if (retry == null || !reused) {
+                return false;
+            }
+            retry.run();
+            return true;
+        }
+
+        /**
+         * Invoked when the whole request has been written.
+         */
+        void requestSent() {
+            done();
+        }
+
+        /**
+         * Invoked when the whole response has been received.
+         *
+         * @param keepAlive {@code true} if the connection may be kept alive according to the response.
+         */
+        void responseReceived(final boolean keepAlive) {
+            if (!keepAlive) {
+                reusable = false;
+            }
+            done();
+        }
+
+        /**
+         * Close the connection and return it to the pool, e.g. in case the exchange failed.
+         *
+         * @return {@code true} if the connection has been released by this call, {@code false} if it has been
+         * released already.
+         */
+        boolean discard() {
+            reusable = false;
+            return release();
+        }
+
+        private void done() {
+            if (pending.decrementAndGet() == 0) {
+                release();
+            }
+        }
+
+        private boolean release() {
+            if (released.compareAndSet(false, true)) {
+                if (reusable) {
+                    channel.attr(REUSED).set(Boolean.TRUE);
+                } else {
+                    channel.close();
+                }
+                pool.release(channel);
+                return true;
+            }
+            return false;
+        }
+    }
 }
@@ -57,6 +57,8 @@ import org.glassfish.jersey.client.spi.ConnectorProvider;
  * <li>{@link org.glassfish.jersey.client.ClientProperties#PROXY_URI}</li>
  * <li>{@link org.glassfish.jersey.client.ClientProperties#PROXY_USERNAME}</li>
  * <li>{@link org.glassfish.jersey.client.ClientProperties#PROXY_PASSWORD}</li>
+ * <li>{@link NettyClientProperties#MAX_CONNECTIONS_PER_DESTINATION}</li>
+ * <li>{@link NettyClientProperties#IDLE_CONNECTION_PRUNE_TIMEOUT}</li>
  * </ul>
  * </p>
  * <p>
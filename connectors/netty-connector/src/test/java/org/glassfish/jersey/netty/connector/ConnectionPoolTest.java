@@ -0,0 +1,386 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.netty.connector;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.glassfish.grizzly.http.server.Request;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the Netty connector with {@link NettyClientProperties#MAX_CONNECTIONS_PER_DESTINATION connection pooling}
+ * enabled.
+ */
+public class ConnectionPoolTest extends JerseyTest {
+
+    private static final int REQUESTS = 50;
+    private static final int MAX_CONNECTIONS = 2;
+
+    private static final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Path("test")
+    public static class Resource {
+
+        @Context
+        private Request request;
+
+        @GET
+        public String get() {
+            remotePorts.add(request.getRemotePort());
+            return "GET";
+        }
+
+        @GET
+        @Path("slow")
+        public String slow() throws InterruptedException {
+            remotePorts.add(request.getRemotePort());
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(100);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return "SLOW";
+        }
+
+        @POST
+        public String post(String entity) {
+            return entity;
+        }
+
+        @GET
+        @Path("empty")
+        public Response empty() {
+            return Response.noContent().build();
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(Resource.class);
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        config.property(NettyClientProperties.MAX_CONNECTIONS_PER_DESTINATION, MAX_CONNECTIONS);
+        config.connectorProvider(new NettyConnectorProvider());
+    }
+
+    @Before
+    public void reset() {
+        remotePorts.clear();
+        inFlight.set(0);
+        maxInFlight.set(0);
+    }
+
+    @Test
+    public void testConnectionReused() {
+        for (int i = 0; i < REQUESTS; i++) {
+            assertEquals("GET", target("test").request().get(String.class));
+        }
+        assertEquals("Sequential requests should share a single connection.", 1, remotePorts.size());
+    }
+
+    @Test
+    public void testMaxConnectionsPerDestination() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(REQUESTS);
+        final AtomicInteger successful = new AtomicInteger();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            target("test/slow").request().async().get(new InvocationCallback<String>() {
+                @Override
+                public void completed(String response) {
+                    if ("SLOW".equals(response)) {
+                        successful.incrementAndGet();
+                    }
+                    latch.countDown();
+                }
+
+                @Override
+                public void failed(Throwable error) {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(30 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS));
+        assertEquals(REQUESTS, successful.get());
+        assertEquals(MAX_CONNECTIONS, maxInFlight.get());
+        assertEquals(MAX_CONNECTIONS, remotePorts.size());
+    }
+
+    @Test
+    public void testRetryOnReusedConnection() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            final AtomicInteger connections = new AtomicInteger();
+            final Thread server = new Thread(() -> {
+                try {
+                    while (true) {
+                        try (Socket socket = serverSocket.accept()) {
+                            connections.incrementAndGet();
+                            serveOneRequest(socket);
+                        }
+                    }
+                } catch (IOException e) {
+                    // server socket closed
+                }
+            });
+            server.setDaemon(true);
+            server.start();
+
+            final Client client = ClientBuilder.newClient(new ClientConfig()
+                    .property(NettyClientProperties.MAX_CONNECTIONS_PER_DESTINATION, 1)
+                    .connectorProvider(new NettyConnectorProvider()));
+            try {
+                final String uri = "http://localhost:" + serverSocket.getLocalPort() + "/";
+
+                assertEquals("OK", client.target(uri).request().get(String.class));
+                // the server closes the reused connection instead of responding, the idempotent request is repeated
+                assertEquals("OK", client.target(uri).request().get(String.class));
+                assertEquals(2, connections.get());
+
+                try {
+                    client.target(uri).request().post(Entity.text("POST"), String.class);
+                    fail("Non-idempotent request must not be repeated.");
+                } catch (ProcessingException e) {
+                    // expected
+                }
+                assertEquals(2, connections.get());
+            } finally {
+                client.close();
+            }
+        }
+    }
+
+    /**
+     * Respond to the first request received on the connection and close the connection once the next request arrives.
+     */
+    private static void serveOneRequest(final Socket socket) throws IOException {
+        final BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        final OutputStream out = socket.getOutputStream();
+
+        for (boolean first = true; ; first = false) {
+            String line = reader.readLine();
+            if (line == null) {
+                return;
+            }
+            while (!line.isEmpty()) {
+                line = reader.readLine();
+                if (line == null) {
+                    return;
+                }
+            }
+            if (!first) {
+                return;
+            }
+            out.write("HTTP/1.1 200 OK\r\nContent-Type: text/plain\r\nContent-Length: 2\r\n\r\nOK"
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+    }
+
+    /**
+     * Start a server accepting connections and never responding.
+     *
+     * @return latch counted down for each accepted connection.
+     */
+    private static CountDownLatch startSilentServer(final ServerSocket serverSocket, final int connections) {
+        final CountDownLatch accepted = new CountDownLatch(connections);
+        final List<Socket> sockets = new CopyOnWriteArrayList<>();
+        final Thread server = new Thread(() -> {
+            try {
+                while (true) {
+                    sockets.add(serverSocket.accept());
+                    accepted.countDown();
+                }
+            } catch (IOException e) {
+                // server socket closed
+                for (final Socket socket : sockets) {
+                    try {
+                        socket.close();
+                    } catch (IOException ignored) {
+                        // ignored
+                    }
+                }
+            }
+        });
+        server.setDaemon(true);
+        server.start();
+        return accepted;
+    }
+
+    @Test
+    public void testTimedOutConnectionNotReused() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            final CountDownLatch accepted = startSilentServer(serverSocket, 2);
+
+            final Client client = ClientBuilder.newClient(new ClientConfig()
+                    .property(NettyClientProperties.MAX_CONNECTIONS_PER_DESTINATION, 1)
+                    .property(ClientProperties.READ_TIMEOUT, 500)
+                    .connectorProvider(new NettyConnectorProvider()));
+            try {
+                final String uri = "http://localhost:" + serverSocket.getLocalPort() + "/";
+                for (int i = 0; i < 2; i++) {
+                    try {
+                        client.target(uri).request().get(String.class);
+                        fail("Read timeout expected.");
+                    } catch (ProcessingException e) {
+                        assertTrue(String.valueOf(e.getCause()), e.getCause() instanceof TimeoutException);
+                    }
+                }
+                // the connection of the timed out request is closed and released, the next request opens a new one
+                assertTrue(accepted.await(10 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS));
+            } finally {
+                client.close();
+            }
+        }
+    }
+
+    @Test
+    public void testAcquireTimeout() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            final CountDownLatch accepted = startSilentServer(serverSocket, 1);
+
+            final Client client = ClientBuilder.newClient(new ClientConfig()
+                    .property(NettyClientProperties.MAX_CONNECTIONS_PER_DESTINATION, 1)
+                    .property(ClientProperties.CONNECT_TIMEOUT, 500)
+                    .connectorProvider(new NettyConnectorProvider()));
+            try {
+                final String uri = "http://localhost:" + serverSocket.getLocalPort() + "/";
+                // never completed, holds the only connection
+                client.target(uri).request().async().get();
+                assertTrue(accepted.await(10 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS));
+
+                try {
+                    client.target(uri).request().get(String.class);
+                    fail("Acquire timeout expected.");
+                } catch (ProcessingException e) {
+                    assertTrue(String.valueOf(e.getCause()), e.getCause() instanceof TimeoutException);
+                }
+            } finally {
+                client.close();
+            }
+        }
+    }
+
+    @Test
+    public void testSequentialRequests() {
+        for (int i = 0; i < REQUESTS; i++) {
+            assertEquals("GET", target("test").request().get(String.class));
+            assertEquals(204, target("test/empty").request().get().getStatus());
+            assertEquals("POST" + i, target("test").request().post(Entity.text("POST" + i), String.class));
+        }
+    }
+
+    @Test
+    public void testChunkedRequests() {
+        for (int i = 0; i < REQUESTS; i++) {
+            assertEquals("CHUNKED" + i, target("test").request()
+                    .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED)
+                    .post(Entity.text("CHUNKED" + i), String.class));
+        }
+    }
+
+    @Test
+    public void testAsyncRequests() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(REQUESTS);
+        final AtomicInteger successful = new AtomicInteger();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            target("test").request().async().get(new InvocationCallback<String>() {
+                @Override
+                public void completed(String response) {
+                    if ("GET".equals(response)) {
+                        successful.incrementAndGet();
+                    }
+                    latch.countDown();
+                }
+
+                @Override
+                public void failed(Throwable error) {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(10 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS));
+        assertEquals(REQUESTS, successful.get());
+    }
+}
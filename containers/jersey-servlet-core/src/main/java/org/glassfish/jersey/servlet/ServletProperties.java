@@ -133,6 +133,88 @@ public final class ServletProperties {
     // TODO implement generic support
     public static final String JAXRS_APPLICATION_CLASS = "javax.ws.rs.Application";
 
+    /**
+     * If {@code true} then requests are processed using the non-blocking I/O introduced in Servlet 3.1.
+     * <p>
+     * The request entity is read using a {@code javax.servlet.ReadListener} before the request is dispatched to the
+     * application and the response entity (including {@link org.glassfish.jersey.server.ChunkedOutput chunked} and SSE
+     * streams) is written using a {@code javax.servlet.WriteListener}, so that no servlet container thread is blocked
+     * by a slow client. The request entity is buffered in memory, up to
+     * {@link #NON_BLOCKING_IO_MAX_ENTITY_SIZE} bytes. The non-blocking I/O requires the
+     * {@code jersey-container-servlet} module and a Servlet 3.1 container; requests that do not support asynchronous
+     * processing and filters configured to {@link #FILTER_FORWARD_ON_404 forward on 404} are processed using
+     * the blocking I/O.
+     * </p>
+     * <p>
+     * The property value MUST be an instance of {@link String} or {@link Boolean}. The allowed values are {@code true}
+     * and {@code false}.
+     * </p>
+     * <p>
+     * A default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    public static final String NON_BLOCKING_IO = "jersey.config.servlet.nonBlockingIo";
+
+    /**
+     * Maximum number of response bytes queued by the {@link #NON_BLOCKING_IO non-blocking} response output stream
+     * before an application thread writing the response (e.g. a thread writing into a
+     * {@link org.glassfish.jersey.server.ChunkedOutput chunked output}) is blocked until the queued data are transferred
+     * to the client. The servlet container thread that dispatched the request, e.g. writing the response of a synchronous
+     * resource method, writes using the blocking I/O until an application thread writes to the response; its writes
+     * queued afterwards fail once the queued data would exceed the limit.
+     * <p>
+     * The property value MUST be an instance of {@link Integer} or its {@link String} representation. A value lower
+     * than or equal to zero disables the limit.
+     * </p>
+     * <p>
+     * A default value is {@value #NON_BLOCKING_IO_BUFFER_SIZE_DEFAULT}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    public static final String NON_BLOCKING_IO_BUFFER_SIZE = "jersey.config.servlet.nonBlockingIo.bufferSize";
+
+    /**
+     * Default value of the {@link #NON_BLOCKING_IO_BUFFER_SIZE} property.
+     *
+     * @since 2.27
+     */
+    public static final int NON_BLOCKING_IO_BUFFER_SIZE_DEFAULT = 256 * 1024;
+
+    /**
+     * Maximum size in bytes of a request entity read using the {@link #NON_BLOCKING_IO non-blocking} I/O. The entity is
+     * buffered in memory before the request is dispatched to the application; requests with larger entities are
+     * rejected with {@code 413 Request Entity Too Large}.
+     * <p>
+     * The property value MUST be an instance of {@link Integer} or its {@link String} representation. A value lower
+     * than or equal to zero disables the limit.
+     * </p>
+     * <p>
+     * A default value is {@value #NON_BLOCKING_IO_MAX_ENTITY_SIZE_DEFAULT}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    public static final String NON_BLOCKING_IO_MAX_ENTITY_SIZE = "jersey.config.servlet.nonBlockingIo.maxEntitySize";
+
+    /**
+     * Default value of the {@link #NON_BLOCKING_IO_MAX_ENTITY_SIZE} property.
+     *
+     * @since 2.27
+     */
+    public static final int NON_BLOCKING_IO_MAX_ENTITY_SIZE_DEFAULT = 1024 * 1024;
+
     /**
      * Indicates that Jersey should scan the whole web app for application-specific resources and
      * providers. If the property is present and the value is not {@code false}, the whole web app
@@ -41,6 +41,7 @@
 package org.glassfish.jersey.servlet;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.security.AccessController;
@@ -61,6 +62,7 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.RuntimeType;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Form;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.MediaType;
@@ -109,6 +111,8 @@ import org.glassfish.jersey.servlet.internal.spi.ServletContainerProvider;
 import org.glassfish.jersey.servlet.spi.AsyncContextDelegate;
 import org.glassfish.jersey.servlet.spi.AsyncContextDelegateProvider;
 import org.glassfish.jersey.servlet.spi.FilterUrlMappingsProvider;
+import org.glassfish.jersey.servlet.spi.NonBlockingIoDelegate;
+import org.glassfish.jersey.servlet.spi.NonBlockingIoDelegateProvider;
 import org.glassfish.jersey.uri.UriComponent;
 
 /**
@@ -166,6 +170,28 @@ public class WebComponent {
         return (request, response) -> DEFAULT_ASYNC_DELEGATE;
     }
 
+    /**
+     * Return the first found {@link NonBlockingIoDelegateProvider} if the {@link ServletProperties#NON_BLOCKING_IO
+     * non-blocking I/O} is enabled.
+     *
+     * @param resourceConfig Jersey application configuration.
+     * @return non-blocking I/O delegate provider or {@code null} if the non-blocking I/O is disabled or not supported.
+     */
+    private NonBlockingIoDelegateProvider getNonBlockingIoDelegate(final ResourceConfig resourceConfig) {
+        if (!resourceConfig.isProperty(ServletProperties.NON_BLOCKING_IO) || forwardOn404) {
+            return null;
+        }
+
+        final Iterator<NonBlockingIoDelegateProvider> providers = Providers.getAllProviders(
+                appHandler.getInjectionManager(), NonBlockingIoDelegateProvider.class).iterator();
+        if (providers.hasNext()) {
+            return providers.next();
+        }
+
+        LOGGER.warning(LocalizationMessages.NON_BLOCKING_IO_NOT_SUPPORTED());
+        return null;
+    }
+
     @SuppressWarnings("JavaDoc")
     private static class HttpServletRequestReferencingFactory extends ReferencingFactory<HttpServletRequest> {
 
@@ -242,6 +268,7 @@ public class WebComponent {
 
             install(new ServiceFinderBinder<>(AsyncContextDelegateProvider.class, applicationProperties, RuntimeType.SERVER));
             install(new ServiceFinderBinder<>(FilterUrlMappingsProvider.class, applicationProperties, RuntimeType.SERVER));
+            install(new ServiceFinderBinder<>(NonBlockingIoDelegateProvider.class, applicationProperties, RuntimeType.SERVER));
         }
     }
 
@@ -277,6 +304,21 @@ public class WebComponent {
      */
     private final AsyncContextDelegateProvider asyncExtensionDelegate;
 
+    /**
+     * Non-blocking I/O delegate provider, {@code null} if the non-blocking I/O is not enabled.
+     */
+    private final NonBlockingIoDelegateProvider nonBlockingIoDelegate;
+
+    /**
+     * Cached value of configuration property {@link ServletProperties#NON_BLOCKING_IO_BUFFER_SIZE}.
+     */
+    private final int nonBlockingIoBufferSize;
+
+    /**
+     * Cached value of configuration property {@link ServletProperties#NON_BLOCKING_IO_MAX_ENTITY_SIZE}.
+     */
+    private final int nonBlockingIoMaxEntitySize;
+
     /**
      * Flag whether query parameters should be kept as entity form params if a servlet filter consumes entity and
      * Jersey has to retrieve form params from servlet request parameters.
@@ -342,6 +384,13 @@ public class WebComponent {
                 ServerProperties.RESPONSE_SET_STATUS_OVER_SEND_ERROR, false, Boolean.class);
         this.backgroundTaskScheduler = appHandler.getInjectionManager()
                 .getInstance(ScheduledExecutorService.class, BackgroundSchedulerLiteral.INSTANCE);
+        this.nonBlockingIoDelegate = getNonBlockingIoDelegate(resourceConfig);
+        this.nonBlockingIoBufferSize = ServerProperties.getValue(resourceConfig.getProperties(),
+                ServletProperties.NON_BLOCKING_IO_BUFFER_SIZE, ServletProperties.NON_BLOCKING_IO_BUFFER_SIZE_DEFAULT,
+                Integer.class);
+        this.nonBlockingIoMaxEntitySize = ServerProperties.getValue(resourceConfig.getProperties(),
+                ServletProperties.NON_BLOCKING_IO_MAX_ENTITY_SIZE, ServletProperties.NON_BLOCKING_IO_MAX_ENTITY_SIZE_DEFAULT,
+                Integer.class);
     }
 
     /**
@@ -400,11 +449,15 @@ public class WebComponent {
             final HttpServletRequest servletRequest,
             final HttpServletResponse servletResponse) throws ServletException, IOException {
 
+        final NonBlockingIoDelegate nonBlockingIo = nonBlockingIoDelegate == null
+                ? null : nonBlockingIoDelegate.createDelegate(servletRequest, servletResponse, nonBlockingIoBufferSize,
+                nonBlockingIoMaxEntitySize);
+
         final ResponseWriter responseWriter = new ResponseWriter(
                 forwardOn404,
                 configSetStatusOverSendError,
                 servletResponse,
-                asyncExtensionDelegate.createDelegate(servletRequest, servletResponse),
+                nonBlockingIo != null ? nonBlockingIo : asyncExtensionDelegate.createDelegate(servletRequest, servletResponse),
                 backgroundTaskScheduler);
 
         try {
@@ -413,25 +466,76 @@ public class WebComponent {
 
             initContainerRequest(requestContext, servletRequest, servletResponse, responseWriter);
 
-            appHandler.handle(requestContext);
+            if (nonBlockingIo == null) {
+                initContainerRequestEntity(requestContext, servletRequest, servletRequest.getInputStream());
+                appHandler.handle(requestContext);
+            } else {
+                nonBlockingIo.readEntity(entityStream -> {
+                    try {
+                        initContainerRequestEntity(requestContext, servletRequest, entityStream);
+                        appHandler.handle(requestContext);
+                    } catch (final HeaderValueException hve) {
+                        abortNonBlocking(nonBlockingIo, servletResponse, hve);
+                    }
+                }, failure -> {
+                    LOGGER.log(Level.FINE, LocalizationMessages.NON_BLOCKING_IO_READ_FAILED(), failure);
+                    abortNonBlocking(nonBlockingIo, servletResponse, failure);
+                });
+            }
         } catch (final HeaderValueException hve) {
-            if (LOGGER.isLoggable(Level.FINE)) {
-                LOGGER.log(Level.FINE, LocalizationMessages.HEADER_VALUE_READ_FAILED(), hve);
+            sendBadRequest(servletResponse, hve);
+            if (nonBlockingIo != null) {
+                nonBlockingIo.complete();
             }
+        } catch (final Exception e) {
+            throw new ServletException(e);
+        }
+        return responseWriter;
+    }
 
-            final Response.Status status = Response.Status.BAD_REQUEST;
+    private void sendBadRequest(final HttpServletResponse servletResponse, final HeaderValueException hve)
+            throws IOException {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, LocalizationMessages.HEADER_VALUE_READ_FAILED(), hve);
+        }
+
+        sendError(servletResponse, Response.Status.BAD_REQUEST);
+    }
 
-            if (configSetStatusOverSendError) {
-                servletResponse.reset();
-                //noinspection deprecation
-                servletResponse.setStatus(status.getStatusCode(), status.getReasonPhrase());
+    private void sendError(final HttpServletResponse servletResponse, final Response.StatusType status) throws IOException {
+        if (configSetStatusOverSendError) {
+            servletResponse.reset();
+            //noinspection deprecation
+            servletResponse.setStatus(status.getStatusCode(), status.getReasonPhrase());
+        } else {
+            servletResponse.sendError(status.getStatusCode(), status.getReasonPhrase());
+        }
+    }
+
+    /**
+     * Respond with an error status (unless the response has already been committed) and complete the request that failed
+     * before it has been dispatched using the non-blocking I/O. The status is taken from a
+     * {@link WebApplicationException} failure, {@code 400 Bad Request} is used otherwise.
+     */
+    private void abortNonBlocking(final NonBlockingIoDelegate nonBlockingIo,
+                                  final HttpServletResponse servletResponse,
+                                  final Throwable failure) {
+        try {
+            if (servletResponse.isCommitted()) {
+                return;
+            }
+            if (failure instanceof HeaderValueException) {
+                sendBadRequest(servletResponse, (HeaderValueException) failure);
+            } else if (failure instanceof WebApplicationException) {
+                sendError(servletResponse, ((WebApplicationException) failure).getResponse().getStatusInfo());
             } else {
-                servletResponse.sendError(status.getStatusCode(), status.getReasonPhrase());
+                sendError(servletResponse, Response.Status.BAD_REQUEST);
             }
-        } catch (final Exception e) {
-            throw new ServletException(e);
+        } catch (final IOException | IllegalStateException ex) {
+            LOGGER.log(Level.FINER, LocalizationMessages.NON_BLOCKING_IO_READ_FAILED(), ex);
+        } finally {
+            nonBlockingIo.complete();
         }
-        return responseWriter;
     }
 
     /**
@@ -443,7 +547,6 @@ public class WebComponent {
             final HttpServletResponse servletResponse,
             final ResponseWriter responseWriter) throws IOException {
 
-        requestContext.setEntityStream(servletRequest.getInputStream());
         requestContext.setRequestScopedInitializer(requestScopedInitializer.get(new RequestContextProvider() {
             @Override
             public HttpServletRequest getHttpServletRequest() {
@@ -457,6 +560,18 @@ public class WebComponent {
         requestContext.setWriter(responseWriter);
 
         addRequestHeaders(servletRequest, requestContext);
+    }
+
+    /**
+     * Set the entity stream of the {@code ContainerRequest} instance used to handle {@code servletRequest}.
+     */
+    private void initContainerRequestEntity(
+            final ContainerRequest requestContext,
+            final HttpServletRequest servletRequest,
+            final InputStream entityStream) {
+
+        requestContext.setEntityStream(entityStream);
+
         // Check if any servlet filters have consumed a request entity
         // of the media type application/x-www-form-urlencoded
         // This can happen if a filter calls request.getParameter(...)
@@ -62,10 +62,12 @@ import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.internal.JerseyRequestTimeoutHandler;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
 import org.glassfish.jersey.servlet.spi.AsyncContextDelegate;
+import org.glassfish.jersey.servlet.spi.NonBlockingIoDelegate;
 
 /**
  * An internal implementation of {@link ContainerResponseWriter} for Servlet containers.
- * The writer depends on provided {@link AsyncContextDelegate} to support async functionality.
+ * The writer depends on provided {@link AsyncContextDelegate} to support async functionality. If the delegate is
+ * a {@link NonBlockingIoDelegate}, the response entity is written using the non-blocking I/O.
  *
  * @author Paul Sandoz
  * @author Jakub Podlesak (jakub.podlesak at oracle.com)
@@ -177,7 +179,8 @@ public class ResponseWriter implements ContainerResponseWriter {
             return null;
         } else {
             try {
-                final OutputStream outputStream = response.getOutputStream();
+                final OutputStream outputStream = asyncExt instanceof NonBlockingIoDelegate
+                        ? ((NonBlockingIoDelegate) asyncExt).getOutputStream() : response.getOutputStream();
 
                 // delegating output stream prevents closing the underlying servlet output stream,
                 // so that any Servlet filters in the chain can still write to the response after us.
@@ -254,6 +257,10 @@ public class ResponseWriter implements ContainerResponseWriter {
                 } finally {
                     asyncExt.complete();
                 }
+            } else if (asyncExt instanceof NonBlockingIoDelegate) {
+                // non-blocking requests are always asynchronous, complete also those whose response has been committed
+                // already (e.g. a broken chunked output), the completion of the delegate is idempotent
+                asyncExt.complete();
             }
         } finally {
             requestTimeoutHandler.close();
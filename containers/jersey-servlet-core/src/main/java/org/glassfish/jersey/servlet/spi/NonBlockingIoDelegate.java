@@ -0,0 +1,88 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.servlet.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+/**
+ * Servlet container response writer extension reading the request entity and writing the response entity using
+ * the non-blocking I/O introduced in Servlet version 3.1.
+ * <p>
+ * The servlet request is put into asynchronous mode as soon as the delegate is created, the
+ * {@link #complete() completion} of the asynchronous context is deferred until all the response data written into the
+ * {@link #getOutputStream() output stream} have been transferred to the client. Since the request is always
+ * asynchronous, {@link #complete()} is invoked also for failed requests whose response has already been committed
+ * and may be invoked repeatedly.
+ * </p>
+ *
+ * @see NonBlockingIoDelegateProvider
+ * @since 2.27
+ */
+public interface NonBlockingIoDelegate extends AsyncContextDelegate {
+
+    /**
+     * Read the request entity without blocking the calling thread. Once the whole entity has been read, the
+     * {@code onRead} consumer is invoked, on a container thread, with a stream providing the read entity data.
+     * If the entity exceeds the maximum entity size, the {@code onFailure} consumer is invoked with a
+     * {@link javax.ws.rs.WebApplicationException} carrying the {@code 413 Request Entity Too Large} response status.
+     *
+     * @param onRead    consumer of the read request entity stream.
+     * @param onFailure consumer of the failure that occurred while reading the request entity.
+     * @throws IOException in case the request entity stream cannot be obtained.
+     */
+    public void readEntity(Consumer<InputStream> onRead, Consumer<Throwable> onFailure) throws IOException;
+
+    /**
+     * Get the non-blocking response output stream.
+     * <p>
+     * Data written into the stream are queued and transferred to the client whenever the servlet output stream is
+     * ready to accept them. The stream must not be closed by the caller, the servlet container closes the underlying
+     * stream once the response is {@link #complete() completed}.
+     * </p>
+     *
+     * @return non-blocking response output stream.
+     * @throws IOException in case the servlet output stream cannot be obtained.
+     */
+    public OutputStream getOutputStream() throws IOException;
+}
@@ -0,0 +1,458 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.servlet.async;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.servlet.init.internal.LocalizationMessages;
+import org.glassfish.jersey.servlet.spi.NonBlockingIoDelegate;
+import org.glassfish.jersey.servlet.spi.NonBlockingIoDelegateProvider;
+
+/**
+ * Servlet 3.1 non-blocking I/O container response writer extension and related extension factory implementation.
+ * <p>
+ * The request entity is read by a {@link ReadListener} into memory before the request is dispatched to the application.
+ * Entities larger than the configured maximum size are rejected with {@code 413 Request Entity Too Large}.
+ * The response entity written by application threads, e.g. {@link org.glassfish.jersey.server.ChunkedOutput chunked}
+ * or SSE streams and asynchronously resumed responses, is queued and transferred to the client by a {@link WriteListener}
+ * whenever the servlet output stream {@link ServletOutputStream#isReady() is ready}. An application thread is blocked
+ * once the queue exceeds the configured buffer size, until a slow client reads the queued data.
+ * </p>
+ * <p>
+ * The container thread dispatching the request cannot wait for the listener, as containers may not notify it before the
+ * thread returns. The response written by the container thread, i.e. the whole response of a synchronous resource
+ * method, is therefore written using the blocking I/O, as long as no application thread has written to the response.
+ * The listener is registered on the first write of an application thread; the data written by the container thread
+ * afterwards are queued and the write fails if the queue would exceed the buffer size. On Servlet 3.0 containers no
+ * delegate is created and the requests are processed using the blocking I/O.
+ * </p>
+ *
+ * @since 2.27
+ */
+public class NonBlockingIoDelegateProviderImpl implements NonBlockingIoDelegateProvider {
+
+    private static final Logger LOGGER = Logger.getLogger(NonBlockingIoDelegateProviderImpl.class.getName());
+
+    private static final boolean NON_BLOCKING_IO_SUPPORTED = isNonBlockingIoSupported();
+
+    private static boolean isNonBlockingIoSupported() {
+        try {
+            ServletInputStream.class.getMethod("isReady");
+            return true;
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public final NonBlockingIoDelegate createDelegate(final HttpServletRequest request,
+                                                      final HttpServletResponse response,
+                                                      final int bufferSize,
+                                                      final int maxEntitySize) {
+        if (!NON_BLOCKING_IO_SUPPORTED || !request.isAsyncSupported() || request.isAsyncStarted()) {
+            return null;
+        }
+        return new NonBlockingIoDelegateImpl(request, response, bufferSize, maxEntitySize);
+    }
+
+    private static final class NonBlockingIoDelegateImpl implements NonBlockingIoDelegate, WriteListener {
+
+        private static final int NEVER_TIMEOUT_VALUE = -1;
+        private static final int READ_BUFFER_SIZE = 8192;
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final AsyncContext asyncContext;
+        private final int bufferSize;
+        private final int maxEntitySize;
+
+        /**
+         * Container thread dispatching the request to the application, {@code null} outside of the dispatch.
+         */
+        private volatile Thread dispatchThread;
+
+        // Write state guarded by the lock.
+        private final Object lock = new Object();
+        private final Deque<byte[]> queue = new ArrayDeque<>();
+        private long queued;
+        private ServletOutputStream servletOutputStream;
+        private OutputStream outputStream;
+        private boolean listening;
+        private boolean flushRequested;
+        private boolean completeRequested;
+        private boolean completed;
+        private Throwable failure;
+
+        /**
+         * Create a Servlet 3.1 {@link NonBlockingIoDelegate} with given {@code request} and {@code response} and put
+         * the request into asynchronous mode.
+         *
+         * @param request    request to create {@link AsyncContext} for.
+         * @param response   response to create {@link AsyncContext} for.
+         * @param bufferSize maximum number of queued response bytes before an application thread writing the response
+         *                   is blocked or a write of the container thread fails.
+         * @param maxEntitySize maximum size of the request entity read into memory, not limited if not positive.
+         */
+        private NonBlockingIoDelegateImpl(final HttpServletRequest request,
+                                          final HttpServletResponse response,
+                                          final int bufferSize,
+                                          final int maxEntitySize) {
+            this.request = request;
+            this.response = response;
+            this.bufferSize = bufferSize;
+            this.maxEntitySize = maxEntitySize;
+            this.asyncContext = request.startAsync(request, response);
+            // Tell underlying asyncContext to never time out, the time-outs are handled by Jersey.
+            this.asyncContext.setTimeout(NEVER_TIMEOUT_VALUE);
+        }
+
+        @Override
+        public void suspend() throws IllegalStateException {
+            // The request has been put into asynchronous mode already.
+        }
+
+        @Override
+        public void complete() {
+            synchronized (lock) {
+                completeRequested = true;
+                if (!listening || failure != null) {
+                    completeAsync();
+                } else {
+                    try {
+                        drain();
+                    } catch (final IOException e) {
+                        // the failure has been recorded and the request completed
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void readEntity(final Consumer<InputStream> onRead, final Consumer<Throwable> onFailure) throws IOException {
+            final ServletInputStream inputStream = request.getInputStream();
+            if (!hasEntity()) {
+                dispatch(onRead, onFailure, inputStream);
+                return;
+            }
+
+            final int contentLength = request.getContentLength();
+            if (isTooLarge(contentLength)) {
+                onFailure.accept(new ClientErrorException(Response.Status.REQUEST_ENTITY_TOO_LARGE));
+                return;
+            }
+
+            final ByteArrayOutputStream entity = new ByteArrayOutputStream(
+                    contentLength > 0 ? Math.min(contentLength, READ_BUFFER_SIZE * 8) : READ_BUFFER_SIZE);
+
+            inputStream.setReadListener(new ReadListener() {
+
+                private final byte[] buffer = new byte[READ_BUFFER_SIZE];
+                private boolean rejected = false;
+
+                @Override
+                public void onDataAvailable() throws IOException {
+                    int read;
+                    while (!rejected && inputStream.isReady() && (read = inputStream.read(buffer)) != -1) {
+                        if (isTooLarge((long) entity.size() + read)) {
+                            // stop reading, the container is not going to notify the listener again
+                            rejected = true;
+                            onFailure.accept(new ClientErrorException(Response.Status.REQUEST_ENTITY_TOO_LARGE));
+                            return;
+                        }
+                        entity.write(buffer, 0, read);
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    if (!rejected) {
+                        dispatch(onRead, onFailure, new ByteArrayInputStream(entity.toByteArray()));
+                    }
+                }
+
+                @Override
+                public void onError(final Throwable t) {
+                    if (!rejected) {
+                        onFailure.accept(t);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Check whether a request entity of given size exceeds the maximum entity size.
+         */
+        private boolean isTooLarge(final long entitySize) {
+            return maxEntitySize > 0 && entitySize > maxEntitySize;
+        }
+
+        /**
+         * Check whether the request may contain an entity. Requests without entity are dispatched immediately.
+         */
+        private boolean hasEntity() {
+            final int contentLength = request.getContentLength();
+            if (contentLength >= 0) {
+                return contentLength > 0;
+            }
+            // HTTP/1.x requests without content length contain an entity only if the transfer encoding is set.
+            final String protocol = request.getProtocol();
+            return request.getHeader("Transfer-Encoding") != null || protocol == null || !protocol.startsWith("HTTP/1.");
+        }
+
+        private void dispatch(final Consumer<InputStream> onRead,
+                              final Consumer<Throwable> onFailure,
+                              final InputStream entityStream) {
+            dispatchThread = Thread.currentThread();
+            try {
+                onRead.accept(entityStream);
+            } catch (final RuntimeException e) {
+                onFailure.accept(e);
+            } finally {
+                dispatchThread = null;
+            }
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            synchronized (lock) {
+                if (outputStream == null) {
+                    servletOutputStream = response.getOutputStream();
+                    outputStream = new NonBlockingOutputStream();
+                }
+                return outputStream;
+            }
+        }
+
+        @Override
+        public void onWritePossible() throws IOException {
+            synchronized (lock) {
+                drain();
+            }
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            synchronized (lock) {
+                fail(t);
+            }
+        }
+
+        /**
+         * Transfer the queued data to the servlet output stream while the stream is ready. If the stream is not ready,
+         * the container invokes {@link #onWritePossible()} once it is. Must be called while holding the lock.
+         */
+        private void drain() throws IOException {
+            try {
+                while (failure == null && !completed && servletOutputStream.isReady()) {
+                    final byte[] chunk = queue.poll();
+                    if (chunk != null) {
+                        servletOutputStream.write(chunk);
+                        queued -= chunk.length;
+                        lock.notifyAll();
+                    } else if (flushRequested) {
+                        flushRequested = false;
+                        servletOutputStream.flush();
+                    } else {
+                        if (completeRequested) {
+                            completeAsync();
+                        }
+                        return;
+                    }
+                }
+            } catch (final IOException e) {
+                fail(e);
+                throw e;
+            }
+        }
+
+        /**
+         * Register the write listener unless registered already, the container thread dispatching the request uses the
+         * blocking I/O until then. Must be called while holding the lock.
+         *
+         * @return {@code true} if the data may be written using the blocking I/O.
+         */
+        private boolean isBlocking() {
+            if (listening) {
+                return false;
+            }
+            if (Thread.currentThread() == dispatchThread) {
+                return true;
+            }
+            listening = true;
+            servletOutputStream.setWriteListener(this);
+            return false;
+        }
+
+        /**
+         * Record the write failure and release the blocked writers. The request is completed once Jersey
+         * {@link #complete() completes} the response. Must be called while holding the lock.
+         */
+        private void fail(final Throwable t) {
+            if (failure == null) {
+                LOGGER.log(Level.FINE, LocalizationMessages.NON_BLOCKING_IO_WRITE_FAILED(), t);
+                failure = t;
+                queue.clear();
+                queued = 0;
+                lock.notifyAll();
+            }
+            if (completeRequested) {
+                completeAsync();
+            }
+        }
+
+        /**
+         * Complete the asynchronous context. Must be called while holding the lock.
+         */
+        private void completeAsync() {
+            if (!completed) {
+                completed = true;
+                lock.notifyAll();
+                try {
+                    asyncContext.complete();
+                } catch (final IllegalStateException e) {
+                    // the container may have completed the request already after an I/O error
+                    LOGGER.log(Level.FINE, LocalizationMessages.NON_BLOCKING_IO_COMPLETE_FAILED(), e);
+                }
+            }
+        }
+
+        /**
+         * Response output stream queueing the data written while the servlet output stream is not ready.
+         */
+        private final class NonBlockingOutputStream extends OutputStream {
+
+            @Override
+            public void write(final int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                if (len == 0) {
+                    return;
+                }
+
+                synchronized (lock) {
+                    checkWritable();
+
+                    if (isBlocking() || queue.isEmpty() && !flushRequested && servletOutputStream.isReady()) {
+                        try {
+                            servletOutputStream.write(b, off, len);
+                        } catch (final IOException e) {
+                            fail(e);
+                            throw e;
+                        }
+                        return;
+                    }
+
+                    // Block application threads if too much data is queued already, the container thread must not block.
+                    if (bufferSize > 0 && Thread.currentThread() == dispatchThread) {
+                        if (queued + len > bufferSize) {
+                            final IOException e = new IOException(
+                                    LocalizationMessages.NON_BLOCKING_IO_BUFFER_EXCEEDED(bufferSize));
+                            fail(e);
+                            throw e;
+                        }
+                    } else if (bufferSize > 0) {
+                        while (queued >= bufferSize && failure == null && !completed) {
+                            try {
+                                lock.wait();
+                            } catch (final InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new InterruptedIOException();
+                            }
+                        }
+                        checkWritable();
+                    }
+
+                    queue.add(Arrays.copyOfRange(b, off, off + len));
+                    queued += len;
+                    drain();
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                synchronized (lock) {
+                    checkWritable();
+                    if (isBlocking()) {
+                        try {
+                            servletOutputStream.flush();
+                        } catch (final IOException e) {
+                            fail(e);
+                            throw e;
+                        }
+                        return;
+                    }
+                    flushRequested = true;
+                    drain();
+                }
+            }
+
+            private void checkWritable() throws IOException {
+                if (failure != null || completed) {
+                    throw new IOException(LocalizationMessages.NON_BLOCKING_IO_WRITE_FAILED(), failure);
+                }
+            }
+        }
+    }
+}
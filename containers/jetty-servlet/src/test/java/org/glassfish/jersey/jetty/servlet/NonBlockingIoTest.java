@@ -0,0 +1,345 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.jetty.servlet;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriBuilder;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.servlet.ServletContainer;
+import org.glassfish.jersey.servlet.ServletProperties;
+
+import org.eclipse.jetty.server.Server;
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the Servlet 3.1 {@link ServletProperties#NON_BLOCKING_IO non-blocking I/O} deployed to Jetty.
+ */
+public class NonBlockingIoTest {
+
+    private static final int DEFAULT_PORT = 9998;
+    private static final int TIMEOUT = 30;
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final AtomicLong written = new AtomicLong();
+    private static volatile CompletableFuture<Throwable> writerDone;
+
+    @Path("/")
+    public static class Resource {
+
+        @POST
+        @Path("echo")
+        public String echo(final String entity) {
+            return entity;
+        }
+
+        @GET
+        @Path("chunked")
+        @Produces(MediaType.TEXT_PLAIN)
+        public ChunkedOutput<String> chunked(@QueryParam("count") final int count) {
+            final ChunkedOutput<String> output = new ChunkedOutput<>(String.class);
+            final char[] data = new char[CHUNK_SIZE];
+            Arrays.fill(data, 'a');
+            final String chunk = new String(data);
+
+            new Thread(() -> {
+                try {
+                    for (int i = 0; i < count; i++) {
+                        output.write(chunk);
+                        written.addAndGet(CHUNK_SIZE);
+                    }
+                    output.close();
+                    writerDone.complete(null);
+                } catch (final IOException e) {
+                    writerDone.complete(e);
+                }
+            }).start();
+
+            return output;
+        }
+
+        @GET
+        @Path("streaming")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public StreamingOutput streaming(@QueryParam("count") final int count) {
+            final byte[] chunk = new byte[CHUNK_SIZE];
+            return output -> {
+                try {
+                    for (int i = 0; i < count; i++) {
+                        output.write(chunk);
+                        written.addAndGet(CHUNK_SIZE);
+                    }
+                    writerDone.complete(null);
+                } catch (final IOException e) {
+                    writerDone.complete(e);
+                    throw e;
+                }
+            };
+        }
+
+        @GET
+        @Path("sse")
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        public void sse(@Context final SseEventSink sink, @Context final Sse sse) {
+            new Thread(() -> {
+                try (SseEventSink eventSink = sink) {
+                    for (int i = 0; i < 3; i++) {
+                        eventSink.send(sse.newEvent("event-" + i)).toCompletableFuture().get();
+                    }
+                } catch (final Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+        }
+    }
+
+    private Server server;
+
+    private static int getPort() {
+        final String value = System.getProperty("jersey.config.test.container.port");
+        return value == null ? DEFAULT_PORT : Integer.parseInt(value);
+    }
+
+    private void start(final ResourceConfig config) throws Exception {
+        written.set(0);
+        writerDone = new CompletableFuture<>();
+        final URI baseUri = UriBuilder.fromUri("http://localhost/").port(getPort()).build();
+        server = JettyWebContainerFactory.create(baseUri,
+                new ServletContainer(config.property(ServletProperties.NON_BLOCKING_IO, true)), null, null);
+    }
+
+    private void start() throws Exception {
+        start(new ResourceConfig(Resource.class));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    private static HttpURLConnection open(final String path) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + getPort() + path)
+                .openConnection();
+        connection.setConnectTimeout(TIMEOUT * 1000);
+        connection.setReadTimeout(TIMEOUT * 1000);
+        return connection;
+    }
+
+    private static long count(final InputStream in) throws IOException {
+        final byte[] buffer = new byte[8192];
+        long count = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            count += read;
+        }
+        return count;
+    }
+
+    private static HttpURLConnection post(final int size, final boolean chunked) throws IOException {
+        final HttpURLConnection connection = open("/echo");
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", MediaType.TEXT_PLAIN);
+        connection.setDoOutput(true);
+        if (chunked) {
+            connection.setChunkedStreamingMode(512);
+        } else {
+            connection.setFixedLengthStreamingMode(size);
+        }
+        final byte[] entity = new byte[size];
+        Arrays.fill(entity, (byte) 'b');
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(entity);
+        }
+        return connection;
+    }
+
+    @Test
+    public void testRequestEntity() throws Exception {
+        start();
+
+        final HttpURLConnection connection = post(100, true);
+        assertEquals(200, connection.getResponseCode());
+        try (InputStream in = connection.getInputStream()) {
+            assertEquals(100, count(in));
+        }
+    }
+
+    @Test
+    public void testRequestEntityTooLarge() throws Exception {
+        start(new ResourceConfig(Resource.class).property(ServletProperties.NON_BLOCKING_IO_MAX_ENTITY_SIZE, 1024));
+
+        assertEquals(413, post(2048, false).getResponseCode());
+        assertEquals(413, post(4096, true).getResponseCode());
+        assertEquals(200, post(1024, false).getResponseCode());
+    }
+
+    @Test
+    public void testChunkedOutput() throws Exception {
+        start();
+
+        final HttpURLConnection connection = open("/chunked?count=3");
+        assertEquals(200, connection.getResponseCode());
+        try (InputStream in = connection.getInputStream()) {
+            assertEquals(3 * CHUNK_SIZE, count(in));
+        }
+        assertNull(writerDone.get(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSlowClient() throws Exception {
+        start();
+        final int count = 1024;
+
+        final HttpURLConnection connection = open("/chunked?count=" + count);
+        assertEquals(200, connection.getResponseCode());
+
+        // the client does not read, the application thread is blocked once the response buffer is full
+        Thread.sleep(1000);
+        final long writtenBeforeRead = written.get();
+        assertFalse(writerDone.isDone());
+        assertTrue("Written " + writtenBeforeRead, writtenBeforeRead < (long) count * CHUNK_SIZE / 2);
+
+        // other requests are processed meanwhile
+        assertEquals(200, post(10, false).getResponseCode());
+
+        try (InputStream in = connection.getInputStream()) {
+            assertEquals((long) count * CHUNK_SIZE, count(in));
+        }
+        assertNull(writerDone.get(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testClientDisconnect() throws Exception {
+        start();
+
+        try (Socket socket = new Socket("localhost", getPort())) {
+            socket.getOutputStream().write(("GET /chunked?count=100000 HTTP/1.1\r\nHost: localhost\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            socket.getOutputStream().flush();
+            final byte[] buffer = new byte[CHUNK_SIZE];
+            assertTrue(socket.getInputStream().read(buffer) > 0);
+        }
+
+        // the writer blocked by the full response buffer is released once the connection is closed
+        assertTrue(writerDone.get(TIMEOUT, TimeUnit.SECONDS) instanceof IOException);
+        assertTrue(written.get() < 100000L * CHUNK_SIZE);
+    }
+
+    @Test
+    public void testSynchronousSlowClient() throws Exception {
+        start();
+        final int count = 16 * 1024;
+
+        try (Socket socket = new Socket("localhost", getPort())) {
+            socket.getOutputStream().write(("GET /streaming?count=" + count + " HTTP/1.1\r\nHost: localhost\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            socket.getOutputStream().flush();
+
+            // the client does not read, the container thread is blocked instead of queueing the whole response
+            Thread.sleep(1000);
+            final long writtenBeforeClose = written.get();
+            assertFalse(writerDone.isDone());
+            assertTrue("Written " + writtenBeforeClose, writtenBeforeClose < (long) count * CHUNK_SIZE / 2);
+
+            // other requests are processed meanwhile
+            assertEquals(200, post(10, false).getResponseCode());
+        }
+
+        // the blocked container thread is released once the connection is closed
+        assertTrue(writerDone.get(TIMEOUT, TimeUnit.SECONDS) instanceof IOException);
+        assertTrue(written.get() < (long) count * CHUNK_SIZE);
+    }
+
+    @Test
+    public void testSse() throws Exception {
+        start();
+
+        final HttpURLConnection connection = open("/sse");
+        connection.setRequestProperty("Accept", MediaType.SERVER_SENT_EVENTS);
+        assertEquals(200, connection.getResponseCode());
+
+        final List<String> data = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("data:")) {
+                    data.add(line.substring("data:".length()).trim());
+                }
+            }
+        }
+        assertEquals(Arrays.asList("event-0", "event-1", "event-2"), data);
+    }
+}
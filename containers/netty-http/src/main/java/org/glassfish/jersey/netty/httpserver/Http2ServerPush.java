@@ -0,0 +1,93 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.netty.httpserver;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP/2 server push support of the Netty HTTP container.
+ * <p>
+ * The instance associated with the currently processed request can be injected into resources and providers:
+ * <pre>
+ * &#64;GET
+ * public String dashboard(&#64;Context Http2ServerPush push) {
+ *     push.push("/api/dashboard/widgets");
+ *     push.push("/api/dashboard/alerts");
+ *     ...
+ * }
+ * </pre>
+ * Pushed requests are processed by the application as regular {@code GET} requests and their responses are sent on
+ * the promised streams, which depend on the stream of the request that initiated the push.
+ * </p>
+ * <p>
+ * Push is only supported for requests received over an HTTP/2 connection whose client has not disabled it. Otherwise
+ * the push requests are ignored.
+ * </p>
+ *
+ * @since 2.27
+ */
+public interface Http2ServerPush {
+
+    /**
+     * Check whether the server push is supported for the current request.
+     *
+     * @return {@code true} if pushed resources can be sent to the client, {@code false} otherwise.
+     */
+    boolean isSupported();
+
+    /**
+     * Push the resource identified by the path to the client.
+     *
+     * @param path absolute path (including the application context path) or a path relative to the application base URI,
+     *             optionally with a query string.
+     */
+    void push(String path);
+
+    /**
+     * Push the resource identified by the path to the client.
+     *
+     * @param path    absolute path (including the application context path) or a path relative to the application base
+     *                URI, optionally with a query string.
+     * @param headers additional headers of the pushed request.
+     */
+    void push(String path, Map<String, List<String>> headers);
+}
@@ -49,83 +49,183 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.LinkedBlockingDeque;
 
 import javax.ws.rs.core.SecurityContext;
 
-import io.netty.buffer.ByteBufInputStream;
-import io.netty.channel.ChannelDuplexHandler;
-import io.netty.channel.ChannelHandler;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.http.HttpRequest;
-import io.netty.handler.codec.http2.Http2DataFrame;
-import io.netty.handler.codec.http2.Http2HeadersFrame;
-import io.netty.util.concurrent.Future;
-import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.AbstractHttp2ConnectionHandlerBuilder;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.DefaultHttp2RemoteFlowController;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2ConnectionDecoder;
+import io.netty.handler.codec.http2.Http2ConnectionEncoder;
+import io.netty.handler.codec.http2.Http2ConnectionHandler;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2FrameAdapter;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2Stream;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.codec.http2.WeightedFairQueueByteDistributor;
 import org.glassfish.jersey.internal.PropertiesDelegate;
-import org.glassfish.jersey.netty.connector.internal.NettyInputStream;
 import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.ContainerUtils;
 
 /**
  * Jersey Netty HTTP/2 handler.
  * <p>
+ * Response data of concurrent streams is written through the connection flow controller, which distributes the
+ * connection window among the streams according to the stream priorities sent by the client. Requests may initiate
+ * {@link Http2ServerPush server push}; pushed streams depend on the stream of the initiating request.
+ * <p>
+ * Request entity data is returned to the flow-control window of the stream (and of the connection) only as the
+ * application consumes it, so the amount of buffered request data per stream is limited by the initial stream window
+ * size.
+ * <p>
  * Note that this implementation cannot be more experimental. Any contributions / feedback is welcomed.
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
-@ChannelHandler.Sharable
-class JerseyHttp2ServerHandler extends ChannelDuplexHandler {
+class JerseyHttp2ServerHandler extends Http2ConnectionHandler {
 
     private final URI baseUri;
-    private final LinkedBlockingDeque<InputStream> isList = new LinkedBlockingDeque<>();
     private final NettyHttpContainer container;
+    private final Integer connectionWindowSize;
+    private final int initialWindowSize;
 
     /**
-     * Constructor.
+     * Entities of the requests being received, accessed from the event loop only.
+     */
+    private final Map<Integer, NettyEntityInputStream> entities = new HashMap<>();
+
+    private JerseyHttp2ServerHandler(Http2ConnectionDecoder decoder, Http2ConnectionEncoder encoder,
+                                     Http2Settings initialSettings, URI baseUri, NettyHttpContainer container,
+                                     Integer connectionWindowSize) {
+        super(decoder, encoder, initialSettings);
+        this.baseUri = baseUri;
+        this.container = container;
+        this.connectionWindowSize = connectionWindowSize;
+
+        final Integer initialWindowSize = initialSettings.initialWindowSize();
+        this.initialWindowSize = initialWindowSize != null
+                ? initialWindowSize : Http2CodecUtil.DEFAULT_WINDOW_SIZE;
+    }
+
+    /**
+     * Create new HTTP/2 handler configured by the container {@link NettyServerProperties properties}.
      *
      * @param baseUri   base {@link URI} of the container (includes context path, if any).
      * @param container Netty container implementation.
+     * @return new HTTP/2 connection handler.
      */
-    JerseyHttp2ServerHandler(URI baseUri, NettyHttpContainer container) {
-        this.baseUri = baseUri;
-        this.container = container;
+    static JerseyHttp2ServerHandler create(URI baseUri, NettyHttpContainer container) {
+        return new Builder(baseUri, container).build();
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        super.handlerAdded(ctx);
+
+        if (connectionWindowSize != null && connectionWindowSize > Http2CodecUtil.DEFAULT_WINDOW_SIZE) {
+            decoder().flowController().incrementWindowSize(connection().connectionStream(),
+                    connectionWindowSize - Http2CodecUtil.DEFAULT_WINDOW_SIZE);
+            ctx.flush();
+        }
     }
 
     @Override
-    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
-        ctx.close();
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof HttpServerUpgradeHandler.UpgradeEvent) {
+            // the request that triggered the upgrade is answered on the stream 1.
+            final FullHttpRequest request = ((HttpServerUpgradeHandler.UpgradeEvent) evt).upgradeRequest();
+            final boolean hasEntity = request.content().isReadable();
+
+            onRequest(ctx, Http2CodecUtil.HTTP_UPGRADE_STREAM_ID, HttpConversionUtil.toHttp2Headers(request, true), !hasEntity);
+            if (hasEntity) {
+                onData(ctx, Http2CodecUtil.HTTP_UPGRADE_STREAM_ID, request.content().retainedDuplicate(), true);
+            }
+        }
+        super.userEventTriggered(ctx, evt);
     }
 
     @Override
-    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
-        if (msg instanceof Http2HeadersFrame) {
-            onHeadersRead(ctx, (Http2HeadersFrame) msg);
-        } else if (msg instanceof Http2DataFrame) {
-            onDataRead(ctx, (Http2DataFrame) msg);
-        } else {
-            super.channelRead(ctx, msg);
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        for (NettyEntityInputStream entity : entities.values()) {
+            entity.fail(new IOException("Connection was closed prematurely."));
         }
+        entities.clear();
+        super.channelInactive(ctx);
     }
 
     /**
-     * Process incoming data.
+     * Initiate server push on the event loop.
+     *
+     * @param ctx         Netty channel context.
+     * @param streamId    stream of the request initiating the push.
+     * @param pushHeaders headers of the pushed request.
      */
-    private void onDataRead(ChannelHandlerContext ctx, Http2DataFrame data) throws Exception {
-        isList.add(new ByteBufInputStream(data.content()));
-        if (data.isEndStream()) {
-            isList.add(NettyInputStream.END_OF_INPUT);
+    void push(ChannelHandlerContext ctx, int streamId, Http2Headers pushHeaders) {
+        if (!connection().remote().allowPushTo()) {
+            return;
+        }
+
+        final int promisedStreamId = connection().local().incrementAndGetNextStreamId();
+        if (promisedStreamId < 0) {
+            return;
         }
+
+        encoder().writePushPromise(ctx, streamId, promisedStreamId, pushHeaders, 0, ctx.newPromise());
+        encoder().flowController().updateDependencyTree(promisedStreamId, streamId,
+                Http2CodecUtil.DEFAULT_PRIORITY_WEIGHT, false);
+
+        onRequest(ctx, promisedStreamId, pushHeaders, true);
     }
 
     /**
-     * Process incoming request (just a headers in this case, entity is processed separately).
+     * Check whether the server push is allowed on the connection.
+     *
+     * @return {@code true} if push promises can be sent.
      */
-    private void onHeadersRead(ChannelHandlerContext ctx, Http2HeadersFrame headers) throws Exception {
+    boolean isPushAllowed() {
+        return connection().remote().allowPushTo();
+    }
 
-        final ContainerRequest requestContext = createContainerRequest(ctx, headers);
+    /**
+     * Process incoming request headers (entity is processed separately).
+     */
+    private void onRequest(ChannelHandlerContext ctx, int streamId, Http2Headers headers, boolean endOfStream) {
 
-        requestContext.setWriter(new NettyHttp2ResponseWriter(ctx, headers, container));
+        final ContainerRequest requestContext = createContainerRequest(headers);
+
+        final NettyHttp2ResponseWriter writer = new NettyHttp2ResponseWriter(ctx, this, streamId, headers, baseUri,
+                                                                             container);
+        requestContext.setWriter(writer);
+        requestContext.setProperty(Http2ServerPush.class.getName(), writer);
+
+        // request entity handling.
+        if (!endOfStream) {
+            // the entity of the upgrade request has been received as HTTP/1.1 content, not subject to flow control.
+            final NettyEntityInputStream entity = streamId == Http2CodecUtil.HTTP_UPGRADE_STREAM_ID
+                    ? new NettyEntityInputStream(null)
+                    : new NettyEntityInputStream(bytes -> returnWindow(ctx, streamId, bytes),
+                                                 // the settings may not have been acknowledged yet
+                                                 Math.max(initialWindowSize, decoder().flowController().initialWindowSize()));
+            entities.put(streamId, entity);
+            requestContext.setEntityStream(entity);
+        } else {
+            requestContext.setEntityStream(new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    return -1;
+                }
+            });
+        }
 
         // must be like this, since there is a blocking read from Jersey
         container.getExecutorService().execute(new Runnable() {
@@ -137,21 +237,73 @@ class JerseyHttp2ServerHandler extends ChannelDuplexHandler {
     }
 
     /**
-     * Create Jersey {@link ContainerRequest} based on Netty {@link HttpRequest}.
+     * Process incoming data.
+     *
+     * @return {@code true} if the data has been passed to the request entity stream, {@code false} if it has been
+     * discarded.
+     */
+    private boolean onData(ChannelHandlerContext ctx, int streamId, ByteBuf data, boolean endOfStream) {
+        final NettyEntityInputStream entity = entities.get(streamId);
+        if (entity == null) {
+            data.release();
+            return false;
+        }
+
+        if (!entity.publish(data)) {
+            // the peer does not respect the flow-control window.
+            entities.remove(streamId);
+            resetStream(ctx, streamId, Http2Error.FLOW_CONTROL_ERROR.code(), ctx.newPromise());
+            ctx.flush();
+            return true;
+        }
+        if (endOfStream) {
+            entity.complete();
+            entities.remove(streamId);
+        }
+        return true;
+    }
+
+    /**
+     * Return the consumed request entity bytes to the flow-control window of the stream and the connection.
+     *
+     * @param ctx      Netty channel context.
+     * @param streamId stream the entity has been received on.
+     * @param bytes    number of consumed bytes.
+     */
+    private void returnWindow(ChannelHandlerContext ctx, int streamId, int bytes) {
+        ctx.executor().execute(() -> {
+            final Http2Stream stream = connection().stream(streamId);
+            if (stream == null) {
+                // the unconsumed bytes of a closed stream have already been returned to the connection window.
+                return;
+            }
+
+            try {
+                if (decoder().flowController().consumeBytes(stream, bytes)) {
+                    ctx.flush();
+                }
+            } catch (Http2Exception e) {
+                resetStream(ctx, streamId, Http2Error.INTERNAL_ERROR.code(), ctx.newPromise());
+                ctx.flush();
+            }
+        });
+    }
+
+    /**
+     * Create Jersey {@link ContainerRequest} based on Netty HTTP/2 request headers.
      *
-     * @param ctx          Netty channel context.
      * @param http2Headers Netty Http/2 headers.
      * @return created Jersey Container Request.
      */
-    private ContainerRequest createContainerRequest(ChannelHandlerContext ctx, Http2HeadersFrame http2Headers) {
+    private ContainerRequest createContainerRequest(Http2Headers http2Headers) {
 
-        String path = http2Headers.headers().path().toString();
+        String path = http2Headers.path().toString();
 
         String s = path.startsWith("/") ? path.substring(1) : path;
         URI requestUri = URI.create(baseUri + ContainerUtils.encodeUnsafeCharacters(s));
 
         ContainerRequest requestContext = new ContainerRequest(
-                baseUri, requestUri, http2Headers.headers().method().toString(), getSecurityContext(),
+                baseUri, requestUri, http2Headers.method().toString(), getSecurityContext(),
                 new PropertiesDelegate() {
 
                     private final Map<String, Object> properties = new HashMap<>();
@@ -177,29 +329,9 @@ class JerseyHttp2ServerHandler extends ChannelDuplexHandler {
                     }
                 });
 
-        // request entity handling.
-        if (!http2Headers.isEndStream()) {
-
-            ctx.channel().closeFuture().addListener(new GenericFutureListener<Future<? super Void>>() {
-                @Override
-                public void operationComplete(Future<? super Void> future) throws Exception {
-                    isList.add(NettyInputStream.END_OF_INPUT_ERROR);
-                }
-            });
-
-            requestContext.setEntityStream(new NettyInputStream(isList));
-        } else {
-            requestContext.setEntityStream(new InputStream() {
-                @Override
-                public int read() throws IOException {
-                    return -1;
-                }
-            });
-        }
-
         // copying headers from netty request to jersey container request context.
-        for (CharSequence name : http2Headers.headers().names()) {
-            requestContext.headers(name.toString(), mapToString(http2Headers.headers().getAll(name)));
+        for (CharSequence name : http2Headers.names()) {
+            requestContext.headers(name.toString(), mapToString(http2Headers.getAll(name)));
         }
 
         return requestContext;
@@ -239,4 +371,87 @@ class JerseyHttp2ServerHandler extends ChannelDuplexHandler {
             }
         };
     }
+
+    /**
+     * Listener of the frames read from the connection.
+     */
+    private class FrameListener extends Http2FrameAdapter {
+
+        @Override
+        public int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding, boolean endOfStream)
+                throws Http2Exception {
+            // the data bytes are returned to the flow-control window once consumed by the application;
+            // data that cannot be delivered to an entity stream (and the padding) is processed immediately.
+            final int length = data.readableBytes();
+            final boolean delivered = onData(ctx, streamId, data.retain(), endOfStream);
+            return delivered ? padding : length + padding;
+        }
+
+        @Override
+        public void onHeadersRead(ChannelHandlerContext ctx, int streamId, Http2Headers headers, int padding,
+                                  boolean endOfStream) throws Http2Exception {
+            onRequest(ctx, streamId, headers, endOfStream);
+        }
+
+        @Override
+        public void onHeadersRead(ChannelHandlerContext ctx, int streamId, Http2Headers headers, int streamDependency,
+                                  short weight, boolean exclusive, int padding, boolean endOfStream) throws Http2Exception {
+            // the priority has already been applied to the flow controller by the decoder.
+            onHeadersRead(ctx, streamId, headers, padding, endOfStream);
+        }
+
+        @Override
+        public void onRstStreamRead(ChannelHandlerContext ctx, int streamId, long errorCode) throws Http2Exception {
+            final NettyEntityInputStream entity = entities.remove(streamId);
+            if (entity != null) {
+                entity.fail(new IOException("Stream was reset by the client."));
+            }
+        }
+    }
+
+    /**
+     * Builder of {@link JerseyHttp2ServerHandler} instances.
+     */
+    private static final class Builder
+            extends AbstractHttp2ConnectionHandlerBuilder<JerseyHttp2ServerHandler, Builder> {
+
+        private final URI baseUri;
+        private final NettyHttpContainer container;
+        private final Integer connectionWindowSize;
+
+        private Builder(URI baseUri, NettyHttpContainer container) {
+            this.baseUri = baseUri;
+            this.container = container;
+
+            final Map<String, Object> properties = container.getConfiguration().getProperties();
+            this.connectionWindowSize = ServerProperties.getValue(properties,
+                    NettyServerProperties.HTTP2_CONNECTION_WINDOW_SIZE, Integer.class);
+
+            final Integer initialWindowSize = ServerProperties.getValue(properties,
+                    NettyServerProperties.HTTP2_INITIAL_WINDOW_SIZE, Integer.class);
+            if (initialWindowSize != null) {
+                initialSettings(new Http2Settings().initialWindowSize(initialWindowSize));
+            }
+
+            // writes of concurrent streams are scheduled according to the stream priorities.
+            final Http2Connection connection = new DefaultHttp2Connection(true);
+            connection.remote().flowController(
+                    new DefaultHttp2RemoteFlowController(connection, new WeightedFairQueueByteDistributor(connection)));
+            connection(connection);
+        }
+
+        @Override
+        public JerseyHttp2ServerHandler build() {
+            return super.build();
+        }
+
+        @Override
+        protected JerseyHttp2ServerHandler build(Http2ConnectionDecoder decoder, Http2ConnectionEncoder encoder,
+                                                 Http2Settings initialSettings) {
+            final JerseyHttp2ServerHandler handler = new JerseyHttp2ServerHandler(decoder, encoder, initialSettings,
+                                                                                  baseUri, container, connectionWindowSize);
+            frameListener(handler.new FrameListener());
+            return handler;
+        }
+    }
 }
@@ -47,12 +47,12 @@ import java.security.Principal;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.LinkedBlockingDeque;
 
 import javax.ws.rs.core.SecurityContext;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -63,24 +63,45 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
-import io.netty.util.concurrent.Future;
-import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.ReferenceCountUtil;
 import org.glassfish.jersey.internal.PropertiesDelegate;
-import org.glassfish.jersey.netty.connector.internal.NettyInputStream;
 import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.ContainerUtils;
 
 /**
  * {@link io.netty.channel.ChannelInboundHandler} which servers as a bridge
  * between Netty and Jersey.
+ * <p>
+ * Request entities with a known length not exceeding {@link NettyServerProperties#MAX_AGGREGATED_ENTITY_SIZE} are
+ * received completely before the request is processed. Other request entities are streamed to the application through
+ * a {@link NettyEntityInputStream}. Requests that can be processed without blocking on the entity are processed on the
+ * event loop if {@link NettyServerProperties#INLINE_DISPATCH_ENABLED enabled}, all other requests are dispatched to the
+ * container executor service.
+ * </p>
+ * <p>
+ * The part of a streamed entity that has not been read by the application when the response is written is discarded,
+ * so that the connection can be reused. If more than {@value NettyEntityInputStream#MAX_DISCARDED} bytes would have to
+ * be discarded, the connection is closed instead.
+ * </p>
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
 class JerseyServerHandler extends ChannelInboundHandlerAdapter {
 
     private final URI baseUri;
-    private final LinkedBlockingDeque<InputStream> isList = new LinkedBlockingDeque<>();
     private final NettyHttpContainer container;
+    private final boolean inlineDispatch;
+    private final int maxAggregatedEntitySize;
+
+    /**
+     * Entity of the request being received, {@code null} if there is none.
+     */
+    private NettyEntityInputStream entity;
+    /**
+     * Request waiting for its entity to be aggregated.
+     */
+    private ContainerRequest aggregatedRequest;
 
     /**
      * Constructor.
@@ -91,24 +112,78 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
     public JerseyServerHandler(URI baseUri, NettyHttpContainer container) {
         this.baseUri = baseUri;
         this.container = container;
+
+        final Map<String, Object> properties = container.getConfiguration().getProperties();
+        this.inlineDispatch = ServerProperties.getValue(properties,
+                NettyServerProperties.INLINE_DISPATCH_ENABLED, Boolean.FALSE, Boolean.class);
+        this.maxAggregatedEntitySize = ServerProperties.getValue(properties,
+                NettyServerProperties.MAX_AGGREGATED_ENTITY_SIZE,
+                NettyServerProperties.DEFAULT_MAX_AGGREGATED_ENTITY_SIZE, Integer.class);
     }
 
     @Override
     public void channelRead(final ChannelHandlerContext ctx, Object msg) {
+        try {
+            if (msg instanceof HttpRequest) {
+                final HttpRequest req = (HttpRequest) msg;
+
+                if (HttpUtil.is100ContinueExpected(req)) {
+                    ctx.writeAndFlush(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE));
+                }
+
+                entity = null;
+                aggregatedRequest = null;
+
+                final ContainerRequest requestContext = createContainerRequest(ctx, req);
 
-        if (msg instanceof HttpRequest) {
-            final HttpRequest req = (HttpRequest) msg;
+                requestContext.setWriter(new NettyResponseWriter(ctx, req, container, entity));
 
-            if (HttpUtil.is100ContinueExpected(req)) {
-                ctx.write(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE));
+                if (entity == null) {
+                    dispatch(requestContext, true);
+                } else if (aggregatedRequest == null) {
+                    // must be like this, since there is a blocking read from Jersey
+                    dispatch(requestContext, false);
+                }
             }
 
-            isList.clear(); // clearing the content - possible leftover from previous request processing.
-            final ContainerRequest requestContext = createContainerRequest(ctx, req);
+            if (msg instanceof HttpContent && entity != null) {
+                HttpContent httpContent = (HttpContent) msg;
+
+                ByteBuf content = httpContent.content();
+
+                if (content.isReadable() && !entity.publish(content.retain())) {
+                    // too much of an unread entity discarded after the response, do not wait for the rest of it
+                    entity = null;
+                    closeAfterResponse(ctx);
+                    return;
+                }
+
+                if (msg instanceof LastHttpContent) {
+                    entity.complete();
+                    entity = null;
 
-            requestContext.setWriter(new NettyResponseWriter(ctx, req, container));
+                    if (aggregatedRequest != null) {
+                        final ContainerRequest requestContext = aggregatedRequest;
+                        aggregatedRequest = null;
+                        dispatch(requestContext, true);
+                    }
+                }
+            }
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+    }
 
-            // must be like this, since there is a blocking read from Jersey
+    /**
+     * Process the request either directly on the event loop or using the container executor service.
+     *
+     * @param requestContext request to be processed.
+     * @param nonBlocking    {@code true} if the request entity can be read without blocking.
+     */
+    private void dispatch(final ContainerRequest requestContext, boolean nonBlocking) {
+        if (nonBlocking && inlineDispatch) {
+            container.getApplicationHandler().handle(requestContext);
+        } else {
             container.getExecutorService().execute(new Runnable() {
                 @Override
                 public void run() {
@@ -116,20 +191,26 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
                 }
             });
         }
+    }
 
-        if (msg instanceof HttpContent) {
-            HttpContent httpContent = (HttpContent) msg;
-
-            ByteBuf content = httpContent.content();
-
-            if (content.isReadable()) {
-                isList.add(new ByteBufInputStream(content));
-            }
+    /**
+     * Close the connection once the response written by the container threads is sent.
+     *
+     * @param ctx channel handler context.
+     */
+    private static void closeAfterResponse(final ChannelHandlerContext ctx) {
+        // the response may still be queued in the event loop tasks, schedule the close after them
+        ctx.executor().execute(() -> ctx.writeAndFlush(Unpooled.EMPTY_BUFFER).addListener(ChannelFutureListener.CLOSE));
+    }
 
-            if (msg instanceof LastHttpContent) {
-                isList.add(NettyInputStream.END_OF_INPUT);
-            }
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (entity != null) {
+            entity.fail(new IOException("Connection was closed prematurely."));
+            entity = null;
         }
+        aggregatedRequest = null;
+        super.channelInactive(ctx);
     }
 
     /**
@@ -172,17 +253,18 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
                 });
 
         // request entity handling.
-        if ((req.headers().contains(HttpHeaderNames.CONTENT_LENGTH) && HttpUtil.getContentLength(req) > 0)
-                || HttpUtil.isTransferEncodingChunked(req)) {
-
-            ctx.channel().closeFuture().addListener(new GenericFutureListener<Future<? super Void>>() {
-                @Override
-                public void operationComplete(Future<? super Void> future) throws Exception {
-                    isList.add(NettyInputStream.END_OF_INPUT_ERROR);
-                }
-            });
+        final boolean hasContentLength = req.headers().contains(HttpHeaderNames.CONTENT_LENGTH);
+        if ((hasContentLength && HttpUtil.getContentLength(req) > 0) || HttpUtil.isTransferEncodingChunked(req)) {
+
+            if (hasContentLength && HttpUtil.getContentLength(req) <= maxAggregatedEntitySize) {
+                // small entity: aggregate, the entity size limits the amount of buffered content.
+                entity = new NettyEntityInputStream(null);
+                aggregatedRequest = requestContext;
+            } else {
+                entity = new NettyEntityInputStream(ctx.channel().config());
+            }
 
-            requestContext.setEntityStream(new NettyInputStream(isList));
+            requestContext.setEntityStream(entity);
         } else {
             requestContext.setEntityStream(new InputStream() {
                 @Override
@@ -0,0 +1,308 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.netty.httpserver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.function.IntConsumer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelConfig;
+
+/**
+ * Request entity input stream backed by the retained {@link ByteBuf buffers} received from Netty.
+ * <p>
+ * Buffers are {@link #publish(ByteBuf) published} by the event loop and consumed by the thread processing the request,
+ * without copying the content into intermediate streams. The buffers are released as soon as they are consumed.
+ * If the amount of received but not yet consumed content exceeds a threshold, reading from the channel is suspended
+ * (the channel {@link ChannelConfig#setAutoRead(boolean) auto-read} is disabled) until the consumer catches up.
+ * </p>
+ * <p>
+ * Once the request has been responded to, the rest of an entity the application has not read is
+ * {@link #discard() discarded} so that the connection can be used for the next request.
+ * </p>
+ * <p>
+ * Alternatively, the stream can report the consumed content to a flow control listener (e.g. to return the HTTP/2
+ * flow-control window to the peer only as the entity is read) and reject content exceeding a given limit.
+ * </p>
+ *
+ * @since 2.27
+ */
+class NettyEntityInputStream extends InputStream {
+
+    /**
+     * Amount of unconsumed bytes which suspends reading from the channel.
+     */
+    private static final int HIGH_WATER_MARK = 64 * 1024;
+    /**
+     * Amount of unconsumed bytes which resumes reading from the channel.
+     */
+    private static final int LOW_WATER_MARK = 16 * 1024;
+    /**
+     * Maximum amount of bytes discarded after the request has been responded to.
+     */
+    static final int MAX_DISCARDED = 2 * 1024 * 1024;
+
+    private final ChannelConfig channelConfig;
+    private final IntConsumer consumedListener;
+    private final int maxQueued;
+    private final ArrayDeque<ByteBuf> buffers = new ArrayDeque<>();
+
+    private int queued = 0;
+    /**
+     * Bytes consumed but not yet reported to the {@link #consumedListener}.
+     */
+    private int unreported = 0;
+    private boolean suspended = false;
+    private boolean complete = false;
+    private boolean closed = false;
+    private boolean discarding = false;
+    private long discarded = 0;
+    private IOException failure = null;
+
+    /**
+     * Create new entity input stream.
+     *
+     * @param channelConfig configuration of the channel the entity is read from, used to suspend and resume reading.
+     *                      May be {@code null} if the stream should not apply back-pressure.
+     */
+    NettyEntityInputStream(ChannelConfig channelConfig) {
+        this.channelConfig = channelConfig;
+        this.consumedListener = null;
+        this.maxQueued = 0;
+    }
+
+    /**
+     * Create new flow-controlled entity input stream.
+     *
+     * @param consumedListener listener notified about the number of consumed (or discarded) bytes, invoked by the
+     *                         thread consuming the stream.
+     * @param maxQueued        maximum amount of received but not yet consumed bytes, a non-positive value means
+     *                         no limit.
+     */
+    NettyEntityInputStream(IntConsumer consumedListener, int maxQueued) {
+        this.channelConfig = null;
+        this.consumedListener = consumedListener;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Publish a chunk of the entity. The stream takes over the ownership of the (retained) buffer.
+     *
+     * @param buffer received entity content.
+     * @return {@code false} if the buffer exceeds the maximum amount of unconsumed content, in which case the stream
+     * fails, or if more than {@value #MAX_DISCARDED} bytes have been {@link #discard() discarded}, {@code true} otherwise.
+     */
+    synchronized boolean publish(ByteBuf buffer) {
+        if (closed || complete || failure != null || !buffer.isReadable()) {
+            final int bytes = buffer.readableBytes();
+            report(bytes);
+            buffer.release();
+            if (discarding) {
+                discarded += bytes;
+                return discarded <= MAX_DISCARDED;
+            }
+            return true;
+        }
+
+        if (maxQueued > 0 && queued + buffer.readableBytes() > maxQueued) {
+            report(buffer.readableBytes());
+            buffer.release();
+            fail(new IOException("Received request entity data exceeds the flow-control window."));
+            return false;
+        }
+
+        buffers.add(buffer);
+        queued += buffer.readableBytes();
+
+        if (channelConfig != null && !suspended && queued > HIGH_WATER_MARK) {
+            suspended = true;
+            channelConfig.setAutoRead(false);
+        }
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Signal that the whole entity has been received.
+     */
+    synchronized void complete() {
+        complete = true;
+        notifyAll();
+    }
+
+    /**
+     * Discard the rest of the entity once the request has been responded to. The unread content is released and
+     * reading from the channel is resumed, the content received afterwards is released as it arrives. Once more than
+     * {@value #MAX_DISCARDED} bytes are discarded, {@link #publish(ByteBuf)} returns {@code false} and the connection
+     * should be closed instead of receiving the rest of the entity.
+     */
+    synchronized void discard() {
+        discarding = !complete && failure == null;
+        close();
+    }
+
+    /**
+     * Signal that the entity cannot be received completely.
+     *
+     * @param cause failure cause.
+     */
+    synchronized void fail(IOException cause) {
+        if (!complete && failure == null) {
+            failure = cause;
+            releaseAll();
+        }
+        notifyAll();
+    }
+
+    /**
+     * Check whether the whole entity has been received.
+     *
+     * @return {@code true} if the entity is complete.
+     */
+    synchronized boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        final ByteBuf buffer = awaitBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+
+        final int b = buffer.readByte() & 0xFF;
+        consumed(buffer, 1);
+        return b;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        final ByteBuf buffer = awaitBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+
+        final int read = Math.min(len, buffer.readableBytes());
+        buffer.readBytes(b, off, read);
+        consumed(buffer, read);
+        return read;
+    }
+
+    @Override
+    public synchronized int available() throws IOException {
+        final ByteBuf buffer = buffers.peek();
+        return buffer == null ? 0 : buffer.readableBytes();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            releaseAll();
+            notifyAll();
+        }
+    }
+
+    private ByteBuf awaitBuffer() throws IOException {
+        while (buffers.isEmpty()) {
+            if (failure != null) {
+                throw failure;
+            }
+            if (complete || closed) {
+                return null;
+            }
+
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted.", e);
+            }
+        }
+        return buffers.peek();
+    }
+
+    private void consumed(ByteBuf buffer, int bytes) {
+        queued -= bytes;
+        unreported += bytes;
+
+        if (!buffer.isReadable()) {
+            buffers.poll();
+            buffer.release();
+            // report once per received chunk rather than per read
+            report(0);
+        }
+        resumeIfNeeded();
+    }
+
+    private void releaseAll() {
+        ByteBuf buffer;
+        while ((buffer = buffers.poll()) != null) {
+            unreported += buffer.readableBytes();
+            buffer.release();
+        }
+        queued = 0;
+        report(0);
+        resumeIfNeeded();
+    }
+
+    private void report(int bytes) {
+        unreported += bytes;
+        if (consumedListener != null && unreported > 0) {
+            final int consumed = unreported;
+            unreported = 0;
+            consumedListener.accept(consumed);
+        }
+    }
+
+    private void resumeIfNeeded() {
+        if (suspended && queued < LOW_WATER_MARK) {
+            suspended = false;
+            channelConfig.setAutoRead(true);
+        }
+    }
+}
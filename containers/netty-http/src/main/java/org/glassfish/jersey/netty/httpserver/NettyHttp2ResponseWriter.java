@@ -42,44 +42,60 @@ package org.glassfish.jersey.netty.httpserver;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.net.URI;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.glassfish.jersey.server.ContainerException;
 import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.channel.ChannelFutureListener;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
-import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
 import io.netty.handler.codec.http2.DefaultHttp2Headers;
-import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
-import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2Headers;
 
 /**
  * Netty implementation of {@link ContainerResponseWriter}.
+ * <p>
+ * The response is written to its HTTP/2 stream through the {@link JerseyHttp2ServerHandler connection handler} on the
+ * event loop; the writes never block the thread processing the request.
+ * </p>
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
-class NettyHttp2ResponseWriter implements ContainerResponseWriter {
+class NettyHttp2ResponseWriter implements ContainerResponseWriter, Http2ServerPush {
+
+    private static final Logger LOGGER = Logger.getLogger(NettyHttp2ResponseWriter.class.getName());
 
     private final ChannelHandlerContext ctx;
-    private final Http2HeadersFrame headersFrame;
+    private final JerseyHttp2ServerHandler handler;
+    private final int streamId;
+    private final Http2Headers requestHeaders;
+    private final URI baseUri;
     private final NettyHttpContainer container;
 
     private volatile ScheduledFuture<?> suspendTimeoutFuture;
     private volatile Runnable suspendTimeoutHandler;
+    private volatile boolean responseWritten = false;
 
-    NettyHttp2ResponseWriter(ChannelHandlerContext ctx, Http2HeadersFrame headersFrame, NettyHttpContainer container) {
+    NettyHttp2ResponseWriter(ChannelHandlerContext ctx, JerseyHttp2ServerHandler handler, int streamId,
+                             Http2Headers requestHeaders, URI baseUri, NettyHttpContainer container) {
         this.ctx = ctx;
-        this.headersFrame = headersFrame;
+        this.handler = handler;
+        this.streamId = streamId;
+        this.requestHeaders = requestHeaders;
+        this.baseUri = baseUri;
         this.container = container;
     }
 
@@ -87,26 +103,29 @@ class NettyHttp2ResponseWriter implements ContainerResponseWriter {
     public OutputStream writeResponseStatusAndHeaders(long contentLength, ContainerResponse responseContext)
             throws ContainerException {
 
-        String reasonPhrase = responseContext.getStatusInfo().getReasonPhrase();
-        int statusCode = responseContext.getStatus();
-
-        HttpResponseStatus status = reasonPhrase == null
-                ? HttpResponseStatus.valueOf(statusCode)
-                : new HttpResponseStatus(statusCode, reasonPhrase);
-
-        DefaultHttp2Headers response = new DefaultHttp2Headers();
+        final DefaultHttp2Headers response = new DefaultHttp2Headers();
         response.status(Integer.toString(responseContext.getStatus()));
 
         for (final Map.Entry<String, List<String>> e : responseContext.getStringHeaders().entrySet()) {
             response.add(e.getKey().toLowerCase(), e.getValue());
         }
 
-        response.set(HttpHeaderNames.CONTENT_LENGTH, Long.toString(contentLength));
+        if (contentLength != -1) {
+            response.set(HttpHeaderNames.CONTENT_LENGTH, Long.toString(contentLength));
+        }
 
-        ctx.writeAndFlush(new DefaultHttp2HeadersFrame(response));
+        final boolean hasEntity = !HttpMethod.HEAD.asciiName().contentEquals(requestHeaders.method())
+                && (contentLength > 0 || contentLength == -1);
 
-        if (!headersFrame.headers().method().equals(HttpMethod.HEAD.asciiName())
-            && (contentLength > 0 || contentLength == -1)) {
+        responseWritten = true;
+        execute(new Write() {
+            @Override
+            public void write() {
+                handler.encoder().writeHeaders(ctx, streamId, response, 0, !hasEntity, ctx.newPromise());
+            }
+        });
+
+        if (hasEntity) {
 
             return new OutputStream() {
                 @Override
@@ -122,25 +141,34 @@ class NettyHttp2ResponseWriter implements ContainerResponseWriter {
                 @Override
                 public void write(byte[] b, int off, int len) throws IOException {
 
-                    ByteBuf buffer = ctx.alloc().buffer(len);
+                    final ByteBuf buffer = ctx.alloc().buffer(len);
                     buffer.writeBytes(b, off, len);
 
-                    ctx.writeAndFlush(new DefaultHttp2DataFrame(buffer, false));
+                    execute(new Write() {
+                        @Override
+                        public void write() {
+                            handler.encoder().writeData(ctx, streamId, buffer, 0, false, ctx.newPromise());
+                        }
+                    });
                 }
 
                 @Override
                 public void flush() throws IOException {
-                    ctx.flush();
+                    NettyHttp2ResponseWriter.this.flush();
                 }
 
                 @Override
                 public void close() throws IOException {
-                    ctx.write(new DefaultHttp2DataFrame(true)).addListener(NettyResponseWriter.FLUSH_FUTURE);
+                    execute(new Write() {
+                        @Override
+                        public void write() {
+                            handler.encoder().writeData(ctx, streamId, Unpooled.EMPTY_BUFFER, 0, true, ctx.newPromise());
+                        }
+                    });
                 }
             };
 
         } else {
-            ctx.writeAndFlush(new DefaultHttp2DataFrame(true));
             return null;
         }
     }
@@ -184,17 +212,105 @@ class NettyHttp2ResponseWriter implements ContainerResponseWriter {
 
     @Override
     public void commit() {
-        ctx.flush();
+        flush();
     }
 
     @Override
     public void failure(Throwable error) {
-        ctx.writeAndFlush(new DefaultHttp2Headers().status(HttpResponseStatus.INTERNAL_SERVER_ERROR.codeAsText()))
-           .addListener(ChannelFutureListener.CLOSE);
+        if (!responseWritten) {
+            responseWritten = true;
+            execute(new Write() {
+                @Override
+                public void write() {
+                    handler.encoder().writeHeaders(ctx, streamId,
+                            new DefaultHttp2Headers().status(HttpResponseStatus.INTERNAL_SERVER_ERROR.codeAsText()),
+                            0, true, ctx.newPromise());
+                }
+            });
+        } else {
+            execute(new Write() {
+                @Override
+                public void write() {
+                    handler.resetStream(ctx, streamId, Http2Error.INTERNAL_ERROR.code(), ctx.newPromise());
+                }
+            });
+        }
     }
 
     @Override
     public boolean enableResponseBuffering() {
         return true;
     }
+
+    @Override
+    public boolean isSupported() {
+        return handler.isPushAllowed();
+    }
+
+    @Override
+    public void push(String path) {
+        push(path, Collections.<String, List<String>>emptyMap());
+    }
+
+    @Override
+    public void push(String path, Map<String, List<String>> headers) {
+        final Http2Headers pushHeaders = new DefaultHttp2Headers()
+                .method(HttpMethod.GET.asciiName())
+                .path(path.startsWith("/") ? path : baseUri.getRawPath() + path)
+                .scheme(requestHeaders.scheme() != null ? requestHeaders.scheme() : baseUri.getScheme())
+                .authority(requestHeaders.authority() != null ? requestHeaders.authority() : baseUri.getRawAuthority());
+
+        for (final Map.Entry<String, List<String>> e : headers.entrySet()) {
+            pushHeaders.add(e.getKey().toLowerCase(), e.getValue());
+        }
+
+        execute(new Write() {
+            @Override
+            public void write() {
+                handler.push(ctx, streamId, pushHeaders);
+            }
+        });
+    }
+
+    private void flush() {
+        execute(new Write() {
+            @Override
+            public void write() {
+                // flush is performed after each write
+            }
+        });
+    }
+
+    /**
+     * Execute the write on the event loop and flush the written data according to the connection flow control.
+     */
+    private void execute(final Write write) {
+        if (ctx.executor().inEventLoop()) {
+            writeAndFlush(write);
+        } else {
+            ctx.executor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    writeAndFlush(write);
+                }
+            });
+        }
+    }
+
+    private void writeAndFlush(Write write) {
+        try {
+            write.write();
+            handler.flush(ctx);
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Writing to the HTTP/2 stream " + streamId + " failed.", e);
+        }
+    }
+
+    /**
+     * Write operation performed on the event loop.
+     */
+    private interface Write {
+
+        void write() throws Exception;
+    }
 }
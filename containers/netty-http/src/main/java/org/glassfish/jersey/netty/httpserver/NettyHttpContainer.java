@@ -40,12 +40,21 @@
 
 package org.glassfish.jersey.netty.httpserver;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 
 import javax.ws.rs.core.Application;
 
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.spi.Container;
 import org.glassfish.jersey.spi.ExecutorServiceProvider;
@@ -58,10 +67,58 @@ import org.glassfish.jersey.spi.ScheduledExecutorServiceProvider;
  */
 class NettyHttpContainer implements Container {
 
+    /**
+     * Server push used for requests that do not support it.
+     */
+    private static final Http2ServerPush NO_PUSH = new Http2ServerPush() {
+        @Override
+        public boolean isSupported() {
+            return false;
+        }
+
+        @Override
+        public void push(String path) {
+        }
+
+        @Override
+        public void push(String path, Map<String, List<String>> headers) {
+        }
+    };
+
+    /**
+     * Supplier of the {@link Http2ServerPush} instance of the current request.
+     */
+    private static class Http2ServerPushSupplier implements Supplier<Http2ServerPush> {
+
+        private final Provider<ContainerRequest> request;
+
+        @Inject
+        public Http2ServerPushSupplier(Provider<ContainerRequest> request) {
+            this.request = request;
+        }
+
+        @Override
+        public Http2ServerPush get() {
+            final Object push = request.get().getProperty(Http2ServerPush.class.getName());
+            return push instanceof Http2ServerPush ? (Http2ServerPush) push : NO_PUSH;
+        }
+    }
+
+    /**
+     * An internal binder to enable Netty HTTP container specific types injection.
+     */
+    static class NettyBinder extends AbstractBinder {
+
+        @Override
+        protected void configure() {
+            bindFactory(Http2ServerPushSupplier.class).to(Http2ServerPush.class).proxy(false).in(RequestScoped.class);
+        }
+    }
+
     private volatile ApplicationHandler appHandler;
 
     public NettyHttpContainer(Application application) {
-        this.appHandler = new ApplicationHandler(application);
+        this.appHandler = new ApplicationHandler(application, new NettyBinder());
         this.appHandler.onStartup(this);
     }
 
@@ -84,7 +141,7 @@ class NettyHttpContainer implements Container {
     public void reload(ResourceConfig configuration) {
         appHandler.onShutdown(this);
 
-        appHandler = new ApplicationHandler(configuration);
+        appHandler = new ApplicationHandler(configuration, new NettyBinder());
         appHandler.onReload(this);
         appHandler.onStartup(this);
     }
@@ -40,6 +40,7 @@
 
 package org.glassfish.jersey.netty.httpserver;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +58,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -86,16 +88,28 @@ class NettyResponseWriter implements ContainerResponseWriter {
     private final ChannelHandlerContext ctx;
     private final HttpRequest req;
     private final NettyHttpContainer container;
+    private final NettyEntityInputStream entity;
 
     private volatile ScheduledFuture<?> suspendTimeoutFuture;
     private volatile Runnable suspendTimeoutHandler;
 
     private boolean responseWritten = false;
 
-    NettyResponseWriter(ChannelHandlerContext ctx, HttpRequest req, NettyHttpContainer container) {
+    /**
+     * Create new response writer.
+     *
+     * @param ctx       channel handler context.
+     * @param req       request to be responded to.
+     * @param container Netty container.
+     * @param entity    request entity to be discarded once the response is written, {@code null} if the request has
+     *                  no entity.
+     */
+    NettyResponseWriter(ChannelHandlerContext ctx, HttpRequest req, NettyHttpContainer container,
+                        NettyEntityInputStream entity) {
         this.ctx = ctx;
         this.req = req;
         this.container = container;
+        this.entity = entity;
     }
 
     @Override
@@ -141,6 +155,11 @@ class NettyResponseWriter implements ContainerResponseWriter {
 
         if (req.method() != HttpMethod.HEAD && (contentLength > 0 || contentLength == -1)) {
 
+            if (ctx.executor().inEventLoop()) {
+                // processed on the event loop, which also consumes the chunked input - write the content directly.
+                return new EventLoopOutputStream(ctx, contentLength);
+            }
+
             JerseyChunkedInput jerseyChunkedInput = new JerseyChunkedInput(ctx.channel());
 
             if (HttpUtil.isTransferEncodingChunked(response)) {
@@ -196,10 +215,17 @@ class NettyResponseWriter implements ContainerResponseWriter {
     @Override
     public void commit() {
         ctx.flush();
+        if (entity != null) {
+            // the part of the entity the application has not read would block the next request on the connection
+            entity.discard();
+        }
     }
 
     @Override
     public void failure(Throwable error) {
+        if (entity != null) {
+            entity.close();
+        }
         ctx.writeAndFlush(new DefaultFullHttpResponse(req.protocolVersion(), HttpResponseStatus.INTERNAL_SERVER_ERROR))
            .addListener(ChannelFutureListener.CLOSE);
     }
@@ -208,4 +234,65 @@ class NettyResponseWriter implements ContainerResponseWriter {
     public boolean enableResponseBuffering() {
         return true;
     }
+
+    /**
+     * Response entity output stream used if the response is written from the event loop thread. The written content
+     * is passed directly to the channel pipeline, so the writes never block.
+     * <p>
+     * Only entities with a known length that fits into the channel write buffer are written without restrictions.
+     * Any other entity is flushed as it is written and the writing fails once the channel stops being writable, since
+     * the event loop cannot wait for the client to catch up and the content would be buffered in memory without
+     * a limit otherwise. Large or streamed responses should therefore not be produced with
+     * {@link NettyServerProperties#INLINE_DISPATCH_ENABLED inline dispatch} enabled.
+     * </p>
+     */
+    private static class EventLoopOutputStream extends OutputStream {
+
+        private final ChannelHandlerContext ctx;
+        private final boolean bounded;
+        private boolean closed = false;
+
+        private EventLoopOutputStream(ChannelHandlerContext ctx, long contentLength) {
+            this.ctx = ctx;
+            this.bounded = contentLength > 0
+                    && contentLength <= ctx.channel().config().getWriteBufferHighWaterMark();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("Stream already closed.");
+            }
+            if (len > 0) {
+                if (!bounded && !ctx.channel().isWritable()) {
+                    throw new IOException("Channel is not writable, the client does not read the response fast enough.");
+                }
+                // copy into a buffer from the channel allocator (pooled by default), the array may be reused by the caller
+                final DefaultHttpContent content = new DefaultHttpContent(ctx.alloc().buffer(len).writeBytes(b, off, len));
+                if (bounded) {
+                    ctx.write(content);
+                } else {
+                    ctx.writeAndFlush(content);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ctx.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+            }
+        }
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.netty.httpserver;
+
+import org.glassfish.jersey.internal.util.PropertiesClass;
+
+/**
+ * Configuration options specific to the Netty HTTP container.
+ * <p>
+ * The properties are read from the {@link org.glassfish.jersey.server.ResourceConfig configuration} of the deployed
+ * application.
+ * </p>
+ *
+ * @since 2.27
+ */
+@PropertiesClass
+public final class NettyServerProperties {
+
+    /**
+     * If {@code true}, requests without an entity and requests whose entity has been
+     * {@link #MAX_AGGREGATED_ENTITY_SIZE completely aggregated} are processed directly on the Netty event loop thread
+     * that received them, avoiding the hand-off to the container executor service. Requests with larger entities are
+     * always dispatched to the container executor service, since reading their entity may block.
+     * <p>
+     * Enable this only if the resource methods do not block; long-running requests should be
+     * {@link javax.ws.rs.container.Suspended suspended} and resumed from another thread.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String INLINE_DISPATCH_ENABLED = "jersey.config.netty.server.inlineDispatch.enabled";
+
+    /**
+     * Maximal size in bytes ({@link Integer} value) of a request entity with a known {@code Content-Length} that is
+     * aggregated in memory before the request is processed. Such a request entity can be read without blocking.
+     * Larger and chunked entities are streamed to the application as they are received. Together with
+     * {@link #INLINE_DISPATCH_ENABLED inline dispatch}, aggregation allows processing requests with small entities on
+     * the event loop.
+     * <p>
+     * The default value is {@value #DEFAULT_MAX_AGGREGATED_ENTITY_SIZE}, i.e. the aggregation is disabled. A non-positive
+     * value disables the aggregation.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String MAX_AGGREGATED_ENTITY_SIZE = "jersey.config.netty.server.maxAggregatedEntitySize";
+
+    /**
+     * Initial HTTP/2 flow-control window size in bytes ({@link Integer} value) of the streams, advertised to clients
+     * in the {@code SETTINGS_INITIAL_WINDOW_SIZE} setting.
+     * <p>
+     * If not set, the HTTP/2 default of {@code 65535} bytes is used.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String HTTP2_INITIAL_WINDOW_SIZE = "jersey.config.netty.server.http2.initialWindowSize";
+
+    /**
+     * HTTP/2 flow-control window size in bytes ({@link Integer} value) of the whole connection. The window is shared
+     * by all streams of the connection; values smaller than the HTTP/2 default of {@code 65535} bytes are ignored.
+     * <p>
+     * If not set, the HTTP/2 default is used.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String HTTP2_CONNECTION_WINDOW_SIZE = "jersey.config.netty.server.http2.connectionWindowSize";
+
+    /**
+     * Default value for the {@link #MAX_AGGREGATED_ENTITY_SIZE} property.
+     */
+    public static final int DEFAULT_MAX_AGGREGATED_ENTITY_SIZE = 0;
+
+    /**
+     * Prevents instantiation.
+     */
+    private NettyServerProperties() {
+        throw new AssertionError("No instances allowed.");
+    }
+}
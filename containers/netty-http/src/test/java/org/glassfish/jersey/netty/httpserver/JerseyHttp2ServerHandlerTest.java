@@ -0,0 +1,293 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.netty.httpserver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.Http2ConnectionHandler;
+import io.netty.handler.codec.http2.Http2ConnectionHandlerBuilder;
+import io.netty.handler.codec.http2.Http2FrameAdapter;
+import io.netty.handler.codec.http2.Http2Headers;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the request entity flow control of the {@link JerseyHttp2ServerHandler HTTP/2 handler}.
+ */
+public class JerseyHttp2ServerHandlerTest {
+
+    private static final int LARGE_ENTITY_SIZE = 4 * 1024 * 1024;
+    private static final int TIMEOUT = 30;
+
+    private static volatile CountDownLatch slowStarted;
+    private static volatile CountDownLatch slowRelease;
+
+    @Path("/")
+    public static class Resource {
+
+        @POST
+        @Path("count")
+        public String count(final InputStream entity) throws IOException {
+            final byte[] buffer = new byte[8192];
+            long count = 0;
+            int read;
+            while ((read = entity.read(buffer)) != -1) {
+                count += read;
+            }
+            return String.valueOf(count);
+        }
+
+        @POST
+        @Path("slow")
+        public String slow(final InputStream entity) throws Exception {
+            slowStarted.countDown();
+            assertTrue(slowRelease.await(TIMEOUT, TimeUnit.SECONDS));
+            return count(entity);
+        }
+    }
+
+    private final AtomicLong received = new AtomicLong();
+
+    private EventLoopGroup group;
+    private NettyHttpContainer container;
+    private Channel serverChannel;
+    private Channel clientChannel;
+    private Http2ConnectionHandler client;
+    private final ResponseListener responses = new ResponseListener();
+
+    private void start(final ResourceConfig config) throws Exception {
+        group = new NioEventLoopGroup(2);
+        container = new NettyHttpContainer(config);
+
+        final URI baseUri = URI.create("http://localhost/");
+        serverChannel = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(final SocketChannel ch) {
+                        ch.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+                            @Override
+                            public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+                                received.addAndGet(((ByteBuf) msg).readableBytes());
+                                ctx.fireChannelRead(msg);
+                            }
+                        });
+                        ch.pipeline().addLast(JerseyHttp2ServerHandler.create(baseUri, container));
+                    }
+                })
+                .bind(0).sync().channel();
+
+        client = new Http2ConnectionHandlerBuilder().server(false).frameListener(responses).build();
+        clientChannel = new Bootstrap()
+                .group(group)
+                .channel(NioSocketChannel.class)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(final SocketChannel ch) {
+                        ch.pipeline().addLast(client);
+                    }
+                })
+                .connect(serverChannel.localAddress()).sync().channel();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (clientChannel != null) {
+            clientChannel.close().sync();
+        }
+        if (serverChannel != null) {
+            serverChannel.close().sync();
+        }
+        if (container != null) {
+            container.getApplicationHandler().onShutdown(container);
+        }
+        if (group != null) {
+            group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+        }
+    }
+
+    private CompletableFuture<String> post(final String path, final int entitySize) {
+        final CompletableFuture<String> response = new CompletableFuture<>();
+        clientChannel.eventLoop().execute(() -> {
+            final ChannelHandlerContext ctx = clientChannel.pipeline().firstContext();
+            final int streamId = client.connection().local().incrementAndGetNextStreamId();
+            responses.register(streamId, response);
+
+            final Http2Headers headers = new DefaultHttp2Headers()
+                    .method("POST")
+                    .path(path)
+                    .scheme("http")
+                    .authority("localhost:" + ((InetSocketAddress) serverChannel.localAddress()).getPort());
+            client.encoder().writeHeaders(ctx, streamId, headers, 0, false, ctx.newPromise());
+            client.encoder().writeData(ctx, streamId, Unpooled.wrappedBuffer(new byte[entitySize]), 0, true,
+                    ctx.newPromise());
+            ctx.flush();
+        });
+        return response;
+    }
+
+    @Test
+    public void testLargeUpload() throws Exception {
+        start(new ResourceConfig(Resource.class));
+
+        assertEquals(String.valueOf(LARGE_ENTITY_SIZE), post("/count", LARGE_ENTITY_SIZE).get(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSlowConsumer() throws Exception {
+        slowStarted = new CountDownLatch(1);
+        slowRelease = new CountDownLatch(1);
+        start(new ResourceConfig(Resource.class)
+                      .property(NettyServerProperties.HTTP2_INITIAL_WINDOW_SIZE, 16 * 1024));
+
+        final CompletableFuture<String> response = post("/slow", LARGE_ENTITY_SIZE);
+        assertTrue(slowStarted.await(TIMEOUT, TimeUnit.SECONDS));
+        Thread.sleep(500);
+
+        // the client cannot send more than the (default) connection window until the application reads the entity.
+        assertTrue("Received " + received.get() + " bytes.", received.get() < 128 * 1024);
+
+        slowRelease.countDown();
+        assertEquals(String.valueOf(LARGE_ENTITY_SIZE), response.get(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testConcurrentStreams() throws Exception {
+        start(new ResourceConfig(Resource.class)
+                      .property(NettyServerProperties.HTTP2_INITIAL_WINDOW_SIZE, 32 * 1024));
+
+        final int entitySize = 512 * 1024;
+        final List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(post("/count", entitySize));
+        }
+        for (final CompletableFuture<String> response : results) {
+            assertEquals(String.valueOf(entitySize), response.get(TIMEOUT, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Client listener collecting the response entities.
+     */
+    private static class ResponseListener extends Http2FrameAdapter {
+
+        private final Map<Integer, CompletableFuture<String>> responses = new ConcurrentHashMap<>();
+        private final Map<Integer, ByteArrayOutputStream> entities = new ConcurrentHashMap<>();
+
+        void register(final int streamId, final CompletableFuture<String> response) {
+            responses.put(streamId, response);
+            entities.put(streamId, new ByteArrayOutputStream());
+        }
+
+        @Override
+        public int onDataRead(final ChannelHandlerContext ctx, final int streamId, final ByteBuf data, final int padding,
+                              final boolean endOfStream) {
+            final int processed = data.readableBytes() + padding;
+            final byte[] bytes = new byte[data.readableBytes()];
+            data.readBytes(bytes);
+            entities.get(streamId).write(bytes, 0, bytes.length);
+            if (endOfStream) {
+                complete(streamId);
+            }
+            return processed;
+        }
+
+        @Override
+        public void onHeadersRead(final ChannelHandlerContext ctx, final int streamId, final Http2Headers headers,
+                                  final int padding, final boolean endOfStream) {
+            if (!"200".contentEquals(headers.status())) {
+                responses.get(streamId).completeExceptionally(new IllegalStateException("Status " + headers.status()));
+            } else if (endOfStream) {
+                complete(streamId);
+            }
+        }
+
+        @Override
+        public void onHeadersRead(final ChannelHandlerContext ctx, final int streamId, final Http2Headers headers,
+                                  final int streamDependency, final short weight, final boolean exclusive,
+                                  final int padding, final boolean endOfStream) {
+            onHeadersRead(ctx, streamId, headers, padding, endOfStream);
+        }
+
+        @Override
+        public void onRstStreamRead(final ChannelHandlerContext ctx, final int streamId, final long errorCode) {
+            responses.get(streamId).completeExceptionally(new IllegalStateException("Stream reset: " + errorCode));
+        }
+
+        private void complete(final int streamId) {
+            responses.get(streamId).complete(entities.get(streamId).toString());
+        }
+    }
+}
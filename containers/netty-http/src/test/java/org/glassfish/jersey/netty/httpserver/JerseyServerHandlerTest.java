@@ -0,0 +1,383 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.netty.httpserver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.StreamingOutput;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the request aggregation and inline dispatch of the {@link JerseyServerHandler HTTP/1.1 handler}.
+ */
+public class JerseyServerHandlerTest {
+
+    private static final int TIMEOUT = 30;
+    private static final String EVENT_LOOP_THREAD_PREFIX = "jersey-test-event-loop";
+
+    private static volatile CompletableFuture<Throwable> streamFailure;
+
+    @Path("/")
+    public static class Resource {
+
+        @POST
+        @Path("echo")
+        public String echo(final String entity) {
+            return entity + ":" + Thread.currentThread().getName().startsWith(EVENT_LOOP_THREAD_PREFIX);
+        }
+
+        @POST
+        @Path("ignore")
+        public String ignore() {
+            return "ignored";
+        }
+
+        @GET
+        @Path("bytes/{size}")
+        public byte[] bytes(@PathParam("size") final int size) {
+            return content(size);
+        }
+
+        @GET
+        @Path("stream")
+        public StreamingOutput stream() {
+            return output -> {
+                final byte[] chunk = new byte[1024 * 1024];
+                try {
+                    // far more than the client socket buffers can hold
+                    for (int i = 0; i < 256; i++) {
+                        output.write(chunk);
+                    }
+                    streamFailure.complete(null);
+                } catch (final IOException e) {
+                    streamFailure.complete(e);
+                    throw e;
+                }
+            };
+        }
+    }
+
+    private EventLoopGroup group;
+    private NettyHttpContainer container;
+    private Channel serverChannel;
+
+    private void start(final ResourceConfig config) throws Exception {
+        group = new NioEventLoopGroup(2, r -> new Thread(r, EVENT_LOOP_THREAD_PREFIX));
+        container = new NettyHttpContainer(config);
+
+        serverChannel = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new JerseyServerInitializer(URI.create("http://localhost/"), null, container))
+                .bind(0).sync().channel();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (serverChannel != null) {
+            serverChannel.close().sync();
+        }
+        if (container != null) {
+            container.getApplicationHandler().onShutdown(container);
+        }
+        if (group != null) {
+            group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+        }
+    }
+
+    private static ResourceConfig config(final boolean inline, final int maxAggregatedEntitySize) {
+        return new ResourceConfig(Resource.class)
+                .property(NettyServerProperties.INLINE_DISPATCH_ENABLED, inline)
+                .property(NettyServerProperties.MAX_AGGREGATED_ENTITY_SIZE, maxAggregatedEntitySize);
+    }
+
+    private static byte[] content(final int size) {
+        final byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+
+    private int port() {
+        return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    }
+
+    private HttpURLConnection open(final String path) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port() + path).openConnection();
+        connection.setConnectTimeout(TIMEOUT * 1000);
+        connection.setReadTimeout(TIMEOUT * 1000);
+        return connection;
+    }
+
+    private static byte[] readAll(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private String post(final String entity) throws IOException {
+        final HttpURLConnection connection = open("/echo");
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "text/plain");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(entity.getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(200, connection.getResponseCode());
+        try (InputStream in = connection.getInputStream()) {
+            return new String(readAll(in), StandardCharsets.UTF_8);
+        }
+    }
+
+    private byte[] get(final String path) throws IOException {
+        final HttpURLConnection connection = open(path);
+        assertEquals(200, connection.getResponseCode());
+        try (InputStream in = connection.getInputStream()) {
+            return readAll(in);
+        }
+    }
+
+    /**
+     * Send a POST request with an entity the resource does not read followed by a GET request on the same connection.
+     *
+     * @return the responses read from the connection, {@code null} for a response that has not been received.
+     */
+    private String[] postUnreadEntityAndGet(final int entitySize) throws Exception {
+        try (Socket socket = new Socket("localhost", port())) {
+            socket.setSoTimeout(TIMEOUT * 1000);
+            final OutputStream out = socket.getOutputStream();
+            final CompletableFuture<Void> sent = CompletableFuture.runAsync(() -> {
+                try {
+                    out.write(("POST /ignore HTTP/1.1\r\nHost: localhost\r\nContent-Type: application/octet-stream\r\n"
+                            + "Content-Length: " + entitySize + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                    out.write(new byte[entitySize]);
+                    out.write("GET /bytes/10 HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+                    out.flush();
+                } catch (final IOException e) {
+                    // connection closed by the server
+                }
+            });
+
+            final InputStream in = socket.getInputStream();
+            final String[] responses = new String[2];
+            try {
+                for (int i = 0; i < responses.length; i++) {
+                    responses[i] = readResponse(in);
+                }
+            } catch (final SocketException e) {
+                // connection reset by the server
+            }
+            sent.get(TIMEOUT, TimeUnit.SECONDS);
+            return responses;
+        }
+    }
+
+    /**
+     * Read a response with a known entity length from the connection.
+     *
+     * @return status line and the entity length, {@code null} if the connection has been closed.
+     */
+    private static String readResponse(final InputStream in) throws IOException {
+        final String status = readLine(in);
+        if (status == null) {
+            return null;
+        }
+        int length = 0;
+        String header;
+        while (!(header = readLine(in)).isEmpty()) {
+            if (header.toLowerCase().startsWith("content-length:")) {
+                length = Integer.parseInt(header.substring("content-length:".length()).trim());
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            if (in.read() == -1) {
+                throw new IOException("Incomplete response.");
+            }
+        }
+        return status + ":" + length;
+    }
+
+    private static String readLine(final InputStream in) throws IOException {
+        final StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c == -1) {
+                return line.length() == 0 ? null : line.toString();
+            }
+            if (c != '\r') {
+                line.append((char) c);
+            }
+        }
+        return line.toString();
+    }
+
+    @Test
+    public void testUnreadEntityDiscarded() throws Exception {
+        start(config(false, 0));
+
+        // far more than the unconsumed content which suspends reading from the connection
+        final String[] responses = postUnreadEntityAndGet(NettyEntityInputStream.MAX_DISCARDED / 2);
+        assertEquals("HTTP/1.1 200 OK:7", responses[0]);
+        assertEquals("HTTP/1.1 200 OK:10", responses[1]);
+    }
+
+    @Test
+    public void testConnectionClosedIfUnreadEntityTooLarge() throws Exception {
+        start(config(false, 0));
+
+        // the connection is closed after the first response, the second request is not processed
+        final String[] responses = postUnreadEntityAndGet(NettyEntityInputStream.MAX_DISCARDED * 4);
+        assertEquals(null, responses[1]);
+    }
+
+    @Test
+    public void testAggregatedEntityProcessedInline() throws Exception {
+        start(config(true, 1024));
+
+        assertEquals("hello:true", post("hello"));
+    }
+
+    @Test
+    public void testEntityAboveLimitNotProcessedInline() throws Exception {
+        start(config(true, 4));
+
+        assertEquals("hello:false", post("hello"));
+    }
+
+    @Test
+    public void testAggregationDisabledByDefault() throws Exception {
+        start(new ResourceConfig(Resource.class).property(NettyServerProperties.INLINE_DISPATCH_ENABLED, true));
+
+        assertEquals("hello:false", post("hello"));
+    }
+
+    @Test
+    public void testAggregatedEntityNotInline() throws Exception {
+        start(config(false, 1024));
+
+        assertEquals("hello:false", post("hello"));
+    }
+
+    @Test
+    public void testEventLoopWriterKnownLength() throws Exception {
+        start(config(true, 0));
+
+        assertArrayEquals(content(100), get("/bytes/100"));
+    }
+
+    @Test
+    public void testEventLoopWriterUnknownLength() throws Exception {
+        start(config(true, 0));
+
+        // larger than the response buffer, written chunked
+        assertArrayEquals(content(1024 * 1024), get("/bytes/" + 1024 * 1024));
+    }
+
+    @Test
+    public void testEventLoopWriterStopsWritingToSlowClient() throws Exception {
+        start(config(true, 0));
+        streamFailure = new CompletableFuture<>();
+
+        try (Socket socket = new Socket("localhost", port())) {
+            socket.setReceiveBufferSize(64 * 1024);
+            socket.getOutputStream().write("GET /stream HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                    .getBytes(StandardCharsets.US_ASCII));
+            socket.getOutputStream().flush();
+
+            // the response is never read, writing must fail instead of buffering the whole entity in memory
+            final Throwable failure = streamFailure.get(TIMEOUT, TimeUnit.SECONDS);
+            assertTrue(String.valueOf(failure), failure instanceof IOException);
+        }
+    }
+
+    @Test
+    public void testChunkedInputOutsideEventLoop() throws Exception {
+        start(config(false, 0));
+        streamFailure = new CompletableFuture<>();
+
+        // written from a worker thread through the chunked input, the writer waits for the client instead of failing
+        final HttpURLConnection connection = open("/stream");
+        assertEquals(200, connection.getResponseCode());
+        long count = 0;
+        try (InputStream in = connection.getInputStream()) {
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                count += read;
+            }
+        }
+        assertEquals(256L * 1024 * 1024, count);
+        assertEquals(null, streamFailure.get(TIMEOUT, TimeUnit.SECONDS));
+    }
+}
@@ -40,9 +40,11 @@
 
 package org.glassfish.jersey.client;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +53,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import javax.ws.rs.RuntimeType;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseFilter;
 import javax.ws.rs.core.Configurable;
 import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.Feature;
@@ -76,6 +80,7 @@ import org.glassfish.jersey.internal.util.collection.LazyValue;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.message.internal.MessageBodyFactory;
+import org.glassfish.jersey.model.ContractProvider;
 import org.glassfish.jersey.model.internal.CommonConfig;
 import org.glassfish.jersey.model.internal.ComponentBag;
 import org.glassfish.jersey.model.internal.ManagedObjectsFinalizer;
@@ -130,6 +135,8 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         private volatile ConnectorProvider connectorProvider;
         private volatile ExecutorService executorService;
         private volatile ScheduledExecutorService scheduledExecutorService;
+        private volatile List<ClientRequestFilter> overlayRequestFilters = Collections.emptyList();
+        private volatile List<ClientResponseFilter> overlayResponseFilters = Collections.emptyList();
 
         private final LazyValue<ClientRuntime> runtime = Values.lazy((Value<ClientRuntime>) this::initRuntime);
 
@@ -181,6 +188,8 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
             this.connectorProvider = original.connectorProvider;
             this.executorService = original.executorService;
             this.scheduledExecutorService = original.scheduledExecutorService;
+            this.overlayRequestFilters = original.overlayRequestFilters;
+            this.overlayResponseFilters = original.overlayResponseFilters;
         }
 
         /**
@@ -312,6 +321,36 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
             return state;
         }
 
+        State overlay(final Object filter) {
+            final boolean requestFilter = filter instanceof ClientRequestFilter;
+            final boolean responseFilter = filter instanceof ClientResponseFilter;
+            if (!requestFilter && !responseFilter) {
+                throw new IllegalArgumentException(LocalizationMessages.OVERLAY_FILTER_INVALID(filter));
+            }
+
+            final State state = strategy.onChange(this);
+            if (requestFilter) {
+                final List<ClientRequestFilter> filters = new ArrayList<>(state.overlayRequestFilters);
+                filters.add((ClientRequestFilter) filter);
+                state.overlayRequestFilters = Collections.unmodifiableList(filters);
+            }
+            if (responseFilter) {
+                // Response filters are executed in the reverse order of registration.
+                final List<ClientResponseFilter> filters = new ArrayList<>(state.overlayResponseFilters);
+                filters.add(0, (ClientResponseFilter) filter);
+                state.overlayResponseFilters = Collections.unmodifiableList(filters);
+            }
+            return state;
+        }
+
+        List<ClientRequestFilter> getOverlayRequestFilters() {
+            return overlayRequestFilters;
+        }
+
+        List<ClientResponseFilter> getOverlayResponseFilters() {
+            return overlayResponseFilters;
+        }
+
         Connector getConnector() {
             // Get the connector only if the runtime has been initialized.
             return (runtime.isInitialized()) ? runtime.get().getConnector() : null;
@@ -426,7 +465,15 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
              */
             markAsShared();
 
+            // Configurations that differ only in the overlay filters share the same runtime.
+            return client != null ? client.getRuntime(new RuntimeKey(this), this::createRuntime) : createRuntime();
+        }
+
+        private ClientRuntime createRuntime() {
             final State runtimeCfgState = this.copy();
+            // The runtime may be shared by configurations with different overlay filters, do not keep any of them.
+            runtimeCfgState.overlayRequestFilters = Collections.emptyList();
+            runtimeCfgState.overlayResponseFilters = Collections.emptyList();
             runtimeCfgState.markAsShared();
 
             InjectionManager injectionManager = Injections.createInjectionManager();
@@ -494,6 +541,10 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
             if (!commonConfig.equals(state.commonConfig)) {
                 return false;
             }
+            if (!overlayRequestFilters.equals(state.overlayRequestFilters)
+                    || !overlayResponseFilters.equals(state.overlayResponseFilters)) {
+                return false;
+            }
             return connectorProvider == null ? state.connectorProvider == null
                     : connectorProvider.equals(state.connectorProvider);
         }
@@ -507,6 +558,81 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         }
     }
 
+    /**
+     * Key identifying the {@link ClientRuntime client runtimes} built from equal configuration states.
+     * <p>
+     * Two configuration states are considered equal if they contain equal properties, the same component classes
+     * and the same (identical) component instances registered with the same contracts and priorities, the same
+     * connector provider and executor services. The overlay filters are not part of the key.
+     * </p>
+     */
+    static final class RuntimeKey {
+
+        private final Map<String, Object> properties;
+        private final List<Object> components;
+
+        private RuntimeKey(final State state) {
+            this.properties = new HashMap<>(state.getProperties());
+
+            final ComponentBag componentBag = state.getComponentBag();
+            final Map<Class<?>, Object> instances = new HashMap<>();
+            for (final Object instance : componentBag.getInstances()) {
+                instances.put(instance.getClass(), instance);
+            }
+
+            this.components = new ArrayList<>();
+            for (final Class<?> componentClass : componentBag.getRegistrations()) {
+                final Object instance = instances.get(componentClass);
+                final ContractProvider model = componentBag.getModel(componentClass);
+                components.add(instance != null ? new Identity(instance) : componentClass);
+                components.add(model.getContractMap());
+                components.add(model.getScope());
+            }
+            components.add(new Identity(state.connectorProvider));
+            components.add(new Identity(state.executorService));
+            components.add(new Identity(state.scheduledExecutorService));
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RuntimeKey)) {
+                return false;
+            }
+            final RuntimeKey other = (RuntimeKey) o;
+            return properties.equals(other.properties) && components.equals(other.components);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * properties.hashCode() + components.hashCode();
+        }
+    }
+
+    /**
+     * Identity based equality wrapper.
+     */
+    private static final class Identity {
+
+        private final Object object;
+
+        private Identity(final Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Identity && ((Identity) o).object == object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+    }
+
     /**
      * Construct a new Jersey configuration instance with the default features
      * and property values.
@@ -817,6 +943,44 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         return state.getScheduledExecutorService();
     }
 
+    /**
+     * Register a client request and/or response filter instance in the lightweight configuration overlay.
+     * <p>
+     * Unlike the filters {@link #register(Object) registered} in the configuration, the overlay filters do not
+     * affect the {@link ClientRuntime client runtime}; configurations that differ only in the overlay filters
+     * share the same runtime. Overlay request filters are executed after all the registered request filters in the
+     * order of their registration, overlay response filters are executed before all the registered response filters
+     * in the reverse order of their registration. Overlay filters are not injected.
+     * </p>
+     *
+     * @param filter {@link ClientRequestFilter client request filter} and/or {@link ClientResponseFilter client response
+     *               filter} instance.
+     * @return updated configuration instance.
+     * @throws IllegalArgumentException if the filter is neither a client request nor a client response filter.
+     */
+    ClientConfig overlay(final Object filter) {
+        state = state.overlay(filter);
+        return this;
+    }
+
+    /**
+     * Get the overlay request filters.
+     *
+     * @return overlay request filters in the order of their execution.
+     */
+    List<ClientRequestFilter> getOverlayRequestFilters() {
+        return state.getOverlayRequestFilters();
+    }
+
+    /**
+     * Get the overlay response filters.
+     *
+     * @return overlay response filters in the order of their execution.
+     */
+    List<ClientResponseFilter> getOverlayResponseFilters() {
+        return state.getOverlayResponseFilters();
+    }
+
     /**
      * Get the configured runtime.
      *
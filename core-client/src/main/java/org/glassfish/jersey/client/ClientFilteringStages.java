@@ -93,6 +93,48 @@ class ClientFilteringStages {
         return responseFilters.iterator().hasNext() ? new ResponseFilterStage(responseFilters) : null;
     }
 
+    /**
+     * Apply the client request filters to the request.
+     *
+     * @param requestContext request to be filtered.
+     * @param requestFilters request filters in the order of their execution.
+     * @return filtered request.
+     * @throws AbortException in case a filter aborted the request.
+     */
+    static ClientRequest filterRequest(final ClientRequest requestContext, final Iterable<ClientRequestFilter> requestFilters) {
+        for (ClientRequestFilter filter : requestFilters) {
+            try {
+                filter.filter(requestContext);
+                final Response abortResponse = requestContext.getAbortResponse();
+                if (abortResponse != null) {
+                    throw new AbortException(new ClientResponse(requestContext, abortResponse));
+                }
+            } catch (IOException ex) {
+                throw new ProcessingException(ex);
+            }
+        }
+        return requestContext;
+    }
+
+    /**
+     * Apply the client response filters to the response.
+     *
+     * @param responseContext response to be filtered.
+     * @param filters         response filters in the order of their execution.
+     * @return filtered response.
+     */
+    static ClientResponse filterResponse(final ClientResponse responseContext, final Iterable<ClientResponseFilter> filters) {
+        try {
+            for (ClientResponseFilter filter : filters) {
+                filter.filter(responseContext.getRequestContext(), responseContext);
+            }
+        } catch (IOException ex) {
+            InboundJaxrsResponse response = new InboundJaxrsResponse(responseContext, null);
+            throw new ResponseProcessingException(response, ex);
+        }
+        return responseContext;
+    }
+
     private static final class RequestFilteringStage extends AbstractChainableStage<ClientRequest> {
 
         private final Iterable<ClientRequestFilter> requestFilters;
@@ -103,18 +145,7 @@ class ClientFilteringStages {
 
         @Override
         public Continuation<ClientRequest> apply(ClientRequest requestContext) {
-            for (ClientRequestFilter filter : requestFilters) {
-                try {
-                    filter.filter(requestContext);
-                    final Response abortResponse = requestContext.getAbortResponse();
-                    if (abortResponse != null) {
-                        throw new AbortException(new ClientResponse(requestContext, abortResponse));
-                    }
-                } catch (IOException ex) {
-                    throw new ProcessingException(ex);
-                }
-            }
-            return Continuation.of(requestContext, getDefaultNext());
+            return Continuation.of(filterRequest(requestContext, requestFilters), getDefaultNext());
         }
     }
 
@@ -128,16 +159,7 @@ class ClientFilteringStages {
 
         @Override
         public Continuation<ClientResponse> apply(ClientResponse responseContext) {
-            try {
-                for (ClientResponseFilter filter : filters) {
-                    filter.filter(responseContext.getRequestContext(), responseContext);
-                }
-            } catch (IOException ex) {
-                InboundJaxrsResponse response = new InboundJaxrsResponse(responseContext, null);
-                throw new ResponseProcessingException(response, ex);
-            }
-
-            return Continuation.of(responseContext, getDefaultNext());
+            return Continuation.of(filterResponse(responseContext, filters), getDefaultNext());
         }
     }
 }
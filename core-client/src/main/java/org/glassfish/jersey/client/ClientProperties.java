@@ -429,6 +429,30 @@ public final class ClientProperties {
      */
     public static final String REQUEST_ENTITY_PROCESSING = "jersey.config.client.request.entity.processing";
 
+    /**
+     * Maximum number of {@link ClientRuntime client runtimes} cached by a client instance.
+     * <p>
+     * Web targets and invocation builders derived from a client take a snapshot of the client configuration. Once a derived
+     * configuration is modified (e.g. a filter is registered in a web target), a new client runtime, including a new
+     * injection manager and message body workers, would be created for the modified configuration. The client caches the
+     * runtimes keyed by the configuration, so that the configurations containing equal properties and the same registered
+     * components share the same runtime. A configuration that differs from an existing one only in the
+     * {@link JerseyWebTarget#overlay(Object) overlay filters} shares the runtime of the existing configuration as well.
+     * </p>
+     * <p>
+     * The value MUST be an instance of {@link java.lang.Integer}. A value of {@code 0} disables the caching.
+     * </p>
+     * <p>
+     * A default value is {@code 16}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    public static final String RUNTIME_CACHE_SIZE = "jersey.config.client.runtimeCacheSize";
+
     private ClientProperties() {
         // prevents instantiation
     }
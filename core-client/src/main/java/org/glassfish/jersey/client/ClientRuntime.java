@@ -165,6 +165,8 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
                 ClientRequest processedRequest;
                 try {
                     processedRequest = Stages.process(request, requestProcessingRoot);
+                    processedRequest = ClientFilteringStages.filterRequest(processedRequest,
+                            processedRequest.getClientConfig().getOverlayRequestFilters());
                     processedRequest = addUserAgent(processedRequest, connector.getName());
                 } catch (final AbortException aborted) {
                     processResponse(aborted.getAbortResponse(), callback);
@@ -219,7 +221,7 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
     private void processResponse(final ClientResponse response, final ResponseCallback callback) {
         final ClientResponse processedResponse;
         try {
-            processedResponse = Stages.process(response, responseProcessingRoot);
+            processedResponse = Stages.process(filterOverlayResponse(response), responseProcessingRoot);
         } catch (final Throwable throwable) {
             processFailure(throwable, callback);
             return;
@@ -227,6 +229,14 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
         callback.completed(processedResponse, requestScope);
     }
 
+    /**
+     * Apply the {@link ClientConfig#overlay(Object) overlay response filters} of the request configuration.
+     */
+    private static ClientResponse filterOverlayResponse(final ClientResponse response) {
+        return ClientFilteringStages.filterResponse(response,
+                response.getRequestContext().getClientConfig().getOverlayResponseFilters());
+    }
+
     private void processFailure(final Throwable failure, final ResponseCallback callback) {
         callback.failed(failure instanceof ProcessingException
                 ? (ProcessingException) failure : new ProcessingException(failure));
@@ -275,12 +285,14 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
         ClientResponse response;
         try {
             try {
-                response = connector.apply(addUserAgent(Stages.process(request, requestProcessingRoot), connector.getName()));
+                final ClientRequest processedRequest = Stages.process(request, requestProcessingRoot);
+                response = connector.apply(addUserAgent(ClientFilteringStages.filterRequest(processedRequest,
+                        processedRequest.getClientConfig().getOverlayRequestFilters()), connector.getName()));
             } catch (final AbortException aborted) {
                 response = aborted.getAbortResponse();
             }
 
-            return Stages.process(response, responseProcessingRoot);
+            return Stages.process(filterOverlayResponse(response), responseProcessingRoot);
         } catch (final ProcessingException pe) {
             throw pe;
         } catch (final Throwable t) {
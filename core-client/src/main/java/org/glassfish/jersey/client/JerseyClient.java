@@ -42,15 +42,18 @@ package org.glassfish.jersey.client;
 
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -79,6 +82,7 @@ import static org.glassfish.jersey.internal.guava.Preconditions.checkState;
  */
 public class JerseyClient implements javax.ws.rs.client.Client, Initializable<JerseyClient> {
     private static final Logger LOG = Logger.getLogger(JerseyClient.class.getName());
+    private static final int DEFAULT_RUNTIME_CACHE_SIZE = 16;
 
     private static final DefaultSslContextProvider DEFAULT_SSL_CONTEXT_PROVIDER = new DefaultSslContextProvider() {
         @Override
@@ -97,6 +101,11 @@ public class JerseyClient implements javax.ws.rs.client.Client, Initializable<Je
     private final ReferenceQueue<JerseyClient.ShutdownHook> shReferenceQueue = new ReferenceQueue<JerseyClient.ShutdownHook>();
     private final ExecutorService executorService;
     private final ScheduledExecutorService scheduledExecutorService;
+    /**
+     * Client runtimes keyed by the {@link ClientConfig.RuntimeKey configuration}. Unused runtimes may be reclaimed
+     * (and closed) by the garbage collector.
+     */
+    private final Map<ClientConfig.RuntimeKey, SoftReference<ClientRuntime>> runtimes = new ConcurrentHashMap<>();
 
     /**
      * Client instance shutdown hook.
@@ -252,6 +261,8 @@ public class JerseyClient implements javax.ws.rs.client.Client, Initializable<Je
     }
 
     private void release() {
+        runtimes.clear();
+
         Reference<ShutdownHook> listenerRef;
         while ((listenerRef = shutdownHooks.pollFirst()) != null) {
             JerseyClient.ShutdownHook listener = listenerRef.get();
@@ -285,6 +296,34 @@ public class JerseyClient implements javax.ws.rs.client.Client, Initializable<Je
         cleanUpShutdownHooks();
     }
 
+    /**
+     * Get a cached client runtime for the configuration identified by the key or create a new one.
+     *
+     * @param key     configuration key.
+     * @param factory client runtime factory.
+     * @return client runtime.
+     */
+    /* package */ ClientRuntime getRuntime(final ClientConfig.RuntimeKey key, final Supplier<ClientRuntime> factory) {
+        checkNotClosed();
+
+        final int maxSize = ClientProperties.getValue(config.getProperties(), ClientProperties.RUNTIME_CACHE_SIZE,
+                DEFAULT_RUNTIME_CACHE_SIZE, Integer.class);
+        if (maxSize <= 0) {
+            return factory.get();
+        }
+
+        final SoftReference<ClientRuntime> cached = runtimes.get(key);
+        ClientRuntime runtime = cached != null ? cached.get() : null;
+        if (runtime == null) {
+            runtime = factory.get();
+            if (runtimes.size() >= maxSize) {
+                runtimes.clear();
+            }
+            runtimes.put(key, new SoftReference<>(runtime));
+        }
+        return runtime;
+    }
+
     /**
      * Clean up shutdown hooks that have been garbage collected.
      */
@@ -473,6 +473,25 @@ public class JerseyInvocation implements javax.ws.rs.client.Invocation {
             return this;
         }
 
+        /**
+         * Register a {@link javax.ws.rs.client.ClientRequestFilter client request} and/or
+         * {@link javax.ws.rs.client.ClientResponseFilter client response filter} instance in a lightweight configuration
+         * overlay of the invocation.
+         * <p>
+         * The overlay filter is applied on top of the {@link ClientRuntime client runtime} of the invocation configuration
+         * without creating a new runtime. See {@link JerseyWebTarget#overlay(Object)} for details.
+         * </p>
+         *
+         * @param filter client request and/or client response filter instance.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if the filter is neither a client request nor a client response filter.
+         * @since 2.27
+         */
+        public Builder overlay(final Object filter) {
+            requestContext.getClientConfig().overlay(filter);
+            return this;
+        }
+
         @Override
         public CompletionStageRxInvoker rx() {
             ExecutorServiceProvider instance = this.requestContext.getInjectionManager()
@@ -366,6 +366,32 @@ public class JerseyWebTarget implements javax.ws.rs.client.WebTarget, Initializa
         return this;
     }
 
+    /**
+     * Register a {@link javax.ws.rs.client.ClientRequestFilter client request} and/or
+     * {@link javax.ws.rs.client.ClientResponseFilter client response filter} instance in a lightweight configuration
+     * overlay of this target.
+     * <p>
+     * Registering a filter {@link #register(Object) as a provider} makes the target create its own
+     * {@link ClientRuntime client runtime} including a new injection manager and message body workers. An overlay filter
+     * is applied on top of the runtime of the parent configuration instead, which makes it suitable for per-call
+     * customizations (e.g. a filter adding a per-tenant authorization token). Overlay request filters are executed after
+     * all the request filters registered as providers in the order of their registration, overlay response filters are
+     * executed before all the response filters registered as providers in the reverse order of their registration.
+     * Overlay filters are not injected and are not reported as {@link javax.ws.rs.core.Configuration#isRegistered(Object)
+     * registered} in the runtime configuration.
+     * </p>
+     *
+     * @param filter client request and/or client response filter instance.
+     * @return the updated target.
+     * @throws IllegalArgumentException if the filter is neither a client request nor a client response filter.
+     * @since 2.27
+     */
+    public JerseyWebTarget overlay(final Object filter) {
+        checkNotClosed();
+        config.overlay(filter);
+        return this;
+    }
+
     @Override
     public ClientConfig getConfiguration() {
         checkNotClosed();
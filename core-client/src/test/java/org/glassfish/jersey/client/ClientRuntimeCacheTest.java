@@ -0,0 +1,182 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.client;
+
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.core.Response;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests sharing of {@link ClientRuntime client runtimes} between equally configured targets and
+ * {@link JerseyWebTarget#overlay(Object) overlay filters}.
+ */
+public class ClientRuntimeCacheTest {
+
+    private static final String URI = "http://localhost:8080/runtime-cache";
+
+    private JerseyClient client;
+
+    @Before
+    public void setUp() {
+        client = (JerseyClient) ClientBuilder.newClient();
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+    }
+
+    public static class HeaderFilter implements ClientRequestFilter, ClientResponseFilter {
+
+        private final String value;
+
+        public HeaderFilter() {
+            this("registered");
+        }
+
+        public HeaderFilter(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public void filter(final ClientRequestContext requestContext) {
+            requestContext.getHeaders().add("X-Request", value);
+        }
+
+        @Override
+        public void filter(final ClientRequestContext requestContext, final ClientResponseContext responseContext) {
+            responseContext.getHeaders().add("X-Response", value);
+        }
+    }
+
+    @Test
+    public void testRuntimeSharedBetweenEquallyConfiguredTargets() {
+        final JerseyWebTarget first = client.target(URI).register(HeaderFilter.class).property("foo", "bar");
+        final JerseyWebTarget second = client.target(URI).path("other").register(HeaderFilter.class).property("foo", "bar");
+
+        assertSame(first.getConfiguration().getRuntime(), second.getConfiguration().getRuntime());
+        assertNotSame(first.getConfiguration().getRuntime(), client.getConfiguration().getRuntime());
+        assertNotSame(first.getConfiguration().getRuntime(),
+                client.target(URI).register(HeaderFilter.class).property("foo", "baz").getConfiguration().getRuntime());
+    }
+
+    @Test
+    public void testRuntimeCacheDisabled() {
+        client.property(ClientProperties.RUNTIME_CACHE_SIZE, 0);
+
+        final JerseyWebTarget first = client.target(URI).register(HeaderFilter.class);
+        final JerseyWebTarget second = client.target(URI).register(HeaderFilter.class);
+
+        assertNotSame(first.getConfiguration().getRuntime(), second.getConfiguration().getRuntime());
+    }
+
+    @Test
+    public void testTargetOverlay() {
+        final JerseyWebTarget target = client.target(URI)
+                .overlay(new HeaderFilter("overlay"))
+                .overlay(new TerminalClientRequestFilter());
+
+        assertSame(client.getConfiguration().getRuntime(), target.getConfiguration().getRuntime());
+        assertFalse(target.getConfiguration().isRegistered(HeaderFilter.class));
+
+        final Response response = target.request().get();
+        assertEquals("overlay", response.getHeaderString("Test-Header-X-Request"));
+        assertEquals("overlay", response.getHeaderString("X-Response"));
+
+        // Overlay filters are not propagated to the parent configuration.
+        assertEquals(0, client.target(URI).getConfiguration().getOverlayRequestFilters().size());
+    }
+
+    @Test
+    public void testSharedRuntimeDoesNotRetainOverlayFilters() {
+        final JerseyWebTarget target = client.target(URI)
+                .register(HeaderFilter.class)
+                .overlay(new HeaderFilter("overlay"))
+                .overlay(new TerminalClientRequestFilter());
+
+        final ClientConfig runtimeConfig = target.getConfiguration().getRuntime().getConfig();
+        assertEquals(0, runtimeConfig.getOverlayRequestFilters().size());
+        assertEquals(0, runtimeConfig.getOverlayResponseFilters().size());
+        assertEquals(2, target.getConfiguration().getOverlayRequestFilters().size());
+    }
+
+    @Test
+    public void testOverlayFiltersOrder() {
+        final Response response = client.target(URI)
+                .register(HeaderFilter.class)
+                .overlay(new HeaderFilter("first"))
+                .overlay(new HeaderFilter("second"))
+                .overlay(new TerminalClientRequestFilter())
+                .request()
+                .get();
+
+        assertEquals("registered,first,second", response.getHeaderString("Test-Header-X-Request"));
+        assertEquals("second,first,registered", response.getHeaderString("X-Response"));
+    }
+
+    @Test
+    public void testInvocationBuilderOverlay() {
+        final JerseyWebTarget target = client.target(URI);
+
+        final Response response = target.request()
+                .overlay(new HeaderFilter("builder"))
+                .overlay(new TerminalClientRequestFilter())
+                .get();
+        assertEquals("builder", response.getHeaderString("Test-Header-X-Request"));
+        assertEquals(0, target.getConfiguration().getOverlayRequestFilters().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidOverlay() {
+        client.target(URI).overlay(new Object());
+    }
+}
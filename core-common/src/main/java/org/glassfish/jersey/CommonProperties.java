@@ -240,6 +240,47 @@ public final class CommonProperties {
      */
     public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_SERVER = "jersey.config.server.contentLength.buffer";
 
+    /**
+     * Buffer pool used to buffer the outbound message entity in order to determine its size (see
+     * {@link #OUTBOUND_CONTENT_LENGTH_BUFFER}).
+     * <p>
+     * The value can be an instance of {@link org.glassfish.jersey.spi.BufferPool} or {@code true} in which case the default
+     * shared {@link org.glassfish.jersey.message.internal.StripedBufferPool pool} of
+     * <tt>{@value org.glassfish.jersey.message.internal.StripedBufferPool#DEFAULT_SEGMENT_SIZE}</tt> byte segments is used.
+     * The entity buffer is chained from the pooled segments and the segments are returned to the pool once the buffered
+     * entity is written out, so no buffer is allocated per message and the buffer size can be raised without increasing
+     * the amount of memory allocated for small entities.
+     * </p>
+     * The value of this property may be overridden by the client/server variant of this property by defining the suffix
+     * to this property "<tt>.server</tt>" or "<tt>.client</tt>"
+     * (<tt>{@value}.server</tt> or  <tt>{@value}.client</tt>).
+     * <p>
+     * By default the entity buffer is not pooled.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_POOL = "jersey.config.contentLength.buffer.pool";
+
+    /**
+     * Client-specific version of {@link CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOL}.
+     *
+     * If present, it overrides the generic one for the client environment.
+     * @since 2.27
+     */
+    public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_POOL_CLIENT = "jersey.config.client.contentLength.buffer.pool";
+
+    /**
+     * Server-specific version of {@link CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOL}.
+     *
+     * If present, it overrides the generic one for the server environment.
+     * @since 2.27
+     */
+    public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_POOL_SERVER = "jersey.config.server.contentLength.buffer.pool";
+
     /**
      * Prevent instantiation.
      */
@@ -62,7 +62,11 @@ import org.glassfish.jersey.internal.jsr166.SubmissionPublisher;
  */
 public class JerseyPublisher<T> implements Flow.Publisher<T> {
 
-    private static final int DEFAULT_BUFFER_CAPACITY = 256;
+    /**
+     * Default maximum capacity of each subscriber's buffer.
+     */
+    public static final int DEFAULT_BUFFER_CAPACITY = 256;
+
     private SubmissionPublisher<T> submissionPublisher = new SubmissionPublisher<>();
 
     private final PublisherStrategy strategy;
@@ -325,6 +329,9 @@ public class JerseyPublisher<T> implements Flow.Publisher<T> {
     public int publish(T item) {
         if (PublisherStrategy.BLOCKING == strategy) {
             return submit(item);
+        } else if (PublisherStrategy.DROP == strategy) {
+            // the item is not delivered to the subscribers with full buffers, which stay subscribed
+            return submissionPublisher.offer(item, null);
         } else {
             // PublisherStrategy.BEST_EFFORT
             return submissionPublisher.offer(item, this::onDrop);
@@ -456,5 +463,16 @@ public class JerseyPublisher<T> implements Flow.Publisher<T> {
          * capable of read the messages at a speed sufficient to unblock the processing.
          */
         BEST_EFFORT,
+
+        /**
+         * Dropping publisher strategy - delivers to all subscribers if possible without blocking the processing.
+         *
+         * If the buffer is full, the item is not delivered to the subscriber, that is not capable of read the messages at
+         * a speed sufficient to unblock the processing. The subscriber stays subscribed and receives the subsequent items
+         * once its buffer has been drained.
+         *
+         * @since 2.27
+         */
+        DROP,
     }
 }
@@ -40,15 +40,17 @@
 
 package org.glassfish.jersey.message.internal;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.guava.Preconditions;
+import org.glassfish.jersey.spi.BufferPool;
 
 /**
  * A committing output stream with optional serialized entity buffering functionality
@@ -74,6 +76,11 @@ import org.glassfish.jersey.internal.guava.Preconditions;
  * method enables buffering with the default size
  * <tt>{@value CommittingOutputStream#DEFAULT_BUFFER_SIZE}</tt> bytes specified in {@link #DEFAULT_BUFFER_SIZE}.
  * </p>
+ * <p>
+ * The internal buffer is allocated when the first byte is buffered. If the buffering is enabled with a
+ * {@link #enableBuffering(int, BufferPool) buffer pool}, the buffer is chained from the segments acquired from the pool
+ * and the segments are released back to the pool as soon as the buffered entity is written to the adapted output stream.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar (marek.potociar at oracle.com)
@@ -106,7 +113,7 @@ public final class CommittingOutputStream extends OutputStream {
     /**
      * Entity buffer.
      */
-    private ByteArrayOutputStream buffer;
+    private SegmentedBuffer buffer;
     /**
      * When {@code true}, the data are written directly to output stream and not to the buffer.
      */
@@ -157,6 +164,18 @@ public final class CommittingOutputStream extends OutputStream {
      *                   {@link org.glassfish.jersey.message.internal.OutboundMessageContext.StreamProvider#getOutputStream(int) callback}.
      */
     public void enableBuffering(int bufferSize) {
+        enableBuffering(bufferSize, null);
+    }
+
+    /**
+     * Enable buffering of the serialized entity into the segments acquired from the buffer pool.
+     *
+     * @param bufferSize size of the buffer. When the value is less or equal to zero the buffering will be disabled and {@code -1}
+     *                   will be passed to the {@link OutboundMessageContext.StreamProvider#getOutputStream(int) callback}.
+     * @param bufferPool pool of the buffer segments or {@code null} if the buffer should not be pooled.
+     * @since 2.27
+     */
+    public void enableBuffering(int bufferSize, BufferPool bufferPool) {
         Preconditions.checkState(!isCommitted && (this.buffer == null || this.buffer.size() == 0),
                                  COMMITTING_STREAM_BUFFERING_ILLEGAL_STATE);
         this.bufferSize = bufferSize;
@@ -165,7 +184,7 @@ public final class CommittingOutputStream extends OutputStream {
             this.buffer = null;
         } else {
             directWrite = false;
-            buffer = new ByteArrayOutputStream(bufferSize);
+            buffer = new SegmentedBuffer(bufferSize, bufferPool);
         }
     }
 
@@ -212,7 +231,7 @@ public final class CommittingOutputStream extends OutputStream {
                 flushBuffer(false);
                 adaptedOutput.write(b);
             } else {
-                buffer.write(b);
+                buffer.write(b, 0, b.length);
             }
         }
     }
@@ -299,8 +318,84 @@ public final class CommittingOutputStream extends OutputStream {
 
             commitStream(currentSize);
             if (buffer != null) {
-                buffer.writeTo(adaptedOutput);
+                try {
+                    buffer.writeTo(adaptedOutput);
+                } finally {
+                    buffer.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Entity buffer chained from segments. Without a buffer pool the buffer consists of a single segment of the buffer size.
+     */
+    private static final class SegmentedBuffer {
+
+        private final int capacity;
+        private final BufferPool pool;
+        private final List<byte[]> segments = new ArrayList<>(2);
+
+        private byte[] current;
+        private int position;
+        private int size;
+
+        private SegmentedBuffer(final int capacity, final BufferPool pool) {
+            this.capacity = capacity;
+            this.pool = pool;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void write(final int b) {
+            if (current == null || position == current.length) {
+                nextSegment();
+            }
+            current[position++] = (byte) b;
+            size++;
+        }
+
+        private void write(final byte[] b, int off, int len) {
+            while (len > 0) {
+                if (current == null || position == current.length) {
+                    nextSegment();
+                }
+                final int count = Math.min(len, current.length - position);
+                System.arraycopy(b, off, current, position, count);
+                position += count;
+                size += count;
+                off += count;
+                len -= count;
+            }
+        }
+
+        private void nextSegment() {
+            current = pool == null ? new byte[capacity] : pool.acquire();
+            segments.add(current);
+            position = 0;
+        }
+
+        private void writeTo(final OutputStream out) throws IOException {
+            int remaining = size;
+            for (final byte[] segment : segments) {
+                final int count = Math.min(remaining, segment.length);
+                out.write(segment, 0, count);
+                remaining -= count;
+            }
+        }
+
+        private void release() {
+            if (pool != null) {
+                for (final byte[] segment : segments) {
+                    pool.release(segment);
+                }
             }
+            segments.clear();
+            current = null;
+            position = 0;
+            size = 0;
         }
     }
 
@@ -0,0 +1,226 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Bounded, concurrent cache of parsed header values keyed by the raw header value string.
+ * <p>
+ * Clients typically send only a small number of distinct values of the {@code Content-Type}, {@code Accept} and other
+ * content negotiation headers, so parsing a header value once and sharing the (immutable) parsed value among all
+ * requests saves repeated parsing on the hot request processing path. Only values of a reasonable length are cached and
+ * the cache is cleared once the maximum number of entries is reached, so that the cache cannot grow unboundedly even if
+ * the header values are chosen by a malicious client.
+ * </p>
+ * <p>
+ * Values that fail to parse are not cached, the parsing exception is propagated to the caller on each lookup.
+ * </p>
+ *
+ * @param <T> parsed header value type.
+ * @since 2.27
+ */
+public final class HeaderValueCache<T> {
+
+    /**
+     * Header value parser.
+     *
+     * @param <T> parsed header value type.
+     */
+    @FunctionalInterface
+    public interface Parser<T> {
+
+        /**
+         * Parse the raw header value.
+         *
+         * @param value raw header value.
+         * @return parsed header value, must be immutable.
+         * @throws ParseException in case the header value cannot be parsed.
+         */
+        T parse(String value) throws ParseException;
+    }
+
+    /**
+     * Default maximum number of cached header values.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    /**
+     * Maximum length of a header value to be cached.
+     */
+    public static final int MAX_VALUE_LENGTH = 1024;
+
+    /**
+     * Cache of the {@code Content-Type} header values.
+     */
+    public static final HeaderValueCache<MediaType> MEDIA_TYPE = new HeaderValueCache<>(MediaType::valueOf);
+
+    /**
+     * Cache of the {@code Accept} header values.
+     */
+    public static final HeaderValueCache<List<AcceptableMediaType>> ACCEPT_MEDIA_TYPE = new HeaderValueCache<>(
+            value -> Collections.unmodifiableList(HttpHeaderReader.readAcceptMediaType(value)));
+
+    /**
+     * Cache of the {@code Accept-Language} header values.
+     */
+    public static final HeaderValueCache<List<AcceptableLanguageTag>> ACCEPT_LANGUAGE = new HeaderValueCache<>(
+            value -> Collections.unmodifiableList(HttpHeaderReader.readAcceptLanguage(value)));
+
+    /**
+     * Cache of the {@code Accept-Charset} and {@code Accept-Encoding} header values.
+     */
+    public static final HeaderValueCache<List<AcceptableToken>> ACCEPT_TOKEN = new HeaderValueCache<>(
+            value -> Collections.unmodifiableList(HttpHeaderReader.readAcceptToken(value)));
+
+    private final ConcurrentHashMap<String, T> values = new ConcurrentHashMap<>();
+    private final Parser<T> parser;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile int maxEntries = DEFAULT_MAX_ENTRIES;
+
+    /**
+     * Create new header value cache.
+     *
+     * @param parser header value parser.
+     */
+    public HeaderValueCache(final Parser<T> parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Get the parsed header value, parse and cache it if not cached yet.
+     *
+     * @param value raw header value.
+     * @return parsed header value.
+     * @throws ParseException in case the header value cannot be parsed.
+     */
+    public T get(final String value) throws ParseException {
+        T parsed = values.get(value);
+        if (parsed != null) {
+            hits.increment();
+            return parsed;
+        }
+
+        misses.increment();
+        parsed = parser.parse(value);
+        if (parsed != null && value.length() <= MAX_VALUE_LENGTH) {
+            if (values.size() >= maxEntries) {
+                values.clear();
+            }
+            values.putIfAbsent(value, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Set the maximum number of cached header values.
+     *
+     * @param maxEntries maximum number of cached header values, {@code 0} disables the caching.
+     */
+    public void setMaxEntries(final int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.maxEntries = maxEntries;
+        values.clear();
+    }
+
+    /**
+     * Get the maximum number of cached header values.
+     *
+     * @return maximum number of cached header values.
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Get the number of currently cached header values.
+     *
+     * @return number of cached header values.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Remove all cached header values.
+     */
+    public void clear() {
+        values.clear();
+    }
+
+    /**
+     * Get the number of lookups answered from the cache.
+     *
+     * @return number of cache hits.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that required parsing of the header value.
+     *
+     * @return number of cache misses.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the ratio of the lookups answered from the cache.
+     *
+     * @return cache hit rate between {@code 0.0} and {@code 1.0}, {@code 0.0} if there have been no lookups.
+     */
+    public double getHitRate() {
+        final long hitCount = getHitCount();
+        final long total = hitCount + getMissCount();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -118,6 +118,34 @@ public abstract class InboundMessageContext {
     private final boolean translateNce;
     private MessageBodyWorkers workers;
 
+    // Parsed header values memoized for the lifetime of the message.
+    private ParsedHeader<MediaType> mediaType;
+    private ParsedHeader<List<AcceptableMediaType>> acceptableMediaTypes;
+    private ParsedHeader<List<AcceptableLanguageTag>> acceptableLanguages;
+    private ParsedHeader<List<AcceptableToken>> acceptCharset;
+    private ParsedHeader<List<AcceptableToken>> acceptEncoding;
+
+    /**
+     * Parsed header value together with the raw header value it has been parsed from.
+     * <p>
+     * The headers are mutable, so the memoized value is used only as long as the raw header value does not change.
+     * </p>
+     */
+    private static final class ParsedHeader<T> {
+
+        private final String value;
+        private final T parsed;
+
+        private ParsedHeader(final String value, final T parsed) {
+            this.value = value;
+            this.parsed = parsed;
+        }
+
+        private T get(final String currentValue) {
+            return value.equals(currentValue) ? parsed : null;
+        }
+    }
+
     /**
      * Input stream and its state. State is represented by the {@link Type Type enum} and
      * is used to control the execution of interceptors.
@@ -291,6 +319,9 @@ public abstract class InboundMessageContext {
         if (values.isEmpty()) {
             return "";
         }
+        if (values.size() == 1) {
+            return values.get(0);
+        }
 
         final Iterator<String> valuesIterator = values.iterator();
         StringBuilder buffer = new StringBuilder(valuesIterator.next());
@@ -446,10 +477,18 @@ public abstract class InboundMessageContext {
         return singleHeader(HttpHeaders.CONTENT_TYPE, new Function<String, MediaType>() {
             @Override
             public MediaType apply(String input) {
+                final ParsedHeader<MediaType> memo = mediaType;
+                final MediaType memoized = memo != null ? memo.get(input) : null;
+                if (memoized != null) {
+                    return memoized;
+                }
+
                 try {
-                    return MediaType.valueOf(input);
-                } catch (IllegalArgumentException iae) {
-                    throw new ProcessingException(iae);
+                    final MediaType parsed = HeaderValueCache.MEDIA_TYPE.get(input);
+                    mediaType = new ParsedHeader<>(input, parsed);
+                    return parsed;
+                } catch (IllegalArgumentException | ParseException e) {
+                    throw new ProcessingException(e);
                 }
             }
         }, false);
@@ -468,8 +507,16 @@ public abstract class InboundMessageContext {
             return WILDCARD_ACCEPTABLE_TYPE_SINGLETON_LIST;
         }
 
+        final ParsedHeader<List<AcceptableMediaType>> memo = acceptableMediaTypes;
+        final List<AcceptableMediaType> memoized = memo != null ? memo.get(value) : null;
+        if (memoized != null) {
+            return memoized;
+        }
+
         try {
-            return Collections.unmodifiableList(HttpHeaderReader.readAcceptMediaType(value));
+            final List<AcceptableMediaType> parsed = HeaderValueCache.ACCEPT_MEDIA_TYPE.get(value);
+            acceptableMediaTypes = new ParsedHeader<>(value, parsed);
+            return parsed;
         } catch (ParseException e) {
             throw exception(HttpHeaders.ACCEPT, value, e);
         }
@@ -488,8 +535,16 @@ public abstract class InboundMessageContext {
             return Collections.singletonList(new AcceptableLanguageTag("*", null));
         }
 
+        final ParsedHeader<List<AcceptableLanguageTag>> memo = acceptableLanguages;
+        final List<AcceptableLanguageTag> memoized = memo != null ? memo.get(value) : null;
+        if (memoized != null) {
+            return memoized;
+        }
+
         try {
-            return Collections.unmodifiableList(HttpHeaderReader.readAcceptLanguage(value));
+            final List<AcceptableLanguageTag> parsed = HeaderValueCache.ACCEPT_LANGUAGE.get(value);
+            acceptableLanguages = new ParsedHeader<>(value, parsed);
+            return parsed;
         } catch (ParseException e) {
             throw exception(HttpHeaders.ACCEPT_LANGUAGE, value, e);
         }
@@ -502,14 +557,23 @@ public abstract class InboundMessageContext {
      * is ordered with the highest quality acceptable charset occurring first.
      */
     public List<AcceptableToken> getQualifiedAcceptCharset() {
-        final String acceptCharset = getHeaderString(HttpHeaders.ACCEPT_CHARSET);
+        final String value = getHeaderString(HttpHeaders.ACCEPT_CHARSET);
         try {
-            if (acceptCharset == null || acceptCharset.isEmpty()) {
+            if (value == null || value.isEmpty()) {
                 return Collections.singletonList(new AcceptableToken("*"));
             }
-            return HttpHeaderReader.readAcceptToken(acceptCharset);
+
+            final ParsedHeader<List<AcceptableToken>> memo = acceptCharset;
+            final List<AcceptableToken> memoized = memo != null ? memo.get(value) : null;
+            if (memoized != null) {
+                return memoized;
+            }
+
+            final List<AcceptableToken> parsed = HeaderValueCache.ACCEPT_TOKEN.get(value);
+            acceptCharset = new ParsedHeader<>(value, parsed);
+            return parsed;
         } catch (java.text.ParseException e) {
-            throw exception(HttpHeaders.ACCEPT_CHARSET, acceptCharset, e);
+            throw exception(HttpHeaders.ACCEPT_CHARSET, value, e);
         }
     }
 
@@ -520,14 +584,23 @@ public abstract class InboundMessageContext {
      * is ordered with the highest quality acceptable charset occurring first.
      */
     public List<AcceptableToken> getQualifiedAcceptEncoding() {
-        final String acceptEncoding = getHeaderString(HttpHeaders.ACCEPT_ENCODING);
+        final String value = getHeaderString(HttpHeaders.ACCEPT_ENCODING);
         try {
-            if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            if (value == null || value.isEmpty()) {
                 return Collections.singletonList(new AcceptableToken("*"));
             }
-            return HttpHeaderReader.readAcceptToken(acceptEncoding);
+
+            final ParsedHeader<List<AcceptableToken>> memo = acceptEncoding;
+            final List<AcceptableToken> memoized = memo != null ? memo.get(value) : null;
+            if (memoized != null) {
+                return memoized;
+            }
+
+            final List<AcceptableToken> parsed = HeaderValueCache.ACCEPT_TOKEN.get(value);
+            acceptEncoding = new ParsedHeader<>(value, parsed);
+            return parsed;
         } catch (java.text.ParseException e) {
-            throw exception("Accept-Encoding", acceptEncoding, e);
+            throw exception("Accept-Encoding", value, e);
         }
     }
 
@@ -75,7 +75,9 @@ import javax.ws.rs.ext.RuntimeDelegate;
 
 import org.glassfish.jersey.CommonProperties;
 import org.glassfish.jersey.internal.LocalizationMessages;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
+import org.glassfish.jersey.spi.BufferPool;
 
 /**
  * Base outbound message context implementation.
@@ -792,13 +794,21 @@ public class OutboundMessageContext {
      * @param configuration runtime configuration.
      */
     public void enableBuffering(Configuration configuration) {
-        final Integer bufferSize = CommonProperties.getValue(configuration.getProperties(),
+        final Map<String, Object> properties = configuration.getProperties();
+        final Integer bufferSize = CommonProperties.getValue(properties,
                 configuration.getRuntimeType(), CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER, Integer.class);
-        if (bufferSize != null) {
-            committingOutputStream.enableBuffering(bufferSize);
+        final Object pool = CommonProperties.getValue(properties,
+                configuration.getRuntimeType(), CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER_POOL, Object.class);
+
+        final BufferPool bufferPool;
+        if (pool instanceof BufferPool) {
+            bufferPool = (BufferPool) pool;
         } else {
-            committingOutputStream.enableBuffering();
+            bufferPool = pool != null && PropertiesHelper.isProperty(pool) ? StripedBufferPool.getDefault() : null;
         }
+
+        committingOutputStream.enableBuffering(bufferSize != null ? bufferSize : CommittingOutputStream.DEFAULT_BUFFER_SIZE,
+                bufferPool);
     }
 
     /**
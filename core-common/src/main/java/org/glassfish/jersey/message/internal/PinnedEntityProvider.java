@@ -0,0 +1,158 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+/**
+ * Entity provider ({@link MessageBodyReader} or {@link MessageBodyWriter}) selected in advance for a particular
+ * combination of the entity type, generic entity type, annotations and media type.
+ * <p>
+ * A pinned provider is stored in the request properties under the {@link #READER_PROPERTY} or {@link #WRITER_PROPERTY}
+ * name and is used by the terminal reader/writer interceptors instead of looking up the provider in the
+ * {@link org.glassfish.jersey.message.MessageBodyWorkers message body workers} as long as the entity to be read or
+ * written {@link #matches(Class, Type, Annotation[], MediaType) matches} the combination the provider has been
+ * selected for. In all other cases the provider is looked up dynamically.
+ * </p>
+ *
+ * @param <T> entity provider type.
+ * @since 2.27
+ */
+public final class PinnedEntityProvider<T> {
+
+    /**
+     * Name of the request property containing the pinned {@link MessageBodyReader}.
+     */
+    public static final String READER_PROPERTY = PinnedEntityProvider.class.getName() + ".reader";
+    /**
+     * Name of the request property containing the pinned {@link MessageBodyWriter}.
+     */
+    public static final String WRITER_PROPERTY = PinnedEntityProvider.class.getName() + ".writer";
+
+    private final T provider;
+    private final Class<?> type;
+    private final Type genericType;
+    private final Annotation[] annotations;
+    private final MediaType mediaType;
+
+    /**
+     * Create a new pinned entity provider.
+     *
+     * @param provider    selected entity provider.
+     * @param type        raw entity type the provider has been selected for.
+     * @param genericType generic entity type the provider has been selected for.
+     * @param annotations annotations the provider has been selected for.
+     * @param mediaType   media type the provider has been selected for.
+     */
+    public PinnedEntityProvider(final T provider,
+                                final Class<?> type,
+                                final Type genericType,
+                                final Annotation[] annotations,
+                                final MediaType mediaType) {
+        this.provider = provider;
+        this.type = type;
+        this.genericType = genericType;
+        this.annotations = annotations;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Get the selected entity provider.
+     *
+     * @return selected entity provider.
+     */
+    public T getProvider() {
+        return provider;
+    }
+
+    /**
+     * Get the media type the provider has been selected for.
+     *
+     * @return media type the provider has been selected for.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Check whether the provider has been selected for the given entity.
+     *
+     * @param type        raw entity type.
+     * @param genericType generic entity type.
+     * @param annotations entity annotations.
+     * @param mediaType   entity media type.
+     * @return {@code true} if the dynamic provider lookup would select the pinned provider for the given entity.
+     */
+    public boolean matches(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                           final MediaType mediaType) {
+        return this.type == type
+                && Objects.equals(this.genericType, genericType)
+                && this.mediaType.equals(mediaType)
+                && matches(annotations);
+    }
+
+    private boolean matches(final Annotation[] annotations) {
+        if (this.annotations == annotations) {
+            return true;
+        }
+        if (annotations == null || this.annotations == null || this.annotations.length != annotations.length) {
+            return false;
+        }
+        for (int i = 0; i < annotations.length; i++) {
+            // Annotation arrays obtained from the same element are usually copies sharing the annotation instances.
+            if (this.annotations[i] != annotations[i] && !this.annotations[i].equals(annotations[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return provider + " -> " + type.getName() + ":" + mediaType;
+    }
+}
@@ -214,12 +214,15 @@ public final class ReaderInterceptorExecutor extends InterceptorExecutor<ReaderI
                             String.valueOf(context.getMediaType()), java.util.Arrays.toString(context.getAnnotations()));
                 }
 
-                final MessageBodyReader bodyReader = workers.getMessageBodyReader(
-                        context.getType(),
-                        context.getGenericType(),
-                        context.getAnnotations(),
-                        context.getMediaType(),
-                        ReaderInterceptorExecutor.this);
+                MessageBodyReader bodyReader = getPinnedReader(context, tracingLogger);
+                if (bodyReader == null) {
+                    bodyReader = workers.getMessageBodyReader(
+                            context.getType(),
+                            context.getGenericType(),
+                            context.getAnnotations(),
+                            context.getMediaType(),
+                            ReaderInterceptorExecutor.this);
+                }
 
                 final EntityInputStream input = new EntityInputStream(context.getInputStream());
 
@@ -245,6 +248,23 @@ public final class ReaderInterceptorExecutor extends InterceptorExecutor<ReaderI
             }
         }
 
+        /**
+         * Get the {@link PinnedEntityProvider pinned} reader if it has been selected for the entity to be read.
+         * Readers are always looked up if the reader selection is traced.
+         */
+        private MessageBodyReader getPinnedReader(final ReaderInterceptorContext context, final TracingLogger tracingLogger) {
+            final Object pinned = getProperty(PinnedEntityProvider.READER_PROPERTY);
+            if (pinned instanceof PinnedEntityProvider
+                    && !tracingLogger.isLogEnabled(MsgTraceEvent.MBR_SELECTED)) {
+                final PinnedEntityProvider<?> reader = (PinnedEntityProvider<?>) pinned;
+                if (reader.matches(context.getType(), context.getGenericType(), context.getAnnotations(),
+                        context.getMediaType())) {
+                    return (MessageBodyReader) reader.getProvider();
+                }
+            }
+            return null;
+        }
+
         @SuppressWarnings("unchecked")
         private Object invokeReadFrom(final ReaderInterceptorContext context, final MessageBodyReader reader,
                                       final EntityInputStream input) throws WebApplicationException, IOException {
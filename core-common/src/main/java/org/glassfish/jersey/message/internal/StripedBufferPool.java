@@ -0,0 +1,143 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.glassfish.jersey.spi.BufferPool;
+
+/**
+ * Default lock-free {@link BufferPool buffer pool} of fixed size heap segments.
+ * <p>
+ * The pooled segments are kept in a number of stripes; each thread acquires and releases segments using the stripe
+ * selected by its id, so threads rarely contend for the same slots. If the stripe of the calling thread is empty a new
+ * segment is allocated, if it is full the released segment is left to the garbage collector. The pool therefore never
+ * retains more than {@code stripes * segmentsPerStripe} segments.
+ * </p>
+ *
+ * @since 2.27
+ */
+public final class StripedBufferPool implements BufferPool {
+
+    /**
+     * Default size of the pooled segments.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 4096;
+
+    private static final int DEFAULT_SEGMENTS_PER_STRIPE = 16;
+
+    private static final StripedBufferPool DEFAULT_POOL = new StripedBufferPool(DEFAULT_SEGMENT_SIZE,
+            2 * Runtime.getRuntime().availableProcessors(), DEFAULT_SEGMENTS_PER_STRIPE);
+
+    private final int segmentSize;
+    private final int stripeMask;
+    private final int segmentsPerStripe;
+    private final AtomicReferenceArray<byte[]> slots;
+
+    /**
+     * Get the pool shared by all the Jersey runtimes that do not configure a custom buffer pool.
+     *
+     * @return default buffer pool.
+     */
+    public static StripedBufferPool getDefault() {
+        return DEFAULT_POOL;
+    }
+
+    /**
+     * Create new striped buffer pool.
+     *
+     * @param segmentSize       size of the pooled segments.
+     * @param stripes           minimal number of stripes, rounded up to the nearest power of two.
+     * @param segmentsPerStripe maximal number of segments retained in a single stripe.
+     */
+    public StripedBufferPool(final int segmentSize, final int stripes, final int segmentsPerStripe) {
+        if (segmentSize <= 0 || stripes <= 0 || segmentsPerStripe <= 0) {
+            throw new IllegalArgumentException();
+        }
+        final int stripeCount = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+
+        this.segmentSize = segmentSize;
+        this.stripeMask = stripeCount - 1;
+        this.segmentsPerStripe = segmentsPerStripe;
+        this.slots = new AtomicReferenceArray<>(stripeCount * segmentsPerStripe);
+    }
+
+    /**
+     * Get the size of the pooled segments.
+     *
+     * @return size of the segments in bytes.
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    @Override
+    public byte[] acquire() {
+        final int start = stripeStart();
+        for (int i = start; i < start + segmentsPerStripe; i++) {
+            final byte[] segment = slots.get(i);
+            if (segment != null && slots.compareAndSet(i, segment, null)) {
+                return segment;
+            }
+        }
+        return new byte[segmentSize];
+    }
+
+    @Override
+    public void release(final byte[] segment) {
+        if (segment == null || segment.length != segmentSize) {
+            return;
+        }
+        final int start = stripeStart();
+        for (int i = start; i < start + segmentsPerStripe; i++) {
+            if (slots.get(i) == null && slots.compareAndSet(i, null, segment)) {
+                return;
+            }
+        }
+    }
+
+    private int stripeStart() {
+        final long id = Thread.currentThread().getId();
+        // spread the (usually sequential) thread ids
+        final int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return ((hash ^ (hash >>> 16)) & stripeMask) * segmentsPerStripe;
+    }
+}
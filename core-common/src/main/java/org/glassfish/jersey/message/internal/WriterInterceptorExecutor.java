@@ -239,8 +239,11 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
                             context.getMediaType(), java.util.Arrays.toString(context.getAnnotations()));
                 }
 
-                final MessageBodyWriter writer = workers.getMessageBodyWriter(context.getType(), context.getGenericType(),
-                        context.getAnnotations(), context.getMediaType(), WriterInterceptorExecutor.this);
+                MessageBodyWriter writer = getPinnedWriter(context, tracingLogger);
+                if (writer == null) {
+                    writer = workers.getMessageBodyWriter(context.getType(), context.getGenericType(),
+                            context.getAnnotations(), context.getMediaType(), WriterInterceptorExecutor.this);
+                }
 
                 if (writer == null) {
                     LOGGER.log(Level.SEVERE, LocalizationMessages.ERROR_NOTFOUND_MESSAGEBODYWRITER(
@@ -255,6 +258,23 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
             }
         }
 
+        /**
+         * Get the {@link PinnedEntityProvider pinned} writer if it has been selected for the entity to be written.
+         * Writers are always looked up if the writer selection is traced.
+         */
+        private MessageBodyWriter getPinnedWriter(final WriterInterceptorContext context, final TracingLogger tracingLogger) {
+            final Object pinned = getProperty(PinnedEntityProvider.WRITER_PROPERTY);
+            if (pinned instanceof PinnedEntityProvider
+                    && !tracingLogger.isLogEnabled(MsgTraceEvent.MBW_SELECTED)) {
+                final PinnedEntityProvider<?> writer = (PinnedEntityProvider<?>) pinned;
+                if (writer.matches(context.getType(), context.getGenericType(), context.getAnnotations(),
+                        context.getMediaType())) {
+                    return (MessageBodyWriter) writer.getProvider();
+                }
+            }
+            return null;
+        }
+
         @SuppressWarnings("unchecked")
         private void invokeWriteTo(final WriterInterceptorContext context, final MessageBodyWriter writer)
                 throws WebApplicationException, IOException {
@@ -0,0 +1,344 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.process.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.glassfish.jersey.internal.util.Producer;
+
+/**
+ * Completion stage that runs the actions of the dependent stages in the request scope initialized from the
+ * {@link RequestContext request scope context}. The stages derived from this stage run their actions in the same
+ * request scope.
+ *
+ * @param <T> stage result type.
+ * @see RequestScope#contextStage(RequestContext, CompletionStage)
+ */
+final class RequestContextCompletionStage<T> implements CompletionStage<T> {
+
+    private final RequestScope requestScope;
+    private final RequestContext context;
+    private final CompletionStage<T> delegate;
+    /**
+     * Context-carrying executor used by the asynchronous actions submitted without an explicit executor.
+     */
+    private final Executor defaultExecutor;
+
+    RequestContextCompletionStage(final RequestScope requestScope,
+                                  final RequestContext context,
+                                  final CompletionStage<T> delegate) {
+        this(requestScope, context, delegate, requestScope.contextExecutor(context, ForkJoinPool.commonPool()));
+    }
+
+    private RequestContextCompletionStage(final RequestScope requestScope,
+                                          final RequestContext context,
+                                          final CompletionStage<T> delegate,
+                                          final Executor defaultExecutor) {
+        this.requestScope = requestScope;
+        this.context = context;
+        this.delegate = delegate;
+        this.defaultExecutor = defaultExecutor;
+    }
+
+    private <U> CompletionStage<U> wrap(final CompletionStage<U> stage) {
+        return new RequestContextCompletionStage<>(requestScope, context, stage, defaultExecutor);
+    }
+
+    private Executor wrap(final Executor executor) {
+        return requestScope.contextExecutor(context, executor);
+    }
+
+    private <R> R inScope(final Producer<R> task) {
+        return requestScope.runInScope(context, task);
+    }
+
+    private void inScope(final Runnable task) {
+        requestScope.runInScope(context, task);
+    }
+
+    private <V, R> Function<V, R> scoped(final Function<V, R> fn) {
+        return value -> inScope((Producer<R>) () -> fn.apply(value));
+    }
+
+    private <V, W, R> BiFunction<V, W, R> scoped(final BiFunction<V, W, R> fn) {
+        return (value, other) -> inScope((Producer<R>) () -> fn.apply(value, other));
+    }
+
+    private <V> Consumer<V> scoped(final Consumer<V> action) {
+        return value -> inScope(() -> {
+            action.accept(value);
+        });
+    }
+
+    private <V, W> BiConsumer<V, W> scoped(final BiConsumer<V, W> action) {
+        return (value, other) -> inScope(() -> {
+            action.accept(value, other);
+        });
+    }
+
+    private Runnable scoped(final Runnable action) {
+        return () -> inScope(action);
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApply(final Function<? super T, ? extends U> fn) {
+        return wrap(delegate.thenApply(scoped(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApplyAsync(final Function<? super T, ? extends U> fn) {
+        return wrap(delegate.thenApplyAsync(fn, defaultExecutor));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApplyAsync(final Function<? super T, ? extends U> fn, final Executor executor) {
+        return wrap(delegate.thenApplyAsync(fn, wrap(executor)));
+    }
+
+    @Override
+    public CompletionStage<Void> thenAccept(final Consumer<? super T> action) {
+        return wrap(delegate.thenAccept(scoped(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> thenAcceptAsync(final Consumer<? super T> action) {
+        return wrap(delegate.thenAcceptAsync(action, defaultExecutor));
+    }
+
+    @Override
+    public CompletionStage<Void> thenAcceptAsync(final Consumer<? super T> action, final Executor executor) {
+        return wrap(delegate.thenAcceptAsync(action, wrap(executor)));
+    }
+
+    @Override
+    public CompletionStage<Void> thenRun(final Runnable action) {
+        return wrap(delegate.thenRun(scoped(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> thenRunAsync(final Runnable action) {
+        return wrap(delegate.thenRunAsync(action, defaultExecutor));
+    }
+
+    @Override
+    public CompletionStage<Void> thenRunAsync(final Runnable action, final Executor executor) {
+        return wrap(delegate.thenRunAsync(action, wrap(executor)));
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombine(final CompletionStage<? extends U> other,
+                                                 final BiFunction<? super T, ? super U, ? extends V> fn) {
+        return wrap(delegate.thenCombine(other, scoped(fn)));
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombineAsync(final CompletionStage<? extends U> other,
+                                                      final BiFunction<? super T, ? super U, ? extends V> fn) {
+        return wrap(delegate.thenCombineAsync(other, fn, defaultExecutor));
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombineAsync(final CompletionStage<? extends U> other,
+                                                      final BiFunction<? super T, ? super U, ? extends V> fn,
+                                                      final Executor executor) {
+        return wrap(delegate.thenCombineAsync(other, fn, wrap(executor)));
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBoth(final CompletionStage<? extends U> other,
+                                                    final BiConsumer<? super T, ? super U> action) {
+        return wrap(delegate.thenAcceptBoth(other, scoped(action)));
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBothAsync(final CompletionStage<? extends U> other,
+                                                         final BiConsumer<? super T, ? super U> action) {
+        return wrap(delegate.thenAcceptBothAsync(other, action, defaultExecutor));
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBothAsync(final CompletionStage<? extends U> other,
+                                                         final BiConsumer<? super T, ? super U> action,
+                                                         final Executor executor) {
+        return wrap(delegate.thenAcceptBothAsync(other, action, wrap(executor)));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBoth(final CompletionStage<?> other, final Runnable action) {
+        return wrap(delegate.runAfterBoth(other, scoped(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBothAsync(final CompletionStage<?> other, final Runnable action) {
+        return wrap(delegate.runAfterBothAsync(other, action, defaultExecutor));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBothAsync(final CompletionStage<?> other,
+                                                   final Runnable action,
+                                                   final Executor executor) {
+        return wrap(delegate.runAfterBothAsync(other, action, wrap(executor)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEither(final CompletionStage<? extends T> other,
+                                                final Function<? super T, U> fn) {
+        return wrap(delegate.applyToEither(other, scoped(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEitherAsync(final CompletionStage<? extends T> other,
+                                                     final Function<? super T, U> fn) {
+        return wrap(delegate.applyToEitherAsync(other, fn, defaultExecutor));
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEitherAsync(final CompletionStage<? extends T> other,
+                                                     final Function<? super T, U> fn,
+                                                     final Executor executor) {
+        return wrap(delegate.applyToEitherAsync(other, fn, wrap(executor)));
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEither(final CompletionStage<? extends T> other, final Consumer<? super T> action) {
+        return wrap(delegate.acceptEither(other, scoped(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEitherAsync(final CompletionStage<? extends T> other,
+                                                   final Consumer<? super T> action) {
+        return wrap(delegate.acceptEitherAsync(other, action, defaultExecutor));
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEitherAsync(final CompletionStage<? extends T> other,
+                                                   final Consumer<? super T> action,
+                                                   final Executor executor) {
+        return wrap(delegate.acceptEitherAsync(other, action, wrap(executor)));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEither(final CompletionStage<?> other, final Runnable action) {
+        return wrap(delegate.runAfterEither(other, scoped(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEitherAsync(final CompletionStage<?> other, final Runnable action) {
+        return wrap(delegate.runAfterEitherAsync(other, action, defaultExecutor));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEitherAsync(final CompletionStage<?> other,
+                                                     final Runnable action,
+                                                     final Executor executor) {
+        return wrap(delegate.runAfterEitherAsync(other, action, wrap(executor)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenCompose(final Function<? super T, ? extends CompletionStage<U>> fn) {
+        return wrap(delegate.thenCompose(scoped(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenComposeAsync(final Function<? super T, ? extends CompletionStage<U>> fn) {
+        return wrap(delegate.thenComposeAsync(fn, defaultExecutor));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenComposeAsync(final Function<? super T, ? extends CompletionStage<U>> fn,
+                                                   final Executor executor) {
+        return wrap(delegate.thenComposeAsync(fn, wrap(executor)));
+    }
+
+    @Override
+    public CompletionStage<T> exceptionally(final Function<Throwable, ? extends T> fn) {
+        return wrap(delegate.exceptionally(scoped(fn)));
+    }
+
+    @Override
+    public CompletionStage<T> whenComplete(final BiConsumer<? super T, ? super Throwable> action) {
+        return wrap(delegate.whenComplete(scoped(action)));
+    }
+
+    @Override
+    public CompletionStage<T> whenCompleteAsync(final BiConsumer<? super T, ? super Throwable> action) {
+        return wrap(delegate.whenCompleteAsync(action, defaultExecutor));
+    }
+
+    @Override
+    public CompletionStage<T> whenCompleteAsync(final BiConsumer<? super T, ? super Throwable> action,
+                                                final Executor executor) {
+        return wrap(delegate.whenCompleteAsync(action, wrap(executor)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> handle(final BiFunction<? super T, Throwable, ? extends U> fn) {
+        return wrap(delegate.handle(scoped(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> handleAsync(final BiFunction<? super T, Throwable, ? extends U> fn) {
+        return wrap(delegate.handleAsync(fn, defaultExecutor));
+    }
+
+    @Override
+    public <U> CompletionStage<U> handleAsync(final BiFunction<? super T, Throwable, ? extends U> fn,
+                                              final Executor executor) {
+        return wrap(delegate.handleAsync(fn, wrap(executor)));
+    }
+
+    @Override
+    public CompletableFuture<T> toCompletableFuture() {
+        return delegate.toCompletableFuture();
+    }
+
+    @Override
+    public String toString() {
+        return "RequestContextCompletionStage{" + delegate + '}';
+    }
+}
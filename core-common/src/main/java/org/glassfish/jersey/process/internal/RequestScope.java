@@ -41,6 +41,8 @@
 package org.glassfish.jersey.process.internal;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -277,13 +279,19 @@ public abstract class RequestScope {
      * current thread might be already in any request scope and in that case the scope
      * will be changed to the scope defined by the {@link RequestContext scope
      * instance}. At the end of the method the request scope is returned to its original
-     * state.
+     * state. If the scope context is already active on the current thread, the task is
+     * executed directly without re-activating the request scope.
      *
      * @param context The request scope context from which the request scope will be initialized.
      * @param task    Task to be executed.
      */
     public void runInScope(RequestContext context, Runnable task) {
         final RequestContext oldContext = retrieveCurrent();
+        if (oldContext == context) {
+            // the scope context is already active on this thread
+            Errors.process(task);
+            return;
+        }
         try {
             activate(context.getReference(), oldContext);
             Errors.process(task);
@@ -323,7 +331,8 @@ public abstract class RequestScope {
      * current thread might be already in any request scope and in that case the scope
      * will be changed to the scope defined by the {@link RequestContext scope
      * instance}. At the end of the method the request scope is returned to its original
-     * state.
+     * state. If the scope context is already active on the current thread, the task is
+     * executed directly without re-activating the request scope.
      *
      * @param context The request scope context from which the request scope will be initialized.
      * @param task    Task to be executed.
@@ -333,6 +342,10 @@ public abstract class RequestScope {
      */
     public <T> T runInScope(RequestContext context, Callable<T> task) throws Exception {
         final RequestContext oldContext = retrieveCurrent();
+        if (oldContext == context) {
+            // the scope context is already active on this thread
+            return Errors.process(task);
+        }
         try {
             activate(context.getReference(), oldContext);
             return Errors.process(task);
@@ -375,7 +388,8 @@ public abstract class RequestScope {
      * must be done explicitly). The current thread might be already in any request scope
      * and in that case the scope will be changed to the scope defined by the
      * {@link RequestContext scope context}. At the end of the method the request
-     * scope is returned to its original state.
+     * scope is returned to its original state. If the scope context is already active on
+     * the current thread, the task is executed directly without re-activating the request scope.
      *
      * @param context The request scope context from which the request scope will be initialized.
      * @param task    Task to be executed.
@@ -384,6 +398,10 @@ public abstract class RequestScope {
      */
     public <T> T runInScope(RequestContext context, Producer<T> task) {
         final RequestContext oldContext = retrieveCurrent();
+        if (oldContext == context) {
+            // the scope context is already active on this thread
+            return Errors.process(task);
+        }
         try {
             activate(context.getReference(), oldContext);
             return Errors.process(task);
@@ -418,6 +436,44 @@ public abstract class RequestScope {
         }
     }
 
+    /**
+     * Get an executor that runs the submitted tasks in the request scope initialized from the
+     * {@link RequestContext scope context}.
+     * <p>
+     * The {@link RequestContext scope context} is NOT referenced by the returned executor; the caller must keep
+     * a reference (e.g. obtained from {@link #suspendCurrent()}) until all the submitted tasks are executed.
+     * Tasks executed on a thread on which the scope context is already active (e.g. tasks submitted to a
+     * same-thread executor from within the request scope) do not re-activate the request scope.
+     * </p>
+     *
+     * @param context  The request scope context from which the request scope will be initialized.
+     * @param executor executor the tasks are submitted to.
+     * @return request scope context-carrying executor.
+     */
+    public Executor contextExecutor(final RequestContext context, final Executor executor) {
+        return task -> executor.execute(() -> runInScope(context, task));
+    }
+
+    /**
+     * Get a completion stage that runs all the dependent stage actions (and actions of the stages derived from
+     * them) in the request scope initialized from the {@link RequestContext scope context}.
+     * <p>
+     * Asynchronous actions are executed using a {@link #contextExecutor(RequestContext, Executor) context-carrying
+     * executor}. Synchronous actions executed by a thread on which the scope context is already active (e.g. actions
+     * of a chain of stages completed by a context-carrying executor) are executed directly without re-activating the
+     * request scope. The {@link RequestContext scope context} is NOT referenced by the returned stage; the caller
+     * must keep a reference until all the stage actions are executed.
+     * </p>
+     *
+     * @param context The request scope context from which the request scope will be initialized.
+     * @param stage   completion stage to be wrapped.
+     * @param <T>     stage result type.
+     * @return request scope context-carrying completion stage.
+     */
+    public <T> CompletionStage<T> contextStage(final RequestContext context, final CompletionStage<T> stage) {
+        return new RequestContextCompletionStage<>(this, context, stage);
+    }
+
     /**
      * Configurator which initializes and register {@link RequestScope} instance int {@link InjectionManager} and
      * {@link BootstrapBag}.
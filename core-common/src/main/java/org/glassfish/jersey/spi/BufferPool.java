@@ -0,0 +1,75 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.spi;
+
+/**
+ * A pool of byte array segments used by the Jersey runtime to buffer serialized outbound entities
+ * (see {@link org.glassfish.jersey.CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOL}).
+ * <p>
+ * The entity buffer is chained from as many segments as needed to hold the buffered entity, so the segments do not need
+ * to be as large as the configured {@link org.glassfish.jersey.CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER buffer size}.
+ * Once the buffered entity has been written to the underlying output stream all the acquired segments are
+ * {@link #release(byte[]) released} back to the pool. Segments of a buffer that has been abandoned (e.g. because the
+ * entity serialization failed) may never be released.
+ * </p>
+ * <p>
+ * Implementations must be thread-safe, a segment may be released by a different thread than the one that acquired it.
+ * </p>
+ *
+ * @since 2.27
+ */
+public interface BufferPool {
+
+    /**
+     * Acquire a segment from the pool. The content of the returned segment is undefined.
+     *
+     * @return non-empty byte array segment.
+     */
+    byte[] acquire();
+
+    /**
+     * Release a segment previously {@link #acquire() acquired} from this pool. The segment must not be used by the caller
+     * after it has been released.
+     *
+     * @param segment segment to be released.
+     */
+    void release(byte[] segment);
+}
@@ -41,10 +41,13 @@
 package org.glassfish.jersey.internal.util;
 
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -186,6 +189,56 @@ public class JerseyPublisherTest {
         assertFalse(deadSubscriber.isCompleted());
     }
 
+    @Test
+    public void testDrop() throws InterruptedException {
+        final JerseyPublisher<String> publisher =
+                new JerseyPublisher<>(ForkJoinPool.commonPool(), 4, JerseyPublisher.PublisherStrategy.DROP);
+
+        final CountDownLatch openLatchActive = new CountDownLatch(1);
+        final CountDownLatch openLatchSlow = new CountDownLatch(1);
+        final CountDownLatch writeLatchSlow = new CountDownLatch(5);
+
+        final PublisherTestSubscriber activeSubscriber =
+                new PublisherTestSubscriber("active", openLatchActive, new CountDownLatch(0), new CountDownLatch(0));
+        final PublisherTestSubscriber slowSubscriber =
+                new PublisherTestSubscriber("slow", openLatchSlow, writeLatchSlow, new CountDownLatch(0));
+
+        publisher.subscribe(activeSubscriber);
+        assertTrue(openLatchActive.await(200, TimeUnit.MILLISECONDS));
+        publisher.subscribe(slowSubscriber);
+        assertTrue(openLatchSlow.await(200, TimeUnit.MILLISECONDS));
+
+        activeSubscriber.receive(1000);
+
+        for (int i = 0; i < 20; i++) {
+            publisher.publish("MSG-" + i);
+            // let the active subscriber drain its buffer
+            awaitReceived(activeSubscriber, i + 1);
+        }
+
+        // the slow subscriber has no demand, only the first four messages fit into its buffer
+        slowSubscriber.receive(1000);
+        awaitReceived(slowSubscriber, 4);
+        publisher.publish("LAST");
+
+        assertTrue(writeLatchSlow.await(2000, TimeUnit.MILLISECONDS));
+        awaitReceived(activeSubscriber, 21);
+        assertEquals(21, activeSubscriber.getReceivedData().size());
+        assertEquals(Arrays.asList("MSG-0", "MSG-1", "MSG-2", "MSG-3", "LAST"),
+                new ArrayList<>(slowSubscriber.getReceivedData()));
+        assertFalse(activeSubscriber.hasError());
+        assertFalse(slowSubscriber.hasError());
+
+        publisher.close();
+    }
+
+    private static void awaitReceived(final PublisherTestSubscriber subscriber, final int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 2000;
+        while (subscriber.getReceivedData().size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
     class PublisherTestSubscriber implements Flow.Subscriber<String> {
 
         private final String name;
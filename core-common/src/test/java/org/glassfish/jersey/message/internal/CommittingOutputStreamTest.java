@@ -0,0 +1,151 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.jersey.spi.BufferPool;
+
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests buffering of the {@link CommittingOutputStream}.
+ */
+public class CommittingOutputStreamTest {
+
+    private static class CountingBufferPool implements BufferPool {
+
+        private final StripedBufferPool pool = new StripedBufferPool(16, 1, 4);
+        private final AtomicInteger acquired = new AtomicInteger();
+        private final AtomicInteger released = new AtomicInteger();
+
+        @Override
+        public byte[] acquire() {
+            acquired.incrementAndGet();
+            return pool.acquire();
+        }
+
+        @Override
+        public void release(final byte[] segment) {
+            released.incrementAndGet();
+            pool.release(segment);
+        }
+    }
+
+    private static byte[] bytes(final int length) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static int write(final CommittingOutputStream stream, final byte[] entity) throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final int[] contentLength = new int[1];
+        stream.setStreamProvider(length -> {
+            contentLength[0] = length;
+            return output;
+        });
+
+        stream.write(entity[0]);
+        stream.write(entity, 1, 20);
+        stream.write(Arrays.copyOfRange(entity, 21, entity.length));
+        stream.close();
+
+        assertArrayEquals(entity, output.toByteArray());
+        return contentLength[0];
+    }
+
+    @Test
+    public void testBuffering() throws Exception {
+        final CommittingOutputStream stream = new CommittingOutputStream();
+        stream.enableBuffering(64);
+
+        assertEquals(50, write(stream, bytes(50)));
+    }
+
+    @Test
+    public void testPooledBuffering() throws Exception {
+        final CountingBufferPool pool = new CountingBufferPool();
+        final CommittingOutputStream stream = new CommittingOutputStream();
+        stream.enableBuffering(64, pool);
+
+        assertEquals(50, write(stream, bytes(50)));
+        assertEquals(4, pool.acquired.get());
+        assertEquals(4, pool.released.get());
+    }
+
+    @Test
+    public void testPooledBufferingOverflow() throws Exception {
+        final CountingBufferPool pool = new CountingBufferPool();
+        final CommittingOutputStream stream = new CommittingOutputStream();
+        stream.enableBuffering(32, pool);
+
+        assertEquals(-1, write(stream, bytes(100)));
+        assertEquals(pool.acquired.get(), pool.released.get());
+    }
+
+    @Test
+    public void testStripedBufferPool() {
+        final StripedBufferPool pool = new StripedBufferPool(16, 3, 1);
+        final byte[] first = pool.acquire();
+        final byte[] second = pool.acquire();
+        assertEquals(16, first.length);
+        assertNotSame(first, second);
+
+        pool.release(first);
+        pool.release(second);
+        // the stripe retains a single segment
+        assertSame(first, pool.acquire());
+        assertNotSame(second, pool.acquire());
+
+        // segments of a different size are not pooled
+        pool.release(new byte[8]);
+        assertEquals(16, pool.acquire().length);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.text.ParseException;
+import java.util.List;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link HeaderValueCache} and the memoization of parsed header values in {@link InboundMessageContext}.
+ */
+public class HeaderValueCacheTest {
+
+    @Test
+    public void testCachedValue() throws Exception {
+        final HeaderValueCache<List<AcceptableMediaType>> cache = new HeaderValueCache<>(HttpHeaderReader::readAcceptMediaType);
+
+        final List<AcceptableMediaType> first = cache.get("text/plain;q=0.5, application/json");
+        final List<AcceptableMediaType> second = cache.get(new String("text/plain;q=0.5, application/json"));
+
+        assertSame(first, second);
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, first.get(0));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate(), 0.0);
+    }
+
+    @Test
+    public void testInvalidValueNotCached() throws Exception {
+        final HeaderValueCache<List<AcceptableMediaType>> cache = new HeaderValueCache<>(HttpHeaderReader::readAcceptMediaType);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.get("text/plain;q=x");
+                fail("ParseException expected.");
+            } catch (final ParseException expected) {
+                // ok
+            }
+        }
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testBounded() throws Exception {
+        final HeaderValueCache<MediaType> cache = new HeaderValueCache<>(MediaType::valueOf);
+        cache.setMaxEntries(2);
+
+        cache.get("text/a");
+        cache.get("text/b");
+        assertEquals(2, cache.size());
+
+        cache.get("text/c");
+        assertEquals(1, cache.size());
+
+        final StringBuilder longValue = new StringBuilder("text/plain;p=");
+        while (longValue.length() <= HeaderValueCache.MAX_VALUE_LENGTH) {
+            longValue.append('x');
+        }
+        cache.get(longValue.toString());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testMemoizedMediaType() {
+        final InboundMessageContext context = new InboundMessageContext();
+        context.header(HttpHeaders.CONTENT_TYPE, "text/plain");
+
+        final MediaType first = context.getMediaType();
+        assertSame(first, context.getMediaType());
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, first);
+
+        context.getHeaders().putSingle(HttpHeaders.CONTENT_TYPE, "application/xml");
+        final MediaType second = context.getMediaType();
+        assertNotSame(first, second);
+        assertEquals(MediaType.APPLICATION_XML_TYPE, second);
+    }
+
+    @Test
+    public void testMemoizedAcceptableMediaTypes() {
+        final InboundMessageContext context = new InboundMessageContext();
+        context.header(HttpHeaders.ACCEPT, "text/plain;q=0.5");
+        context.header(HttpHeaders.ACCEPT, "application/json");
+
+        final List<AcceptableMediaType> first = context.getQualifiedAcceptableMediaTypes();
+        assertSame(first, context.getQualifiedAcceptableMediaTypes());
+        assertEquals(2, first.size());
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, first.get(0));
+
+        context.getHeaders().remove(HttpHeaders.ACCEPT);
+        assertEquals(MediaType.WILDCARD_TYPE, context.getQualifiedAcceptableMediaTypes().get(0));
+    }
+}
@@ -40,14 +40,14 @@
 
 package org.glassfish.jersey.server;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Paths;
 import java.security.AccessController;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
@@ -78,6 +78,7 @@ import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.scanning.AnnotationAcceptingListener;
 import org.glassfish.jersey.server.internal.scanning.FilesScanner;
 import org.glassfish.jersey.server.internal.scanning.PackageNamesScanner;
+import org.glassfish.jersey.server.internal.scanning.ScanningIndex;
 import org.glassfish.jersey.server.model.Resource;
 
 /**
@@ -898,24 +899,25 @@ public class ResourceConfig extends Application implements Configurable<Resource
             rfs.add(new FilesScanner(classPathElements, true));
         }
 
+        final boolean parallel = PropertiesHelper.isProperty(getProperty(ServerProperties.PROVIDER_SCANNING_PARALLEL));
+        final Object indexDirectory = getProperty(ServerProperties.PROVIDER_SCANNING_INDEX);
+        final ScanningIndex index = indexDirectory == null ? null
+                : new ScanningIndex(indexDirectory instanceof java.nio.file.Path
+                        ? (java.nio.file.Path) indexDirectory : Paths.get(indexDirectory.toString()));
+
         final AnnotationAcceptingListener afl =
                 AnnotationAcceptingListener.newJaxrsResourceAndProviderListener(_state.getClassLoader());
         for (final ResourceFinder resourceFinder : rfs) {
-            while (resourceFinder.hasNext()) {
-                final String next = resourceFinder.next();
-                if (afl.accept(next)) {
-                    final InputStream in = resourceFinder.open();
-                    try {
-                        afl.process(next, in);
-                    } catch (final IOException e) {
-                        LOGGER.log(Level.WARNING, LocalizationMessages.RESOURCE_CONFIG_UNABLE_TO_PROCESS(next));
-                    } finally {
-                        try {
-                            in.close();
-                        } catch (final IOException ex) {
-                            LOGGER.log(Level.FINER, "Error closing resource stream.", ex);
-                        }
-                    }
+            final String key = index != null ? index.getKey(resourceFinder) : null;
+            final List<String> indexedClassNames = key != null ? index.get(key) : null;
+
+            if (indexedClassNames != null) {
+                resourceFinder.close();
+                afl.addAnnotatedClasses(indexedClassNames);
+            } else {
+                final List<String> classNames = afl.process(resourceFinder, parallel);
+                if (key != null) {
+                    index.put(key, classNames);
                 }
             }
         }
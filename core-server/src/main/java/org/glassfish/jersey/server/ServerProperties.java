@@ -107,6 +107,50 @@ public final class ServerProperties {
      */
     public static final String PROVIDER_SCANNING_RECURSIVE = "jersey.config.server.provider.scanning.recursive";
 
+    /**
+     * If {@code true}, the class files found by package or class path scanning are parsed in parallel. The class files
+     * are still read from each scanned JAR file or directory sequentially and the annotated classes are loaded in the
+     * order in which they have been found.
+     * <p>
+     * The property value MUST be an instance of {@code Boolean} type or a {@code String} convertible
+     * to {@code Boolean} type.
+     * </p>
+     * <p>
+     * A default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #PROVIDER_PACKAGES
+     * @since 2.27
+     */
+    public static final String PROVIDER_SCANNING_PARALLEL = "jersey.config.server.provider.scanning.parallel";
+
+    /**
+     * Defines the directory of the on-disk index of the classes annotated with {@link javax.ws.rs.Path} or
+     * {@link javax.ws.rs.ext.Provider} found by package scanning.
+     * <p>
+     * If set, the names of the annotated classes found in the scanned packages are stored in the directory keyed by the
+     * package names and by checksums of the JAR files containing the packages. As long as the JAR files do not change,
+     * subsequent application startups load the annotated classes from the index instead of scanning the packages again.
+     * Only packages contained in local JAR files are indexed, packages found in directories are always scanned.
+     * </p>
+     * <p>
+     * The property value MUST be an instance of {@code String} or {@link java.nio.file.Path} type.
+     * </p>
+     * <p>
+     * A default value is not set.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #PROVIDER_PACKAGES
+     * @since 2.27
+     */
+    public static final String PROVIDER_SCANNING_INDEX = "jersey.config.server.provider.scanning.index";
+
     /**
      * Defines class-path that contains application-specific resources and
      * providers.
@@ -545,6 +589,55 @@ public final class ServerProperties {
     public static final String MONITORING_STATISTICS_REFRESH_INTERVAL =
             "jersey.config.server.monitoring.statistics.refresh.interval";
 
+    /**
+     * If {@code true} then request events are aggregated into the monitoring statistics directly by the threads
+     * processing the requests.
+     *
+     * By default, the data of each request are queued and aggregated periodically by a background
+     * thread. Under high request rates the queues may become a point of contention and overflow. With direct
+     * aggregation enabled, execution times, response statuses and exception mapping counts are recorded straight into
+     * concurrent, per resource method statistics and no per-request objects are queued. The statistics snapshots
+     * are still built and passed to the
+     * {@link org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener listeners} every
+     * {@link #MONITORING_STATISTICS_REFRESH_INTERVAL refresh interval}.
+     * <p>
+     * The property has an effect only if the {@link #MONITORING_STATISTICS_ENABLED monitoring statistics} are enabled.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    public static final String MONITORING_STATISTICS_DIRECT_AGGREGATION_ENABLED =
+            "jersey.config.server.monitoring.statistics.aggregation.direct.enabled";
+
+    /**
+     * If {@code true} then the {@link org.glassfish.jersey.server.monitoring.TimeWindowStatistics time window statistics}
+     * are computed from fixed-memory log-linear histograms instead of from the stored measurements.
+     *
+     * The memory used by the histograms does not depend on the request rate and the time window statistics provide
+     * approximate 50th, 90th, 99th and 99.9th percentiles of the execution times. On the other hand, the time windows
+     * are tracked with the granularity of one quarter of the window size and the percentiles are approximated with the
+     * relative error of about 3%. The minimum, maximum and average durations are precise.
+     * <p>
+     * The property has an effect only if the {@link #MONITORING_STATISTICS_ENABLED monitoring statistics} are enabled.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    public static final String MONITORING_STATISTICS_HISTOGRAM_ENABLED =
+            "jersey.config.server.monitoring.statistics.histogram.enabled";
+
     /**
      * {@link String} property that defines the application name.
      *
@@ -748,6 +841,93 @@ public final class ServerProperties {
     public static final String LOCATION_HEADER_RELATIVE_URI_RESOLUTION_DISABLED =
             "jersey.config.server.headers.location.relative.resolution.disabled";
 
+    /**
+     * If {@code true} then the request path matching routers are compiled into a trie of literal path segments when the
+     * runtime resource model is built.
+     * <p>
+     * The compiled routers select only the routes whose literal path prefix corresponds to the request path instead of
+     * trying every route in turn, and match path templates that contain only literal characters and default-valued
+     * template variables (e.g. {@code /customers/{id}/orders}) without evaluating regular expressions. Routes with
+     * regular expression template variables are still matched using their regular expressions. The JAX-RS resource
+     * matching precedence is not affected by this property.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    public static final String COMPILED_ROUTING_ENABLED = "jersey.config.server.routing.compiled.enabled";
+
+    /**
+     * If {@code true} then the resource methods are invoked using {@link java.lang.invoke.MethodHandle method handles}
+     * resolved once per resource method when the runtime model is built, instead of being invoked reflectively on every
+     * request.
+     * <p>
+     * The property only affects the default invocation of resource methods; custom
+     * {@link org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider invocation handler providers}
+     * still take precedence. Resource methods that cannot be accessed using a method handle are invoked reflectively.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    public static final String METHOD_HANDLE_DISPATCH_ENABLED = "jersey.config.server.dispatch.methodHandle.enabled";
+
+    /**
+     * If {@code true} then the {@link javax.ws.rs.ext.MessageBodyReader message body readers} and
+     * {@link javax.ws.rs.ext.MessageBodyWriter message body writers} are selected for every resource method and every media
+     * type the method consumes or produces when the runtime resource model is built.
+     * <p>
+     * The pre-selected (pinned) entity provider is used instead of looking up the provider on every request as long as the
+     * entity type, generic type, annotations and media type of the read or written entity are the same as the ones the
+     * provider has been selected for (e.g. the resource method returns an instance of its declared final return type and
+     * the negotiated media type is one of the media types listed in the {@link javax.ws.rs.Produces &#64;Produces}
+     * annotation). Otherwise, e.g. if the entity or its media type has been changed by a filter or an interceptor, or if
+     * the entity provider selection is traced, the entity provider is looked up dynamically.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    public static final String PINNED_ENTITY_PROVIDERS_ENABLED = "jersey.config.server.entityProviders.pinned.enabled";
+
+    /**
+     * If {@code true} then an instantiation plan is compiled for every per-request resource class when the runtime
+     * resource model is built and the resource instances are created using the plan instead of the injection manager.
+     * <p>
+     * The plan resolves the constructor, the {@link javax.ws.rs.core.Context &#64;Context} and JAX-RS parameter annotated
+     * fields and setter methods and the {@link javax.annotation.PostConstruct &#64;PostConstruct} method of the resource
+     * class once, so that creating a resource instance does not require the injection manager to analyze the class on
+     * every request. Resource classes that use {@link javax.inject.Inject &#64;Inject} or qualified injection points,
+     * annotations handled by custom injection resolvers or that are managed by the injection manager (e.g. CDI beans)
+     * are still instantiated by the injection manager.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    public static final String RESOURCE_INSTANTIATION_COMPILED_ENABLED =
+            "jersey.config.server.resource.instantiation.compiled.enabled";
+
     private ServerProperties() {
         // prevents instantiation
     }
@@ -43,6 +43,9 @@ package org.glassfish.jersey.server.internal.monitoring;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.glassfish.jersey.server.monitoring.ExceptionMapperStatistics;
 
@@ -56,16 +59,16 @@ final class ExceptionMapperStatisticsImpl implements ExceptionMapperStatistics {
     /**
      * Builder of exception mapper statistics.
      * <p/>
-     * This builder does not need to be threadsafe since it's called only from the jersey-background-task-scheduler.
+     * Must be thread-safe as the mappings may be added directly from the request processing threads.
      */
     static class Builder {
 
-        private Map<Class<?>, Long> exceptionMapperExecutionCountMap = new HashMap<>();
-        private long successfulMappings;
-        private long unsuccessfulMappings;
-        private long totalMappings;
+        private final ConcurrentMap<Class<?>, LongAdder> exceptionMapperExecutionCountMap = new ConcurrentHashMap<>();
+        private final LongAdder successfulMappings = new LongAdder();
+        private final LongAdder unsuccessfulMappings = new LongAdder();
+        private final LongAdder totalMappings = new LongAdder();
 
-        private ExceptionMapperStatisticsImpl cached;
+        private volatile ExceptionMapperStatisticsImpl cached;
 
         /**
          * Add mappings.
@@ -74,14 +77,14 @@ final class ExceptionMapperStatisticsImpl implements ExceptionMapperStatistics {
          * @param count Number of mappings.
          */
         void addMapping(final boolean success, final int count) {
-            cached = null;
-
-            totalMappings++;
+            totalMappings.increment();
             if (success) {
-                successfulMappings += count;
+                successfulMappings.add(count);
             } else {
-                unsuccessfulMappings += count;
+                unsuccessfulMappings.add(count);
             }
+
+            cached = null;
         }
 
         /**
@@ -91,11 +94,9 @@ final class ExceptionMapperStatisticsImpl implements ExceptionMapperStatistics {
          * @param count Number of executions of the {@code mapper}.
          */
         void addExceptionMapperExecution(final Class<?> mapper, final int count) {
-            cached = null;
+            exceptionMapperExecutionCountMap.computeIfAbsent(mapper, m -> new LongAdder()).add(count);
 
-            Long cnt = exceptionMapperExecutionCountMap.get(mapper);
-            cnt = cnt == null ? count : cnt + count;
-            exceptionMapperExecutionCountMap.put(mapper, cnt);
+            cached = null;
         }
 
         /**
@@ -104,12 +105,19 @@ final class ExceptionMapperStatisticsImpl implements ExceptionMapperStatistics {
          * @return New instance of exception mapper statistics.
          */
         public ExceptionMapperStatisticsImpl build() {
-            if (cached == null) {
-                cached = new ExceptionMapperStatisticsImpl(new HashMap<>(this.exceptionMapperExecutionCountMap),
-                        successfulMappings, unsuccessfulMappings, totalMappings);
+            ExceptionMapperStatisticsImpl cachedReference = cached;
+            if (cachedReference == null) {
+                final Map<Class<?>, Long> executionCounts = new HashMap<>();
+                for (final Map.Entry<Class<?>, LongAdder> entry : exceptionMapperExecutionCountMap.entrySet()) {
+                    executionCounts.put(entry.getKey(), entry.getValue().sum());
+                }
+
+                cachedReference = new ExceptionMapperStatisticsImpl(executionCounts, successfulMappings.sum(),
+                        unsuccessfulMappings.sum(), totalMappings.sum());
+                cached = cachedReference;
             }
 
-            return cached;
+            return cachedReference;
         }
     }
 
@@ -45,6 +45,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -78,37 +79,75 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
         /**
          * Create a new builder.
          */
-        @SuppressWarnings("MagicNumber")
         public Builder() {
-            final long nowMillis = System.currentTimeMillis();
-            final AggregatingTrimmer trimmer = new AggregatingTrimmer(nowMillis, TimeUnit.MILLISECONDS, 1, TimeUnit.SECONDS);
-            final TimeWindowStatisticsImpl.Builder<Long> oneSecondIntervalWindowBuilder =
-                    new TimeWindowStatisticsImpl.Builder<>(
-                            new SlidingWindowTimeReservoir(1, TimeUnit.SECONDS, nowMillis, TimeUnit.MILLISECONDS, trimmer));
-            final TimeWindowStatisticsImpl.Builder<Long> infiniteIntervalWindowBuilder =
-                    new TimeWindowStatisticsImpl.Builder<>(new UniformTimeReservoir(nowMillis, TimeUnit.MILLISECONDS));
+            this(false);
+        }
 
-            this.updatableIntervalStatistics =
-                    Arrays.asList(infiniteIntervalWindowBuilder, oneSecondIntervalWindowBuilder);
+        /**
+         * Create a new builder.
+         *
+         * @param histogram if {@code true}, the time windows are backed by fixed-memory {@link HistogramTimeReservoir histogram
+         *                  reservoirs}, otherwise the sliding window reservoirs keeping the measurements are used.
+         */
+        @SuppressWarnings("MagicNumber")
+        public Builder(final boolean histogram) {
+            final long nowMillis = System.currentTimeMillis();
 
             // create unmodifiable map to ensure that an iteration in the build() won't have multi-threading issues
             final HashMap<Long, TimeWindowStatisticsImpl.Builder> tmpIntervalStatistics = new HashMap<>(6);
-            // Add approximate infinite time window builder
-            tmpIntervalStatistics.put(0L, infiniteIntervalWindowBuilder);
-            // Add precise 1 second time window builder
-            tmpIntervalStatistics.put(TimeUnit.SECONDS.toMillis(1), oneSecondIntervalWindowBuilder);
-            // Add aggregated 15 seconds time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.SECONDS, trimmer);
-            // Add aggregated 1 minute time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.MINUTES, trimmer);
-            // Add aggregated 15 minutes time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.MINUTES, trimmer);
-            // Add aggregated 1 hour time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.HOURS, trimmer);
+
+            if (histogram) {
+                final List<TimeWindowStatisticsImpl.Builder<Long>> histogramBuilders = Arrays.asList(
+                        // Add approximate infinite time window builder
+                        histogramInterval(nowMillis, 0, TimeUnit.MILLISECONDS),
+                        // Add 1 second, 15 seconds, 1 minute, 15 minutes and 1 hour time window builders
+                        histogramInterval(nowMillis, 1, TimeUnit.SECONDS),
+                        histogramInterval(nowMillis, 15, TimeUnit.SECONDS),
+                        histogramInterval(nowMillis, 1, TimeUnit.MINUTES),
+                        histogramInterval(nowMillis, 15, TimeUnit.MINUTES),
+                        histogramInterval(nowMillis, 1, TimeUnit.HOURS));
+
+                // every histogram is updated directly, there are no trimmed measurements to aggregate
+                this.updatableIntervalStatistics = histogramBuilders;
+                for (final TimeWindowStatisticsImpl.Builder<Long> builder : histogramBuilders) {
+                    tmpIntervalStatistics.put(builder.getInterval(), builder);
+                }
+            } else {
+                final AggregatingTrimmer trimmer =
+                        new AggregatingTrimmer(nowMillis, TimeUnit.MILLISECONDS, 1, TimeUnit.SECONDS);
+                final TimeWindowStatisticsImpl.Builder<Long> oneSecondIntervalWindowBuilder =
+                        new TimeWindowStatisticsImpl.Builder<>(
+                                new SlidingWindowTimeReservoir(1, TimeUnit.SECONDS, nowMillis, TimeUnit.MILLISECONDS, trimmer));
+                final TimeWindowStatisticsImpl.Builder<Long> infiniteIntervalWindowBuilder =
+                        new TimeWindowStatisticsImpl.Builder<>(new UniformTimeReservoir(nowMillis, TimeUnit.MILLISECONDS));
+
+                this.updatableIntervalStatistics =
+                        Arrays.asList(infiniteIntervalWindowBuilder, oneSecondIntervalWindowBuilder);
+
+                // Add approximate infinite time window builder
+                tmpIntervalStatistics.put(0L, infiniteIntervalWindowBuilder);
+                // Add precise 1 second time window builder
+                tmpIntervalStatistics.put(TimeUnit.SECONDS.toMillis(1), oneSecondIntervalWindowBuilder);
+                // Add aggregated 15 seconds time window builder
+                addAggregatedInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.SECONDS, trimmer);
+                // Add aggregated 1 minute time window builder
+                addAggregatedInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.MINUTES, trimmer);
+                // Add aggregated 15 minutes time window builder
+                addAggregatedInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.MINUTES, trimmer);
+                // Add aggregated 1 hour time window builder
+                addAggregatedInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.HOURS, trimmer);
+            }
 
             this.intervalStatistics = Collections.unmodifiableMap(tmpIntervalStatistics);
         }
 
+        private static TimeWindowStatisticsImpl.Builder<Long> histogramInterval(final long nowMillis,
+                                                                               final long interval,
+                                                                               final TimeUnit timeUnit) {
+            return new TimeWindowStatisticsImpl.Builder<>(
+                    new HistogramTimeReservoir(interval, timeUnit, nowMillis, TimeUnit.MILLISECONDS));
+        }
+
         private static void addAggregatedInterval(
                 final Map<Long, TimeWindowStatisticsImpl.Builder> intervalStatisticsMap,
                 final long nowMillis,
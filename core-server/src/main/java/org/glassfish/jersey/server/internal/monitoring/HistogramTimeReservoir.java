@@ -0,0 +1,243 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-memory {@link TimeReservoir} that records the values into log-linear histograms (in a fashion similar to
+ * HdrHistogram) instead of keeping the individual measurements.
+ * <p/>
+ * The values are counted in buckets whose width doubles with every power of two; each power of two is further divided into
+ * {@value #SUB_BUCKETS} linear sub-buckets. Values lower than {@value #SUB_BUCKETS} are counted precisely, the relative error
+ * of the quantiles computed for greater values is bounded by {@code 1 / (2 * SUB_BUCKETS)}. Values greater than the highest
+ * trackable value are counted in the last bucket. The minimum, the maximum and the mean are tracked precisely.
+ * <p/>
+ * The time window is divided into {@value #SLICES} slices, each of them having its own histogram. Slices that fall out of the
+ * window are recycled, so the reservoir never holds more than {@code SLICES + 1} histograms regardless of the rate of
+ * updates and no trimming is needed. As a consequence, the snapshot covers the requested window extended by the elapsed part
+ * of the current slice. A reservoir created with the window of size {@code 0} keeps a single histogram of all the values
+ * ever recorded.
+ */
+class HistogramTimeReservoir implements TimeReservoir<Long> {
+
+    /**
+     * Number of the time slices the window is divided into.
+     */
+    static final int SLICES = 4;
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 24;
+
+    /**
+     * The number of histogram buckets; values in {@code [0, 2^MAX_MAGNITUDE)} are counted in distinct buckets.
+     */
+    static final int BUCKETS = SUB_BUCKETS + (MAX_MAGNITUDE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long interval;
+    private final TimeUnit intervalUnit;
+    private final long startNanos;
+    private final long sliceNanos;
+    private final AtomicReferenceArray<Slice> slices;
+
+    /**
+     * Creates a new histogram time reservoir.
+     *
+     * @param window        The time size of the window, {@code 0} for an infinite window.
+     * @param windowUnit    The unit of the window size.
+     * @param startTime     The start time from when to calculate the statistics.
+     * @param startTimeUnit The unit of the start time.
+     */
+    HistogramTimeReservoir(final long window, final TimeUnit windowUnit, final long startTime, final TimeUnit startTimeUnit) {
+        this.interval = window;
+        this.intervalUnit = windowUnit;
+        this.startNanos = startTimeUnit.toNanos(startTime);
+        this.sliceNanos = window == 0 ? 0 : Math.max(1, windowUnit.toNanos(window) / SLICES);
+        this.slices = new AtomicReferenceArray<>(window == 0 ? 1 : SLICES + 1);
+    }
+
+    @Override
+    public int size(final long time, final TimeUnit timeUnit) {
+        return (int) Math.min(Integer.MAX_VALUE, getSnapshot(time, timeUnit).size());
+    }
+
+    @Override
+    public void update(final Long value, final long time, final TimeUnit timeUnit) {
+        final long epoch = epoch(timeUnit.toNanos(time));
+        final int index = (int) Math.floorMod(epoch, (long) slices.length());
+
+        Slice slice = slices.get(index);
+        while (slice == null || slice.epoch < epoch) {
+            // recycle the slice that fell out of the window
+            final Slice newSlice = new Slice(epoch);
+            if (slices.compareAndSet(index, slice, newSlice)) {
+                slice = newSlice;
+            } else {
+                slice = slices.get(index);
+            }
+        }
+
+        // the slice has already been recycled if the value is older than the window
+        if (slice.epoch == epoch) {
+            slice.record(value);
+        }
+    }
+
+    @Override
+    public UniformTimeSnapshot getSnapshot(final long time, final TimeUnit timeUnit) {
+        final long nanos = timeUnit.toNanos(time);
+        final long epoch = epoch(nanos);
+        final long firstEpoch = epoch - slices.length() + 1;
+
+        final long[] counts = new long[BUCKETS];
+        long count = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+
+        for (int i = 0; i < slices.length(); i++) {
+            final Slice slice = slices.get(i);
+            if (slice == null || slice.epoch < firstEpoch || slice.epoch > epoch) {
+                continue;
+            }
+
+            for (int j = 0; j < BUCKETS; j++) {
+                final long bucketCount = slice.counts.get(j);
+                counts[j] += bucketCount;
+                count += bucketCount;
+            }
+            sum += slice.sum.sum();
+            min = Math.min(min, slice.min.get());
+            max = Math.max(max, slice.max.get());
+        }
+
+        // the time interval the snapshot actually covers
+        final long coveredNanos = sliceNanos == 0 ? nanos - startNanos : nanos - Math.max(startNanos, firstEpoch * sliceNanos);
+        return new UniformTimeHistogramSnapshot(counts, count, count == 0 ? 0 : min, count == 0 ? 0 : max,
+                count == 0 ? 0 : (double) sum / count, Math.max(0, coveredNanos), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public long interval(final TimeUnit timeUnit) {
+        return timeUnit.convert(interval, intervalUnit);
+    }
+
+    private long epoch(final long nanos) {
+        return sliceNanos == 0 ? 0 : Math.floorDiv(nanos, sliceNanos);
+    }
+
+    /**
+     * Get the index of the bucket the value is counted in.
+     *
+     * @param value the value.
+     * @return bucket index.
+     */
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKETS) {
+            return value < 0 ? 0 : (int) value;
+        }
+
+        final int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude >= MAX_MAGNITUDE) {
+            return BUCKETS - 1;
+        }
+        final int shift = magnitude - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Get the lowest value counted in the bucket.
+     *
+     * @param index bucket index.
+     * @return lowest value of the bucket.
+     */
+    static long bucketLowerBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKETS - 1;
+        return (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    }
+
+    /**
+     * Get the highest value counted in the bucket (except for the last bucket that counts all the greater values as well).
+     *
+     * @param index bucket index.
+     * @return highest value of the bucket.
+     */
+    static long bucketUpperBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKETS - 1;
+        return ((long) (index % SUB_BUCKETS + SUB_BUCKETS + 1) << shift) - 1;
+    }
+
+    /**
+     * Histogram of values recorded in a single time slice.
+     */
+    private static final class Slice {
+
+        private final long epoch;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        private Slice(final long epoch) {
+            this.epoch = epoch;
+        }
+
+        private void record(final long value) {
+            counts.incrementAndGet(bucketIndex(value));
+            sum.add(value);
+            min.accumulate(value);
+            max.accumulate(value);
+        }
+    }
+}
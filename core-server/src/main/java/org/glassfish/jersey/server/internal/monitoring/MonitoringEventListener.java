@@ -40,13 +40,11 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javax.ws.rs.ProcessingException;
 
@@ -242,11 +240,16 @@ public final class MonitoringEventListener implements ApplicationEventListener {
     private class ReqEventListener implements RequestEventListener {
 
         private final long requestTimeStart;
+        // processor the events are aggregated into directly, null if the events are queued
+        private final MonitoringStatisticsProcessor processor;
         private volatile long methodTimeStart;
         private volatile MethodStats methodStats;
 
         public ReqEventListener() {
             this.requestTimeStart = System.currentTimeMillis();
+
+            final MonitoringStatisticsProcessor current = monitoringStatisticsProcessor;
+            this.processor = current != null && current.isDirectAggregation() ? current : null;
         }
 
         @Override
@@ -262,26 +265,27 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                     methodStats = new MethodStats(method, methodTimeStart, now - methodTimeStart);
                     break;
                 case EXCEPTION_MAPPING_FINISHED:
-                    if (!exceptionMapperEvents.offer(event)) {
+                    if (processor != null) {
+                        processor.recordExceptionMapping(event);
+                    } else if (!exceptionMapperEvents.offer(event)) {
                         LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_MAPPER());
                     }
                     break;
                 case FINISHED:
                     if (event.isResponseWritten()) {
-                        if (!responseStatuses.offer(event.getContainerResponse().getStatus())) {
+                        final int status = event.getContainerResponse().getStatus();
+                        if (processor != null) {
+                            processor.recordResponseCode(status);
+                        } else if (!responseStatuses.offer(status)) {
                             LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_RESPONSE());
                         }
                     }
                     final StringBuilder sb = new StringBuilder();
-                    final List<UriTemplate> orderedTemplates =
-                            event.getUriInfo().getMatchedTemplates()
-                                 .stream()
-                                 .collect(Collectors.collectingAndThen(Collectors.toList(), uriTemplates -> {
-                                     Collections.reverse(uriTemplates);
-                                     return uriTemplates;
-                                 }));
-
-                    for (final UriTemplate uriTemplate : orderedTemplates) {
+                    final List<UriTemplate> matchedTemplates = event.getUriInfo().getMatchedTemplates();
+
+                    // matched templates are ordered from the last matched one
+                    for (int i = matchedTemplates.size() - 1; i >= 0; i--) {
+                        final UriTemplate uriTemplate = matchedTemplates.get(i);
                         sb.append(uriTemplate.getTemplate());
                         if (!uriTemplate.endsWithSlash()) {
                             sb.append("/");
@@ -289,8 +293,11 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                         sb.setLength(sb.length() - 1);
                     }
 
-                    if (!requestQueuedItems.offer(new RequestStats(new TimeStats(requestTimeStart, now - requestTimeStart),
-                            methodStats, sb.toString()))) {
+                    final RequestStats requestStats = new RequestStats(
+                            new TimeStats(requestTimeStart, now - requestTimeStart), methodStats, sb.toString());
+                    if (processor != null) {
+                        processor.recordRequest(requestStats);
+                    } else if (!requestQueuedItems.offer(requestStats)) {
                         LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_REQUEST());
                     }
 
@@ -42,8 +42,9 @@ package org.glassfish.jersey.server.internal.monitoring;
 
 import java.util.Collections;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.glassfish.jersey.internal.util.collection.Views;
@@ -69,22 +70,11 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
     /**
      * Builder of monitoring statistics.
      * <p/>
-     * This builder does not need to be threadsafe as it's only accessed by jersey-background-task-scheduler. However, {@link
-     * #BUILDING_FUNCTION} is triggered when it is accessed (e.g., by servlet-container thread-pool threads) which adds threadsafe
-     * constraint on some of the sub-builders.
-     * <p/>
-     * Sub-Builders that require thread-safety
-     * <pre><ul>
-     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ExecutionStatisticsImpl.Builder}</li>
-     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ResourceStatisticsImpl.Builder}</li>
-     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ResourceMethodStatisticsImpl.Builder}</li>
-     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.TimeWindowStatisticsImpl.Builder}</li>
-     * </ul>
-     * The rest does not need to be thread-safe
-     * <ul>
-     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ExceptionMapperStatisticsImpl.Builder}</li>
-     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ResponseStatisticsImpl.Builder}</li>
-     * </ul></pre>
+     * The builder is thread-safe. By default it is only updated by jersey-background-task-scheduler, however with
+     * {@link org.glassfish.jersey.server.ServerProperties#MONITORING_STATISTICS_DIRECT_AGGREGATION_ENABLED direct aggregation}
+     * enabled the executions are added concurrently by the request processing threads. Moreover, {@link #BUILDING_FUNCTION}
+     * is triggered when the built statistics are accessed (e.g., by servlet-container thread-pool threads). Hence all the
+     * sub-builders are thread-safe as well.
      */
     static class Builder {
 
@@ -94,17 +84,29 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
         private final ResponseStatisticsImpl.Builder responseStatisticsBuilder;
         private final ExceptionMapperStatisticsImpl.Builder exceptionMapperStatisticsBuilder;
 
-        private final ResourceMethodStatisticsImpl.Factory methodFactory = new ResourceMethodStatisticsImpl.Factory();
-        private final SortedMap<String, ResourceStatisticsImpl.Builder> uriStatistics = new TreeMap<>();
-        private final SortedMap<Class<?>, ResourceStatisticsImpl.Builder> resourceClassStatistics
-                = new TreeMap<>((o1, o2) -> o1.getName().compareTo(o2.getName()));
+        private final ResourceMethodStatisticsImpl.Factory methodFactory;
+        private final ConcurrentNavigableMap<String, ResourceStatisticsImpl.Builder> uriStatistics =
+                new ConcurrentSkipListMap<>();
+        private final ConcurrentNavigableMap<Class<?>, ResourceStatisticsImpl.Builder> resourceClassStatistics
+                = new ConcurrentSkipListMap<>((o1, o2) -> o1.getName().compareTo(o2.getName()));
 
-        private ExecutionStatisticsImpl.Builder executionStatisticsBuilder;
+        private final AtomicReference<ExecutionStatisticsImpl.Builder> executionStatisticsBuilder = new AtomicReference<>();
 
         /**
          * Create a new builder.
          */
         Builder() {
+            this(false);
+        }
+
+        /**
+         * Create a new builder.
+         *
+         * @param histogram if {@code true}, the execution statistics are backed by
+         *                  {@link HistogramTimeReservoir histogram reservoirs}.
+         */
+        Builder(final boolean histogram) {
+            this.methodFactory = new ResourceMethodStatisticsImpl.Factory(histogram);
             this.responseStatisticsBuilder = new ResponseStatisticsImpl.Builder();
             this.exceptionMapperStatisticsBuilder = new ExceptionMapperStatisticsImpl.Builder();
         }
@@ -115,7 +117,18 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
          * @param resourceModel resource model.
          */
         Builder(final ResourceModel resourceModel) {
-            this();
+            this(resourceModel, false);
+        }
+
+        /**
+         * Create a new builder and initialize it from resource model.
+         *
+         * @param resourceModel resource model.
+         * @param histogram     if {@code true}, the execution statistics are backed by
+         *                      {@link HistogramTimeReservoir histogram reservoirs}.
+         */
+        Builder(final ResourceModel resourceModel, final boolean histogram) {
+            this(histogram);
 
             for (final Resource resource : resourceModel.getRootResources()) {
                 processResource(resource, "");
@@ -143,12 +156,11 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
 
         private ResourceStatisticsImpl.Builder getOrCreateResourceBuilder(final ResourceMethod resourceMethod) {
             final Class<?> clazz = resourceMethod.getInvocable().getHandler().getHandlerClass();
-            ResourceStatisticsImpl.Builder builder = resourceClassStatistics.get(clazz);
-            if (builder == null) {
-                builder = new ResourceStatisticsImpl.Builder(methodFactory);
-                resourceClassStatistics.put(clazz, builder);
+            final ResourceStatisticsImpl.Builder builder = resourceClassStatistics.get(clazz);
+            if (builder != null) {
+                return builder;
             }
-            return builder;
+            return resourceClassStatistics.computeIfAbsent(clazz, c -> new ResourceStatisticsImpl.Builder(methodFactory));
         }
 
         /**
@@ -167,10 +179,12 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
          * @param duration  duration of the execution.
          */
         void addRequestExecution(final long startTime, final long duration) {
-            if (executionStatisticsBuilder == null) {
-                executionStatisticsBuilder = new ExecutionStatisticsImpl.Builder();
+            ExecutionStatisticsImpl.Builder builder = executionStatisticsBuilder.get();
+            if (builder == null) {
+                executionStatisticsBuilder.compareAndSet(null, methodFactory.createExecutionStatisticsBuilder());
+                builder = executionStatisticsBuilder.get();
             }
-            executionStatisticsBuilder.addExecution(startTime, duration);
+            builder.addExecution(startTime, duration);
         }
 
         /**
@@ -190,8 +204,8 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             // Uri resource stats.
             ResourceStatisticsImpl.Builder uriStatsBuilder = uriStatistics.get(uri);
             if (uriStatsBuilder == null) {
-                uriStatsBuilder = new ResourceStatisticsImpl.Builder(resourceMethod.getParent(), methodFactory);
-                uriStatistics.put(uri, uriStatsBuilder);
+                uriStatsBuilder = uriStatistics.computeIfAbsent(uri,
+                        u -> new ResourceStatisticsImpl.Builder(resourceMethod.getParent(), methodFactory));
             }
             uriStatsBuilder.addExecution(resourceMethod, methodTime, methodDuration, requestTime, requestDuration);
 
@@ -224,8 +238,9 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             final Map<Class<?>, ResourceStatistics> classStats = Collections.unmodifiableMap(
                     Views.mapView(resourceClassStatistics, BUILDING_FUNCTION));
 
-            final ExecutionStatistics requestStats = executionStatisticsBuilder == null
-                    ? ExecutionStatisticsImpl.EMPTY : executionStatisticsBuilder.build();
+            final ExecutionStatisticsImpl.Builder requestStatsBuilder = executionStatisticsBuilder.get();
+            final ExecutionStatistics requestStats = requestStatsBuilder == null
+                    ? ExecutionStatisticsImpl.EMPTY : requestStatsBuilder.build();
 
             return new MonitoringStatisticsImpl(
                     uriStats, classStats, requestStats,
@@ -44,6 +44,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -86,6 +87,7 @@ final class MonitoringStatisticsProcessor {
     private final ScheduledExecutorService scheduler;
 
     private final int interval;
+    private final boolean directAggregation;
 
     /**
      * Creates a new instance of processor.
@@ -96,13 +98,77 @@ final class MonitoringStatisticsProcessor {
             final InjectionManager injectionManager, final MonitoringEventListener monitoringEventListener) {
         this.monitoringEventListener = monitoringEventListener;
         final ResourceModel resourceModel = injectionManager.getInstance(ExtendedResourceContext.class).getResourceModel();
-        this.statisticsBuilder = new MonitoringStatisticsImpl.Builder(resourceModel);
+        final Map<String, Object> properties = injectionManager.getInstance(Configuration.class).getProperties();
+        this.statisticsBuilder = new MonitoringStatisticsImpl.Builder(resourceModel, ServerProperties.getValue(properties,
+                ServerProperties.MONITORING_STATISTICS_HISTOGRAM_ENABLED, Boolean.FALSE, Boolean.class));
         this.statisticsCallbackList = injectionManager.getAllInstances(MonitoringStatisticsListener.class);
         this.scheduler =
                 injectionManager.getInstance(ScheduledExecutorService.class, BackgroundSchedulerLiteral.INSTANCE);
-        this.interval = PropertiesHelper.getValue(injectionManager.getInstance(Configuration.class).getProperties(),
+        this.interval = PropertiesHelper.getValue(properties,
                                                   ServerProperties.MONITORING_STATISTICS_REFRESH_INTERVAL, DEFAULT_INTERVAL,
                                                   Collections.<String, String>emptyMap());
+        this.directAggregation = ServerProperties.getValue(properties,
+                ServerProperties.MONITORING_STATISTICS_DIRECT_AGGREGATION_ENABLED, Boolean.FALSE, Boolean.class);
+    }
+
+    /**
+     * Check whether the request threads aggregate the monitoring events directly into the statistics builders
+     * instead of queuing them for the monitoring worker.
+     *
+     * @return {@code true} if the events are aggregated directly, {@code false} otherwise.
+     *
+     * @see ServerProperties#MONITORING_STATISTICS_DIRECT_AGGREGATION_ENABLED
+     */
+    boolean isDirectAggregation() {
+        return directAggregation;
+    }
+
+    /**
+     * Aggregate an execution of a request (and of the matched resource method, if any) into the statistics.
+     * <p/>
+     * May be invoked concurrently from request processing threads.
+     *
+     * @param event request execution statistics.
+     */
+    void recordRequest(final MonitoringEventListener.RequestStats event) {
+        final MonitoringEventListener.TimeStats requestStats = event.getRequestStats();
+        statisticsBuilder.addRequestExecution(requestStats.getStartTime(), requestStats.getDuration());
+
+        final MonitoringEventListener.MethodStats methodStat = event.getMethodStats();
+        if (methodStat != null) {
+            final ResourceMethod method = methodStat.getMethod();
+            statisticsBuilder.addExecution(event.getRequestUri(), method,
+                    methodStat.getStartTime(), methodStat.getDuration(),
+                    requestStats.getStartTime(), requestStats.getDuration());
+        }
+    }
+
+    /**
+     * Aggregate a response status code into the statistics.
+     * <p/>
+     * May be invoked concurrently from request processing threads.
+     *
+     * @param code response status code.
+     */
+    void recordResponseCode(final int code) {
+        statisticsBuilder.addResponseCode(code);
+    }
+
+    /**
+     * Aggregate a finished exception mapping into the statistics.
+     * <p/>
+     * May be invoked concurrently from request processing threads.
+     *
+     * @param event exception mapping finished event.
+     */
+    void recordExceptionMapping(final RequestEvent event) {
+        final ExceptionMapperStatisticsImpl.Builder mapperStats = statisticsBuilder.getExceptionMapperStatisticsBuilder();
+
+        if (event.getExceptionMapper() != null) {
+            mapperStats.addExceptionMapperExecution(event.getExceptionMapper().getClass(), 1);
+        }
+
+        mapperStats.addMapping(event.isResponseSuccessfullyMapped(), 1);
     }
 
     /**
@@ -148,14 +214,7 @@ final class MonitoringStatisticsProcessor {
         while (!eventQueue.isEmpty()) {
             floodingLogger.conditionallyLogFlooding();
 
-            final RequestEvent event = eventQueue.remove();
-            final ExceptionMapperStatisticsImpl.Builder mapperStats = statisticsBuilder.getExceptionMapperStatisticsBuilder();
-
-            if (event.getExceptionMapper() != null) {
-                mapperStats.addExceptionMapperExecution(event.getExceptionMapper().getClass(), 1);
-            }
-
-            mapperStats.addMapping(event.isResponseSuccessfullyMapped(), 1);
+            recordExceptionMapping(eventQueue.remove());
         }
     }
 
@@ -166,18 +225,7 @@ final class MonitoringStatisticsProcessor {
         while (!requestQueuedItems.isEmpty()) {
             floodingLogger.conditionallyLogFlooding();
 
-            final MonitoringEventListener.RequestStats event = requestQueuedItems.remove();
-
-            final MonitoringEventListener.TimeStats requestStats = event.getRequestStats();
-            statisticsBuilder.addRequestExecution(requestStats.getStartTime(), requestStats.getDuration());
-
-            final MonitoringEventListener.MethodStats methodStat = event.getMethodStats();
-            if (methodStat != null) {
-                final ResourceMethod method = methodStat.getMethod();
-                statisticsBuilder.addExecution(event.getRequestUri(), method,
-                        methodStat.getStartTime(), methodStat.getDuration(),
-                        requestStats.getStartTime(), requestStats.getDuration());
-            }
+            recordRequest(requestQueuedItems.remove());
         }
     }
 
@@ -188,8 +236,7 @@ final class MonitoringStatisticsProcessor {
         while (!responseEvents.isEmpty()) {
             floodingLogger.conditionallyLogFlooding();
 
-            final Integer code = responseEvents.remove();
-            statisticsBuilder.addResponseCode(code);
+            recordResponseCode(responseEvents.remove());
         }
 
     }
@@ -64,12 +64,50 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
     static class Factory {
 
         private final ConcurrentMap<String, Builder> stringToMethodsBuilders = new ConcurrentHashMap<>();
+        private final ConcurrentMap<ResourceMethod, Builder> methodsBuilders = new ConcurrentHashMap<>();
+        private final boolean histogram;
+
+        /**
+         * Create a new factory of resource method statistics builders.
+         */
+        Factory() {
+            this(false);
+        }
+
+        /**
+         * Create a new factory of resource method statistics builders.
+         *
+         * @param histogram if {@code true}, the execution statistics are backed by
+         *                  {@link HistogramTimeReservoir histogram reservoirs}.
+         */
+        Factory(final boolean histogram) {
+            this.histogram = histogram;
+        }
+
+        /**
+         * Create a new execution statistics builder configured by this factory.
+         *
+         * @return new execution statistics builder.
+         */
+        ExecutionStatisticsImpl.Builder createExecutionStatisticsBuilder() {
+            return new ExecutionStatisticsImpl.Builder(histogram);
+        }
 
         ResourceMethodStatisticsImpl.Builder getOrCreate(final ResourceMethod resourceMethod) {
+            // avoid computing the method unique id for every execution of the same resource method
+            final Builder builder = methodsBuilders.get(resourceMethod);
+            if (builder != null) {
+                return builder;
+            }
+            return methodsBuilders.computeIfAbsent(resourceMethod, this::getOrCreateByUniqueId);
+        }
+
+        private ResourceMethodStatisticsImpl.Builder getOrCreateByUniqueId(final ResourceMethod resourceMethod) {
             final String methodUniqueId = MonitoringUtils.getMethodUniqueId(resourceMethod);
 
             if (!stringToMethodsBuilders.containsKey(methodUniqueId)) {
-                stringToMethodsBuilders.putIfAbsent(methodUniqueId, new ResourceMethodStatisticsImpl.Builder(resourceMethod));
+                stringToMethodsBuilders.putIfAbsent(methodUniqueId,
+                        new ResourceMethodStatisticsImpl.Builder(resourceMethod, this));
             }
             return stringToMethodsBuilders.get(methodUniqueId);
         }
@@ -83,6 +121,7 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
     static class Builder {
 
         private final ResourceMethod resourceMethod;
+        private final Factory factory;
 
         private final AtomicReference<ExecutionStatisticsImpl.Builder> resourceMethodExecutionStatisticsBuilder = new
                 AtomicReference<>();
@@ -95,9 +134,11 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
          * Create a new builder instance.
          *
          * @param resourceMethod Resource method for which statistics are evaluated.
+         * @param factory        Factory of the execution statistics builders.
          */
-        Builder(final ResourceMethod resourceMethod) {
+        Builder(final ResourceMethod resourceMethod, final Factory factory) {
             this.resourceMethod = resourceMethod;
+            this.factory = factory;
         }
 
         /**
@@ -141,12 +182,12 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
             cached = null;
 
             if (resourceMethodExecutionStatisticsBuilder.get() == null) {
-                resourceMethodExecutionStatisticsBuilder.compareAndSet(null, new ExecutionStatisticsImpl.Builder());
+                resourceMethodExecutionStatisticsBuilder.compareAndSet(null, factory.createExecutionStatisticsBuilder());
             }
             resourceMethodExecutionStatisticsBuilder.get().addExecution(methodStartTime, methodDuration);
 
             if (requestExecutionStatisticsBuilder.get() == null) {
-                requestExecutionStatisticsBuilder.compareAndSet(null, new ExecutionStatisticsImpl.Builder());
+                requestExecutionStatisticsBuilder.compareAndSet(null, factory.createExecutionStatisticsBuilder());
             }
             requestExecutionStatisticsBuilder.get().addExecution(requestStartTime, requestDuration);
         }
@@ -43,6 +43,9 @@ package org.glassfish.jersey.server.internal.monitoring;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.glassfish.jersey.server.monitoring.ResponseStatistics;
 
@@ -57,32 +60,37 @@ final class ResponseStatisticsImpl implements ResponseStatistics {
     private final Integer lastResponseCode;
 
     /**
-     * This builder does not need to be threadsafe since it's called only from the jersey-background-task-scheduler.
+     * Builder of response statistics.
+     * <p/>
+     * Must be thread-safe as the response codes may be added directly from the request processing threads.
      */
     static class Builder {
 
-        private final Map<Integer, Long> responseCodesMap = new HashMap<>();
-        private Integer lastResponseCode = null;
+        private final ConcurrentMap<Integer, LongAdder> responseCodesMap = new ConcurrentHashMap<>();
+        private volatile Integer lastResponseCode = null;
 
-        private ResponseStatisticsImpl cached = null;
+        private volatile ResponseStatisticsImpl cached = null;
 
         void addResponseCode(final int responseCode) {
-            cached = null;
-
             lastResponseCode = responseCode;
-            Long currentValue = responseCodesMap.get(responseCode);
-            if (currentValue == null) {
-                currentValue = 0L;
-            }
-            responseCodesMap.put(responseCode, currentValue + 1);
+            responseCodesMap.computeIfAbsent(responseCode, code -> new LongAdder()).increment();
+
+            cached = null;
         }
 
         ResponseStatisticsImpl build() {
-            if (cached == null) {
-                cached = new ResponseStatisticsImpl(lastResponseCode, new HashMap<>(this.responseCodesMap));
+            ResponseStatisticsImpl cachedReference = cached;
+            if (cachedReference == null) {
+                final Map<Integer, Long> responseCodes = new HashMap<>();
+                for (final Map.Entry<Integer, LongAdder> entry : responseCodesMap.entrySet()) {
+                    responseCodes.put(entry.getKey(), entry.getValue().sum());
+                }
+
+                cachedReference = new ResponseStatisticsImpl(lastResponseCode, responseCodes);
+                cached = cachedReference;
             }
 
-            return cached;
+            return cachedReference;
         }
 
     }
@@ -46,8 +46,8 @@ import java.util.concurrent.TimeUnit;
 import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
 
 /**
- * Immutable {@link TimeWindowStatistics Time window statistics} that uses backing {@link SlidingWindowTimeReservoir} for its
- * {@code Builder} implementation.
+ * Immutable {@link TimeWindowStatistics Time window statistics} that uses backing {@link TimeReservoir} (e.g.
+ * {@link SlidingWindowTimeReservoir} or {@link HistogramTimeReservoir}) for its {@code Builder} implementation.
  *
  * @author Miroslav Fuksa
  * @author Stepan Vavra (stepan.vavra at oracle.com)
@@ -116,7 +116,7 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
 
         private TimeWindowStatisticsImpl getOrCreateEmptyStats(final long interval) {
             if (!EMPTY.containsKey(interval)) {
-                EMPTY.putIfAbsent(interval, new TimeWindowStatisticsImpl(interval, 0, -1, -1, -1, 0));
+                EMPTY.putIfAbsent(interval, new TimeWindowStatisticsImpl(interval, 0, -1, -1, -1, 0, EMPTY_PERCENTILES));
             }
             return EMPTY.get(interval);
         }
@@ -128,8 +128,10 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
 
     private static final ConcurrentHashMap<Long, TimeWindowStatisticsImpl> EMPTY = new ConcurrentHashMap<>(6);
 
+    private static final long[] EMPTY_PERCENTILES = {-1, -1, -1, -1};
+
     static {
-        EMPTY.putIfAbsent(0L, new TimeWindowStatisticsImpl(0, 0, 0, 0, 0, 0));
+        EMPTY.putIfAbsent(0L, new TimeWindowStatisticsImpl(0, 0, 0, 0, 0, 0, new long[] {0, 0, 0, 0}));
     }
 
     private final long interval;
@@ -141,19 +143,30 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
     private final long totalCount;
     private final double requestsPerSecond;
 
+    /**
+     * 50th, 90th, 99th and 99.9th percentile durations.
+     */
+    private final long[] percentiles;
+
     private TimeWindowStatisticsImpl(final long interval, final double requestsPerSecond, final long minimumDuration,
-                                     final long maximumDuration, final long averageDuration, final long totalCount) {
+                                     final long maximumDuration, final long averageDuration, final long totalCount,
+                                     final long[] percentiles) {
         this.interval = interval;
         this.requestsPerSecond = requestsPerSecond;
         this.minimumDuration = minimumDuration;
         this.maximumDuration = maximumDuration;
         this.averageDuration = averageDuration;
         this.totalCount = totalCount;
+        this.percentiles = percentiles;
     }
 
     private TimeWindowStatisticsImpl(final long interval, final UniformTimeSnapshot snapshot) {
         this(interval, snapshot.getRate(TimeUnit.SECONDS), snapshot.getMin(), snapshot.getMax(), (long) snapshot.getMean(),
-                snapshot.size());
+                snapshot.size(), new long[] {
+                        (long) snapshot.getValue(0.5),
+                        (long) snapshot.getValue(0.9),
+                        (long) snapshot.getValue(0.99),
+                        (long) snapshot.getValue(0.999)});
     }
 
     @Override
@@ -181,6 +194,26 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
         return totalCount;
     }
 
+    @Override
+    public long get50thPercentileDuration() {
+        return percentiles[0];
+    }
+
+    @Override
+    public long get90thPercentileDuration() {
+        return percentiles[1];
+    }
+
+    @Override
+    public long get99thPercentileDuration() {
+        return percentiles[2];
+    }
+
+    @Override
+    public long get999thPercentileDuration() {
+        return percentiles[3];
+    }
+
     @Override
     public TimeWindowStatistics snapshot() {
         // TimeWindowStatisticsImpl is immutable; the Builder is mutable
@@ -0,0 +1,131 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A statistical snapshot of a {@link HistogramTimeReservoir}. Quantiles are computed from the histogram bucket counts.
+ */
+class UniformTimeHistogramSnapshot extends AbstractTimeSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long min;
+    private final long max;
+    private final double mean;
+
+    /**
+     * Constructs the snapshot from the histogram data.
+     *
+     * @param counts           The counts of values in the histogram buckets.
+     * @param count            The total count.
+     * @param min              The minimum.
+     * @param max              The maximum.
+     * @param mean             The mean.
+     * @param timeInterval     The time interval of this snapshot.
+     * @param timeIntervalUnit The time interval unit.
+     */
+    UniformTimeHistogramSnapshot(final long[] counts,
+                                 final long count,
+                                 final long min,
+                                 final long max,
+                                 final double mean,
+                                 final long timeInterval,
+                                 final TimeUnit timeIntervalUnit) {
+        super(timeInterval, timeIntervalUnit);
+        this.counts = counts;
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+    }
+
+    @Override
+    public long size() {
+        return count;
+    }
+
+    @Override
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public long getMin() {
+        return min;
+    }
+
+    @Override
+    public double getMean() {
+        return mean;
+    }
+
+    @Override
+    public double getValue(final double quantile) {
+        if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+            throw new IllegalArgumentException(quantile + " is not in [0..1] range");
+        }
+
+        if (count == 0) {
+            return 0.0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        if (rank == 1) {
+            return min;
+        } else if (rank >= count) {
+            return max;
+        }
+
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // the middle of the bucket narrowed by the precisely tracked extremes; the last bucket is not bounded
+                final long lower = Math.max(min, HistogramTimeReservoir.bucketLowerBound(i));
+                final long upper = i == counts.length - 1 ? max : Math.min(max, HistogramTimeReservoir.bucketUpperBound(i));
+                return lower + (upper - lower) / 2.0;
+            }
+        }
+        return max;
+    }
+}
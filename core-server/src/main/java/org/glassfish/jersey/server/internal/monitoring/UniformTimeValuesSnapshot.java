@@ -97,6 +97,7 @@ class UniformTimeValuesSnapshot extends AbstractTimeSnapshot {
      * @param quantile a given quantile, in {@code [0..1]}
      * @return the value in the distribution at {@code quantile}
      */
+    @Override
     public double getValue(double quantile) {
         if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
             throw new IllegalArgumentException(quantile + " is not in [0..1] range");
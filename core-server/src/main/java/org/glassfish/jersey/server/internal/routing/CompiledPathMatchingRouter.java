@@ -0,0 +1,191 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.MatchResult;
+
+import org.glassfish.jersey.message.internal.TracingLogger;
+import org.glassfish.jersey.server.internal.ServerTraceEvent;
+import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
+
+/**
+ * Matches the un-matched right-hand request path to the configured collection of path pattern matching routes
+ * using a trie of literal path segments.
+ * <p>
+ * Each route is stored in the trie node that corresponds to the literal path segments its
+ * {@link CompiledPathPattern#getLiteralSegments() pattern starts with}. A node keeps the (ordered) indexes of all
+ * routes stored in the node itself and in all of its ancestors, so the router only has to walk the request path
+ * segments down the trie and try the candidate routes of the deepest node reached. Routes that are skipped cannot
+ * match the request path, so the first matching candidate is the same route that would be selected by
+ * {@link PathMatchingRouter} and the JAX-RS matching precedence is retained.
+ * </p>
+ * <p>
+ * If the request path matching is traced, the router falls back to the linear {@link PathMatchingRouter} in order to
+ * report every route that has not been matched or has been skipped.
+ * </p>
+ */
+final class CompiledPathMatchingRouter implements Router {
+
+    private final Route[] routes;
+    private final CompiledPathPattern[] patterns;
+    private final Node root;
+    private final PathMatchingRouter tracingRouter;
+
+    /**
+     * Create new compiled path matching router.
+     *
+     * @param routes next-level request routers to be returned in case the router matching
+     *               the built router is successful.
+     */
+    CompiledPathMatchingRouter(final List<Route> routes) {
+        this.routes = routes.toArray(new Route[routes.size()]);
+        this.patterns = new CompiledPathPattern[this.routes.length];
+        this.root = new Node();
+        this.tracingRouter = new PathMatchingRouter(routes);
+
+        for (int i = 0; i < this.routes.length; i++) {
+            patterns[i] = CompiledPathPattern.compile(this.routes[i].routingPattern());
+
+            Node node = root;
+            for (final String segment : patterns[i].getLiteralSegments()) {
+                node = node.child(segment);
+            }
+            node.routes.add(i);
+        }
+        root.compile(new int[0]);
+    }
+
+    @Override
+    public Router.Continuation apply(final RequestProcessingContext context) {
+        final TracingLogger tracingLogger = TracingLogger.getInstance(context.request());
+        if (tracingLogger.isLogEnabled(ServerTraceEvent.MATCH_PATH_FIND)) {
+            return tracingRouter.apply(context);
+        }
+
+        final RoutingContext rc = context.routingContext();
+        // Peek at matching information to obtain path to match
+        final String path = rc.getFinalMatchingGroup();
+
+        for (final int index : root.find(path).candidates) {
+            final MatchResult m = patterns[index].match(path);
+            if (m != null) {
+                // Push match result information and rest of path to match
+                rc.pushMatchResult(m);
+                return Router.Continuation.of(context, routes[index].next());
+            }
+        }
+
+        // No match
+        return Router.Continuation.of(context);
+    }
+
+    /**
+     * Literal path segment trie node.
+     */
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Integer> routes = new ArrayList<>();
+        private int[] candidates;
+
+        private Node child(final String segment) {
+            return children.computeIfAbsent(segment, s -> new Node());
+        }
+
+        /**
+         * Merge the ordered candidate route indexes of the parent node with the indexes of routes stored in this node.
+         */
+        private void compile(final int[] parentCandidates) {
+            candidates = new int[parentCandidates.length + routes.size()];
+
+            int p = 0;
+            int r = 0;
+            for (int i = 0; i < candidates.length; i++) {
+                if (r == routes.size() || (p < parentCandidates.length && parentCandidates[p] < routes.get(r))) {
+                    candidates[i] = parentCandidates[p++];
+                } else {
+                    candidates[i] = routes.get(r++);
+                }
+            }
+
+            for (final Node child : children.values()) {
+                child.compile(candidates);
+            }
+        }
+
+        /**
+         * Walk the path segments down the trie.
+         *
+         * @param path request path.
+         * @return the deepest node reached by the path.
+         */
+        private Node find(final String path) {
+            Node node = this;
+            if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+                return node;
+            }
+
+            int start = 1;
+            while (!node.children.isEmpty()) {
+                int end = path.indexOf('/', start);
+                if (end < 0) {
+                    end = path.length();
+                }
+
+                final Node child = node.children.get(path.substring(start, end));
+                if (child == null) {
+                    break;
+                }
+                node = child;
+
+                if (end == path.length()) {
+                    break;
+                }
+                start = end + 1;
+            }
+            return node;
+        }
+    }
+}
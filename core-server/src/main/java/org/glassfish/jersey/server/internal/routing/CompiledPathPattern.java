@@ -0,0 +1,365 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.MatchResult;
+
+import org.glassfish.jersey.uri.PathPattern;
+import org.glassfish.jersey.uri.UriComponent;
+
+/**
+ * {@link PathPattern Path pattern} compiled into a sequence of literal path fragments and template variables.
+ * <p>
+ * Patterns whose template variables use the default {@code [^/]+} value pattern and are always terminated by a slash
+ * (or by the end of the template) are matched by a simple character scan without touching the pattern's regular
+ * expression. The produced {@link MatchResult match results} expose the same capturing groups (template variables
+ * followed by the right-hand path) as the results returned from {@link PathPattern#match(CharSequence)}.
+ * All other patterns (explicit regular expressions, query or matrix parameter templates, percent-encoded literals, ...)
+ * delegate to the regular expression matching.
+ * </p>
+ * <p>
+ * Regardless of whether the pattern could be compiled, the {@link #getLiteralSegments() literal path segments} every
+ * matching path has to start with are computed so that the pattern can be indexed in a segment trie.
+ * </p>
+ */
+final class CompiledPathPattern {
+
+    private static final String OPEN_RIGHT_HAND_PATH = "(/.*)?";
+    private static final String CLOSED_RIGHT_HAND_PATH = "(/)?";
+
+    private final PathPattern pattern;
+    /**
+     * Literal fragments; {@code literals[i]} precedes the {@code i}-th template variable, the last literal follows
+     * the last template variable. {@code null} if the pattern could not be compiled.
+     */
+    private final String[] literals;
+    private final boolean closed;
+    private final List<String> literalSegments;
+
+    /**
+     * Compile the path pattern.
+     *
+     * @param pattern path pattern to be compiled.
+     * @return compiled path pattern.
+     */
+    static CompiledPathPattern compile(final PathPattern pattern) {
+        return new CompiledPathPattern(pattern);
+    }
+
+    private CompiledPathPattern(final PathPattern pattern) {
+        this.pattern = pattern;
+
+        final String regex = pattern.getRegex();
+        final boolean open = regex.endsWith(OPEN_RIGHT_HAND_PATH);
+        this.closed = !open && regex.endsWith(CLOSED_RIGHT_HAND_PATH);
+
+        final List<String> fragments = new ArrayList<>();
+        final boolean simple = parse(pattern.getTemplate().getTemplate(), fragments) && (open || closed);
+
+        // Trailing slash is removed from the pattern regular expression (see PathPattern).
+        final int last = fragments.size() - 1;
+        if (fragments.size() % 2 == 1 && fragments.get(last).endsWith("/")) {
+            final String literal = fragments.get(last);
+            fragments.set(last, literal.substring(0, literal.length() - 1));
+        }
+
+        this.literalSegments = literalSegments(fragments);
+        this.literals = simple ? compileLiterals(fragments) : null;
+    }
+
+    /**
+     * Split the template into alternating literal fragments (even indexes) and template variable definitions
+     * (odd indexes).
+     *
+     * @return {@code true} if the template contains only default-valued path template variables and literals
+     * that do not require case-insensitive matching of percent-encoded characters.
+     */
+    private static boolean parse(final String template, final List<String> fragments) {
+        boolean simple = true;
+        final StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < template.length()) {
+            final char c = template.charAt(i++);
+            if (c != '{') {
+                literal.append(c);
+                continue;
+            }
+
+            fragments.add(UriComponent.contextualEncode(literal.toString(), UriComponent.Type.PATH));
+            literal.setLength(0);
+
+            final int start = i;
+            int braceCount = 1;
+            while (i < template.length() && braceCount > 0) {
+                final char v = template.charAt(i++);
+                if (v == '{') {
+                    braceCount++;
+                } else if (v == '}') {
+                    braceCount--;
+                }
+            }
+            final String variable = template.substring(start, i - 1).trim();
+            fragments.add(variable);
+            simple &= !variable.isEmpty()
+                    && variable.charAt(0) != '?' && variable.charAt(0) != ';' && variable.indexOf(':') < 0;
+        }
+        fragments.add(UriComponent.contextualEncode(literal.toString(), UriComponent.Type.PATH));
+
+        for (int j = 0; j < fragments.size(); j += 2) {
+            simple &= fragments.get(j).indexOf('%') < 0;
+        }
+        return simple;
+    }
+
+    private static String[] compileLiterals(final List<String> fragments) {
+        final String[] literals = new String[fragments.size() / 2 + 1];
+        for (int i = 0; i < literals.length; i++) {
+            literals[i] = fragments.get(2 * i);
+        }
+
+        // Greedy [^/]+ matching is deterministic only if each variable is terminated by a slash or the right-hand path.
+        for (int i = 1; i < literals.length; i++) {
+            final boolean lastLiteral = i == literals.length - 1;
+            if (lastLiteral ? !literals[i].isEmpty() && literals[i].charAt(0) != '/'
+                    : literals[i].isEmpty() || literals[i].charAt(0) != '/') {
+                return null;
+            }
+        }
+        return literals;
+    }
+
+    private static List<String> literalSegments(final List<String> fragments) {
+        String prefix = fragments.get(0);
+        boolean terminated = fragments.size() == 1;
+
+        final int escape = prefix.indexOf('%');
+        if (escape >= 0) {
+            prefix = prefix.substring(0, escape);
+            terminated = false;
+        }
+        if (prefix.isEmpty() || prefix.charAt(0) != '/') {
+            return Collections.emptyList();
+        }
+
+        final List<String> segments = new ArrayList<>();
+        int start = 1;
+        int end;
+        while ((end = prefix.indexOf('/', start)) >= 0) {
+            segments.add(prefix.substring(start, end));
+            start = end + 1;
+        }
+        if (terminated) {
+            segments.add(prefix.substring(start));
+        }
+        return segments;
+    }
+
+    /**
+     * Get the underlying path pattern.
+     *
+     * @return underlying path pattern.
+     */
+    PathPattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Check whether the pattern is matched without the use of regular expressions.
+     *
+     * @return {@code true} if the pattern has been compiled, {@code false} if it delegates to the regular expression.
+     */
+    boolean isCompiled() {
+        return literals != null;
+    }
+
+    /**
+     * Get the complete literal path segments (without slashes) that any path matched by this pattern starts with.
+     * Each of the segments is, in the matched path, terminated by a slash or by the end of the path.
+     *
+     * @return leading literal path segments, possibly empty.
+     */
+    List<String> getLiteralSegments() {
+        return literalSegments;
+    }
+
+    /**
+     * Match the path against the pattern.
+     *
+     * @param path path to be matched.
+     * @return match result equivalent to the one produced by {@link PathPattern#match(CharSequence)} or {@code null}
+     * if the path does not match.
+     */
+    MatchResult match(final String path) {
+        if (literals == null || path == null) {
+            return pattern.match(path);
+        }
+
+        final int length = path.length();
+        final int variables = literals.length - 1;
+        final int[] bounds = new int[2 * (variables + 1)];
+
+        int position = 0;
+        for (int i = 0; i < variables; i++) {
+            if (!path.startsWith(literals[i], position)) {
+                return null;
+            }
+            position += literals[i].length();
+
+            int end = position;
+            while (end < length && path.charAt(end) != '/') {
+                end++;
+            }
+            if (end == position) {
+                return null;
+            }
+            bounds[2 * i] = position;
+            bounds[2 * i + 1] = end;
+            position = end;
+        }
+        if (!path.startsWith(literals[variables], position)) {
+            return null;
+        }
+        position += literals[variables].length();
+
+        // right-hand path
+        if (position == length) {
+            if (length == 0) {
+                return SegmentMatchResult.EMPTY;
+            }
+            bounds[2 * variables] = -1;
+            bounds[2 * variables + 1] = -1;
+        } else if (path.charAt(position) != '/') {
+            return null;
+        } else if (closed ? position != length - 1 : containsLineTerminator(path, position + 1)) {
+            return null;
+        } else {
+            bounds[2 * variables] = position;
+            bounds[2 * variables + 1] = length;
+        }
+        return new SegmentMatchResult(path, bounds);
+    }
+
+    /**
+     * Line terminators are not matched by the {@code .} in the open right-hand path regular expression.
+     */
+    private static boolean containsLineTerminator(final String path, final int from) {
+        for (int i = from; i < path.length(); i++) {
+            final char c = path.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return pattern.toString();
+    }
+
+    /**
+     * Match result with capturing group bounds computed by the compiled pattern.
+     */
+    private static final class SegmentMatchResult implements MatchResult {
+
+        private static final SegmentMatchResult EMPTY = new SegmentMatchResult("", new int[0]);
+
+        private final String path;
+        private final int[] bounds;
+
+        private SegmentMatchResult(final String path, final int[] bounds) {
+            this.path = path;
+            this.bounds = bounds;
+        }
+
+        @Override
+        public int start() {
+            return 0;
+        }
+
+        @Override
+        public int start(final int group) {
+            checkGroup(group);
+            return group == 0 ? 0 : bounds[2 * (group - 1)];
+        }
+
+        @Override
+        public int end() {
+            return path.length();
+        }
+
+        @Override
+        public int end(final int group) {
+            checkGroup(group);
+            return group == 0 ? path.length() : bounds[2 * (group - 1) + 1];
+        }
+
+        @Override
+        public String group() {
+            return path;
+        }
+
+        @Override
+        public String group(final int group) {
+            checkGroup(group);
+            if (group == 0) {
+                return path;
+            }
+            final int start = bounds[2 * (group - 1)];
+            return start < 0 ? null : path.substring(start, bounds[2 * (group - 1) + 1]);
+        }
+
+        @Override
+        public int groupCount() {
+            return bounds.length / 2;
+        }
+
+        private void checkGroup(final int group) {
+            if (group < 0 || group > groupCount()) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+    }
+}
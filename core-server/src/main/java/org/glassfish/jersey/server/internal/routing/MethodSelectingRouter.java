@@ -40,6 +40,7 @@
 
 package org.glassfish.jersey.server.internal.routing;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Collections;
@@ -53,6 +54,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -65,6 +67,8 @@ import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
 
 import org.glassfish.jersey.internal.guava.Primitives;
 import org.glassfish.jersey.message.MessageBodyWorkers;
@@ -72,6 +76,7 @@ import org.glassfish.jersey.message.ReaderModel;
 import org.glassfish.jersey.message.WriterModel;
 import org.glassfish.jersey.message.internal.AcceptableMediaType;
 import org.glassfish.jersey.message.internal.MediaTypes;
+import org.glassfish.jersey.message.internal.PinnedEntityProvider;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
@@ -134,6 +139,7 @@ final class MethodSelectingRouter implements Router {
             };
 
     private final MessageBodyWorkers workers;
+    private final boolean pinEntityProviders;
 
     private final Map<String, List<ConsumesProducesAcceptor>> consumesProducesAcceptors;
     private final Router router;
@@ -148,7 +154,23 @@ final class MethodSelectingRouter implements Router {
      * @param methodRoutings [method model, method methodAcceptorPair] pairs.
      */
     MethodSelectingRouter(MessageBodyWorkers workers, List<MethodRouting> methodRoutings) {
+        this(workers, methodRoutings, false);
+    }
+
+    /**
+     * Create a new {@code MethodSelectingRouter} for all the methods on the same path.
+     *
+     * The router selects the method that best matches the request based on
+     * produce/consume information from the resource method models.
+     *
+     * @param workers            message body workers.
+     * @param methodRoutings     [method model, method methodAcceptorPair] pairs.
+     * @param pinEntityProviders if {@code true}, entity providers are selected for every method and its consumed and
+     *                           produced media types in advance (see {@link PinnedEntityProvider}).
+     */
+    MethodSelectingRouter(MessageBodyWorkers workers, List<MethodRouting> methodRoutings, boolean pinEntityProviders) {
         this.workers = workers;
+        this.pinEntityProviders = pinEntityProviders;
 
         this.consumesProducesAcceptors = new HashMap<>();
 
@@ -217,6 +239,9 @@ final class MethodSelectingRouter implements Router {
         final CombinedMediaType.EffectiveMediaType produces;
         final MethodRouting methodRouting;
 
+        PinnedEntityProvider<MessageBodyReader> pinnedReader;
+        PinnedEntityProvider<MessageBodyWriter> pinnedWriter;
+
         private ConsumesProducesAcceptor(
                 CombinedMediaType.EffectiveMediaType consumes,
                 CombinedMediaType.EffectiveMediaType produces,
@@ -291,16 +316,19 @@ final class MethodSelectingRouter implements Router {
 
         final boolean producesFromProviders;
 
+        final ConsumesProducesAcceptor acceptor;
+
         RequestSpecificConsumesProducesAcceptor(final CombinedMediaType consumes,
                                                 final CombinedMediaType produces,
                                                 final boolean producesFromProviders,
-                                                final MethodRouting methodRouting) {
+                                                final ConsumesProducesAcceptor acceptor) {
 
-            this.methodRouting = methodRouting;
+            this.methodRouting = acceptor.methodRouting;
             this.consumes = consumes;
             this.produces = produces;
 
             this.producesFromProviders = producesFromProviders;
+            this.acceptor = acceptor;
         }
 
         @Override
@@ -393,9 +421,73 @@ final class MethodSelectingRouter implements Router {
                         methodRouting));
             }
         }
+        if (pinEntityProviders) {
+            for (final ConsumesProducesAcceptor acceptor : acceptorSet) {
+                acceptor.pinnedReader = pinReader(resourceMethod, acceptor.consumes.getMediaType());
+                acceptor.pinnedWriter = pinWriter(resourceMethod, acceptor.produces.getMediaType());
+            }
+        }
         acceptors.addAll(acceptorSet);
     }
 
+    /**
+     * Select the message body reader for the entity parameter of the resource method in advance.
+     *
+     * @return pinned reader or {@code null} if the method has no entity parameter, the consumed media type is not concrete
+     * or there is no reader for the entity.
+     */
+    private PinnedEntityProvider<MessageBodyReader> pinReader(final ResourceMethod resourceMethod, final MediaType mediaType) {
+        final Parameter entityParam = getEntityParam(resourceMethod.getInvocable());
+        if (entityParam == null || MediaTypes.isWildcard(mediaType)) {
+            return null;
+        }
+
+        final MediaType consumes = MediaTypes.stripQualityParams(mediaType);
+
+        final Annotation[] annotations = entityParam.getAnnotations();
+        final MessageBodyReader reader = selectProvider(() -> workers.getMessageBodyReader(
+                entityParam.getRawType(), entityParam.getType(), annotations, consumes));
+        return reader == null ? null
+                : new PinnedEntityProvider<>(reader, entityParam.getRawType(), entityParam.getType(), annotations, consumes);
+    }
+
+    /**
+     * Select the message body writer for the declared response entity type of the resource method in advance.
+     *
+     * @return pinned writer or {@code null} if the method does not declare the response entity type, the produced media type
+     * is not concrete or there is no writer for the entity.
+     */
+    private PinnedEntityProvider<MessageBodyWriter> pinWriter(final ResourceMethod resourceMethod, final MediaType mediaType) {
+        final Invocable invocable = resourceMethod.getInvocable();
+        final Class<?> responseType = Primitives.wrap(invocable.getRawResponseType());
+        if (Response.class.isAssignableFrom(responseType)
+                || Void.class.isAssignableFrom(responseType)
+                || MediaTypes.isWildcard(mediaType)) {
+            return null;
+        }
+
+        // The effective response media type does not contain the quality parameters.
+        final MediaType produces = MediaTypes.stripQualityParams(mediaType);
+
+        // Response entity type and annotations as set by the resource method invoker.
+        final Type genericType = invocable.getResponseType();
+        final Annotation[] annotations = invocable.getHandlingMethod().getDeclaredAnnotations();
+        final MessageBodyWriter writer = selectProvider(() -> workers.getMessageBodyWriter(
+                responseType, genericType, annotations, produces));
+        return writer == null ? null
+                : new PinnedEntityProvider<>(writer, responseType, genericType, annotations, produces);
+    }
+
+    private static <T> T selectProvider(final Supplier<T> lookup) {
+        try {
+            return lookup.get();
+        } catch (final RuntimeException e) {
+            // The provider cannot be selected outside of a request - leave the selection to the request processing.
+            LOGGER.log(Level.FINE, e.getMessage(), e);
+            return null;
+        }
+    }
+
     private boolean fillMediaTypes(final Set<MediaType> effectiveTypes,
                                    final ResourceMethod resourceMethod,
                                    final List<MediaType> methodTypes,
@@ -494,6 +586,10 @@ final class MethodSelectingRouter implements Router {
                         methodSelector.sameFitnessAcceptors);
             }
 
+            if (selected.acceptor.pinnedReader != null) {
+                request.setProperty(PinnedEntityProvider.READER_PROPERTY, selected.acceptor.pinnedReader);
+            }
+
             context.push(new Function<ContainerResponse, ContainerResponse>() {
                 @Override
                 public ContainerResponse apply(final ContainerResponse responseContext) {
@@ -520,6 +616,10 @@ final class MethodSelectingRouter implements Router {
                         responseContext.setMediaType(effectiveResponseType);
                     }
 
+                    if (selected.acceptor.pinnedWriter != null && responseContext.hasEntity()) {
+                        request.setProperty(PinnedEntityProvider.WRITER_PROPERTY, selected.acceptor.pinnedWriter);
+                    }
+
                     return responseContext;
                 }
             });
@@ -712,7 +812,7 @@ final class MethodSelectingRouter implements Router {
                             consumes,
                             produces,
                             satisfiable.produces.isDerived(),
-                            satisfiable.methodRouting);
+                            satisfiable);
 
                     if (singleInvokableMethod) {
                         // Only one possible method and it's compatible.
@@ -116,4 +116,15 @@ final class PathMatchingRouterBuilder implements PathToRouterBuilder {
         return new PathMatchingRouter(acceptedRoutes());
     }
 
+    /**
+     * Build a {@link org.glassfish.jersey.server.internal.routing.Router hierarchical request path matching processor}
+     * that selects the candidate routes using a trie of literal path segments and matches the simple path templates
+     * without evaluating regular expressions.
+     *
+     * @return compiled hierarchical request path matching processor (i.e. router).
+     */
+    public CompiledPathMatchingRouter buildCompiled() {
+        return new CompiledPathMatchingRouter(acceptedRoutes());
+    }
+
 }
@@ -42,6 +42,7 @@ package org.glassfish.jersey.server.internal.routing;
 
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.model.MethodHandler;
+import org.glassfish.jersey.server.model.internal.ResourceInstantiationPlan;
 
 /**
  * Terminal router that pushes the matched method's handler instance to the stack
@@ -52,17 +53,23 @@ import org.glassfish.jersey.server.model.MethodHandler;
 final class PushMethodHandlerRouter implements Router {
 
     private final MethodHandler methodHandler;
+    private final ResourceInstantiationPlan instantiationPlan;
     private final Router next;
 
     /**
      * Create a new {@code PushMethodHandlerRouter} instance.
      *
-     * @param methodHandler method handler model providing the method handler
-     *                      instance.
-     * @param next          next router to be invoked after the this one.
+     * @param methodHandler     method handler model providing the method handler
+     *                          instance.
+     * @param instantiationPlan compiled instantiation plan of the handler class used
+     *                          to create the handler instance, may be {@code null}.
+     * @param next              next router to be invoked after the this one.
      */
-    PushMethodHandlerRouter(final MethodHandler methodHandler, final Router next) {
+    PushMethodHandlerRouter(final MethodHandler methodHandler,
+                            final ResourceInstantiationPlan instantiationPlan,
+                            final Router next) {
         this.methodHandler = methodHandler;
+        this.instantiationPlan = instantiationPlan;
         this.next = next;
     }
 
@@ -72,7 +79,9 @@ final class PushMethodHandlerRouter implements Router {
 
         final Object storedResource = routingContext.peekMatchedResource();
         if (storedResource == null || !storedResource.getClass().equals(methodHandler.getHandlerClass())) {
-            Object handlerInstance = methodHandler.getInstance(context.injectionManager());
+            Object handlerInstance = instantiationPlan != null
+                    ? instantiationPlan.getInstance(context.injectionManager(), context.request())
+                    : methodHandler.getInstance(context.injectionManager());
             routingContext.pushMatchedResource(handlerInstance);
         }
         return Continuation.of(context, next);
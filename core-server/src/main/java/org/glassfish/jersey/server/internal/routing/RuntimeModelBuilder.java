@@ -44,6 +44,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.ws.rs.core.Configuration;
@@ -51,15 +53,18 @@ import javax.ws.rs.core.Configuration;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.JerseyResourceContext;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
 import org.glassfish.jersey.server.internal.process.Endpoint;
+import org.glassfish.jersey.server.model.MethodHandler;
 import org.glassfish.jersey.server.model.ModelProcessor;
 import org.glassfish.jersey.server.model.Resource;
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.model.ResourceMethodInvoker;
 import org.glassfish.jersey.server.model.RuntimeResource;
 import org.glassfish.jersey.server.model.RuntimeResourceModel;
+import org.glassfish.jersey.server.model.internal.ResourceInstantiationPlan;
 import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
 import org.glassfish.jersey.uri.PathPattern;
 import org.glassfish.jersey.uri.UriTemplate;
@@ -76,6 +81,11 @@ final class RuntimeModelBuilder {
     private final ResourceMethodInvoker.Builder resourceMethodInvokerBuilder;
     private final MessageBodyWorkers messageBodyWorkers;
     private final ProcessingProviders processingProviders;
+    private final boolean compiledRouting;
+    private final boolean pinnedEntityProviders;
+    private final Collection<ValueParamProvider> valueSuppliers;
+    // Compiled resource instantiation plans (empty if the resource class cannot be instantiated by a plan).
+    private final ConcurrentHashMap<Class<?>, Optional<ResourceInstantiationPlan>> instantiationPlans;
 
     // SubResourceLocator Model Builder.
     private final Value<RuntimeLocatorModelBuilder> locatorBuilder;
@@ -104,6 +114,19 @@ final class RuntimeModelBuilder {
         this.resourceMethodInvokerBuilder = resourceMethodInvokerBuilder;
         this.messageBodyWorkers = messageBodyWorkers;
         this.processingProviders = processingProviders;
+        this.compiledRouting = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.COMPILED_ROUTING_ENABLED,
+                Boolean.FALSE,
+                Boolean.class);
+        this.pinnedEntityProviders = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.PINNED_ENTITY_PROVIDERS_ENABLED,
+                Boolean.FALSE,
+                Boolean.class);
+        this.valueSuppliers = valueSuppliers;
+        this.instantiationPlans = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.RESOURCE_INSTANTIATION_COMPILED_ENABLED,
+                Boolean.FALSE,
+                Boolean.class) ? new ConcurrentHashMap<>() : null;
         this.locatorBuilder = Values.lazy((Value<RuntimeLocatorModelBuilder>)
                 () -> new RuntimeLocatorModelBuilder(config, messageBodyWorkers, valueSuppliers, resourceContext,
                         RuntimeModelBuilder.this, modelProcessors, createServiceFunction));
@@ -121,7 +144,16 @@ final class RuntimeModelBuilder {
                 break;
         }
 
-        return new PushMethodHandlerRouter(resourceMethod.getInvocable().getHandler(), methodAcceptor);
+        final MethodHandler handler = resourceMethod.getInvocable().getHandler();
+        return new PushMethodHandlerRouter(handler, getInstantiationPlan(handler), methodAcceptor);
+    }
+
+    private ResourceInstantiationPlan getInstantiationPlan(final MethodHandler handler) {
+        if (instantiationPlans == null || !handler.isClassBased()) {
+            return null;
+        }
+        return instantiationPlans.computeIfAbsent(handler.getHandlerClass(),
+                clazz -> Optional.ofNullable(ResourceInstantiationPlan.compile(clazz, valueSuppliers))).orElse(null);
     }
 
 
@@ -136,7 +168,7 @@ final class RuntimeModelBuilder {
     private Router createRootRouter(final PathMatchingRouterBuilder lastRoutedBuilder, final boolean subResourceMode) {
         final Router routingRoot;
         if (lastRoutedBuilder != null) {
-            routingRoot = lastRoutedBuilder.build();
+            routingRoot = buildRouter(lastRoutedBuilder);
         } else {
             /*
              * Create an empty routing root that accepts any request, does not do
@@ -173,7 +205,8 @@ final class RuntimeModelBuilder {
             // resource methods
             if (!resource.getResourceMethods().isEmpty()) {
                 final List<MethodRouting> methodRoutings = createResourceMethodRouters(resource, subResourceMode);
-                final Router methodSelectingRouter = new MethodSelectingRouter(messageBodyWorkers, methodRoutings);
+                final Router methodSelectingRouter = new MethodSelectingRouter(messageBodyWorkers, methodRoutings,
+                        pinnedEntityProviders);
                 if (subResourceMode) {
                     currentRouterBuilder = startNextRoute(currentRouterBuilder, PathPattern.END_OF_PATH_PATTERN)
                             .to(resourcePushingRouter)
@@ -202,7 +235,8 @@ final class RuntimeModelBuilder {
                         srRoutedBuilder = startNextRoute(srRoutedBuilder, childClosedPattern)
                                 .to(uriPushingRouter)
                                 .to(childResourcePushingRouter)
-                                .to(new MethodSelectingRouter(messageBodyWorkers, childMethodRoutings));
+                                .to(new MethodSelectingRouter(messageBodyWorkers, childMethodRoutings,
+                                        pinnedEntityProviders));
                     }
 
                     // sub resource locator
@@ -234,7 +268,7 @@ final class RuntimeModelBuilder {
             }
 
             if (srRoutedBuilder != null) {
-                final Router methodRouter = srRoutedBuilder.build();
+                final Router methodRouter = buildRouter(srRoutedBuilder);
 
                 if (subResourceMode) {
                     currentRouterBuilder = startNextRoute(currentRouterBuilder, PathPattern.OPEN_ROOT_PATH_PATTERN)
@@ -314,6 +348,10 @@ final class RuntimeModelBuilder {
         return methodRoutings.isEmpty() ? Collections.emptyList() : methodRoutings;
     }
 
+    private Router buildRouter(final PathMatchingRouterBuilder routerBuilder) {
+        return compiledRouting ? routerBuilder.buildCompiled() : routerBuilder.build();
+    }
+
     private PathToRouterBuilder startNextRoute(final PathMatchingRouterBuilder currentRouterBuilder, PathPattern routingPattern) {
         return currentRouterBuilder == null
                 ? PathMatchingRouterBuilder.newRoute(routingPattern) : currentRouterBuilder.route(routingPattern);
@@ -40,20 +40,27 @@
 
 package org.glassfish.jersey.server.internal.scanning;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.ws.rs.Path;
 import javax.ws.rs.ext.Provider;
 
 import org.glassfish.jersey.internal.OsgiRegistry;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
+import org.glassfish.jersey.server.ResourceFinder;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 
 import jersey.repackaged.org.objectweb.asm.AnnotationVisitor;
@@ -80,14 +87,19 @@ import jersey.repackaged.org.objectweb.asm.Opcodes;
  */
 public final class AnnotationAcceptingListener implements ResourceProcessor {
 
+    private static final Logger LOGGER = Logger.getLogger(AnnotationAcceptingListener.class.getName());
+
+    /**
+     * Number of class files read from a resource finder before they are parsed in parallel.
+     */
+    private static final int PARALLEL_BATCH_SIZE = 512;
+
     private final ClassLoader classloader;
 
     private final Set<Class<?>> classes;
 
     private final Set<String> annotations;
 
-    private final AnnotatedClassVisitor classVisitor;
-
     /**
      * Create a scanning listener to check for Java classes in Java
      * class files annotated with {@link javax.ws.rs.Path} or {@link javax.ws.rs.ext.Provider}.
@@ -140,7 +152,6 @@ public final class AnnotationAcceptingListener implements ResourceProcessor {
         this.classloader = classloader;
         this.classes = new LinkedHashSet<Class<?>>();
         this.annotations = getAnnotationSet(annotations);
-        this.classVisitor = new AnnotatedClassVisitor();
     }
 
     /**
@@ -167,7 +178,130 @@ public final class AnnotationAcceptingListener implements ResourceProcessor {
     }
 
     public void process(final String name, final InputStream in) throws IOException {
-        new ClassReader(in).accept(classVisitor, 0);
+        final String className = getAnnotatedClassName(new ClassReader(in));
+        if (className != null) {
+            classes.add(getClassForName(className));
+        }
+    }
+
+    /**
+     * Process all the {@link #accept(String) accepted} resources found by the resource finder and add the annotated
+     * classes to the {@link #getAnnotatedClasses() set of annotated classes}.
+     * <p>
+     * If {@code parallel} is {@code true}, the class files are read from the resource finder sequentially but they are
+     * parsed in parallel. The annotated classes are loaded in the order in which the resource finder found them
+     * regardless of the parallel parsing.
+     * </p>
+     *
+     * @param finder   resource finder to be processed.
+     * @param parallel whether to parse the class files in parallel.
+     * @return names of the annotated classes found by the resource finder.
+     */
+    public List<String> process(final ResourceFinder finder, final boolean parallel) {
+        final List<String> classNames = new ArrayList<>();
+        final List<byte[]> batch = new ArrayList<>();
+
+        while (finder.hasNext()) {
+            final String next = finder.next();
+            if (!accept(next)) {
+                continue;
+            }
+
+            final InputStream in = finder.open();
+            try {
+                if (parallel) {
+                    batch.add(readClassFile(in));
+                } else {
+                    addClassName(classNames, getAnnotatedClassName(new ClassReader(in)));
+                }
+            } catch (final IOException e) {
+                LOGGER.log(Level.WARNING, LocalizationMessages.RESOURCE_CONFIG_UNABLE_TO_PROCESS(next));
+            } finally {
+                try {
+                    in.close();
+                } catch (final IOException ex) {
+                    LOGGER.log(Level.FINER, "Error closing resource stream.", ex);
+                }
+            }
+
+            if (batch.size() == PARALLEL_BATCH_SIZE) {
+                parse(batch, classNames);
+            }
+        }
+        parse(batch, classNames);
+
+        addAnnotatedClasses(classNames);
+        return classNames;
+    }
+
+    /**
+     * Load the annotated classes of given names (e.g. obtained from a scanning index) and add them to the
+     * {@link #getAnnotatedClasses() set of annotated classes}.
+     *
+     * @param classNames names of the annotated classes.
+     */
+    public void addAnnotatedClasses(final Collection<String> classNames) {
+        for (final String className : classNames) {
+            classes.add(getClassForName(className));
+        }
+    }
+
+    private void parse(final List<byte[]> batch, final List<String> classNames) {
+        batch.parallelStream()
+                .map(classFile -> getAnnotatedClassName(new ClassReader(classFile)))
+                .forEachOrdered(className -> addClassName(classNames, className));
+        batch.clear();
+    }
+
+    private static void addClassName(final List<String> classNames, final String className) {
+        if (className != null) {
+            classNames.add(className);
+        }
+    }
+
+    private static byte[] readClassFile(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        final byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Parse the class file and check whether the class is correctly scoped and annotated.
+     *
+     * @param classReader class file reader.
+     * @return binary name of the class if the class is scoped and annotated, {@code null} otherwise.
+     */
+    private String getAnnotatedClassName(final ClassReader classReader) {
+        final AnnotatedClassVisitor classVisitor = new AnnotatedClassVisitor();
+        classReader.accept(classVisitor, 0);
+        return classVisitor.isScoped && classVisitor.isAnnotated ? classVisitor.className.replace('/', '.') : null;
+    }
+
+    private Class getClassForName(final String className) {
+        try {
+            final OsgiRegistry osgiRegistry = ReflectionHelper.getOsgiRegistryInstance();
+
+            if (osgiRegistry != null) {
+                return osgiRegistry.classForNameWithException(className);
+            } else {
+                return AccessController.doPrivileged(ReflectionHelper.classForNameWithExceptionPEA(className, classloader));
+            }
+        } catch (final ClassNotFoundException ex) {
+            throw new RuntimeException(LocalizationMessages.ERROR_SCANNING_CLASS_NOT_FOUND(className), ex);
+        } catch (final PrivilegedActionException pae) {
+            final Throwable cause = pae.getCause();
+            if (cause instanceof ClassNotFoundException) {
+                throw new RuntimeException(LocalizationMessages.ERROR_SCANNING_CLASS_NOT_FOUND(className), cause);
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        }
     }
 
     //
@@ -218,11 +352,7 @@ public final class AnnotationAcceptingListener implements ResourceProcessor {
         }
 
         public void visitEnd() {
-            if (isScoped && isAnnotated) {
-                // Correctly scoped and annotated
-                // add to the set of matching classes.
-                classes.add(getClassForName(className.replaceAll("/", ".")));
-            }
+            // Do nothing
         }
 
         public void visitOuterClass(final String string, final String string0,
@@ -252,28 +382,5 @@ public final class AnnotationAcceptingListener implements ResourceProcessor {
             return null;
         }
 
-        private Class getClassForName(final String className) {
-            try {
-                final OsgiRegistry osgiRegistry = ReflectionHelper.getOsgiRegistryInstance();
-
-                if (osgiRegistry != null) {
-                    return osgiRegistry.classForNameWithException(className);
-                } else {
-                    return AccessController.doPrivileged(ReflectionHelper.classForNameWithExceptionPEA(className, classloader));
-                }
-            } catch (final ClassNotFoundException ex) {
-                throw new RuntimeException(LocalizationMessages.ERROR_SCANNING_CLASS_NOT_FOUND(className), ex);
-            } catch (final PrivilegedActionException pae) {
-                final Throwable cause = pae.getCause();
-                if (cause instanceof ClassNotFoundException) {
-                    throw new RuntimeException(LocalizationMessages.ERROR_SCANNING_CLASS_NOT_FOUND(className), cause);
-                } else if (cause instanceof RuntimeException) {
-                    throw (RuntimeException) cause;
-                } else {
-                    throw new RuntimeException(cause);
-                }
-            }
-        }
-
     }
 }
@@ -47,8 +47,11 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.glassfish.jersey.internal.OsgiRegistry;
@@ -94,6 +97,7 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
     private final Map<String, UriSchemeResourceFinderFactory> finderFactories;
 
     private CompositeResourceFinder compositeResourceFinder;
+    private List<URI> resourceUris;
 
     /**
      * Scan a set of packages using a context {@link ClassLoader}.
@@ -187,8 +191,36 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
         init();
     }
 
+    /**
+     * Get the names of the scanned packages.
+     *
+     * @return scanned package names.
+     */
+    String[] getPackages() {
+        return packages.clone();
+    }
+
+    /**
+     * Check whether nested packages are scanned.
+     *
+     * @return {@code true} if the packages are scanned recursively.
+     */
+    boolean isRecursive() {
+        return recursive;
+    }
+
+    /**
+     * Get the URIs of the scanned package resources (directories or JAR file entries).
+     *
+     * @return URIs of the scanned package resources.
+     */
+    List<URI> getResourceUris() {
+        return Collections.unmodifiableList(resourceUris);
+    }
+
     private void init() {
         compositeResourceFinder = new CompositeResourceFinder();
+        resourceUris = new ArrayList<>();
 
         for (final String p : packages) {
             try {
@@ -196,7 +228,9 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
                         ResourcesProvider.getInstance().getResources(p.replace('.', '/'), classloader);
                 while (urls.hasMoreElements()) {
                     try {
-                        addResourceFinder(toURI(urls.nextElement()));
+                        final URI uri = toURI(urls.nextElement());
+                        addResourceFinder(uri);
+                        resourceUris.add(uri);
                     } catch (final URISyntaxException e) {
                         throw new ResourceFinderException("Error when converting a URL to a URI", e);
                     }
@@ -0,0 +1,281 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.scanning;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.glassfish.jersey.server.ResourceFinder;
+import org.glassfish.jersey.server.internal.LocalizationMessages;
+
+/**
+ * On-disk index of the classes annotated with {@link javax.ws.rs.Path} or {@link javax.ws.rs.ext.Provider} found by
+ * {@link PackageNamesScanner package scanning}.
+ * <p>
+ * The index stores the names of the annotated classes found by a package scanner in a file named after the
+ * {@link #getKey(ResourceFinder) key} of the scanner. The key is a digest of the scanned package names, of the paths of
+ * the packages within the JAR files and of the checksums of the JAR files, computed from the names, sizes and CRC-32
+ * checksums of the JAR file entries. Changing any of the JAR files therefore results in a new key and the packages are
+ * scanned again, while the location of the JAR files does not matter. Packages found in directories (or in nested JAR
+ * files) are not indexed, since their contents cannot be checksummed cheaply.
+ * </p>
+ * <p>
+ * The index files can be created at build time (e.g. by starting the application once) and shipped together with the
+ * application. Obsolete index files are never removed from the index directory.
+ * </p>
+ */
+public final class ScanningIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(ScanningIndex.class.getName());
+
+    /**
+     * Version of the index format, part of the index keys.
+     */
+    private static final String FORMAT_VERSION = "jersey-scanning-index-2";
+    private static final String INDEX_FILE_SUFFIX = ".idx";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Path directory;
+
+    /**
+     * Create new scanning index stored in the given directory.
+     *
+     * @param directory directory containing the index files. The directory is created when the first index file is
+     *                  written.
+     */
+    public ScanningIndex(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Compute the index key of the resource finder.
+     *
+     * @param finder resource finder.
+     * @return index key or {@code null} if the resources found by the resource finder cannot be indexed.
+     */
+    public String getKey(final ResourceFinder finder) {
+        if (!(finder instanceof PackageNamesScanner)) {
+            return null;
+        }
+        final PackageNamesScanner scanner = (PackageNamesScanner) finder;
+        return getKey(scanner.getPackages(), scanner.isRecursive(), scanner.getResourceUris());
+    }
+
+    /**
+     * Compute the index key of the packages found at the given locations.
+     * <p>
+     * The key does not depend on the location of the JAR files, only on their contents and on the paths of the packages
+     * within them, so that an index created at build time matches the same JAR files installed elsewhere.
+     * </p>
+     *
+     * @param packages  scanned package names.
+     * @param recursive {@code true} if the packages are scanned recursively.
+     * @param uris      locations of the scanned packages.
+     * @return index key or {@code null} if the packages cannot be indexed.
+     */
+    String getKey(final String[] packages, final boolean recursive, final List<URI> uris) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            update(digest, FORMAT_VERSION);
+            update(digest, String.join(",", packages));
+            update(digest, String.valueOf(recursive));
+
+            final Map<File, String> checksums = new HashMap<>();
+            final List<String> locations = new ArrayList<>(uris.size());
+            for (final URI uri : uris) {
+                final File jarFile = getJarFile(uri);
+                if (jarFile == null) {
+                    return null;
+                }
+
+                String checksum = checksums.get(jarFile);
+                if (checksum == null) {
+                    checksum = toHex(checksum(jarFile));
+                    checksums.put(jarFile, checksum);
+                }
+                locations.add(checksum + "!/" + getEntryPath(uri));
+            }
+            // the order of the class path entries depends on the deployment too
+            Collections.sort(locations);
+            for (final String location : locations) {
+                update(digest, location);
+            }
+            return toHex(digest.digest());
+        } catch (final IOException | NoSuchAlgorithmException e) {
+            LOGGER.log(Level.CONFIG, LocalizationMessages.SCANNING_INDEX_UNABLE_TO_COMPUTE_KEY(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the names of the indexed annotated classes.
+     *
+     * @param key index key.
+     * @return names of the annotated classes or {@code null} if the index does not contain the key.
+     */
+    public List<String> get(final String key) {
+        final Path file = directory.resolve(key + INDEX_FILE_SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try {
+            final List<String> classNames = new ArrayList<>();
+            for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isEmpty()) {
+                    classNames.add(line);
+                }
+            }
+            return classNames;
+        } catch (final IOException e) {
+            LOGGER.log(Level.CONFIG, LocalizationMessages.SCANNING_INDEX_UNABLE_TO_READ(file), e);
+            return null;
+        }
+    }
+
+    /**
+     * Store the names of the annotated classes in the index.
+     *
+     * @param key        index key.
+     * @param classNames names of the annotated classes.
+     */
+    public void put(final String key, final Collection<String> classNames) {
+        final Path file = directory.resolve(key + INDEX_FILE_SUFFIX);
+
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, key, null);
+            Files.write(temp, classNames, StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.CONFIG, LocalizationMessages.SCANNING_INDEX_UNABLE_TO_WRITE(file), e);
+            try {
+                if (temp != null) {
+                    Files.deleteIfExists(temp);
+                }
+            } catch (final IOException ex) {
+                LOGGER.log(Level.FINER, "Error deleting temporary index file.", ex);
+            }
+        }
+    }
+
+    /**
+     * Get the local JAR file of the {@code jar:file:...!/...} URI.
+     *
+     * @return JAR file or {@code null} if the URI does not denote an entry of a local JAR file.
+     */
+    private static File getJarFile(final URI uri) {
+        final String ssp = uri.getRawSchemeSpecificPart();
+        final int separator = ssp.lastIndexOf("!/");
+        if (!"jar".equalsIgnoreCase(uri.getScheme()) || separator < 0 || !ssp.startsWith("file:")) {
+            return null;
+        }
+
+        try {
+            final File file = new File(new URI(ssp.substring(0, separator)));
+            return file.isFile() ? file : null;
+        } catch (final URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the path of the JAR file entry of the {@code jar:file:...!/...} URI.
+     */
+    private static String getEntryPath(final URI uri) {
+        final String ssp = uri.getRawSchemeSpecificPart();
+        return ssp.substring(ssp.lastIndexOf("!/") + 2);
+    }
+
+    /**
+     * Compute the checksum of the JAR file from its central directory, i.e. without reading the JAR file entries.
+     */
+    private static byte[] checksum(final File jarFile) throws IOException, NoSuchAlgorithmException {
+        final MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        try (ZipFile zipFile = new ZipFile(jarFile)) {
+            final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                final ZipEntry entry = entries.nextElement();
+                update(digest, entry.getName());
+                update(digest, entry.getSize() + ":" + entry.getCrc());
+            }
+        }
+        return digest.digest();
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(2 * bytes.length);
+        for (final byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
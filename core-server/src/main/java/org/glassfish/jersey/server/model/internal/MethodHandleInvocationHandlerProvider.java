@@ -0,0 +1,222 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider;
+
+/**
+ * {@link ResourceMethodInvocationHandlerProvider Resource method invocation handler provider} that creates
+ * {@link MethodHandle method handle} based invocation handlers.
+ * <p>
+ * The method handle of the resource method is resolved (and the access to the method checked) once, when the handler
+ * is created during the runtime model building. The handle is adapted to the erased {@code (Object, Object...)Object}
+ * signature of the same arity at that time, so per-request invocations only pass the arguments to
+ * {@link MethodHandle#invokeExact(Object...)}: the adapted handle casts the target and the arguments and unboxes the
+ * primitive arguments, no other check is performed. Methods with more than {@value #MAX_ARITY} parameters are invoked
+ * through a handle spreading the argument array.
+ * </p>
+ * <p>
+ * Exceptions thrown by the resource method are reported wrapped in an {@link InvocationTargetException}, the same way the
+ * reflective invocation reports them. A target or arguments not matching the method signature are reported as an
+ * {@link IllegalArgumentException}; as the failed casts of the handle cannot be told apart from a
+ * {@link ClassCastException} or a {@link NullPointerException} thrown by the resource method itself, the target and
+ * the arguments are checked against the method signature only once such an exception has been thrown.
+ * </p>
+ * <p>
+ * The provider returns {@code null} for methods that cannot be looked up (e.g. methods of non-public classes) so
+ * that the default reflective invocation handler is used for them.
+ * </p>
+ *
+ * @see org.glassfish.jersey.server.ServerProperties#METHOD_HANDLE_DISPATCH_ENABLED
+ */
+final class MethodHandleInvocationHandlerProvider implements ResourceMethodInvocationHandlerProvider {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleInvocationHandlerProvider.class.getName());
+
+    /**
+     * Maximal number of parameters of the methods invoked without spreading the argument array.
+     */
+    private static final int MAX_ARITY = 6;
+
+    /**
+     * Type of the spreading invoker handles: {@code (Object target, Object[] args)Object}.
+     */
+    private static final MethodType SPREADER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    @Override
+    public InvocationHandler create(final Invocable resourceMethod) {
+        final Method method = resourceMethod.getDefinitionMethod();
+        if (Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+
+        final int arity = method.getParameterCount();
+        final MethodHandle invoker;
+        try {
+            final MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            invoker = arity <= MAX_ARITY
+                    ? handle.asType(MethodType.genericMethodType(arity + 1))
+                    : handle.asSpreader(Object[].class, arity).asType(SPREADER_TYPE);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Unable to create method handle for " + method + ", using reflection instead.", e);
+            return null;
+        }
+
+        return new MethodHandleInvocationHandler(invoker, method);
+    }
+
+    /**
+     * Invocation handler invoking the pre-resolved method handle regardless of the {@code method} passed to
+     * {@link #invoke(Object, Method, Object[])}.
+     */
+    private static final class MethodHandleInvocationHandler implements InvocationHandler {
+
+        private static final Object[] NO_ARGUMENTS = new Object[0];
+        private static final List<Class<?>> WIDENING =
+                Arrays.asList(byte.class, short.class, int.class, long.class, float.class, double.class);
+
+        private final MethodHandle invoker;
+        private final boolean spread;
+        private final Class<?> declaringClass;
+        private final Class<?>[] parameterTypes;
+
+        private MethodHandleInvocationHandler(final MethodHandle invoker, final Method method) {
+            this.invoker = invoker;
+            this.spread = method.getParameterCount() > MAX_ARITY;
+            this.declaringClass = method.getDeclaringClass();
+            this.parameterTypes = method.getParameterTypes();
+        }
+
+        @Override
+        public Object invoke(final Object target, final Method method, final Object[] arguments) throws Throwable {
+            final Object[] args = arguments == null ? NO_ARGUMENTS : arguments;
+            try {
+                if (spread) {
+                    if (args.length != parameterTypes.length) {
+                        throw new IllegalArgumentException(wrongArgumentCount(args.length));
+                    }
+                    return (Object) invoker.invokeExact(target, args);
+                }
+                switch (args.length) {
+                    case 0:
+                        return (Object) invoker.invokeExact(target);
+                    case 1:
+                        return (Object) invoker.invokeExact(target, args[0]);
+                    case 2:
+                        return (Object) invoker.invokeExact(target, args[0], args[1]);
+                    case 3:
+                        return (Object) invoker.invokeExact(target, args[0], args[1], args[2]);
+                    case 4:
+                        return (Object) invoker.invokeExact(target, args[0], args[1], args[2], args[3]);
+                    case 5:
+                        return (Object) invoker.invokeExact(target, args[0], args[1], args[2], args[3], args[4]);
+                    case 6:
+                        return (Object) invoker.invokeExact(target, args[0], args[1], args[2], args[3], args[4], args[5]);
+                    default:
+                        throw new IllegalArgumentException(wrongArgumentCount(args.length));
+                }
+            } catch (final WrongMethodTypeException e) {
+                // the handle has been invoked with a wrong number of arguments
+                throw new IllegalArgumentException(wrongArgumentCount(args.length), e);
+            } catch (final ClassCastException | NullPointerException e) {
+                // thrown either by the casts of the adapted handle or by the resource method itself
+                if (!matches(target, args)) {
+                    throw new IllegalArgumentException("Target or arguments do not match the method signature.", e);
+                }
+                throw new InvocationTargetException(e);
+            } catch (final IllegalArgumentException e) {
+                if (args.length != parameterTypes.length) {
+                    throw e;
+                }
+                throw new InvocationTargetException(e);
+            } catch (final Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        private String wrongArgumentCount(final int count) {
+            return "Wrong number of arguments: " + count + ", expected: " + parameterTypes.length + ".";
+        }
+
+        /**
+         * Check the target and the arguments the way {@link Method#invoke(Object, Object...)} does.
+         */
+        private boolean matches(final Object target, final Object[] args) {
+            if (!declaringClass.isInstance(target) || args.length != parameterTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < args.length; i++) {
+                if (!isAssignable(parameterTypes[i], args[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isAssignable(final Class<?> type, final Object arg) {
+            if (arg == null || !type.isPrimitive()) {
+                return arg == null ? !type.isPrimitive() : type.isInstance(arg);
+            }
+            // unboxing possibly followed by a widening primitive conversion, as done by the adapted handle
+            final Class<?> primitive = MethodType.methodType(arg.getClass()).unwrap().returnType();
+            if (primitive == type) {
+                return true;
+            }
+            // char widens to the same types as short
+            final int source = WIDENING.indexOf(primitive == char.class ? short.class : primitive);
+            return source >= 0 && WIDENING.indexOf(type) > source;
+        }
+    }
+}
@@ -0,0 +1,511 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.Encoded;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Path;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.inject.Qualifier;
+
+import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.internal.inject.InjectionResolver;
+import org.glassfish.jersey.internal.inject.Injections;
+import org.glassfish.jersey.internal.util.ReflectionHelper;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.internal.LocalizationMessages;
+import org.glassfish.jersey.server.internal.process.MappableException;
+import org.glassfish.jersey.server.model.Parameter;
+import org.glassfish.jersey.server.spi.internal.ParamValueFactoryWithSource;
+import org.glassfish.jersey.server.spi.internal.ParameterValueHelper;
+import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
+
+/**
+ * Instantiation plan of a request-scoped resource class compiled when the runtime resource model is built.
+ * <p>
+ * The plan selects the resource class constructor the same way the injection manager does (the constructor with the
+ * largest number of parameters all of which are annotated with a JAX-RS parameter annotation or {@code @Context}),
+ * resolves the {@link ValueParamProvider value providers} of the constructor parameters, of the annotated fields and of
+ * the annotated setter methods and looks up the {@code @PostConstruct} method. The members are resolved into
+ * {@link MethodHandle method handles}, so that a per-request instantiation is a direct construction followed by setting
+ * the injected values, without the reflective analysis of the class performed by the injection manager. The plan does
+ * not depend on the injection manager implementation.
+ * </p>
+ * <p>
+ * Classes with injection points handled only by the injection manager ({@code @Inject} or qualified injection points) are
+ * not compiled. Classes that are bound in the injection manager (e.g. singleton resources or CDI beans) or that use
+ * annotations of custom injection resolvers are detected on the first instantiation and are always instantiated by the
+ * injection manager.
+ * </p>
+ *
+ * @see org.glassfish.jersey.server.ServerProperties#RESOURCE_INSTANTIATION_COMPILED_ENABLED
+ */
+public final class ResourceInstantiationPlan {
+
+    private static final Logger LOGGER = Logger.getLogger(ResourceInstantiationPlan.class.getName());
+
+    /**
+     * Type of the constructor handle: {@code (Object[] args)Object}.
+     */
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+    /**
+     * Type of the field and setter method injector handles: {@code (Object instance, Object value)void}.
+     */
+    private static final MethodType INJECTOR_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    /**
+     * Type of the post-construct method handle: {@code (Object instance)void}.
+     */
+    private static final MethodType POST_CONSTRUCT_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private final Class<?> resourceClass;
+    private final MethodHandle constructor;
+    private final int constructorParameterCount;
+    private final MethodHandle[] injectors;
+    private final MethodHandle postConstruct;
+    /**
+     * Value providers of the constructor parameters followed by the value providers of the injected members.
+     */
+    private final List<ParamValueFactoryWithSource<?>> valueProviders;
+    /**
+     * Annotations of the resource class members that are not resolved by the plan.
+     */
+    private final Set<Class<? extends Annotation>> unresolvedAnnotations;
+
+    /**
+     * {@code null} until the first instantiation, then {@code true} if the plan is used to create the instances.
+     */
+    private volatile Boolean applicable;
+
+    private ResourceInstantiationPlan(final Class<?> resourceClass,
+                                      final MethodHandle constructor,
+                                      final int constructorParameterCount,
+                                      final MethodHandle[] injectors,
+                                      final MethodHandle postConstruct,
+                                      final List<ParamValueFactoryWithSource<?>> valueProviders,
+                                      final Set<Class<? extends Annotation>> unresolvedAnnotations) {
+        this.resourceClass = resourceClass;
+        this.constructor = constructor;
+        this.constructorParameterCount = constructorParameterCount;
+        this.injectors = injectors;
+        this.postConstruct = postConstruct;
+        this.valueProviders = valueProviders;
+        this.unresolvedAnnotations = unresolvedAnnotations;
+    }
+
+    /**
+     * Compile the instantiation plan of the resource class.
+     *
+     * @param resourceClass       resource class to be instantiated.
+     * @param valueParamProviders all registered value parameter providers.
+     * @return instantiation plan or {@code null} if the class has to be instantiated by the injection manager.
+     */
+    public static ResourceInstantiationPlan compile(final Class<?> resourceClass,
+                                                    final Collection<ValueParamProvider> valueParamProviders) {
+        try {
+            return new Compiler(resourceClass, valueParamProviders).compile();
+        } catch (final IllegalAccessException | RuntimeException e) {
+            LOGGER.log(Level.FINE, LocalizationMessages.RESOURCE_INSTANTIATION_NOT_COMPILED(resourceClass.getName()), e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the resource class instantiated by the plan.
+     *
+     * @return resource class.
+     */
+    public Class<?> getResourceClass() {
+        return resourceClass;
+    }
+
+    /**
+     * Get a new instance of the resource class.
+     *
+     * @param injectionManager injection manager used to create the instance if the class is managed by the injection manager.
+     * @param request          request the instance is created for.
+     * @return new resource class instance.
+     */
+    public Object getInstance(final InjectionManager injectionManager, final ContainerRequest request) {
+        final Boolean applicable = this.applicable;
+        if (applicable != null) {
+            return applicable ? instantiate(request) : Injections.getOrCreate(injectionManager, resourceClass);
+        }
+
+        // first instantiation - the instance provided by the injection manager (if any) is used and the class
+        // is instantiated by the injection manager from now on
+        final Object managed;
+        try {
+            managed = injectionManager.getInstance(resourceClass);
+        } catch (final RuntimeException e) {
+            LOGGER.log(Level.FINE, LocalizationMessages.RESOURCE_INSTANTIATION_NOT_COMPILED(resourceClass.getName()), e);
+            this.applicable = false;
+            return Injections.getOrCreate(injectionManager, resourceClass);
+        }
+        if (managed != null) {
+            this.applicable = false;
+            return managed;
+        }
+
+        final boolean resolved = isResolved(injectionManager);
+        this.applicable = resolved;
+        return resolved ? instantiate(request) : Injections.getOrCreate(injectionManager, resourceClass);
+    }
+
+    /**
+     * Check that none of the unresolved member annotations is handled by a custom injection resolver.
+     */
+    private boolean isResolved(final InjectionManager injectionManager) {
+        final List<InjectionResolver> resolvers = injectionManager.getAllInstances(InjectionResolver.class);
+        for (final InjectionResolver<?> resolver : resolvers) {
+            if (unresolvedAnnotations.contains(resolver.getAnnotation())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object instantiate(final ContainerRequest request) {
+        final Object[] values = ParameterValueHelper.getParameterValues(valueProviders, request);
+        try {
+            final Object instance = (Object) constructor.invokeExact(
+                    injectors.length == 0 ? values : Arrays.copyOf(values, constructorParameterCount));
+            for (int i = 0; i < injectors.length; i++) {
+                injectors[i].invokeExact(instance, values[constructorParameterCount + i]);
+            }
+            if (postConstruct != null) {
+                postConstruct.invokeExact(instance);
+            }
+            return instance;
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            throw new MappableException(t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceInstantiationPlan{resourceClass=" + resourceClass.getName() + '}';
+    }
+
+    /**
+     * Resource class analysis. Throws an {@link IllegalArgumentException} if the class cannot be instantiated by the plan.
+     */
+    private static final class Compiler {
+
+        private final Class<?> resourceClass;
+        private final boolean encoded;
+        private final List<ValueParamProvider> valueParamProviders;
+
+        private final List<ParamValueFactoryWithSource<?>> valueProviders = new ArrayList<>();
+        private final List<AccessibleObject> injectedMembers = new ArrayList<>();
+        private final Set<Class<? extends Annotation>> unresolvedAnnotations = new HashSet<>();
+        private Method postConstruct;
+
+        private Compiler(final Class<?> resourceClass, final Collection<ValueParamProvider> valueParamProviders) {
+            this.resourceClass = resourceClass;
+            this.encoded = resourceClass.isAnnotationPresent(Encoded.class);
+            this.valueParamProviders = valueParamProviders.stream()
+                    .sorted((o1, o2) -> o2.getPriority().getWeight() - o1.getPriority().getWeight())
+                    .collect(Collectors.toList());
+        }
+
+        private ResourceInstantiationPlan compile() throws IllegalAccessException {
+            final int modifiers = resourceClass.getModifiers();
+            require(!resourceClass.isInterface() && !Modifier.isAbstract(modifiers)
+                    && !resourceClass.isLocalClass() && !resourceClass.isAnonymousClass()
+                    && !(resourceClass.isMemberClass() && !Modifier.isStatic(modifiers)), "class cannot be instantiated");
+
+            final Constructor<?> selected = selectConstructor();
+            final int constructorParameterCount = valueProviders.size();
+
+            final List<Class<?>> hierarchy = getHierarchy();
+            for (final Class<?> clazz : hierarchy) {
+                analyzeFields(clazz);
+            }
+            analyzeMethods(hierarchy);
+
+            final List<AccessibleObject> members = new ArrayList<>(injectedMembers);
+            members.add(selected);
+            if (postConstruct != null) {
+                members.add(postConstruct);
+            }
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                AccessibleObject.setAccessible(members.toArray(new AccessibleObject[members.size()]), true);
+                return null;
+            });
+
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle constructor = lookup.unreflectConstructor(selected)
+                    .asSpreader(Object[].class, constructorParameterCount)
+                    .asType(CONSTRUCTOR_TYPE);
+
+            final MethodHandle[] injectors = new MethodHandle[injectedMembers.size()];
+            for (int i = 0; i < injectors.length; i++) {
+                final AccessibleObject member = injectedMembers.get(i);
+                final MethodHandle injector = member instanceof Field
+                        ? lookup.unreflectSetter((Field) member)
+                        : lookup.unreflect((Method) member);
+                injectors[i] = injector.asType(INJECTOR_TYPE);
+            }
+
+            final MethodHandle postConstructHandle = postConstruct == null
+                    ? null : lookup.unreflect(postConstruct).asType(POST_CONSTRUCT_TYPE);
+
+            return new ResourceInstantiationPlan(resourceClass, constructor, constructorParameterCount, injectors,
+                    postConstructHandle, Collections.unmodifiableList(valueProviders),
+                    Collections.unmodifiableSet(unresolvedAnnotations));
+        }
+
+        /**
+         * Select the constructor with the largest number of parameters that are all injectable, the same way the injection
+         * manager selects it.
+         */
+        private Constructor<?> selectConstructor() {
+            Constructor<?> selected = null;
+            List<Parameter> selectedParameters = null;
+            int selectedSize = 0;
+            int maxParams = -1;
+
+            for (final Constructor<?> constructor
+                    : AccessController.doPrivileged(ReflectionHelper.getDeclaredConstructorsPA(resourceClass))) {
+                require(!constructor.isAnnotationPresent(Inject.class), "@Inject constructor");
+
+                final int paramSize = constructor.getParameterCount();
+                if (paramSize < maxParams) {
+                    continue;
+                }
+
+                final List<Parameter> parameters;
+                if (!Modifier.isPublic(constructor.getModifiers())) {
+                    // only a default constructor with the same visibility as the class is compatible
+                    final int visibility = resourceClass.getModifiers()
+                            & (Modifier.PUBLIC | Modifier.PROTECTED | Modifier.PRIVATE);
+                    if (paramSize != 0 || visibility != constructor.getModifiers()) {
+                        continue;
+                    }
+                    parameters = Collections.emptyList();
+                } else {
+                    parameters = Parameter.create(resourceClass, resourceClass, constructor, encoded);
+                    if (!isCompatible(constructor, parameters)) {
+                        continue;
+                    }
+                }
+
+                if (paramSize > maxParams) {
+                    maxParams = paramSize;
+                    selectedSize = 0;
+                }
+                selected = constructor;
+                selectedParameters = parameters;
+                selectedSize++;
+            }
+
+            require(selectedSize == 1, "no unique injectable constructor");
+
+            for (final Parameter parameter : selectedParameters) {
+                addValueProvider(parameter);
+            }
+            return selected;
+        }
+
+        private boolean isCompatible(final Constructor<?> constructor, final List<Parameter> parameters) {
+            final Annotation[][] parameterAnnotations = constructor.getParameterAnnotations();
+            for (int i = 0; i < parameters.size(); i++) {
+                if (parameterAnnotations[i].length == 0) {
+                    return false;
+                }
+                // annotated parameters that cannot be resolved might be resolved by a custom injection resolver
+                require(isInjectable(parameters.get(i)), "unresolved constructor parameter");
+            }
+            return true;
+        }
+
+        /**
+         * Get the class hierarchy of the resource class, starting with the top-most super class ({@link Object} excluded).
+         */
+        private List<Class<?>> getHierarchy() {
+            final LinkedList<Class<?>> hierarchy = new LinkedList<>();
+            for (Class<?> clazz = resourceClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                hierarchy.addFirst(clazz);
+            }
+            return hierarchy;
+        }
+
+        private void analyzeFields(final Class<?> clazz) {
+            for (final Field field : AccessController.doPrivileged(ReflectionHelper.getDeclaredFieldsPA(clazz))) {
+                final Annotation[] annotations = field.getAnnotations();
+                if (annotations.length == 0) {
+                    continue;
+                }
+
+                final Parameter parameter = Parameter.create(resourceClass, clazz,
+                        encoded || field.isAnnotationPresent(Encoded.class),
+                        field.getType(), field.getGenericType(), annotations);
+                if (isInjectable(parameter)) {
+                    require(!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers()),
+                            "static or final injected field");
+                    addValueProvider(parameter);
+                    injectedMembers.add(field);
+                } else {
+                    checkNotInjected(annotations);
+                }
+            }
+        }
+
+        private void analyzeMethods(final List<Class<?>> hierarchy) {
+            // Methods overridden in a sub-class are not injected (the sub-class method is used instead).
+            final Set<String> signatures = new HashSet<>();
+            final LinkedList<Method> methods = new LinkedList<>();
+            for (int i = hierarchy.size() - 1; i >= 0; i--) {
+                final Class<?> clazz = hierarchy.get(i);
+                final List<Method> declared = new ArrayList<>();
+                for (final Method method : AccessController.doPrivileged(ReflectionHelper.getDeclaredMethodsPA(clazz))) {
+                    if (method.isSynthetic() || method.isBridge()) {
+                        continue;
+                    }
+                    final boolean overridable = !Modifier.isPrivate(method.getModifiers())
+                            && !Modifier.isStatic(method.getModifiers());
+                    if (!overridable || signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                        declared.add(method);
+                    }
+                }
+                methods.addAll(0, declared);
+            }
+
+            for (final Method method : methods) {
+                final Annotation[] annotations = method.getDeclaredAnnotations();
+                if (annotations.length == 0) {
+                    continue;
+                }
+
+                if (method.isAnnotationPresent(PostConstruct.class)) {
+                    require(postConstruct == null && method.getParameterCount() == 0
+                            && !Modifier.isStatic(method.getModifiers()), "unsupported @PostConstruct method");
+                    postConstruct = method;
+                    continue;
+                }
+                if (method.isAnnotationPresent(Path.class) || hasHttpMethod(annotations)) {
+                    // resource method or sub-resource locator
+                    continue;
+                }
+
+                if (method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers())) {
+                    final Parameter parameter = Parameter.create(resourceClass, method.getDeclaringClass(),
+                            encoded || method.isAnnotationPresent(Encoded.class),
+                            method.getParameterTypes()[0], method.getGenericParameterTypes()[0], annotations);
+                    if (isInjectable(parameter)) {
+                        addValueProvider(parameter);
+                        injectedMembers.add(method);
+                        continue;
+                    }
+                }
+                checkNotInjected(annotations);
+            }
+        }
+
+        private static boolean hasHttpMethod(final Annotation[] annotations) {
+            for (final Annotation annotation : annotations) {
+                if (annotation.annotationType().isAnnotationPresent(HttpMethod.class)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void checkNotInjected(final Annotation[] annotations) {
+            for (final Annotation annotation : annotations) {
+                final Class<? extends Annotation> type = annotation.annotationType();
+                require(type != Inject.class && !type.isAnnotationPresent(Qualifier.class), "@Inject or qualified member");
+                unresolvedAnnotations.add(type);
+            }
+        }
+
+        private static boolean isInjectable(final Parameter parameter) {
+            return parameter != null
+                    && parameter.getSource() != Parameter.Source.UNKNOWN
+                    && parameter.getSource() != Parameter.Source.ENTITY;
+        }
+
+        private void addValueProvider(final Parameter parameter) {
+            for (final ValueParamProvider valueParamProvider : valueParamProviders) {
+                final Function<ContainerRequest, ?> valueProvider = valueParamProvider.getValueProvider(parameter);
+                if (valueProvider != null) {
+                    valueProviders.add(new ParamValueFactoryWithSource<>(valueProvider, parameter.getSource()));
+                    return;
+                }
+            }
+            require(false, "no value provider for " + parameter);
+        }
+
+        private static void require(final boolean condition, final String reason) {
+            if (!condition) {
+                throw new IllegalArgumentException(reason);
+            }
+        }
+    }
+}
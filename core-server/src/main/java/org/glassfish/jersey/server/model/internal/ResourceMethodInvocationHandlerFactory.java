@@ -45,6 +45,8 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.ws.rs.core.Configuration;
+
 import javax.inject.Singleton;
 
 import org.glassfish.jersey.internal.inject.InjectionManager;
@@ -52,6 +54,7 @@ import org.glassfish.jersey.internal.inject.Providers;
 import org.glassfish.jersey.internal.util.collection.LazyValue;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.model.Invocable;
 import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider;
@@ -66,7 +69,9 @@ import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerP
  * methods and returns the first non-null {@link InvocationHandler
  * invocation handler} instance retrieved from the providers. If no custom providers
  * are available, or if none of the providers returns a non-null invocation handler,
- * in such case a default invocation handler provided by the factory is returned.
+ * in such case a default invocation handler provided by the factory is returned. The default invocation handler
+ * invokes the resource method using reflection or, if {@link ServerProperties#METHOD_HANDLE_DISPATCH_ENABLED enabled},
+ * using a pre-resolved {@link java.lang.invoke.MethodHandle method handle}.
  *
  * @author Marek Potociar (marek.potociar at oracle.com)
  */
@@ -76,10 +81,21 @@ public final class ResourceMethodInvocationHandlerFactory implements ResourceMet
     private static final InvocationHandler DEFAULT_HANDLER = (target, method, args) -> method.invoke(target, args);
     private static final Logger LOGGER = Logger.getLogger(ResourceMethodInvocationHandlerFactory.class.getName());
     private final LazyValue<Set<ResourceMethodInvocationHandlerProvider>> providers;
+    private final ResourceMethodInvocationHandlerProvider defaultProvider;
 
     ResourceMethodInvocationHandlerFactory(InjectionManager injectionManager) {
+        this(injectionManager, false);
+    }
+
+    ResourceMethodInvocationHandlerFactory(InjectionManager injectionManager, Configuration configuration) {
+        this(injectionManager, ServerProperties.getValue(configuration.getProperties(),
+                ServerProperties.METHOD_HANDLE_DISPATCH_ENABLED, Boolean.FALSE, Boolean.class));
+    }
+
+    private ResourceMethodInvocationHandlerFactory(InjectionManager injectionManager, boolean methodHandleDispatch) {
         this.providers = Values.lazy((Value<Set<ResourceMethodInvocationHandlerProvider>>)
                 () -> Providers.getProviders(injectionManager, ResourceMethodInvocationHandlerProvider.class));
+        this.defaultProvider = methodHandleDispatch ? new MethodHandleInvocationHandlerProvider() : null;
     }
 
     // ResourceMethodInvocationHandlerProvider
@@ -98,6 +114,13 @@ public final class ResourceMethodInvocationHandlerFactory implements ResourceMet
             }
         }
 
+        if (defaultProvider != null) {
+            InvocationHandler handler = defaultProvider.create(resourceMethod);
+            if (handler != null) {
+                return handler;
+            }
+        }
+
         return DEFAULT_HANDLER;
     }
 }
@@ -104,6 +104,54 @@ public interface TimeWindowStatistics {
      */
     public long getAverageDuration();
 
+    /**
+     * Returns the 50th percentile of the duration (processing time) in milliseconds of the request processing measured
+     * in the time window. The percentile might be approximated depending on the way the statistics are collected.
+     *
+     * @return 50th percentile of the request processing time, -1 if no request has been processed or if the
+     * percentile is not available for the time window.
+     * @since 2.27
+     */
+    public default long get50thPercentileDuration() {
+        return -1;
+    }
+
+    /**
+     * Returns the 90th percentile of the duration (processing time) in milliseconds of the request processing measured
+     * in the time window. The percentile might be approximated depending on the way the statistics are collected.
+     *
+     * @return 90th percentile of the request processing time, -1 if no request has been processed or if the
+     * percentile is not available for the time window.
+     * @since 2.27
+     */
+    public default long get90thPercentileDuration() {
+        return -1;
+    }
+
+    /**
+     * Returns the 99th percentile of the duration (processing time) in milliseconds of the request processing measured
+     * in the time window. The percentile might be approximated depending on the way the statistics are collected.
+     *
+     * @return 99th percentile of the request processing time, -1 if no request has been processed or if the
+     * percentile is not available for the time window.
+     * @since 2.27
+     */
+    public default long get99thPercentileDuration() {
+        return -1;
+    }
+
+    /**
+     * Returns the 99.9th percentile of the duration (processing time) in milliseconds of the request processing measured
+     * in the time window. The percentile might be approximated depending on the way the statistics are collected.
+     *
+     * @return 99.9th percentile of the request processing time, -1 if no request has been processed or if the
+     * percentile is not available for the time window.
+     * @since 2.27
+     */
+    public default long get999thPercentileDuration() {
+        return -1;
+    }
+
     /**
      * Returns the count of requests received measured in the time window.
      *
@@ -42,7 +42,17 @@ package org.glassfish.jersey.server;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.concurrent.ExecutionException;
 
 import javax.ws.rs.GET;
@@ -426,6 +436,73 @@ public class ResourceConfigTest {
         System.out.println(new ResourceConfig().packages("javax.ws.rs").getClasses());
     }
 
+    @Test
+    public void testPackagesScanningIndex() throws Exception {
+        final Map<String, String> entries = new HashMap<>();
+        for (final String name : new String[] {"PublicRootResourceClass.class", "PackageRootResourceClass.class"}) {
+            entries.put("config/toplevel/" + name, "org/glassfish/jersey/server/config/toplevel/" + name);
+        }
+        final File jar = createJarFile(JarUtils.Suffix.jar, ResourceConfigTest.class.getResource("").getPath(), entries);
+
+        // Finds the scanned package in the JAR file only, classes are loaded by the parent class loader.
+        final ClassLoader loader = new URLClassLoader(new URL[] {jar.toURI().toURL()}, getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(final String name) throws IOException {
+                return findResources(name);
+            }
+        };
+        final String[] packages = {"org.glassfish.jersey.server.config.toplevel"};
+        final java.nio.file.Path indexDirectory = Files.createTempDirectory("jersey-scanning-index");
+
+        try {
+            ResourceConfig rc = new ResourceConfig()
+                    .registerFinder(new PackageNamesScanner(loader, packages, false))
+                    .property(ServerProperties.PROVIDER_SCANNING_PARALLEL, true)
+                    .property(ServerProperties.PROVIDER_SCANNING_INDEX, indexDirectory.toString());
+
+            Set<Class<?>> classes = rc.getClasses();
+            assertThat(classes, hasItem(PublicRootResourceClass.class));
+            assertThat(classes.size(), is(1));
+
+            final List<java.nio.file.Path> indexFiles = Files.list(indexDirectory).collect(Collectors.toList());
+            assertThat(indexFiles.size(), is(1));
+            assertEquals(Collections.singletonList(PublicRootResourceClass.class.getName()),
+                    Files.readAllLines(indexFiles.get(0), StandardCharsets.UTF_8));
+
+            // Classes listed in the index are used without scanning the JAR file.
+            Files.write(indexFiles.get(0), Collections.singletonList(InnerStaticClass.PublicClass.class.getName()),
+                    StandardCharsets.UTF_8);
+            rc = new ResourceConfig()
+                    .registerFinder(new PackageNamesScanner(loader, packages, false))
+                    .property(ServerProperties.PROVIDER_SCANNING_INDEX, indexDirectory);
+
+            classes = rc.getClasses();
+            assertThat(classes, hasItem(InnerStaticClass.PublicClass.class));
+            assertThat(classes.size(), is(1));
+        } finally {
+            for (final java.nio.file.Path file : Files.list(indexDirectory).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+            Files.delete(indexDirectory);
+        }
+    }
+
+    @Test
+    public void testPackagesScanningIndexDirectoryNotIndexed() throws Exception {
+        final java.nio.file.Path indexDirectory = Files.createTempDirectory("jersey-scanning-index");
+
+        try {
+            final ResourceConfig rc = new ResourceConfig()
+                    .packages(false, "org.glassfish.jersey.server.config.toplevel")
+                    .property(ServerProperties.PROVIDER_SCANNING_INDEX, indexDirectory);
+
+            assertThat(rc.getClasses(), hasItem(PublicRootResourceClass.class));
+            assertThat(Files.list(indexDirectory).count(), is(0L));
+        } finally {
+            Files.delete(indexDirectory);
+        }
+    }
+
     private ResourceConfig createConfigWithClassPathProperty(final File jarFile) {
         return new ResourceConfig().property(ServerProperties.PROVIDER_CLASSPATH, jarFile.getAbsolutePath());
     }
@@ -0,0 +1,126 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of {@link HistogramTimeReservoir}.
+ */
+public class HistogramTimeReservoirTest {
+
+    @Test
+    public void testBuckets() {
+        long previousUpperBound = -1;
+        for (int i = 0; i < HistogramTimeReservoir.BUCKETS; i++) {
+            final long lower = HistogramTimeReservoir.bucketLowerBound(i);
+            final long upper = HistogramTimeReservoir.bucketUpperBound(i);
+
+            // buckets are contiguous
+            assertEquals(previousUpperBound + 1, lower);
+            assertEquals(i, HistogramTimeReservoir.bucketIndex(lower));
+            assertEquals(i, HistogramTimeReservoir.bucketIndex(upper));
+            previousUpperBound = upper;
+        }
+
+        assertEquals(0, HistogramTimeReservoir.bucketIndex(-1));
+        assertEquals(HistogramTimeReservoir.BUCKETS - 1, HistogramTimeReservoir.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testStatistics() {
+        final HistogramTimeReservoir reservoir = new HistogramTimeReservoir(1, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS);
+        for (long i = 1; i <= 1000; i++) {
+            reservoir.update(i, 500, TimeUnit.MILLISECONDS);
+        }
+
+        final UniformTimeSnapshot snapshot = reservoir.getSnapshot(500, TimeUnit.MILLISECONDS);
+        assertEquals(1000, snapshot.size());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(1000, snapshot.getMax());
+        assertEquals(500.5, snapshot.getMean(), 0.0);
+        assertEquals(2000, snapshot.getRate(TimeUnit.SECONDS), 0.0);
+
+        assertApproximately(500, snapshot.getValue(0.5));
+        assertApproximately(900, snapshot.getValue(0.9));
+        assertApproximately(990, snapshot.getValue(0.99));
+        assertApproximately(999, snapshot.getValue(0.999));
+        assertEquals(1, snapshot.getValue(0), 0.0);
+        assertEquals(1000, snapshot.getValue(1), 0.0);
+    }
+
+    @Test
+    public void testWindow() {
+        final HistogramTimeReservoir reservoir = new HistogramTimeReservoir(1, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS);
+        reservoir.update(10L, 100, TimeUnit.MILLISECONDS);
+        reservoir.update(20L, 600, TimeUnit.MILLISECONDS);
+        reservoir.update(30L, 1100, TimeUnit.MILLISECONDS);
+
+        assertEquals(3, reservoir.size(1100, TimeUnit.MILLISECONDS));
+        // the first slice falls out of the window
+        assertEquals(2, reservoir.size(1300, TimeUnit.MILLISECONDS));
+        assertEquals(20, reservoir.getSnapshot(1300, TimeUnit.MILLISECONDS).getMin());
+        assertEquals(1, reservoir.size(1800, TimeUnit.MILLISECONDS));
+        assertEquals(0, reservoir.size(2300, TimeUnit.MILLISECONDS));
+
+        // values older than the window are ignored
+        reservoir.update(40L, 100, TimeUnit.MILLISECONDS);
+        assertEquals(0, reservoir.size(2300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testInfiniteWindow() {
+        final HistogramTimeReservoir reservoir = new HistogramTimeReservoir(0, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS);
+        reservoir.update(10L, 100, TimeUnit.MILLISECONDS);
+        reservoir.update(20L, 100_000_000, TimeUnit.MILLISECONDS);
+
+        assertEquals(0, reservoir.interval(TimeUnit.MILLISECONDS));
+        assertEquals(2, reservoir.size(100_000_000, TimeUnit.MILLISECONDS));
+    }
+
+    private static void assertApproximately(final long expected, final double actual) {
+        assertTrue(expected + " ~ " + actual, Math.abs(expected - actual) <= expected * 0.035);
+    }
+}
@@ -40,6 +40,12 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -91,6 +97,46 @@ public class ResponseStatisticsImplTest {
         Assert.assertEquals(1, (long) builder.build().getResponseCodes().get(200));
     }
 
+    @Test
+    public void testConcurrentAdditions() throws Exception {
+        final ResponseStatisticsImpl.Builder builder = new ResponseStatisticsImpl.Builder();
+        final int threads = 8;
+        final int additions = 10_000;
+
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final int code = i % 2 == 0 ? 200 : 404;
+            tasks.add(() -> {
+                for (int j = 0; j < additions; j++) {
+                    builder.addResponseCode(code);
+                    if (j % 1000 == 0) {
+                        builder.build();
+                    }
+                }
+                return null;
+            });
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            executor.invokeAll(tasks).forEach(future -> {
+                try {
+                    future.get();
+                } catch (final Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+
+        builder.addResponseCode(500);
+
+        Assert.assertEquals(threads / 2 * additions, (long) builder.build().getResponseCodes().get(200));
+        Assert.assertEquals(threads / 2 * additions, (long) builder.build().getResponseCodes().get(404));
+        Assert.assertEquals(500, (int) builder.build().getLastResponseCode());
+    }
+
     @Rule
     public final ExpectedException exception = ExpectedException.none();
 
@@ -0,0 +1,135 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.MatchResult;
+
+import org.glassfish.jersey.uri.PathPattern;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compiled path pattern tests. The results of the compiled patterns are compared to the results of the regular expression
+ * based {@link PathPattern#match(CharSequence)}.
+ */
+public class CompiledPathPatternTest {
+
+    private static final List<String> PATHS = Arrays.asList(
+            "", "/", "//", "/a", "/a/", "/a/b", "/a/b/", "/a/b/c", "/ab", "/a/b\n/c", "/a/\nb",
+            "/customers", "/customers/", "/customers/1", "/customers/1/", "/customers/1/orders", "/customers/1/orders/2",
+            "/customers//orders", "/customersx/1", "/x/y/z");
+
+    private static final List<PathPattern> PATTERNS = Arrays.asList(
+            PathPattern.END_OF_PATH_PATTERN,
+            PathPattern.OPEN_ROOT_PATH_PATTERN,
+            new PathPattern("a"),
+            new PathPattern("a/"),
+            PathPattern.asClosed(new PathPattern("a")),
+            new PathPattern("a/b"),
+            new PathPattern("{x}"),
+            PathPattern.asClosed(new PathPattern("{x}")),
+            new PathPattern("a/{x}"),
+            new PathPattern("{x}/{y}"),
+            new PathPattern("customers"),
+            new PathPattern("customers/{id}"),
+            PathPattern.asClosed(new PathPattern("customers/{id}")),
+            new PathPattern("customers/{id}/orders"),
+            new PathPattern("customers/{ id }/orders/{order}/"),
+            new PathPattern("customers/{id: [0-9]+}"),
+            new PathPattern("customers{x}"),
+            new PathPattern("{x}{y}"));
+
+    @Test
+    public void testMatchingEquivalence() {
+        for (final PathPattern pattern : PATTERNS) {
+            final CompiledPathPattern compiled = CompiledPathPattern.compile(pattern);
+            for (final String path : PATHS) {
+                assertSameResult(pattern + " <- " + path, pattern.match(path), compiled.match(path));
+            }
+        }
+    }
+
+    @Test
+    public void testCompiledPatterns() {
+        assertTrue(CompiledPathPattern.compile(PathPattern.OPEN_ROOT_PATH_PATTERN).isCompiled());
+        assertTrue(CompiledPathPattern.compile(new PathPattern("customers/{id}/orders")).isCompiled());
+        assertTrue(CompiledPathPattern.compile(new PathPattern("customers/{id}/")).isCompiled());
+
+        assertFalse(CompiledPathPattern.compile(new PathPattern("customers/{id: [0-9]+}")).isCompiled());
+        assertFalse(CompiledPathPattern.compile(new PathPattern("customers{x}")).isCompiled());
+        assertFalse(CompiledPathPattern.compile(new PathPattern("{x}.{y}")).isCompiled());
+        assertFalse(CompiledPathPattern.compile(new PathPattern("a%20b")).isCompiled());
+        assertFalse(CompiledPathPattern.compile(PathPattern.EMPTY_PATTERN).isCompiled());
+    }
+
+    @Test
+    public void testLiteralSegments() {
+        assertEquals(Arrays.asList(), CompiledPathPattern.compile(PathPattern.OPEN_ROOT_PATH_PATTERN).getLiteralSegments());
+        assertEquals(Arrays.asList(), CompiledPathPattern.compile(new PathPattern("{x}")).getLiteralSegments());
+        assertEquals(Arrays.asList(), CompiledPathPattern.compile(new PathPattern("customers{x}")).getLiteralSegments());
+        assertEquals(Arrays.asList("a"), CompiledPathPattern.compile(new PathPattern("a/")).getLiteralSegments());
+        assertEquals(Arrays.asList("a", "b"), CompiledPathPattern.compile(new PathPattern("a/b/{x}")).getLiteralSegments());
+        assertEquals(Arrays.asList("a"), CompiledPathPattern.compile(new PathPattern("a/b{x}")).getLiteralSegments());
+        assertEquals(Arrays.asList("a"), CompiledPathPattern.compile(new PathPattern("a/b%20c")).getLiteralSegments());
+        assertEquals(Arrays.asList("customers"),
+                CompiledPathPattern.compile(new PathPattern("customers/{id: [0-9]+}")).getLiteralSegments());
+    }
+
+    private static void assertSameResult(final String message, final MatchResult expected, final MatchResult actual) {
+        if (expected == null) {
+            assertNull(message, actual);
+            return;
+        }
+
+        assertEquals(message, expected.groupCount(), actual.groupCount());
+        for (int i = 0; i <= expected.groupCount(); i++) {
+            assertEquals(message, expected.group(i), actual.group(i));
+            assertEquals(message, expected.start(i), actual.start(i));
+            assertEquals(message, expected.end(i), actual.end(i));
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.UriInfo;
+
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.model.Parameter;
+import org.glassfish.jersey.server.model.internal.ResourceInstantiationPlan;
+import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests resource instantiation with {@link ServerProperties#RESOURCE_INSTANTIATION_COMPILED_ENABLED compiled
+ * resource instantiation} enabled.
+ */
+public class CompiledResourceInstantiationTest {
+
+    public static class BaseResource {
+
+        @Context
+        protected UriInfo uriInfo;
+    }
+
+    @Path("plan/{id}")
+    public static class PlanResource extends BaseResource {
+
+        private final String id;
+        private int count;
+        private String initialized;
+
+        public PlanResource() {
+            this("default");
+        }
+
+        public PlanResource(@PathParam("id") final String id) {
+            this.id = id;
+        }
+
+        @QueryParam("count")
+        public void setCount(final int count) {
+            this.count = count;
+        }
+
+        @PostConstruct
+        private void init() {
+            initialized = "initialized";
+        }
+
+        @GET
+        public String get() {
+            return id + ":" + count + ":" + uriInfo.getPath() + ":" + initialized;
+        }
+
+        @Path("sub")
+        public SubResource sub() {
+            return new SubResource(id);
+        }
+    }
+
+    public static class SubResource {
+
+        private final String id;
+
+        public SubResource(final String id) {
+            this.id = id;
+        }
+
+        @GET
+        public String get() {
+            return "sub:" + id;
+        }
+    }
+
+    @Path("singleton")
+    @Singleton
+    public static class SingletonResource {
+
+        private int count;
+
+        @GET
+        public String get() {
+            return String.valueOf(++count);
+        }
+    }
+
+    @Path("inject")
+    public static class InjectResource {
+
+        @Inject
+        private javax.inject.Provider<UriInfo> uriInfo;
+
+        @GET
+        public String get() {
+            return uriInfo.get().getPath();
+        }
+    }
+
+    @Path("spy")
+    public static class SpyResource {
+
+        @QueryParam("spy")
+        private String spy;
+
+        @GET
+        public String get() {
+            return spy;
+        }
+    }
+
+    /**
+     * Value provider of the {@code @QueryParam("spy")} parameters counting the value provider lookups. The value provider
+     * is used only by the instantiation plan, the injection manager injects the query parameter fields using the built-in
+     * query parameter value provider.
+     */
+    public static class SpyValueParamProvider implements ValueParamProvider {
+
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        @Override
+        public Function<ContainerRequest, ?> getValueProvider(final Parameter parameter) {
+            if (parameter.getSource() == Parameter.Source.QUERY && "spy".equals(parameter.getSourceName())) {
+                lookups.incrementAndGet();
+                return request -> "spied";
+            }
+            return null;
+        }
+
+        @Override
+        public PriorityType getPriority() {
+            return Priority.HIGH;
+        }
+    }
+
+    private static ApplicationHandler createApplication(final boolean compiled) {
+        return new ApplicationHandler(
+                new ResourceConfig(PlanResource.class, SingletonResource.class, InjectResource.class)
+                        .property(ServerProperties.RESOURCE_INSTANTIATION_COMPILED_ENABLED, compiled));
+    }
+
+    private static String apply(final ApplicationHandler app, final String uri) throws Exception {
+        final ContainerResponse response = app.apply(RequestContextBuilder.from(uri, "GET").build()).get();
+        return response.getStatus() + " " + response.getEntity();
+    }
+
+    @Test
+    public void testCompiledInstantiationMatchesInjectionManager() throws Exception {
+        final ApplicationHandler injected = createApplication(false);
+        final ApplicationHandler compiled = createApplication(true);
+
+        for (final String uri : new String[] {"/plan/a", "/plan/b?count=5", "/plan/c?count=x", "/plan/d/sub",
+                "/singleton", "/singleton", "/inject"}) {
+            assertEquals(uri, apply(injected, uri), apply(compiled, uri));
+        }
+    }
+
+    private static ApplicationHandler createSpyApplication(final boolean compiled, final SpyValueParamProvider spy) {
+        return new ApplicationHandler(new ResourceConfig(SpyResource.class)
+                .register(new AbstractBinder() {
+                    @Override
+                    protected void configure() {
+                        bind(spy).to(ValueParamProvider.class);
+                    }
+                })
+                .property(ServerProperties.RESOURCE_INSTANTIATION_COMPILED_ENABLED, compiled));
+    }
+
+    @Test
+    public void testResourceInstantiatedUsingPlan() throws Exception {
+        assertEquals("200 a:5:plan/a:initialized", apply(createApplication(true), "/plan/a?count=5"));
+
+        final SpyValueParamProvider spy = new SpyValueParamProvider();
+        final ApplicationHandler compiled = createSpyApplication(true, spy);
+
+        assertEquals("200 spied", apply(compiled, "/spy?spy=query"));
+        // the value provider has been resolved once, when the plan was compiled
+        final int lookups = spy.lookups.get();
+        assertEquals("200 spied", apply(compiled, "/spy?spy=query"));
+        assertEquals("200 spied", apply(compiled, "/spy?spy=query"));
+        assertEquals(lookups, spy.lookups.get());
+    }
+
+    @Test
+    public void testResourceInstantiatedUsingInjectionManager() throws Exception {
+        assertEquals("200 query", apply(createSpyApplication(false, new SpyValueParamProvider()), "/spy?spy=query"));
+    }
+
+    @Test
+    public void testPlanNotCompiled() {
+        assertNull(ResourceInstantiationPlan.compile(InjectResource.class, Collections.emptyList()));
+        // no value parameter providers available
+        assertNull(ResourceInstantiationPlan.compile(PlanResource.class, Collections.emptyList()));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.concurrent.ExecutionException;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests request routing with {@link ServerProperties#COMPILED_ROUTING_ENABLED compiled routing} enabled.
+ */
+public class CompiledRoutingTest {
+
+    @Path("customers")
+    public static class CustomersResource {
+
+        @GET
+        public String list() {
+            return "list";
+        }
+
+        @GET
+        @Path("vip")
+        public String vip() {
+            return "vip";
+        }
+
+        @GET
+        @Path("{id}")
+        public String get(@PathParam("id") final String id) {
+            return "customer:" + id;
+        }
+
+        @GET
+        @Path("{id: [0-9]+}/orders")
+        public String orders(@PathParam("id") final String id) {
+            return "orders:" + id;
+        }
+
+        @Path("{id}/address")
+        public AddressResource address(@PathParam("id") final String id) {
+            return new AddressResource(id);
+        }
+    }
+
+    public static class AddressResource {
+
+        private final String id;
+
+        public AddressResource(final String id) {
+            this.id = id;
+        }
+
+        @GET
+        public String get() {
+            return "address:" + id;
+        }
+
+        @GET
+        @Path("{line}")
+        public String line(@PathParam("line") final String line) {
+            return "address:" + id + ":" + line;
+        }
+    }
+
+    @Path("{any}")
+    public static class CatchAllResource {
+
+        @GET
+        public String get(@PathParam("any") final String any) {
+            return "any:" + any;
+        }
+    }
+
+    @Path("customers-archive")
+    public static class ArchiveResource {
+
+        @GET
+        public String get() {
+            return "archive";
+        }
+    }
+
+    private static ApplicationHandler createApplication(final boolean compiled) {
+        return new ApplicationHandler(
+                new ResourceConfig(CustomersResource.class, CatchAllResource.class, ArchiveResource.class)
+                        .property(ServerProperties.COMPILED_ROUTING_ENABLED, compiled));
+    }
+
+    private static String get(final ApplicationHandler app, final String uri) throws ExecutionException, InterruptedException {
+        final ContainerResponse response = app.apply(RequestContextBuilder.from(uri, "GET").build()).get();
+        return response.getStatus() + (response.hasEntity() ? " " + response.getEntity() : "");
+    }
+
+    @Test
+    public void testCompiledRoutingMatchesLinearRouting() throws Exception {
+        final ApplicationHandler linear = createApplication(false);
+        final ApplicationHandler compiled = createApplication(true);
+
+        for (final String uri : new String[] {
+                "/customers", "/customers/", "/customers/vip", "/customers/42", "/customers/42/", "/customers/42/orders",
+                "/customers/abc/orders", "/customers/42/address", "/customers/42/address/main", "/customers-archive",
+                "/customers-archive/x", "/other", "/other/", "/other/x", "/", "/customers/42/address/main/x"}) {
+            assertEquals(uri, get(linear, uri), get(compiled, uri));
+        }
+    }
+
+    @Test
+    public void testPrecedence() throws Exception {
+        final ApplicationHandler app = createApplication(true);
+
+        assertEquals("200 list", get(app, "/customers"));
+        assertEquals("200 vip", get(app, "/customers/vip"));
+        assertEquals("200 customer:42", get(app, "/customers/42"));
+        assertEquals("200 orders:42", get(app, "/customers/42/orders"));
+        assertEquals("200 address:42:main", get(app, "/customers/42/address/main"));
+        assertEquals("200 archive", get(app, "/customers-archive"));
+        assertEquals("200 any:other", get(app, "/other"));
+    }
+}
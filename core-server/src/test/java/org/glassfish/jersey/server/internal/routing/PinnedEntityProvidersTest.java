@@ -0,0 +1,221 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.message.internal.ReaderWriter;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests entity provider selection with {@link ServerProperties#PINNED_ENTITY_PROVIDERS_ENABLED pinned entity providers}
+ * enabled.
+ */
+public class PinnedEntityProvidersTest {
+
+    private static final AtomicInteger READABLE_CALLS = new AtomicInteger();
+    private static final AtomicInteger WRITEABLE_CALLS = new AtomicInteger();
+
+    public static final class StringWrapper {
+
+        private final String value;
+
+        public StringWrapper(final String value) {
+            this.value = value;
+        }
+    }
+
+    @Produces({"application/foo", "application/bar"})
+    @Consumes("application/foo")
+    public static class StringWrapperProvider implements MessageBodyReader<StringWrapper>, MessageBodyWriter<StringWrapper> {
+
+        @Override
+        public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                  final MediaType mediaType) {
+            READABLE_CALLS.incrementAndGet();
+            return type == StringWrapper.class;
+        }
+
+        @Override
+        public StringWrapper readFrom(final Class<StringWrapper> type, final Type genericType, final Annotation[] annotations,
+                                      final MediaType mediaType, final MultivaluedMap<String, String> httpHeaders,
+                                      final InputStream entityStream) throws IOException {
+            return new StringWrapper(ReaderWriter.readFromAsString(entityStream, mediaType));
+        }
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            WRITEABLE_CALLS.incrementAndGet();
+            return type == StringWrapper.class;
+        }
+
+        @Override
+        public void writeTo(final StringWrapper wrapper, final Class<?> type, final Type genericType,
+                            final Annotation[] annotations, final MediaType mediaType,
+                            final MultivaluedMap<String, Object> httpHeaders,
+                            final OutputStream entityStream) throws IOException {
+            entityStream.write((mediaType.getSubtype() + ": " + wrapper.value).getBytes());
+        }
+    }
+
+    /**
+     * Changes the media type of the {@code bar} resource method response.
+     */
+    public static class MediaTypeFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+            if ("bar".equals(requestContext.getUriInfo().getPath())) {
+                responseContext.getHeaders().putSingle(HttpHeaders.CONTENT_TYPE, "application/bar");
+            }
+        }
+    }
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        @Produces("application/foo")
+        public StringWrapper get() {
+            return new StringWrapper("get");
+        }
+
+        @GET
+        @Path("bar")
+        @Produces("application/foo")
+        public StringWrapper bar() {
+            return new StringWrapper("bar");
+        }
+
+        @POST
+        @Path("echo")
+        @Consumes("application/foo")
+        @Produces("application/foo")
+        public StringWrapper echo(final StringWrapper wrapper) {
+            return new StringWrapper("echo " + wrapper.value);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        READABLE_CALLS.set(0);
+        WRITEABLE_CALLS.set(0);
+    }
+
+    private static ApplicationHandler createApplication(final boolean pinned) {
+        return new ApplicationHandler(
+                new ResourceConfig(Resource.class, StringWrapperProvider.class, MediaTypeFilter.class)
+                        .property(ServerProperties.PINNED_ENTITY_PROVIDERS_ENABLED, pinned));
+    }
+
+    private static String apply(final ApplicationHandler app, final String method, final String uri, final String entity)
+            throws Exception {
+        final RequestContextBuilder builder = RequestContextBuilder.from(uri, method);
+        if (entity != null) {
+            builder.entity(entity).type("application/foo");
+        }
+        final ContainerRequest request = builder.accept("application/foo", "application/bar").build();
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        app.apply(request, baos).get();
+        return baos.toString();
+    }
+
+    @Test
+    public void testPinnedProvidersMatchDynamicLookup() throws Exception {
+        final ApplicationHandler dynamic = createApplication(false);
+        final ApplicationHandler pinned = createApplication(true);
+
+        assertEquals(apply(dynamic, "GET", "/", null), apply(pinned, "GET", "/", null));
+        assertEquals(apply(dynamic, "GET", "/bar", null), apply(pinned, "GET", "/bar", null));
+        assertEquals(apply(dynamic, "POST", "/echo", "content"), apply(pinned, "POST", "/echo", "content"));
+    }
+
+    @Test
+    public void testPinnedProvidersAreNotLookedUp() throws Exception {
+        final ApplicationHandler app = createApplication(true);
+        setUp();
+
+        assertEquals("foo: get", apply(app, "GET", "/", null));
+        assertEquals("foo: echo content", apply(app, "POST", "/echo", "content"));
+        assertEquals(0, READABLE_CALLS.get());
+        assertEquals(0, WRITEABLE_CALLS.get());
+    }
+
+    @Test
+    public void testChangedMediaTypeFallsBackToDynamicLookup() throws Exception {
+        final ApplicationHandler app = createApplication(true);
+        setUp();
+
+        assertEquals("bar: bar", apply(app, "GET", "/bar", null));
+        assertTrue(WRITEABLE_CALLS.get() > 0);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.internal.scanning;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link ScanningIndex} keys.
+ */
+public class ScanningIndexTest {
+
+    private static final String[] PACKAGES = {"org.example"};
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final ScanningIndex index = new ScanningIndex(new File("index").toPath());
+
+    @Test
+    public void testKeyDoesNotDependOnJarLocation() throws Exception {
+        final File jar = createJar(folder.newFolder("build"), "app.jar", "resource");
+        final File copy = new File(folder.newFolder("deploy", "lib"), "app-1.0.jar");
+        Files.copy(jar.toPath(), copy.toPath());
+
+        final String key = index.getKey(PACKAGES, true, Collections.singletonList(entry(jar)));
+        assertNotNull(key);
+        assertEquals(key, index.getKey(PACKAGES, true, Collections.singletonList(entry(copy))));
+    }
+
+    @Test
+    public void testKeyDoesNotDependOnClassPathOrder() throws Exception {
+        final File first = createJar(folder.newFolder("first"), "first.jar", "first");
+        final File second = createJar(folder.newFolder("second"), "second.jar", "second");
+
+        assertEquals(index.getKey(PACKAGES, true, Arrays.asList(entry(first), entry(second))),
+                index.getKey(PACKAGES, true, Arrays.asList(entry(second), entry(first))));
+    }
+
+    @Test
+    public void testKeyDependsOnJarContents() throws Exception {
+        final File original = createJar(folder.newFolder("original"), "app.jar", "resource");
+        final File changed = createJar(folder.newFolder("changed"), "app.jar", "changed resource");
+
+        assertNotEquals(index.getKey(PACKAGES, true, Collections.singletonList(entry(original))),
+                index.getKey(PACKAGES, true, Collections.singletonList(entry(changed))));
+    }
+
+    @Test
+    public void testDirectoryNotIndexed() throws Exception {
+        assertNull(index.getKey(PACKAGES, true, Collections.singletonList(folder.newFolder("classes").toURI())));
+    }
+
+    private static File createJar(final File directory, final String name, final String content) throws IOException {
+        final File jar = new File(directory, name);
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("org/example/Resource.class"));
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+        return jar;
+    }
+
+    private static URI entry(final File jar) {
+        return URI.create("jar:" + jar.toURI() + "!/org/example");
+    }
+}
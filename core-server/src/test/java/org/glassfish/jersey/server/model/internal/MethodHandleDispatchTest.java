@@ -0,0 +1,247 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.MethodHandler;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests {@link MethodHandleInvocationHandlerProvider method handle based} resource method dispatching.
+ */
+public class MethodHandleDispatchTest {
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        @Path("void")
+        public void voidMethod() {
+        }
+
+        @GET
+        @Path("string")
+        public String string(@QueryParam("a") final String a, @QueryParam("b") final int b) {
+            return a + b;
+        }
+
+        @GET
+        @Path("response")
+        public Response response() {
+            return Response.status(202).entity("accepted").build();
+        }
+
+        @GET
+        @Path("object")
+        public Object object() {
+            return null;
+        }
+
+        @GET
+        @Path("stage")
+        public CompletionStage<String> stage() {
+            return CompletableFuture.completedFuture("stage");
+        }
+
+        @GET
+        @Path("exception")
+        public String exception() {
+            throw new WebApplicationException(409);
+        }
+
+        public String cast(final Object a) {
+            return (String) a;
+        }
+
+        public int length(final String a) {
+            return a.length();
+        }
+
+        public String spread(final String a, final int b, final long c, final String d, final String e, final String f,
+                             final Integer g) {
+            return a + b + c + d + e + f + g;
+        }
+
+        private String hidden() {
+            return "hidden";
+        }
+    }
+
+    private static Invocable invocable(final String name, final Class<?>... parameterTypes) throws NoSuchMethodException {
+        return Invocable.create(MethodHandler.create(Resource.class), Resource.class.getMethod(name, parameterTypes));
+    }
+
+    private static ContainerResponse get(final ApplicationHandler app, final String uri) throws Exception {
+        return app.apply(RequestContextBuilder.from(uri, "GET").build()).get();
+    }
+
+    @Test
+    public void testDispatch() throws Exception {
+        final ApplicationHandler app = new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.METHOD_HANDLE_DISPATCH_ENABLED, true));
+
+        assertEquals(204, get(app, "/void").getStatus());
+
+        ContainerResponse response = get(app, "/string?a=x&b=42");
+        assertEquals(200, response.getStatus());
+        assertEquals("x42", response.getEntity());
+
+        response = get(app, "/string");
+        assertEquals(200, response.getStatus());
+        assertEquals("null0", response.getEntity());
+
+        response = get(app, "/response");
+        assertEquals(202, response.getStatus());
+        assertEquals("accepted", response.getEntity());
+
+        assertEquals(204, get(app, "/object").getStatus());
+
+        response = get(app, "/stage");
+        assertEquals(200, response.getStatus());
+        assertEquals("stage", response.getEntity());
+
+        assertEquals(409, get(app, "/exception").getStatus());
+    }
+
+    @Test
+    public void testHandler() throws Throwable {
+        final MethodHandleInvocationHandlerProvider provider = new MethodHandleInvocationHandlerProvider();
+        final Resource resource = new Resource();
+
+        final InvocationHandler handler = provider.create(invocable("string", String.class, int.class));
+        assertNotNull(handler);
+        assertEquals("a1", handler.invoke(resource, null, new Object[] {"a", 1}));
+
+        final InvocationHandler voidHandler = provider.create(invocable("voidMethod"));
+        assertNull(voidHandler.invoke(resource, null, new Object[0]));
+
+        final InvocationHandler exceptionHandler = provider.create(invocable("exception"));
+        try {
+            exceptionHandler.invoke(resource, null, new Object[0]);
+            fail("InvocationTargetException expected.");
+        } catch (final InvocationTargetException e) {
+            assertSame(WebApplicationException.class, e.getCause().getClass());
+        }
+
+        final InvocationHandler castHandler = provider.create(invocable("cast", Object.class));
+        try {
+            castHandler.invoke(resource, null, new Object[] {1});
+            fail("InvocationTargetException expected.");
+        } catch (final InvocationTargetException e) {
+            assertSame(ClassCastException.class, e.getCause().getClass());
+        }
+
+        final InvocationHandler lengthHandler = provider.create(invocable("length", String.class));
+        try {
+            lengthHandler.invoke(resource, null, new Object[] {null});
+            fail("InvocationTargetException expected.");
+        } catch (final InvocationTargetException e) {
+            assertSame(NullPointerException.class, e.getCause().getClass());
+        }
+    }
+
+    @Test
+    public void testHandlerSpreadArguments() throws Throwable {
+        final MethodHandleInvocationHandlerProvider provider = new MethodHandleInvocationHandlerProvider();
+        final InvocationHandler handler = provider.create(invocable("spread",
+                String.class, int.class, long.class, String.class, String.class, String.class, Integer.class));
+
+        assertEquals("a12def7", handler.invoke(new Resource(), null, new Object[] {"a", 1, 2L, "d", "e", "f", 7}));
+        assertIllegalArgument(handler, new Resource(), new Object[] {"a", 1, 2L, "d", "e", "f"});
+        assertEquals("a12def7", handler.invoke(new Resource(), null, new Object[] {"a", (short) 1, 2, "d", "e", "f", 7}));
+        assertIllegalArgument(handler, new Resource(), new Object[] {"a", 1L, 2L, "d", "e", "f", 7});
+        assertIllegalArgument(handler, new Resource(), new Object[] {"a", 1, 2L, "d", "e", "f", 7L});
+    }
+
+    @Test
+    public void testHandlerArgumentMismatch() throws Throwable {
+        final MethodHandleInvocationHandlerProvider provider = new MethodHandleInvocationHandlerProvider();
+        final InvocationHandler handler = provider.create(invocable("string", String.class, int.class));
+
+        assertIllegalArgument(handler, "target", new Object[] {"a", 1});
+        assertIllegalArgument(handler, new Resource(), new Object[] {"a"});
+        assertIllegalArgument(handler, new Resource(), new Object[] {"a", "1"});
+        assertIllegalArgument(handler, new Resource(), new Object[] {"a", null});
+        assertIllegalArgument(handler, new Resource(), new Object[] {1, 1});
+        assertEquals("null1", handler.invoke(new Resource(), null, new Object[] {null, 1}));
+    }
+
+    private static void assertIllegalArgument(final InvocationHandler handler, final Object target, final Object[] args)
+            throws Throwable {
+        try {
+            handler.invoke(target, null, args);
+            fail("IllegalArgumentException expected.");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testInaccessibleMethod() throws Exception {
+        final MethodHandleInvocationHandlerProvider provider = new MethodHandleInvocationHandlerProvider();
+
+        assertNull(provider.create(
+                Invocable.create(MethodHandler.create(Resource.class), Resource.class.getDeclaredMethod("hidden"))));
+        assertNotNull(provider.create(invocable("response")));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.linking;
+
+import java.util.function.Function;
+
+import org.glassfish.jersey.linking.mapping.ResourceMappingContext;
+
+/**
+ * Link template of a link descriptor, resolved once for the {@link ResourceMappingContext} of the application.
+ * <p>
+ * Resolving a link template may require introspection of the linked resource class, the template is therefore
+ * resolved again only if the descriptor is used with another resource mapping context.
+ * </p>
+ */
+final class CachedLinkTemplate {
+
+    private volatile Resolved resolved;
+
+    /**
+     * Get the link template resolved for the resource mapping context.
+     *
+     * @param rmc      resource mapping context.
+     * @param resolver resolves the link template for the resource mapping context if not yet resolved.
+     * @return resolved link template.
+     */
+    String get(ResourceMappingContext rmc, Function<ResourceMappingContext, String> resolver) {
+        Resolved current = resolved;
+        if (current == null || current.rmc != rmc) {
+            current = new Resolved(rmc, resolver.apply(rmc));
+            resolved = current;
+        }
+        return current.template;
+    }
+
+    private static final class Resolved {
+
+        private final ResourceMappingContext rmc;
+        private final String template;
+
+        private Resolved(ResourceMappingContext rmc, String template) {
+            this.rmc = rmc;
+            this.template = template;
+        }
+    }
+}
@@ -51,11 +51,17 @@ import javax.ws.rs.core.UriInfo;
 import javax.el.ExpressionFactory;
 import javax.el.ValueExpression;
 
+import org.glassfish.jersey.internal.guava.Cache;
+import org.glassfish.jersey.internal.guava.CacheBuilder;
 import org.glassfish.jersey.linking.mapping.ResourceMappingContext;
 import org.glassfish.jersey.uri.internal.UriTemplateParser;
 
 /**
  * A helper class to build links from EL expressions.
+ * <p>
+ * The EL expressions and the parameter names of the URI templates are parsed once and cached, so that building
+ * the links of a response only evaluates the already parsed expressions.
+ * </p>
  *
  * @author Mark Hadley
  * @author Gerard Davison (gerard.davison at oracle.com)
@@ -68,6 +74,23 @@ final class ELLinkBuilder {
     private static final ExpressionFactory expressionFactory =
             ExpressionFactory.newInstance();
 
+    private static final int CACHE_SIZE = 4096;
+
+    /**
+     * Parsed conditions, evaluated to {@code boolean}.
+     */
+    private static final Cache<String, ValueExpression> conditions = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    /**
+     * Parsed link templates and bindings, evaluated to {@code String}.
+     */
+    private static final Cache<String, ValueExpression> expressions = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    /**
+     * Parameter names of the (evaluated) link templates.
+     */
+    private static final Cache<String, List<String>> templateNames = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
     /**
      * Evaluates the condition
      *
@@ -86,7 +109,7 @@ final class ELLinkBuilder {
             return true;
         }
         LinkELContext context = new LinkELContext(entity, resource, instance);
-        ValueExpression expr = expressionFactory.createValueExpression(context, condition, boolean.class);
+        ValueExpression expr = getExpression(conditions, condition, boolean.class);
 
         Object result = expr.getValue(context).toString();
         return "true".equals(result);
@@ -114,14 +137,12 @@ final class ELLinkBuilder {
 
         // first process any embedded EL expressions
         LinkELContext context = new LinkELContext(entity, resource, instance);
-        ValueExpression expr = expressionFactory.createValueExpression(context,
-                template, String.class);
+        ValueExpression expr = getExpression(expressions, template, String.class);
         template = expr.getValue(context).toString();
 
         // now process any embedded URI template parameters
         UriBuilder ub = applyLinkStyle(template, link.getLinkStyle(), uriInfo);
-        UriTemplateParser parser = new UriTemplateParser(template);
-        List<String> parameterNames = parser.getNames();
+        List<String> parameterNames = getParameterNames(template);
         Map<String, Object> valueMap = getParameterValues(parameterNames, link, context, uriInfo);
         return ub.buildFromMap(valueMap);
     }
@@ -161,8 +182,7 @@ final class ELLinkBuilder {
                 }
                 elExpression = "${" + ResponseContextResolver.INSTANCE_OBJECT + "." + name + "}";
             }
-            ValueExpression expr = expressionFactory.createValueExpression(context,
-                        elExpression, String.class);
+            ValueExpression expr = getExpression(expressions, elExpression, String.class);
 
             Object value = expr.getValue(context);
             values.put(name, value != null ? value.toString() : null);
@@ -170,4 +190,21 @@ final class ELLinkBuilder {
         return values;
     }
 
+    private static ValueExpression getExpression(Cache<String, ValueExpression> cache, String expression, Class<?> type) {
+        ValueExpression expr = cache.getIfPresent(expression);
+        if (expr == null) {
+            expr = expressionFactory.createValueExpression(new LinkELContext(null, null), expression, type);
+            cache.put(expression, expr);
+        }
+        return expr;
+    }
+
+    private static List<String> getParameterNames(String template) {
+        List<String> names = templateNames.getIfPresent(template);
+        if (names == null) {
+            names = new UriTemplateParser(template).getNames();
+            templateNames.put(template, names);
+        }
+        return names;
+    }
 }
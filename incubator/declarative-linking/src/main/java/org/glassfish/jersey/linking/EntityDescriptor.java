@@ -49,9 +49,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.ws.rs.core.Link;
 
+import javax.xml.bind.annotation.XmlTransient;
+
 /**
  * Describes an entity in terms of its fields, bean properties and {@link InjectLink}
  * annotated fields.
@@ -62,22 +65,17 @@ import javax.ws.rs.core.Link;
 class EntityDescriptor {
 
     // Maintains an internal static cache to optimize processing
-    private static final Map<Class<?>, EntityDescriptor> descriptors = new HashMap<>();
-
-    static synchronized EntityDescriptor getInstance(Class<?> entityClass) {
-        if (descriptors.containsKey(entityClass)) {
-            return descriptors.get(entityClass);
-        } else {
-            EntityDescriptor descriptor = new EntityDescriptor(entityClass);
-            descriptors.put(entityClass, descriptor);
-            return descriptor;
-        }
+    private static final Map<Class<?>, EntityDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    static EntityDescriptor getInstance(Class<?> entityClass) {
+        return descriptors.computeIfAbsent(entityClass, EntityDescriptor::new);
     }
 
     // instance
 
     private Map<String, FieldDescriptor> nonLinkFields;
     private Map<String, FieldDescriptor> linkFields;
+    private List<FieldDescriptor> followedFields;
     private List<LinkHeaderDescriptor> linkHeaders;
 
     /**
@@ -97,6 +95,15 @@ class EntityDescriptor {
         findFields(entityClass);
         this.nonLinkFields = Collections.unmodifiableMap(this.nonLinkFields);
         this.linkFields = Collections.unmodifiableMap(this.linkFields);
+
+        // precompute the fields to be recursively processed
+        List<FieldDescriptor> followed = new ArrayList<>();
+        for (FieldDescriptor field : nonLinkFields.values()) {
+            if (fieldSuitableForIntrospection(field)) {
+                followed.add(field);
+            }
+        }
+        this.followedFields = Collections.unmodifiableList(followed);
     }
 
     Collection<FieldDescriptor> getLinkFields() {
@@ -107,6 +114,15 @@ class EntityDescriptor {
         return nonLinkFields.values();
     }
 
+    /**
+     * Get the non-link fields whose values should be recursively processed.
+     *
+     * @return fields to be followed.
+     */
+    List<FieldDescriptor> getFollowedFields() {
+        return followedFields;
+    }
+
     List<LinkHeaderDescriptor> getLinkHeaders() {
         return linkHeaders;
     }
@@ -163,6 +179,16 @@ class EntityDescriptor {
         }
     }
 
+    private static boolean fieldSuitableForIntrospection(FieldDescriptor member) {
+        return member.field == null
+                || (!member.field.isSynthetic()
+                    && !Modifier.isTransient(member.field.getModifiers())
+                    && !member.field.getType().isPrimitive()
+                    && member.field.getType() != String.class
+                    && !member.field.isAnnotationPresent(InjectLinkNoFollow.class)
+                    && !member.field.isAnnotationPresent(XmlTransient.class));
+    }
+
     private void findLinkHeaders(Class<?> entityClass) {
         InjectLink linkHeaderAnnotation = entityClass.getAnnotation(InjectLink.class);
         if (linkHeaderAnnotation != null) {
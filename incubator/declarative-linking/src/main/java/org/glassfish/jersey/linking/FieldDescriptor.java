@@ -57,12 +57,14 @@ class FieldDescriptor {
 
     protected Field field;
 
+    private volatile boolean accessible;
+
     FieldDescriptor(Field f) {
         this.field = f;
     }
 
     Object getFieldValue(Object instance) {
-        setAccessibleField(field);
+        makeAccessible();
         Object value = null;
         try {
             value = field.get(instance);
@@ -76,6 +78,17 @@ class FieldDescriptor {
         return field.getName();
     }
 
+    /**
+     * Make the field accessible. The descriptors are cached per entity class, so the field is made accessible only
+     * when it is accessed for the first time.
+     */
+    void makeAccessible() {
+        if (!accessible) {
+            setAccessibleField(field);
+            accessible = true;
+        }
+    }
+
     static void setAccessibleField(final Field f) {
         if (Modifier.isPublic(f.getModifiers())) {
             return;
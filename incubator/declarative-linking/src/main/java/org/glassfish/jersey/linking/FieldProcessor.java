@@ -40,10 +40,10 @@
 
 package org.glassfish.jersey.linking;
 
-import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,8 +53,6 @@ import java.util.logging.Logger;
 import javax.ws.rs.core.Link;
 import javax.ws.rs.core.UriInfo;
 
-import javax.xml.bind.annotation.XmlTransient;
-
 import org.glassfish.jersey.linking.contributing.ResourceLinkContributionContext;
 import org.glassfish.jersey.linking.mapping.ResourceMappingContext;
 
@@ -84,7 +82,7 @@ class FieldProcessor<T> {
      * @param rlcc    the ResourceLinkContributionContext used to find link contributors
      */
     void processLinks(T entity, UriInfo uriInfo, ResourceMappingContext rmc, ResourceLinkContributionContext rlcc) {
-        Set<Object> processed = new HashSet<Object>();
+        Set<Object> processed = Collections.newSetFromMap(new IdentityHashMap<>());
         Object resource = uriInfo.getMatchedResources().get(0);
         processLinks(entity, resource, entity, processed, uriInfo, rmc, rlcc);
     }
@@ -172,25 +170,12 @@ class FieldProcessor<T> {
         }
 
         // Recursively process all member fields
-        for (FieldDescriptor member : instanceDescriptor.getNonLinkFields()) {
-
-            if (fieldSuitableForIntrospection(member)) {
-                processMember(entity, resource, member.getFieldValue(instance), processed, uriInfo, rmc, rlcc);
-            }
+        for (FieldDescriptor member : instanceDescriptor.getFollowedFields()) {
+            processMember(entity, resource, member.getFieldValue(instance), processed, uriInfo, rmc, rlcc);
         }
 
     }
 
-    private boolean fieldSuitableForIntrospection(FieldDescriptor member) {
-        return member.field == null
-                || (!member.field.isSynthetic()
-                    && !Modifier.isTransient(member.field.getModifiers())
-                    && !member.field.getType().isPrimitive()
-                    && member.field.getType() != String.class
-                    && !member.field.isAnnotationPresent(InjectLinkNoFollow.class)
-                    && !member.field.isAnnotationPresent(XmlTransient.class));
-    }
-
     private void processMember(Object entity, Object resource, Object member, Set<Object> processed, UriInfo uriInfo,
             ResourceMappingContext rmc, ResourceLinkContributionContext rlcc) {
         if (member != null) {
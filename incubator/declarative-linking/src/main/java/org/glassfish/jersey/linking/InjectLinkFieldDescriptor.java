@@ -70,6 +70,7 @@ class InjectLinkFieldDescriptor extends FieldDescriptor implements InjectLinkDes
     private InjectLink link;
     private Class<?> type;
     private Map<String, String> bindings;
+    private final CachedLinkTemplate cachedTemplate = new CachedLinkTemplate();
 
     /**
      * C'tor
@@ -95,7 +96,7 @@ class InjectLinkFieldDescriptor extends FieldDescriptor implements InjectLinkDes
      * @param uri the value to inject
      */
     void setPropertyValue(Object instance, URI uri) {
-        setAccessibleField(field);
+        makeAccessible();
         try {
 
             Object value;
@@ -134,7 +135,7 @@ class InjectLinkFieldDescriptor extends FieldDescriptor implements InjectLinkDes
      */
     @Override
     public String getLinkTemplate(ResourceMappingContext rmc) {
-        return getLinkTemplate(rmc, link);
+        return cachedTemplate.get(rmc, context -> getLinkTemplate(context, link));
     }
 
 
@@ -87,7 +87,7 @@ class InjectLinksFieldDescriptor extends FieldDescriptor {
      * @param list the list of links to inject
      */
     public void setPropertyValue(Object instance, List<Link> list) {
-        setAccessibleField(field);
+        makeAccessible();
         try {
             List<Link> merged = mergeWithExistingField(instance, list);
 
@@ -59,6 +59,7 @@ class LinkELContext extends ELContext {
     private Object entity;
     private Object resource;
     private Object instance;
+    private ELResolver resolver;
 
     /**
      * Convenience constructor for the common case where a context where
@@ -89,9 +90,13 @@ class LinkELContext extends ELContext {
 
     @Override
     public ELResolver getELResolver() {
-        CompositeELResolver resolver = new CompositeELResolver();
-        resolver.add(new ResponseContextResolver(entity, resource, instance));
-        resolver.add(new BeanELResolver(true));
+        // the resolver is requested repeatedly while evaluating a single expression
+        if (resolver == null) {
+            CompositeELResolver compositeResolver = new CompositeELResolver();
+            compositeResolver.add(new ResponseContextResolver(entity, resource, instance));
+            compositeResolver.add(new BeanELResolver(true));
+            resolver = compositeResolver;
+        }
         return resolver;
     }
 
@@ -56,6 +56,7 @@ class LinkHeaderDescriptor implements InjectLinkDescriptor {
 
     private InjectLink linkHeader;
     private Map<String, String> bindings;
+    private final CachedLinkTemplate cachedTemplate = new CachedLinkTemplate();
 
     LinkHeaderDescriptor(InjectLink linkHeader) {
         this.linkHeader = linkHeader;
@@ -70,7 +71,7 @@ class LinkHeaderDescriptor implements InjectLinkDescriptor {
     }
 
     public String getLinkTemplate(ResourceMappingContext rmc) {
-        return InjectLinkFieldDescriptor.getLinkTemplate(rmc, linkHeader);
+        return cachedTemplate.get(rmc, context -> InjectLinkFieldDescriptor.getLinkTemplate(context, linkHeader));
     }
 
     public Style getLinkStyle() {
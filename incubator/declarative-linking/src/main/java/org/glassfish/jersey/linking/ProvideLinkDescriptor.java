@@ -65,6 +65,8 @@ public class ProvideLinkDescriptor implements InjectLinkDescriptor {
 
     private final Map<String, String> bindings;
 
+    private final CachedLinkTemplate cachedTemplate = new CachedLinkTemplate();
+
     /**
      * c'tor
      *
@@ -113,6 +115,10 @@ public class ProvideLinkDescriptor implements InjectLinkDescriptor {
      */
     @Override
     public String getLinkTemplate(ResourceMappingContext rmc) {
+        return cachedTemplate.get(rmc, this::resolveLinkTemplate);
+    }
+
+    private String resolveLinkTemplate(ResourceMappingContext rmc) {
         String template = null;
         ResourceMappingContext.Mapping map = rmc.getMapping(resource.getInvocable().getHandler().getHandlerClass());
         if (map != null) {
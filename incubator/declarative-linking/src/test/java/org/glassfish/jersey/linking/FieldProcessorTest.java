@@ -638,6 +638,43 @@ public class FieldProcessorTest {
         assertEquals("/application/resources/a/b", testClass.uri);
     }
 
+    public static class EqualBean {
+
+        @InjectLink(value = "widgets/${instance.id}", style = InjectLink.Style.RELATIVE_PATH)
+        private String link;
+
+        private final String id;
+
+        public EqualBean(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof EqualBean;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    @Test
+    public void testEqualMembers() {
+        LOG.info("Equal members");
+        FieldProcessor<List> instance = new FieldProcessor(List.class);
+        List<EqualBean> list = Arrays.asList(new EqualBean("10"), new EqualBean("20"), new EqualBean("10"));
+        instance.processLinks(list, mockUriInfo, mockRmc, mockRlcc);
+        assertEquals("widgets/10", list.get(0).link);
+        assertEquals("widgets/20", list.get(1).link);
+        assertEquals("widgets/10", list.get(2).link);
+    }
+
     @Path("a")
     public static class QueryResource {
 
@@ -40,9 +40,11 @@
 
 package org.glassfish.jersey.inject.hk2;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -56,9 +58,129 @@ import static org.glassfish.jersey.internal.guava.Preconditions.checkState;
 
 public class Hk2RequestScope extends RequestScope {
 
+    /**
+     * Slot indexes of the request-scoped bindings, shared by all the scope instances.
+     */
+    private final Slots slots = new Slots();
+
     @Override
     public org.glassfish.jersey.process.internal.RequestContext createContext() {
-        return new Instance();
+        return new Instance(slots);
+    }
+
+    /**
+     * Registry assigning a unique index (slot) to every request-scoped binding (descriptor) used in the scope. The
+     * injectable instances of a binding are stored in the slot of the scope instance store array.
+     * <p>
+     * The slots are resolved in an open-addressing table of weak descriptor references compared by identity. A lookup
+     * only probes the table array and does not allocate. The table is copied when a new descriptor is registered,
+     * which happens once per binding. The entries of collected descriptors are dropped at that time and their slots
+     * are given to the next new descriptors; the slots are empty in all the scope instances by then, as a stored
+     * inhabitant keeps its descriptor reachable until the scope instance is released.
+     * </p>
+     */
+    private static final class Slots {
+
+        private static final int INITIAL_CAPACITY = 32;
+
+        private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+        private final Deque<Integer> free = new ArrayDeque<>();
+
+        private volatile Entry[] table = new Entry[INITIAL_CAPACITY];
+        private volatile int size;
+        private int entries;
+
+        private int indexOf(final Object descriptor) {
+            final int index = find(table, descriptor);
+            return index >= 0 ? index : register(descriptor);
+        }
+
+        private synchronized int register(final Object descriptor) {
+            final int found = find(table, descriptor);
+            if (found >= 0) {
+                return found;
+            }
+
+            // the cleared entries are dropped from the table itself, the queue only tells whether there are any
+            boolean stale = false;
+            while (collected.poll() != null) {
+                stale = true;
+            }
+            Entry[] current = stale ? rebuild(table, table.length) : table;
+            if ((entries + 1) * 2 > current.length) {
+                current = rebuild(current, current.length * 2);
+            } else {
+                current = current.clone();
+            }
+
+            final Integer reused = free.poll();
+            final int index = reused != null ? reused : size;
+            insert(current, new Entry(descriptor, index, collected));
+            entries++;
+            table = current;
+            if (reused == null) {
+                size = index + 1;
+            }
+            return index;
+        }
+
+        private Entry[] rebuild(final Entry[] current, final int capacity) {
+            final Entry[] rebuilt = new Entry[capacity];
+            entries = 0;
+            for (final Entry entry : current) {
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.get() == null) {
+                    free.offer(entry.index);
+                } else {
+                    insert(rebuilt, entry);
+                    entries++;
+                }
+            }
+            return rebuilt;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private static int find(final Entry[] table, final Object descriptor) {
+            final int mask = table.length - 1;
+            for (int i = System.identityHashCode(descriptor) & mask; ; i = (i + 1) & mask) {
+                final Entry entry = table[i];
+                if (entry == null) {
+                    return -1;
+                }
+                if (entry.get() == descriptor) {
+                    return entry.index;
+                }
+            }
+        }
+
+        private static void insert(final Entry[] table, final Entry entry) {
+            final int mask = table.length - 1;
+            int i = entry.hash & mask;
+            while (table[i] != null) {
+                i = (i + 1) & mask;
+            }
+            table[i] = entry;
+        }
+    }
+
+    /**
+     * Weak reference to a descriptor together with its slot.
+     */
+    private static final class Entry extends WeakReference<Object> {
+
+        private final int hash;
+        private final int index;
+
+        private Entry(final Object descriptor, final int index, final ReferenceQueue<Object> queue) {
+            super(descriptor, queue);
+            this.hash = System.identityHashCode(descriptor);
+            this.index = index;
+        }
     }
 
     /**
@@ -66,6 +188,9 @@ public class Hk2RequestScope extends RequestScope {
      */
     public static final class Instance implements org.glassfish.jersey.process.internal.RequestContext {
 
+        private static final Object[] EMPTY = new Object[0];
+        private static final ForeignDescriptor[] NO_DESCRIPTORS = new ForeignDescriptor[0];
+
         private final ExtendedLogger logger = new ExtendedLogger(Logger.getLogger(Instance.class.getName()), Level.FINEST);
 
         /*
@@ -76,18 +201,33 @@ public class Hk2RequestScope extends RequestScope {
          */
         private final LazyUid id = new LazyUid();
 
+        private final Slots slots;
+
         /**
-         * A map of injectable instances in this scope.
+         * Injectable instances in this scope indexed by the {@link Slots slot} of their descriptor.
          */
-        private final Map<ForeignDescriptor, Object> store;
+        private Object[] store;
+
+        /**
+         * Descriptors of the injectable instances in this scope, {@code null} if the slot is empty.
+         */
+        private ForeignDescriptor[] descriptors;
+
+        /**
+         * Number of the injectable instances in this scope.
+         */
+        private int size;
 
         /**
          * Holds the number of snapshots of this scope.
          */
         private final AtomicInteger referenceCounter;
 
-        private Instance() {
-            this.store = new HashMap<>();
+        private Instance(final Slots slots) {
+            final int capacity = slots.size();
+            this.slots = slots;
+            this.store = capacity == 0 ? EMPTY : new Object[capacity];
+            this.descriptors = capacity == 0 ? NO_DESCRIPTORS : new ForeignDescriptor[capacity];
             this.referenceCounter = new AtomicInteger(1);
         }
 
@@ -106,6 +246,17 @@ public class Hk2RequestScope extends RequestScope {
             return this;
         }
 
+        /**
+         * Get the slot of the given descriptor. The slot can be used to access the inhabitant of the descriptor
+         * in any scope instance of the same request scope.
+         *
+         * @param descriptor descriptor, e.g. an HK2 {@code ActiveDescriptor}.
+         * @return slot of the descriptor.
+         */
+        int slot(final Object descriptor) {
+            return slots.indexOf(descriptor);
+        }
+
         /**
          * Get an inhabitant stored in the scope instance that matches the active descriptor .
          *
@@ -113,9 +264,20 @@ public class Hk2RequestScope extends RequestScope {
          * @param descriptor inhabitant descriptor.
          * @return matched inhabitant stored in the scope instance or {@code null} if not matched.
          */
-        @SuppressWarnings("unchecked")
         public <T> T get(ForeignDescriptor descriptor) {
-            return (T) store.get(descriptor);
+            return get(slot(descriptor.get()));
+        }
+
+        /**
+         * Get an inhabitant stored in the given slot.
+         *
+         * @param <T>  inhabitant type.
+         * @param slot inhabitant descriptor slot.
+         * @return inhabitant stored in the slot or {@code null} if the slot is empty.
+         */
+        @SuppressWarnings("unchecked")
+        <T> T get(final int slot) {
+            return slot < store.length ? (T) store[slot] : null;
         }
 
         /**
@@ -127,15 +289,37 @@ public class Hk2RequestScope extends RequestScope {
          * @return old inhabitant previously stored for the given descriptor or
          * {@code null} if none stored.
          */
-        @SuppressWarnings("unchecked")
         public <T> T put(ForeignDescriptor descriptor, T value) {
-            checkState(!store.containsKey(descriptor),
+            return put(slot(descriptor.get()), descriptor, value);
+        }
+
+        /**
+         * Store a new inhabitant for the given descriptor in the given slot.
+         *
+         * @param <T>        inhabitant type.
+         * @param slot       inhabitant descriptor slot.
+         * @param descriptor inhabitant descriptor.
+         * @param value      inhabitant value.
+         * @return old inhabitant previously stored in the slot or {@code null} if none stored.
+         */
+        @SuppressWarnings("unchecked")
+        <T> T put(final int slot, final ForeignDescriptor descriptor, final T value) {
+            if (slot >= store.length) {
+                final int capacity = Math.max(slot + 1, slots.size());
+                store = Arrays.copyOf(store, capacity);
+                descriptors = Arrays.copyOf(descriptors, capacity);
+            }
+            checkState(descriptors[slot] == null,
                     "An instance for the descriptor %s was already seeded in this scope. Old instance: %s New instance: %s",
                     descriptor,
-                    store.get(descriptor),
+                    store[slot],
                     value);
 
-            return (T) store.put(descriptor, value);
+            final T old = (T) store[slot];
+            store[slot] = value;
+            descriptors[slot] = descriptor;
+            size++;
+            return old;
         }
 
         /**
@@ -143,16 +327,42 @@ public class Hk2RequestScope extends RequestScope {
          *
          * @param descriptor key for the value to be removed.
          */
-        @SuppressWarnings("unchecked")
         public <T> void remove(ForeignDescriptor descriptor) {
-            final T removed = (T) store.remove(descriptor);
+            remove(slot(descriptor.get()));
+        }
+
+        /**
+         * Remove a value stored in the given slot if present in the scope instance store.
+         *
+         * @param slot slot of the value to be removed.
+         */
+        void remove(final int slot) {
+            if (slot >= store.length || descriptors[slot] == null) {
+                return;
+            }
+
+            final Object removed = store[slot];
+            final ForeignDescriptor descriptor = descriptors[slot];
+            store[slot] = null;
+            descriptors[slot] = null;
+            size--;
             if (removed != null) {
                 descriptor.dispose(removed);
             }
         }
 
         public boolean contains(ForeignDescriptor provider) {
-            return store.containsKey(provider);
+            return contains(slot(provider.get()));
+        }
+
+        /**
+         * Check whether an inhabitant is stored in the given slot.
+         *
+         * @param slot inhabitant descriptor slot.
+         * @return {@code true} if the slot is not empty.
+         */
+        boolean contains(final int slot) {
+            return slot < descriptors.length && descriptors[slot] != null;
         }
 
         /**
@@ -164,7 +374,9 @@ public class Hk2RequestScope extends RequestScope {
         public void release() {
             if (referenceCounter.decrementAndGet() < 1) {
                 try {
-                    new HashSet<>(store.keySet()).forEach(this::remove);
+                    for (int slot = 0; slot < descriptors.length && size > 0; slot++) {
+                        remove(slot);
+                    }
                 } finally {
                     logger.debugLog("Released scope instance {0}", this);
                 }
@@ -176,9 +388,8 @@ public class Hk2RequestScope extends RequestScope {
             return "Instance{"
                     + "id=" + id
                     + ", referenceCounter=" + referenceCounter
-                    + ", store size=" + store.size()
+                    + ", store size=" + size
                     + '}';
         }
     }
 }
-
@@ -77,11 +77,12 @@ public class RequestContext implements Context<RequestScoped> {
     @Override
     public <U> U findOrCreate(ActiveDescriptor<U> activeDescriptor, ServiceHandle<?> root) {
         Hk2RequestScope.Instance instance = (Hk2RequestScope.Instance) requestScope.current();
+        final int slot = instance.slot(activeDescriptor);
 
-        U retVal = instance.get(ForeignDescriptor.wrap(activeDescriptor));
+        U retVal = instance.get(slot);
         if (retVal == null) {
             retVal = activeDescriptor.create(root);
-            instance.put(ForeignDescriptor.wrap(activeDescriptor, obj -> activeDescriptor.dispose((U) obj)), retVal);
+            instance.put(slot, ForeignDescriptor.wrap(activeDescriptor, obj -> activeDescriptor.dispose((U) obj)), retVal);
         }
         return retVal;
     }
@@ -89,7 +90,7 @@ public class RequestContext implements Context<RequestScoped> {
     @Override
     public boolean containsKey(ActiveDescriptor<?> descriptor) {
         Hk2RequestScope.Instance instance = (Hk2RequestScope.Instance) requestScope.current();
-        return instance.contains(ForeignDescriptor.wrap(descriptor));
+        return instance.contains(instance.slot(descriptor));
     }
 
     @Override
@@ -105,7 +106,7 @@ public class RequestContext implements Context<RequestScoped> {
     @Override
     public void destroyOne(ActiveDescriptor<?> descriptor) {
         Hk2RequestScope.Instance instance = (Hk2RequestScope.Instance) requestScope.current();
-        instance.remove(ForeignDescriptor.wrap(descriptor));
+        instance.remove(instance.slot(descriptor));
     }
 
     @Override
@@ -49,6 +49,7 @@ import javax.ws.rs.ext.MessageBodyWriter;
 import org.glassfish.jersey.CommonProperties;
 import org.glassfish.jersey.internal.InternalProperties;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.internal.util.Property;
 import org.glassfish.jersey.jackson.internal.FilteringJacksonJaxbJsonProvider;
 import org.glassfish.jersey.jackson.internal.JacksonFilteringFeature;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.base.JsonMappingExceptionMapper;
@@ -64,6 +65,27 @@ import org.glassfish.jersey.message.filtering.EntityFilteringFeature;
  */
 public class JacksonFeature implements Feature {
 
+    /**
+     * Maximum number of resolved Jackson endpoint configurations (JSON views, {@code ObjectReader}s and
+     * {@code ObjectWriter}s configured by the entity annotations) the Jackson provider caches for reading and for writing
+     * entities. Applications with many resource methods whose annotations differ may need to raise the value in order
+     * to avoid resolving the configurations repeatedly.
+     * <p>
+     * The cache hit and miss counts can be obtained from the
+     * {@link org.glassfish.jersey.jackson.internal.jackson.jaxrs.base.ProviderBase#getReaderCache() provider}.
+     * </p>
+     * <p>
+     * The value MUST be a positive integer. The default value is {@code 120}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    @Property
+    public static final String ENDPOINT_CACHE_SIZE = "jersey.config.jackson.endpointCacheSize";
+
     private static final String JSON_FEATURE = JacksonFeature.class.getSimpleName();
 
     @Override
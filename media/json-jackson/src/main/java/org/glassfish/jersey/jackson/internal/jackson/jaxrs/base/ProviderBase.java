@@ -32,7 +32,7 @@ import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.ObjectReaderModif
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.ObjectWriterInjector;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.ObjectWriterModifier;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.util.ClassKey;
-import org.glassfish.jersey.jackson.internal.jackson.jaxrs.util.LRUMap;
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.util.EndpointCache;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -184,14 +184,14 @@ public abstract class ProviderBase<
     /**
      * Cache for resolved endpoint configurations when reading JSON data
      */
-    protected final LRUMap<AnnotationBundleKey, EP_CONFIG> _readers
-        = new LRUMap<AnnotationBundleKey, EP_CONFIG>(16, 120);
+    protected final EndpointCache<AnnotationBundleKey, EP_CONFIG> _readers
+        = new EndpointCache<AnnotationBundleKey, EP_CONFIG>(16, EndpointCache.DEFAULT_MAX_ENTRIES);
 
     /**
      * Cache for resolved endpoint configurations when writing JSON data
      */
-    protected final LRUMap<AnnotationBundleKey, EP_CONFIG> _writers
-        = new LRUMap<AnnotationBundleKey, EP_CONFIG>(16, 120);
+    protected final EndpointCache<AnnotationBundleKey, EP_CONFIG> _writers
+        = new EndpointCache<AnnotationBundleKey, EP_CONFIG>(16, EndpointCache.DEFAULT_MAX_ENTRIES);
 
     protected final AtomicReference<IOException> _noContentExceptionRef
         = new AtomicReference<IOException>();
@@ -329,6 +329,41 @@ public abstract class ProviderBase<
         _defaultReadView = _defaultWriteView = view;
         return _this();
     }
+
+    /**
+     * Method for specifying maximum number of resolved endpoint configurations
+     * cached for reading and for writing (each). Default is
+     * {@link EndpointCache#DEFAULT_MAX_ENTRIES}; applications with many resource
+     * methods (with differing annotations) may want to increase it, to avoid
+     * repeated resolution of endpoint configurations.
+     *
+     * @since 2.27
+     */
+    public THIS setEndpointCacheSize(int maxEntries) {
+        _readers.setMaxEntries(maxEntries);
+        _writers.setMaxEntries(maxEntries);
+        return _this();
+    }
+
+    /**
+     * Accessor for cache of endpoint configurations used for reading;
+     * mostly useful for checking hit and miss counts.
+     *
+     * @since 2.27
+     */
+    public EndpointCache<AnnotationBundleKey, EP_CONFIG> getReaderCache() {
+        return _readers;
+    }
+
+    /**
+     * Accessor for cache of endpoint configurations used for writing;
+     * mostly useful for checking hit and miss counts.
+     *
+     * @since 2.27
+     */
+    public EndpointCache<AnnotationBundleKey, EP_CONFIG> getWriterCache() {
+        return _writers;
+    }
     
     // // // JaxRSFeature config
     
@@ -603,39 +638,11 @@ public abstract class ProviderBase<
             if (writer.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
                 g.useDefaultPrettyPrinter();
             }
-            JavaType rootType = null;
-
-            if ((genericType != null) && (value != null)) {
-                // 10-Jan-2011, tatu: as per [JACKSON-456], it's not safe to just force root
-                //    type since it prevents polymorphic type serialization. Since we really
-                //    just need this for generics, let's only use generic type if it's truly generic.
-
-                if (!(genericType instanceof Class<?>)) { // generic types are other impls of 'java.lang.reflect.Type'
-                    // This is still not exactly right; should root type be further
-                    // specialized with 'value.getClass()'? Let's see how well this works before
-                    // trying to come up with more complete solution.
-
-                    // 18-Mar-2015, tatu: As per [#60], there is now a problem with non-polymorphic lists,
-                    //    since forcing of type will then force use of content serializer, which is
-                    //    generally not the intent. Fix may require addition of functionality in databind
-
-                    TypeFactory typeFactory = writer.getTypeFactory();
-                    JavaType baseType = typeFactory.constructType(genericType);
-                    rootType = typeFactory.constructSpecializedType(baseType, type);
-                    /* 26-Feb-2011, tatu: To help with [JACKSON-518], we better recognize cases where
-                     *    type degenerates back into "Object.class" (as is the case with plain TypeVariable,
-                     *    for example), and not use that.
-                     */
-                    if (rootType.getRawClass() == Object.class) {
-                        rootType = null;
-                    }
-                }
-            }
-
             // Most of the configuration now handled through EndpointConfig, ObjectWriter
             // but we may need to force root type:
+            JavaType rootType = (value == null) ? null : _rootTypeForWriting(writer, type, genericType);
             if (rootType != null) {
-                writer = writer.forType(rootType);
+                writer = endpoint.getWriter(rootType);
             }
             value = endpoint.modifyBeforeWrite(value);
 
@@ -708,21 +715,54 @@ public abstract class ProviderBase<
 
         EP_CONFIG endpoint;
         AnnotationBundleKey key = new AnnotationBundleKey(annotations, type);
-        synchronized (_writers) {
-            endpoint = _writers.get(key);
-        }
+        endpoint = _writers.get(key);
         // not yet resolved (or not cached any more)? Resolve!
         if (endpoint == null) {
             MAPPER mapper = locateMapper(type, mediaType);
             endpoint = _configForWriting(mapper, annotations, _defaultWriteView);
             // and cache for future reuse
-            synchronized (_writers) {
-                _writers.put(key.immutableKey(), endpoint);
-            }
+            _writers.put(key.immutableKey(), endpoint);
         }
         return endpoint;
     }
 
+    /**
+     * Helper method for determining root type the writer needs to be forced to for
+     * serializing value of given type, if any.
+     *
+     * @return Root type to use; null if the writer should use the runtime type of the value
+     *
+     * @since 2.27
+     */
+    protected JavaType _rootTypeForWriting(ObjectWriter writer, Class<?> type, Type genericType)
+    {
+        // 10-Jan-2011, tatu: as per [JACKSON-456], it's not safe to just force root
+        //    type since it prevents polymorphic type serialization. Since we really
+        //    just need this for generics, let's only use generic type if it's truly generic.
+        if (genericType == null || genericType instanceof Class<?>) { // generic types are other impls of 'java.lang.reflect.Type'
+            return null;
+        }
+        // This is still not exactly right; should root type be further
+        // specialized with 'value.getClass()'? Let's see how well this works before
+        // trying to come up with more complete solution.
+
+        // 18-Mar-2015, tatu: As per [#60], there is now a problem with non-polymorphic lists,
+        //    since forcing of type will then force use of content serializer, which is
+        //    generally not the intent. Fix may require addition of functionality in databind
+
+        TypeFactory typeFactory = writer.getTypeFactory();
+        JavaType baseType = typeFactory.constructType(genericType);
+        JavaType rootType = typeFactory.constructSpecializedType(baseType, type);
+        /* 26-Feb-2011, tatu: To help with [JACKSON-518], we better recognize cases where
+         *    type degenerates back into "Object.class" (as is the case with plain TypeVariable,
+         *    for example), and not use that.
+         */
+        if (rootType.getRawClass() == Object.class) {
+            return null;
+        }
+        return rootType;
+    }
+
     /*
     /**********************************************************
     /* MessageBodyReader impl
@@ -817,14 +857,7 @@ public abstract class ProviderBase<
         // 09-Jul-2015, tatu: As per [jaxrs-providers#69], handle MappingIterator too
         boolean multiValued = (rawType == MappingIterator.class);
         
-        if (multiValued) {
-            JavaType[] contents = tf.findTypeParameters(resolvedType, MappingIterator.class);
-            JavaType valueType = (contents == null || contents.length == 0)
-                    ? tf.constructType(Object.class) : contents[0];
-            reader = reader.forType(valueType);
-        } else {
-            reader = reader.forType(resolvedType);
-        }
+        reader = endpoint.getReader(_valueTypeForReading(reader, resolvedType, multiValued));
 
         // [Issue#32]: allow modification by filter-injectable thing
         ObjectReaderModifier mod = ObjectReaderInjector.getAndClear();
@@ -873,17 +906,81 @@ public abstract class ProviderBase<
 
         EP_CONFIG endpoint;
         AnnotationBundleKey key = new AnnotationBundleKey(annotations, type);
-        synchronized (_readers) {
-            endpoint = _readers.get(key);
-        }
+        endpoint = _readers.get(key);
         // not yet resolved (or not cached any more)? Resolve!
         if (endpoint == null) {
             MAPPER mapper = locateMapper(type, mediaType);
             endpoint = _configForReading(mapper, annotations, _defaultReadView);
             // and cache for future reuse
-            synchronized (_readers) {
-                _readers.put(key.immutableKey(), endpoint);
-            }
+            _readers.put(key.immutableKey(), endpoint);
+        }
+        return endpoint;
+    }
+
+    /**
+     * Helper method for determining type of values to read: the resolved type itself,
+     * or its element type for {@link MappingIterator}.
+     *
+     * @since 2.27
+     */
+    protected JavaType _valueTypeForReading(ObjectReader reader, JavaType resolvedType, boolean multiValued)
+    {
+        if (!multiValued) {
+            return resolvedType;
+        }
+        final TypeFactory tf = reader.getTypeFactory();
+        JavaType[] contents = tf.findTypeParameters(resolvedType, MappingIterator.class);
+        return (contents == null || contents.length == 0)
+                ? tf.constructType(Object.class) : contents[0];
+    }
+
+    /*
+    /**********************************************************
+    /* Precomputation of endpoint configurations
+    /**********************************************************
+     */
+
+    /**
+     * Method that can be called (usually when application is initialized) to
+     * resolve and cache endpoint configuration for reading values of given type
+     * for an endpoint with given annotations, so that requests need not do it.
+     * Will also bind the {@link ObjectReader} to the type (locating its deserializer)
+     * and retain it in the endpoint configuration for reuse by {@link #readFrom}.
+     *
+     * @return Resolved endpoint configuration
+     *
+     * @since 2.27
+     */
+    @SuppressWarnings("unchecked")
+    public EP_CONFIG prepareReading(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        EP_CONFIG endpoint = _endpointForReading((Class<Object>) type, genericType, annotations, mediaType, null);
+        if (type != JsonParser.class) {
+            ObjectReader reader = endpoint.getReader();
+            JavaType resolvedType = reader.getTypeFactory().constructType(genericType == null ? type : genericType);
+            endpoint.getReader(_valueTypeForReading(reader, resolvedType, type == MappingIterator.class));
+        }
+        return endpoint;
+    }
+
+    /**
+     * Method that can be called (usually when application is initialized) to
+     * resolve and cache endpoint configuration for writing values of given type
+     * for an endpoint with given annotations, so that requests need not do it.
+     * For generic types, will also bind the {@link ObjectWriter} to the root type
+     * (locating its serializer) and retain it in the endpoint configuration for reuse
+     * by {@link #writeTo}; values of other types are serialized using their runtime type.
+     *
+     * @return Resolved endpoint configuration
+     *
+     * @since 2.27
+     */
+    public EP_CONFIG prepareWriting(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        EP_CONFIG endpoint = _endpointForWriting(null, type, genericType, annotations, mediaType, null);
+        JavaType rootType = _rootTypeForWriting(endpoint.getWriter(), type, genericType);
+        if (rootType != null) {
+            endpoint.getWriter(rootType);
         }
         return endpoint;
     }
@@ -1,6 +1,7 @@
 package org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg;
 
 import java.lang.annotation.Annotation;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.annotation.JacksonFeatures;
 
@@ -8,6 +9,7 @@ import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
 import com.fasterxml.jackson.annotation.JsonRootName;
 import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -19,6 +21,14 @@ import com.fasterxml.jackson.databind.cfg.MapperConfig;
  */
 public abstract class EndpointConfigBase<THIS extends EndpointConfigBase<THIS>>
 {
+    /**
+     * Maximum number of readers and writers bound to a value type that are
+     * retained per endpoint.
+     *
+     * @since 2.27
+     */
+    protected final static int MAX_TYPED_ENTRIES = 16;
+
     // // General configuration
 
     /**
@@ -37,6 +47,14 @@ public abstract class EndpointConfigBase<THIS extends EndpointConfigBase<THIS>>
 
     protected ObjectReader _reader;
 
+    /**
+     * Readers bound to value types, with their root deserializer prefetched.
+     *
+     * @since 2.27
+     */
+    protected final ConcurrentHashMap<JavaType, ObjectReader> _typedReaders
+        = new ConcurrentHashMap<JavaType, ObjectReader>(4);
+
     // // Serialization-only config
 
     protected SerializationFeature[] _serEnable;
@@ -44,6 +62,14 @@ public abstract class EndpointConfigBase<THIS extends EndpointConfigBase<THIS>>
 
     protected ObjectWriter _writer;
 
+    /**
+     * Writers bound to root types, with their root serializer prefetched.
+     *
+     * @since 2.27
+     */
+    protected final ConcurrentHashMap<JavaType, ObjectWriter> _typedWriters
+        = new ConcurrentHashMap<JavaType, ObjectWriter>(4);
+
     /*
     /**********************************************************
     /* Construction
@@ -173,6 +199,50 @@ public abstract class EndpointConfigBase<THIS extends EndpointConfigBase<THIS>>
         return _writer;
     }
 
+    /**
+     * Accessor for the endpoint reader bound to given value type. Binding the reader
+     * locates the root deserializer, so the bound reader is retained and reused for
+     * subsequent calls with the same type.
+     *
+     * @since 2.27
+     */
+    public ObjectReader getReader(JavaType valueType)
+    {
+        ObjectReader reader = _typedReaders.get(valueType);
+        if (reader == null) {
+            reader = getReader().forType(valueType);
+            if (_typedReaders.size() < MAX_TYPED_ENTRIES) {
+                ObjectReader existing = _typedReaders.putIfAbsent(valueType, reader);
+                if (existing != null) {
+                    reader = existing;
+                }
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * Accessor for the endpoint writer bound to given root type. Binding the writer
+     * locates the root serializer, so the bound writer is retained and reused for
+     * subsequent calls with the same type.
+     *
+     * @since 2.27
+     */
+    public ObjectWriter getWriter(JavaType rootType)
+    {
+        ObjectWriter writer = _typedWriters.get(rootType);
+        if (writer == null) {
+            writer = getWriter().forType(rootType);
+            if (_typedWriters.size() < MAX_TYPED_ENTRIES) {
+                ObjectWriter existing = _typedWriters.putIfAbsent(rootType, writer);
+                if (existing != null) {
+                    writer = existing;
+                }
+            }
+        }
+        return writer;
+    }
+
     /*
     /**********************************************************
     /* Value modifications
@@ -4,6 +4,7 @@ import java.lang.annotation.Annotation;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.ext.ContextResolver;
@@ -12,6 +13,8 @@ import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 import javax.ws.rs.ext.Providers;
 
+import org.glassfish.jersey.CommonProperties;
+import org.glassfish.jersey.jackson.JacksonFeature;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.base.ProviderBase;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.Annotations;
 
@@ -99,6 +102,22 @@ public class JacksonJsonProvider
     @Context
     protected Providers _providers;
 
+    /**
+     * Method called with injectable configuration to apply provider settings
+     * given as configuration properties (such as
+     * {@link JacksonFeature#ENDPOINT_CACHE_SIZE}).
+     *
+     * @since 2.27
+     */
+    @Context
+    public void setConfiguration(Configuration config) {
+        Integer cacheSize = CommonProperties.getValue(config.getProperties(), config.getRuntimeType(),
+                JacksonFeature.ENDPOINT_CACHE_SIZE, Integer.class);
+        if (cacheSize != null) {
+            setEndpointCacheSize(cacheSize);
+        }
+    }
+
     /*
     /**********************************************************
     /* Construction
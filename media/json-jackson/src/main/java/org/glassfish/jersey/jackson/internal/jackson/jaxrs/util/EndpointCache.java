@@ -0,0 +1,107 @@
+package org.glassfish.jersey.jackson.internal.jackson.jaxrs.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Helper for simple bounded caches used for reusing resolved endpoint
+ * configurations. Lookups do not lock, so that the cache can be shared
+ * by all request threads; and hits and misses are counted to allow
+ * sizing of the cache.
+ *<p>
+ * Instead of tracking access order, cache is simply cleared when it is full
+ * and a new entry is to be added (same as databind <code>LRUMap</code> does):
+ * resolution of an entry is relatively cheap, but contention of all lookups
+ * on a single lock is not.
+ *
+ * @since 2.27
+ */
+public class EndpointCache<K,V>
+{
+    /**
+     * Default maximum number of entries cached.
+     */
+    public final static int DEFAULT_MAX_ENTRIES = 120;
+
+    protected final ConcurrentHashMap<K,V> _map;
+
+    protected volatile int _maxEntries;
+
+    protected final LongAdder _hits = new LongAdder();
+
+    protected final LongAdder _misses = new LongAdder();
+
+    public EndpointCache(int initialEntries, int maxEntries)
+    {
+        _map = new ConcurrentHashMap<K,V>(initialEntries, 0.8f);
+        setMaxEntries(maxEntries);
+    }
+
+    /**
+     * Method for finding cached value for given key; will update hit
+     * and miss counts accordingly.
+     *
+     * @return Cached value, if any; null if none
+     */
+    public V get(K key)
+    {
+        V value = _map.get(key);
+        if (value == null) {
+            _misses.increment();
+        } else {
+            _hits.increment();
+        }
+        return value;
+    }
+
+    public void put(K key, V value)
+    {
+        if (_map.size() >= _maxEntries) {
+            // double-locking, yes, but safe here; trying to avoid "clear storms"
+            synchronized (this) {
+                if (_map.size() >= _maxEntries) {
+                    _map.clear();
+                }
+            }
+        }
+        _map.put(key, value);
+    }
+
+    public void clear()
+    {
+        _map.clear();
+    }
+
+    /**
+     * Method for changing maximum number of cached entries; existing entries
+     * are retained until the cache is full.
+     */
+    public void setMaxEntries(int maxEntries)
+    {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Maximum number of cached entries must be positive: " + maxEntries);
+        }
+        _maxEntries = maxEntries;
+    }
+
+    public int getMaxEntries() { return _maxEntries; }
+
+    public int size() { return _map.size(); }
+
+    /**
+     * @return Number of lookups that found a cached value
+     */
+    public long getHitCount() { return _hits.sum(); }
+
+    /**
+     * @return Number of lookups that did not find a cached value
+     */
+    public long getMissCount() { return _misses.sum(); }
+
+    @Override
+    public String toString()
+    {
+        return "[EndpointCache: size=" + size() + ", maxEntries=" + _maxEntries
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]";
+    }
+}
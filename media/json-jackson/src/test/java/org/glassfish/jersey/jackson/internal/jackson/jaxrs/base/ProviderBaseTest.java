@@ -0,0 +1,162 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.jackson.internal.jackson.jaxrs.base;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.EndpointConfigBase;
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.ObjectReaderInjector;
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.ObjectReaderModifier;
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.ObjectWriterInjector;
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.ObjectWriterModifier;
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JacksonJsonProvider;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests that {@link ProviderBase} reuses the typed readers and writers of the cached endpoint configurations.
+ */
+public class ProviderBaseTest {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+    private static final Type BEAN_LIST_TYPE = new GenericType<List<Bean>>() {}.getType();
+
+    public static class Bean {
+        public String name;
+    }
+
+    @Test
+    public void testReaderReusedByReadFrom() throws IOException {
+        final JacksonJsonProvider provider = new JacksonJsonProvider(new ObjectMapper());
+        final EndpointConfigBase<?> endpoint =
+                provider.prepareReading(Bean.class, Bean.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE);
+        final ObjectReader prepared = endpoint.getReader(endpoint.getReader().getTypeFactory().constructType(Bean.class));
+
+        assertSame(prepared, read(provider));
+        assertSame(prepared, read(provider));
+        assertEquals(1, provider.getReaderCache().size());
+    }
+
+    @Test
+    public void testWriterReusedByWriteTo() throws IOException {
+        final JacksonJsonProvider provider = new JacksonJsonProvider(new ObjectMapper());
+
+        final ObjectWriter first = write(provider);
+        assertSame(first, write(provider));
+
+        final EndpointConfigBase<?> endpoint =
+                provider.prepareWriting(List.class, BEAN_LIST_TYPE, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE);
+        final JavaType rootType = endpoint.getWriter().getTypeFactory().constructType(BEAN_LIST_TYPE);
+        assertSame(first, endpoint.getWriter(rootType));
+        assertEquals(1, provider.getWriterCache().size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectReader read(final JacksonJsonProvider provider) throws IOException {
+        final ObjectReader[] used = new ObjectReader[1];
+        ObjectReaderInjector.set(new ObjectReaderModifier() {
+            @Override
+            public ObjectReader modify(final EndpointConfigBase<?> endpoint,
+                                       final MultivaluedMap<String, String> httpHeaders,
+                                       final JavaType resultType,
+                                       final ObjectReader r,
+                                       final JsonParser p) {
+                used[0] = r;
+                return r;
+            }
+        });
+
+        final Object bean = provider.readFrom((Class<Object>) (Class<?>) Bean.class, Bean.class, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<String, String>(),
+                new ByteArrayInputStream("{\"name\":\"jersey\"}".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("jersey", ((Bean) bean).name);
+        assertNotNull(used[0]);
+        return used[0];
+    }
+
+    private static ObjectWriter write(final JacksonJsonProvider provider) throws IOException {
+        final ObjectWriter[] used = new ObjectWriter[1];
+        ObjectWriterInjector.set(new ObjectWriterModifier() {
+            @Override
+            public ObjectWriter modify(final EndpointConfigBase<?> endpoint,
+                                       final MultivaluedMap<String, Object> responseHeaders,
+                                       final Object valueToWrite,
+                                       final ObjectWriter w,
+                                       final JsonGenerator g) {
+                used[0] = w;
+                return w;
+            }
+        });
+
+        final Bean bean = new Bean();
+        bean.name = "jersey";
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        provider.writeTo(Collections.singletonList(bean), List.class, BEAN_LIST_TYPE, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<String, Object>(), out);
+
+        assertEquals("[{\"name\":\"jersey\"}]", out.toString("UTF-8"));
+        assertNotNull(used[0]);
+        return used[0];
+    }
+}
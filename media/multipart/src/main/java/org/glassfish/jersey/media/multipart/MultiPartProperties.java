@@ -92,6 +92,24 @@ public class MultiPartProperties {
      */
     public static final String TEMP_DIRECTORY = "jersey.config.multipart.tempDir";
 
+    /**
+     * Name of the resource property for the maximum size (in bytes) of a body part entity read from a
+     * {@link StreamingMultiPart streaming multipart} entity. Reading a larger body part entity fails with
+     * {@code 413 Request Entity Too Large} client error.
+     *
+     * The default value is {@value #MAX_PART_SIZE_UNLIMITED} (no limit).
+     *
+     * @since 2.27
+     */
+    public static final String MAX_PART_SIZE = "jersey.config.multipart.maxPartSize";
+
+    /**
+     * The {@link #MAX_PART_SIZE} property value not to limit the size of body part entities.
+     *
+     * @since 2.27
+     */
+    public static final long MAX_PART_SIZE_UNLIMITED = -1;
+
     /**
      * The threshold size (in bytes) above which a body part entity will be
      * buffered to disk instead of being held in memory.
@@ -103,6 +121,11 @@ public class MultiPartProperties {
      */
     private String tempDir = null;
 
+    /**
+     * Maximum size (in bytes) of a body part entity of a streaming multipart entity.
+     */
+    private long maxPartSize = MAX_PART_SIZE_UNLIMITED;
+
     /**
      * Load and customize (if necessary) the configuration values for the
      * {@code jersey-multipart} injection binder.
@@ -137,6 +160,17 @@ public class MultiPartProperties {
         return tempDir;
     }
 
+    /**
+     * Get the maximum size (in bytes) of the entity of a {@link BodyPart} read from a {@link StreamingMultiPart}.
+     * If not customized, the size is not limited ({@value #MAX_PART_SIZE_UNLIMITED}).
+     *
+     * @return maximum size of a body part entity.
+     * @since 2.27
+     */
+    public long getMaxPartSize() {
+        return maxPartSize;
+    }
+
     /**
      * Set the size (in bytes) of the entity of an incoming {@link BodyPart} before it will be buffered to disk.
      *
@@ -162,6 +196,18 @@ public class MultiPartProperties {
         return this;
     }
 
+    /**
+     * Set the maximum size (in bytes) of the entity of a {@link BodyPart} read from a {@link StreamingMultiPart}.
+     *
+     * @param size maximum size of a body part entity, {@value #MAX_PART_SIZE_UNLIMITED} not to limit the size.
+     * @return {@code MultiPartProperties} instance.
+     * @since 2.27
+     */
+    public MultiPartProperties maxPartSize(final long size) {
+        this.maxPartSize = size < 0 ? MAX_PART_SIZE_UNLIMITED : size;
+        return this;
+    }
+
     /**
      * Configure the values returned by this instance's getters based on
      * the contents of a properties resource, if it exists on the classpath
@@ -193,6 +239,9 @@ public class MultiPartProperties {
             if (props.containsKey(TEMP_DIRECTORY)) {
                 this.tempDir = props.getProperty(TEMP_DIRECTORY);
             }
+            if (props.containsKey(MAX_PART_SIZE)) {
+                maxPartSize(Long.parseLong(props.getProperty(MAX_PART_SIZE)));
+            }
         } catch (final IOException e) {
             throw new IllegalArgumentException(e);
         } finally {
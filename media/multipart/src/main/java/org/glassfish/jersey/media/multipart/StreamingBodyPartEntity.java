@@ -0,0 +1,238 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.multipart;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.media.multipart.internal.LocalizationMessages;
+
+import org.jvnet.mimepull.MIMEPart;
+
+/**
+ * Entity of a {@link BodyPart} of a {@link StreamingMultiPart}.
+ * <p>
+ * The content of the body part is not buffered, the {@link #getInputStream() input stream} reads it directly from the
+ * multipart entity stream while it is being parsed. The input stream can therefore be obtained only once.
+ * </p>
+ *
+ * @since 2.27
+ */
+public class StreamingBodyPartEntity extends BodyPartEntity {
+
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+    private static final int SKIP_BUFFER_SIZE = 8192;
+
+    private final MIMEPart mimePart;
+    private final long maxSize;
+    private final RuntimeType runtimeType;
+
+    /**
+     * Size limited input stream of the entity, {@code null} if it has not been obtained yet.
+     */
+    private InputStream stream;
+
+    /**
+     * Constructs a new {@code StreamingBodyPartEntity} with a {@link MIMEPart}.
+     *
+     * @param mimePart    MIMEPart containing the input stream of this body part entity.
+     * @param maxSize     maximum size (in bytes) of the body part entity or
+     *                    {@value MultiPartProperties#MAX_PART_SIZE_UNLIMITED} not to limit the size.
+     * @param runtimeType runtime the entity is read in, determines the exception thrown when the size limit is exceeded.
+     */
+    public StreamingBodyPartEntity(final MIMEPart mimePart, final long maxSize, final RuntimeType runtimeType) {
+        super(mimePart);
+        this.mimePart = mimePart;
+        this.maxSize = maxSize;
+        this.runtimeType = runtimeType;
+    }
+
+    /**
+     * Gets the input stream of the raw bytes of this body part entity. The stream can be obtained only once.
+     * <p>
+     * If the size of the body part entity is limited, reading more bytes than allowed throws
+     * {@link ClientErrorException} with {@code 413 Request Entity Too Large} status on the server side and
+     * {@link ProcessingException} on the client side. Closing such a stream before its end skips the rest of the body
+     * part entity, the skipped bytes count towards the limit as well.
+     * </p>
+     *
+     * @return the input stream of the body part entity.
+     * @throws IllegalStateException if the input stream has already been obtained.
+     */
+    @Override
+    public InputStream getInputStream() {
+        final InputStream in = mimePart.readOnce();
+        if (maxSize < 0) {
+            return in;
+        }
+        stream = new SizeLimitingInputStream(in, maxSize, runtimeType);
+        return stream;
+    }
+
+    /**
+     * Skip the part of this body part entity that has not been read, if the size of the entity is limited. Invoked before
+     * the next body part is parsed, as the parser would otherwise buffer the skipped content without counting it towards
+     * the limit. The skipped content is discarded and cannot be read afterwards.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @throws ClientErrorException on the server side, if the size of the entity exceeds the limit.
+     * @throws ProcessingException on the client side, if the size of the entity exceeds the limit.
+     */
+    public void skipRemaining() throws IOException {
+        if (maxSize < 0) {
+            return;
+        }
+        (stream != null ? stream : getInputStream()).close();
+    }
+
+    /**
+     * Transfer the content of this body part entity to the given file using a {@link FileChannel}. The file is created
+     * (or truncated) and the content is written directly from the entity stream. If the transfer fails, the file is
+     * deleted.
+     *
+     * @param target path of the file to store the body part entity to.
+     * @return number of bytes transferred.
+     * @throws IOException if an I/O error occurs.
+     */
+    public long transferTo(final Path target) throws IOException {
+        try (ReadableByteChannel source = Channels.newChannel(getInputStream());
+             FileChannel channel = FileChannel.open(target,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+            return position;
+        } catch (final IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+    }
+
+    /**
+     * Input stream failing once more than the given number of bytes has been read. The rest of the stream is read (and
+     * counted) when the stream is closed.
+     */
+    private static final class SizeLimitingInputStream extends FilterInputStream {
+
+        private final long limit;
+        private final RuntimeType runtimeType;
+        private long count;
+        private boolean closed;
+
+        private SizeLimitingInputStream(final InputStream in, final long limit, final RuntimeType runtimeType) {
+            super(in);
+            this.limit = limit;
+            this.runtimeType = runtimeType;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                final byte[] buffer = new byte[SKIP_BUFFER_SIZE];
+                int n;
+                while ((n = in.read(buffer)) != -1) {
+                    count(n);
+                }
+            } finally {
+                super.close();
+            }
+        }
+
+        private void count(final long n) {
+            count += n;
+            if (count > limit) {
+                final String message = LocalizationMessages.PART_SIZE_LIMIT_EXCEEDED(limit);
+                if (runtimeType == RuntimeType.SERVER) {
+                    throw new ClientErrorException(message, Response.Status.REQUEST_ENTITY_TOO_LARGE);
+                }
+                throw new ProcessingException(message);
+            }
+        }
+    }
+}
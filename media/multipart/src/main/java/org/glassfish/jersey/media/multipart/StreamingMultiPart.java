@@ -0,0 +1,157 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.multipart;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.glassfish.jersey.media.multipart.internal.LocalizationMessages;
+
+/**
+ * Multipart entity whose {@link BodyPart body parts} are parsed from the entity stream while they are being iterated.
+ * <p>
+ * Unlike {@link MultiPart}, which is available only after the whole multipart message has been read (and the body part
+ * entities have been buffered in memory or in temporary files), the body parts of a streaming multipart entity are
+ * returned as soon as their headers arrive. The entity of each body part is a {@link StreamingBodyPartEntity} that
+ * reads the body part content directly from the entity stream and can be consumed only once, e.g. transferred to a
+ * file using {@link StreamingBodyPartEntity#transferTo(java.nio.file.Path)}:
+ * </p>
+ * <pre>
+ * &#64;POST
+ * &#64;Consumes(MediaType.MULTIPART_FORM_DATA)
+ * public void upload(final StreamingMultiPart multiPart) throws IOException {
+ *     for (final BodyPart part : multiPart) {
+ *         final StreamingBodyPartEntity entity = (StreamingBodyPartEntity) part.getEntity();
+ *         entity.transferTo(uploadDir.resolve(((FormDataBodyPart) part).getName()));
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * A body part entity should be consumed before the next body part is requested, the remaining content of the
+ * previous body part is otherwise buffered in the same way as the body part entities of a {@code MultiPart} (see
+ * {@link MultiPartProperties#getBufferThreshold()}). The size of body part entities can be limited using the
+ * {@link MultiPartProperties#MAX_PART_SIZE} property; the limit applies to the skipped body part entities as well, so
+ * if it is set, the remaining content of the previous body part is read (and discarded) instead of being buffered when
+ * the next body part is requested. The body parts of a {@code multipart/form-data} entity are
+ * {@link FormDataBodyPart form data body parts}.
+ * </p>
+ * <p>
+ * The body parts can be iterated only once. The entity has to be {@link #close() closed} in order to release the
+ * underlying entity stream and any temporary files; on the server side, this is done automatically once the request
+ * has been processed.
+ * </p>
+ *
+ * @since 2.27
+ */
+public final class StreamingMultiPart implements Iterable<BodyPart>, Closeable {
+
+    private final MediaType mediaType;
+    private final MultivaluedMap<String, String> headers;
+    private final Iterator<BodyPart> bodyParts;
+    private final Closeable source;
+    private final AtomicBoolean iterated = new AtomicBoolean();
+
+    /**
+     * Create new streaming multipart entity.
+     *
+     * @param mediaType media type of the multipart entity.
+     * @param headers   headers of the multipart entity.
+     * @param bodyParts iterator parsing the body parts from the entity stream.
+     * @param source    source of the body parts to be closed once the entity is closed.
+     */
+    public StreamingMultiPart(final MediaType mediaType,
+                              final MultivaluedMap<String, String> headers,
+                              final Iterator<BodyPart> bodyParts,
+                              final Closeable source) {
+        this.mediaType = mediaType;
+        this.headers = headers;
+        this.bodyParts = bodyParts;
+        this.source = source;
+    }
+
+    /**
+     * Get the media type of this multipart entity.
+     *
+     * @return media type of the entity.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Get the headers of this multipart entity.
+     *
+     * @return headers of the entity.
+     */
+    public MultivaluedMap<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get the iterator of the body parts of this multipart entity. The body parts are parsed while the returned
+     * iterator is being advanced.
+     *
+     * @return iterator of the body parts.
+     * @throws IllegalStateException if the iterator has already been obtained.
+     */
+    @Override
+    public Iterator<BodyPart> iterator() {
+        if (!iterated.compareAndSet(false, true)) {
+            throw new IllegalStateException(LocalizationMessages.STREAMING_MULTIPART_ALREADY_ITERATED());
+        }
+        return bodyParts;
+    }
+
+    /**
+     * Close the multipart entity, the underlying entity stream and the body part entities.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+}
@@ -111,21 +111,34 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
      * application.
      */
     public MultiPartReaderClientSide(@Context final Providers providers) {
+        mimeConfig = createMimeConfig(getMultiPartProperties(providers, this.getClass()));
+    }
+
+    /**
+     * Get the configured (or default) multipart properties.
+     *
+     * @param providers providers to look up the properties context resolver with.
+     * @param type      type of the reader requesting the properties.
+     * @return multipart properties.
+     */
+    static MultiPartProperties getMultiPartProperties(final Providers providers, final Class<?> type) {
         final ContextResolver<MultiPartProperties> contextResolver =
                 providers.getContextResolver(MultiPartProperties.class, MediaType.WILDCARD_TYPE);
 
         MultiPartProperties properties = null;
         if (contextResolver != null) {
-            properties = contextResolver.getContext(this.getClass());
-        }
-        if (properties == null) {
-            properties = new MultiPartProperties();
+            properties = contextResolver.getContext(type);
         }
-
-        mimeConfig = createMimeConfig(properties);
+        return properties != null ? properties : new MultiPartProperties();
     }
 
-    private MIMEConfig createMimeConfig(final MultiPartProperties properties) {
+    /**
+     * Create mimepull configuration from the multipart properties.
+     *
+     * @param properties multipart properties.
+     * @return mimepull configuration.
+     */
+    static MIMEConfig createMimeConfig(final MultiPartProperties properties) {
         final MIMEConfig mimeConfig = new MIMEConfig();
 
         // Set values defined by user.
@@ -217,38 +230,13 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
             }
         }
 
-        final boolean fileNameFix;
         if (!formData) {
             multiPart.setMediaType(mediaType);
-            fileNameFix = false;
-        } else {
-            // see if the User-Agent header corresponds to some version of MS Internet Explorer
-            // if so, need to set fileNameFix to true to handle issue http://java.net/jira/browse/JERSEY-759
-            final String userAgent = headers.getFirst(HttpHeaders.USER_AGENT);
-            fileNameFix = userAgent != null && userAgent.contains(" MSIE ");
         }
+        final boolean fileNameFix = formData && isFileNameFix(headers);
 
         for (final MIMEPart mimePart : getMimeParts(mimeMessage)) {
-            final BodyPart bodyPart = formData ? new FormDataBodyPart(fileNameFix) : new BodyPart();
-
-            // Configure providers.
-            bodyPart.setMessageBodyWorkers(workers);
-
-            // Copy headers.
-            for (final Header header : mimePart.getAllHeaders()) {
-                bodyPart.getHeaders().add(header.getName(), header.getValue());
-            }
-
-            try {
-                final String contentType = bodyPart.getHeaders().getFirst("Content-Type");
-                if (contentType != null) {
-                    bodyPart.setMediaType(MediaType.valueOf(contentType));
-                }
-
-                bodyPart.getContentDisposition();
-            } catch (final IllegalArgumentException ex) {
-                throw new BadRequestException(ex);
-            }
+            final BodyPart bodyPart = createBodyPart(mimePart, formData, fileNameFix, workers);
 
             // Copy data into a BodyPartEntity structure.
             bodyPart.setEntity(new BodyPartEntity(mimePart));
@@ -260,6 +248,55 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
         return multiPart;
     }
 
+    /**
+     * See if the User-Agent header corresponds to some version of MS Internet Explorer. If so, file names of form data
+     * body parts need to be fixed to handle issue http://java.net/jira/browse/JERSEY-759.
+     *
+     * @param headers headers of the multipart entity.
+     * @return {@code true} if the file names need to be fixed.
+     */
+    static boolean isFileNameFix(final MultivaluedMap<String, String> headers) {
+        final String userAgent = headers.getFirst(HttpHeaders.USER_AGENT);
+        return userAgent != null && userAgent.contains(" MSIE ");
+    }
+
+    /**
+     * Create a body part (without entity) from the given mime part.
+     *
+     * @param mimePart    mime part to copy the headers from.
+     * @param formData    {@code true} if the body part is a part of a {@code multipart/form-data} entity.
+     * @param fileNameFix {@code true} if the file name of a form data body part needs to be fixed.
+     * @param workers     message body workers used by the body part.
+     * @return body part.
+     * @throws BadRequestException if the content type or the content disposition of the body part is invalid.
+     */
+    static BodyPart createBodyPart(final MIMEPart mimePart,
+                                   final boolean formData,
+                                   final boolean fileNameFix,
+                                   final MessageBodyWorkers workers) {
+        final BodyPart bodyPart = formData ? new FormDataBodyPart(fileNameFix) : new BodyPart();
+
+        // Configure providers.
+        bodyPart.setMessageBodyWorkers(workers);
+
+        // Copy headers.
+        for (final Header header : mimePart.getAllHeaders()) {
+            bodyPart.getHeaders().add(header.getName(), header.getValue());
+        }
+
+        try {
+            final String contentType = bodyPart.getHeaders().getFirst("Content-Type");
+            if (contentType != null) {
+                bodyPart.setMediaType(MediaType.valueOf(contentType));
+            }
+
+            bodyPart.getContentDisposition();
+        } catch (final IllegalArgumentException ex) {
+            throw new BadRequestException(ex);
+        }
+        return bodyPart;
+    }
+
     /**
      * Get a list of mime part attachments from given mime message. If an exception occurs during parsing the message the parsed
      * mime parts are closed (any temporary files are deleted).
@@ -280,7 +317,7 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
         }
     }
 
-    private static MediaType unquoteMediaTypeParameters(final MediaType mediaType, final String... parameters) {
+    static MediaType unquoteMediaTypeParameters(final MediaType mediaType, final String... parameters) {
         if (parameters == null || parameters.length == 0) {
             return mediaType;
         }
@@ -0,0 +1,285 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ConstrainedTo;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.Providers;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import org.glassfish.jersey.media.multipart.BodyPart;
+import org.glassfish.jersey.media.multipart.MultiPartProperties;
+import org.glassfish.jersey.media.multipart.StreamingBodyPartEntity;
+import org.glassfish.jersey.media.multipart.StreamingMultiPart;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.internal.HeaderUtils;
+import org.glassfish.jersey.message.internal.MediaTypes;
+
+import org.jvnet.mimepull.MIMEConfig;
+import org.jvnet.mimepull.MIMEMessage;
+import org.jvnet.mimepull.MIMEParsingException;
+import org.jvnet.mimepull.MIMEPart;
+
+/**
+ * {@link MessageBodyReader} implementation for {@link StreamingMultiPart} entities.
+ * <p>
+ * The reader does not parse the entity stream, the body parts are parsed while the returned entity is being iterated.
+ * </p>
+ *
+ * @since 2.27
+ */
+@Consumes("multipart/*")
+@Singleton
+@ConstrainedTo(RuntimeType.CLIENT)
+public class StreamingMultiPartReaderClientSide implements MessageBodyReader<StreamingMultiPart> {
+
+    /**
+     * Injectable helper to look up appropriate {@link MessageBodyReader}s
+     * for our body parts.
+     */
+    @Inject
+    private Provider<MessageBodyWorkers> messageBodyWorkers;
+
+    private final MIMEConfig mimeConfig;
+    private final long maxPartSize;
+    private final RuntimeType runtimeType;
+
+    /**
+     * Accepts constructor injection of the configuration parameters for this
+     * application.
+     */
+    public StreamingMultiPartReaderClientSide(@Context final Providers providers) {
+        this(providers, RuntimeType.CLIENT);
+    }
+
+    /**
+     * Create new reader of streaming multipart entities for the given runtime.
+     *
+     * @param providers   providers to look up the {@link MultiPartProperties} with.
+     * @param runtimeType runtime the entities are read in.
+     */
+    protected StreamingMultiPartReaderClientSide(final Providers providers, final RuntimeType runtimeType) {
+        final MultiPartProperties properties = MultiPartReaderClientSide.getMultiPartProperties(providers, this.getClass());
+
+        this.mimeConfig = MultiPartReaderClientSide.createMimeConfig(properties);
+        this.maxPartSize = properties.getMaxPartSize();
+        this.runtimeType = runtimeType;
+    }
+
+    @Override
+    public boolean isReadable(final Class<?> type,
+                              final Type genericType,
+                              final Annotation[] annotations,
+                              final MediaType mediaType) {
+        return StreamingMultiPart.class == type;
+    }
+
+    @Override
+    public StreamingMultiPart readFrom(final Class<StreamingMultiPart> type,
+                                       final Type genericType,
+                                       final Annotation[] annotations,
+                                       final MediaType mediaType,
+                                       final MultivaluedMap<String, String> headers,
+                                       final InputStream stream) throws IOException, WebApplicationException {
+        return readStreamingMultiPart(mediaType, headers, stream);
+    }
+
+    /**
+     * Create a streaming multipart entity parsing the body parts from the given entity stream.
+     *
+     * @param mediaType media type ({@code multipart/*}) of the entity.
+     * @param headers   headers of the entity.
+     * @param stream    entity stream.
+     * @return streaming multipart entity.
+     */
+    protected StreamingMultiPart readStreamingMultiPart(final MediaType mediaType,
+                                                        final MultivaluedMap<String, String> headers,
+                                                        final InputStream stream) {
+        final MediaType multiPartMediaType = MultiPartReaderClientSide.unquoteMediaTypeParameters(mediaType, "boundary");
+        final MIMEMessage mimeMessage = new MIMEMessage(stream,
+                multiPartMediaType.getParameters().get("boundary"),
+                mimeConfig);
+
+        final boolean formData = MediaTypes.typeEqual(multiPartMediaType, MediaType.MULTIPART_FORM_DATA_TYPE);
+        final boolean fileNameFix = formData && MultiPartReaderClientSide.isFileNameFix(headers);
+
+        final MultivaluedMap<String, String> multiPartHeaders = HeaderUtils.createInbound();
+        for (final Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            multiPartHeaders.addAll(entry.getKey(), entry.getValue());
+        }
+
+        return new StreamingMultiPart(multiPartMediaType, multiPartHeaders,
+                new BodyPartIterator(mimeMessage, formData, fileNameFix, messageBodyWorkers.get(), maxPartSize,
+                        runtimeType),
+                () -> {
+                    try {
+                        mimeMessage.close();
+                    } finally {
+                        stream.close();
+                    }
+                });
+    }
+
+    /**
+     * Iterator parsing the body parts from the mime message one by one.
+     */
+    private static final class BodyPartIterator implements Iterator<BodyPart> {
+
+        private final MIMEMessage message;
+        private final boolean formData;
+        private final boolean fileNameFix;
+        private final MessageBodyWorkers workers;
+        private final long maxPartSize;
+        private final RuntimeType runtimeType;
+
+        private int index;
+        private boolean finished;
+        private BodyPart nextBodyPart;
+        private StreamingBodyPartEntity previousEntity;
+
+        private BodyPartIterator(final MIMEMessage message,
+                                 final boolean formData,
+                                 final boolean fileNameFix,
+                                 final MessageBodyWorkers workers,
+                                 final long maxPartSize,
+                                 final RuntimeType runtimeType) {
+            this.message = message;
+            this.formData = formData;
+            this.fileNameFix = fileNameFix;
+            this.workers = workers;
+            this.maxPartSize = maxPartSize;
+            this.runtimeType = runtimeType;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextBodyPart == null && !finished) {
+                nextBodyPart = readBodyPart();
+                finished = nextBodyPart == null;
+            }
+            return nextBodyPart != null;
+        }
+
+        @Override
+        public BodyPart next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final BodyPart bodyPart = nextBodyPart;
+            nextBodyPart = null;
+            return bodyPart;
+        }
+
+        /**
+         * Parse the headers of the next mime part.
+         *
+         * @return next body part or {@code null} if there are no more body parts.
+         */
+        private BodyPart readBodyPart() {
+            if (previousEntity != null) {
+                final StreamingBodyPartEntity entity = previousEntity;
+                previousEntity = null;
+                try {
+                    // skip the unread content of the previous part, it would be buffered without a limit otherwise
+                    entity.skipRemaining();
+                } catch (final IOException | MIMEParsingException e) {
+                    if (runtimeType == RuntimeType.SERVER) {
+                        throw new BadRequestException(e);
+                    }
+                    throw new ProcessingException(e);
+                }
+            }
+
+            final MIMEPart mimePart;
+            try {
+                mimePart = message.getPart(index);
+            } catch (final MIMEParsingException noMoreParts) {
+                // The message has already been parsed completely.
+                return null;
+            }
+
+            final BodyPart bodyPart;
+            try {
+                try {
+                    // The headers are parsed lazily, reading them drives the parsing until they are found.
+                    mimePart.getAllHeaders();
+                } catch (final IllegalStateException e) {
+                    if (!message.makeProgress()) {
+                        // The message has been parsed completely without finding the headers of another part.
+                        return null;
+                    }
+                    throw e;
+                }
+                bodyPart = MultiPartReaderClientSide.createBodyPart(mimePart, formData, fileNameFix, workers);
+            } catch (final MIMEParsingException mpe) {
+                if (runtimeType == RuntimeType.SERVER) {
+                    throw new BadRequestException(mpe);
+                }
+                throw new ProcessingException(mpe);
+            }
+            index++;
+
+            previousEntity = new StreamingBodyPartEntity(mimePart, maxPartSize, runtimeType);
+            bodyPart.setEntity(previousEntity);
+            return bodyPart;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.media.multipart.BodyPart;
+import org.glassfish.jersey.media.multipart.FormDataBodyPart;
+import org.glassfish.jersey.media.multipart.FormDataContentDisposition;
+import org.glassfish.jersey.media.multipart.FormDataMultiPart;
+import org.glassfish.jersey.media.multipart.MultiPartProperties;
+import org.glassfish.jersey.media.multipart.StreamingBodyPartEntity;
+import org.glassfish.jersey.media.multipart.StreamingMultiPart;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests reading of {@link StreamingMultiPart} entities.
+ */
+public class StreamingMultiPartTest extends MultiPartJerseyTest {
+
+    private static final int MAX_PART_SIZE = 64 * 1024;
+
+    @Override
+    protected Application configure() {
+        return ((ResourceConfig) super.configure())
+                .registerInstances(new MultiPartProperties().bufferThreshold(1024).maxPartSize(MAX_PART_SIZE).resolver());
+    }
+
+    @Override
+    protected void configureClient(final ClientConfig config) {
+        super.configureClient(config);
+        config.register(new MultiPartProperties().bufferThreshold(1024).maxPartSize(MAX_PART_SIZE).resolver());
+    }
+
+    @Override
+    protected Set<Class<?>> getResourceClasses() {
+        return Collections.singleton(StreamingResource.class);
+    }
+
+    @Path("streaming")
+    public static class StreamingResource {
+
+        @POST
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String post(final StreamingMultiPart multiPart) throws IOException {
+            final StringBuilder result = new StringBuilder();
+            for (final BodyPart bodyPart : multiPart) {
+                final FormDataBodyPart part = (FormDataBodyPart) bodyPart;
+                result.append(part.getName()).append('=');
+
+                if (part.isSimple()) {
+                    result.append(part.getValue());
+                } else {
+                    final java.nio.file.Path file = Files.createTempFile("streaming", null);
+                    try {
+                        final long size = ((StreamingBodyPartEntity) part.getEntity()).transferTo(file);
+                        result.append(size).append(':').append(Files.size(file));
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                }
+                result.append(';');
+            }
+            return result.toString();
+        }
+
+        @POST
+        @Path("skip")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String skip(final StreamingMultiPart multiPart) {
+            // the body part entities are not read at all
+            final StringBuilder result = new StringBuilder();
+            for (final BodyPart bodyPart : multiPart) {
+                result.append(((FormDataBodyPart) bodyPart).getName()).append(';');
+            }
+            return result.toString();
+        }
+
+        @GET
+        @Produces(MediaType.MULTIPART_FORM_DATA)
+        public FormDataMultiPart get(@QueryParam("size") final int fileSize) {
+            return multiPart(fileSize);
+        }
+    }
+
+    private static FormDataMultiPart multiPart(final int fileSize) {
+        final byte[] content = new byte[fileSize];
+        Arrays.fill(content, (byte) 'x');
+
+        return new FormDataMultiPart()
+                .field("foo", "bar")
+                .bodyPart(new FormDataBodyPart(
+                        FormDataContentDisposition.name("file").fileName("file.bin").build(), content,
+                        MediaType.APPLICATION_OCTET_STREAM_TYPE))
+                .field("baz", "bop");
+    }
+
+    private Response post(final int fileSize) {
+        return post("streaming", fileSize);
+    }
+
+    private Response post(final String path, final int fileSize) {
+        final FormDataMultiPart multiPart = multiPart(fileSize);
+        return target(path).request().post(Entity.entity(multiPart, multiPart.getMediaType()));
+    }
+
+    @Test
+    public void testStreamingMultiPart() {
+        final Response response = post(MAX_PART_SIZE);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("foo=bar;file=" + MAX_PART_SIZE + ":" + MAX_PART_SIZE + ";baz=bop;", response.readEntity(String.class));
+    }
+
+    @Test
+    public void testPartSizeLimit() {
+        assertEquals(413, post(MAX_PART_SIZE + 1).getStatus());
+    }
+
+    @Test
+    public void testSkippedParts() {
+        final Response response = post("streaming/skip", MAX_PART_SIZE);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("foo;file;baz;", response.readEntity(String.class));
+    }
+
+    @Test
+    public void testSkippedPartSizeLimit() {
+        assertEquals(413, post("streaming/skip", MAX_PART_SIZE + 1).getStatus());
+    }
+
+    @Test
+    public void testClientStreamingMultiPart() throws IOException {
+        try (StreamingMultiPart multiPart = target("streaming").queryParam("size", MAX_PART_SIZE).request()
+                .get(StreamingMultiPart.class)) {
+            final Iterator<BodyPart> parts = multiPart.iterator();
+            assertEquals("bar", ((FormDataBodyPart) parts.next()).getValue());
+            assertEquals(MAX_PART_SIZE, consume((StreamingBodyPartEntity) parts.next().getEntity()));
+            assertEquals("bop", ((FormDataBodyPart) parts.next()).getValue());
+            assertFalse(parts.hasNext());
+        }
+    }
+
+    @Test
+    public void testClientPartSizeLimit() throws IOException {
+        try (StreamingMultiPart multiPart = target("streaming").queryParam("size", MAX_PART_SIZE + 1).request()
+                .get(StreamingMultiPart.class)) {
+            final Iterator<BodyPart> parts = multiPart.iterator();
+            parts.next();
+            try {
+                consume((StreamingBodyPartEntity) parts.next().getEntity());
+                fail("ProcessingException expected.");
+            } catch (final ProcessingException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testClientSkippedPartSizeLimit() throws IOException {
+        try (StreamingMultiPart multiPart = target("streaming").queryParam("size", MAX_PART_SIZE + 1).request()
+                .get(StreamingMultiPart.class)) {
+            final Iterator<BodyPart> parts = multiPart.iterator();
+            parts.next();
+            parts.next();
+            try {
+                // the oversized part has not been read, it is skipped when the next part is requested
+                parts.next();
+                fail("ProcessingException expected.");
+            } catch (final ProcessingException e) {
+                // expected
+            }
+        }
+    }
+
+    private static long consume(final StreamingBodyPartEntity entity) throws IOException {
+        final byte[] buffer = new byte[8192];
+        long size = 0;
+        try (InputStream in = entity.getInputStream()) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                size += n;
+            }
+        }
+        return size;
+    }
+}
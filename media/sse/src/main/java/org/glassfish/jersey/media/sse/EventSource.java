@@ -59,8 +59,10 @@ import java.util.logging.Logger;
 import javax.ws.rs.client.WebTarget;
 
 import org.glassfish.jersey.client.ClientExecutor;
+import org.glassfish.jersey.client.JerseyWebTarget;
 import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.media.sse.internal.EventProcessor;
 
 /**
@@ -128,6 +130,17 @@ import org.glassfish.jersey.media.sse.internal.EventProcessor;
  * HTTP connections, you may do so by invoking the {@link Builder#usePersistentConnections() usePersistentConnections()} method
  * on an event source builder prior to creating a new event source instance.
  * </p>
+ * <h3>Sharing the client executor</h3>
+ * <p>
+ * By default, each event source processes the incoming events in its own internal single-threaded scheduled executor
+ * service. Applications that open many event sources using the same Jersey client may set the
+ * {@link SseFeature#EVENT_SOURCE_SHARED_EXECUTOR} property to let the event sources share the executor and the single
+ * reconnect scheduler of the client instead. The incoming events are still read using a blocking read, so each connected
+ * event source occupies one executor thread; only the event sources waiting for a reconnect do not. If the number of
+ * the executor threads is limited by {@link org.glassfish.jersey.client.ClientProperties#ASYNC_THREADPOOL_SIZE}, an
+ * attempt to {@link #open() open} more event sources than there are threads fails with an
+ * {@link IllegalStateException} instead of waiting for a thread.
+ * </p>
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  * @author Marek Potociar (marek.potociar at oracle.com)
@@ -159,7 +172,15 @@ public class EventSource implements EventListener {
     /**
      * Incoming SSE event processing task executor.
      */
-    private final CloseableClientExecutor executor;
+    private final ClientExecutor executor;
+    /**
+     * Internal executor owned by this event source, {@code null} if the client executor is shared.
+     */
+    private final CloseableClientExecutor ownExecutor;
+    /**
+     * Event processor of the open event source.
+     */
+    private volatile EventProcessor processor;
     /**
      * Event source internal state.
      */
@@ -260,12 +281,19 @@ public class EventSource implements EventListener {
         this.reconnectDelay = reconnectDelay;
         this.disableKeepAlive = disableKeepAlive;
 
-        final String esName = (name == null) ? createDefaultName(target) : name;
+        if (this.target instanceof JerseyWebTarget && PropertiesHelper.isProperty(
+                this.target.getConfiguration().getProperties(), SseFeature.EVENT_SOURCE_SHARED_EXECUTOR)) {
+            this.executor = ((JerseyWebTarget) this.target).getConfiguration().getClientExecutor();
+            this.ownExecutor = null;
+        } else {
+            final String esName = (name == null) ? createDefaultName(target) : name;
 
-        this.executor = new CloseableClientExecutor(Executors.newSingleThreadScheduledExecutor(
-                new ThreadFactoryBuilder().setNameFormat(esName + "-%d")
-                                          .setDaemon(true)
-                                          .build()));
+            this.ownExecutor = new CloseableClientExecutor(Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat(esName + "-%d")
+                                              .setDaemon(true)
+                                              .build()));
+            this.executor = ownExecutor;
+        }
 
         if (open) {
             open();
@@ -280,7 +308,9 @@ public class EventSource implements EventListener {
      * Open the connection to the supplied SSE underlying {@link WebTarget web target} and start processing incoming
      * {@link InboundEvent events}.
      *
-     * @throws IllegalStateException in case the event source has already been opened earlier.
+     * @throws IllegalStateException in case the event source has already been opened earlier, or in case the event source
+     *                               {@link SseFeature#EVENT_SOURCE_SHARED_EXECUTOR shares the client executor} and all
+     *                               its threads are occupied by other connected event sources.
      */
     public void open() {
         if (!state.compareAndSet(EventProcessor.State.READY, EventProcessor.State.OPEN)) {
@@ -298,13 +328,18 @@ public class EventSource implements EventListener {
                               .unboundListeners(unboundListeners)
                               .reconnectDelay(reconnectDelay, TimeUnit.MILLISECONDS);
 
+        if (ownExecutor == null) {
+            // each connected event source occupies one thread of the shared client executor
+            builder.maxConnected(EventProcessor.clientExecutorThreads((JerseyWebTarget) target));
+        }
+
         if (disableKeepAlive) {
             builder.disableKeepAlive();
         }
 
-        EventProcessor processor = builder.build();
+        processor = builder.build();
 
-        executor.submit(processor);
+        processor.start();
 
         // return only after the first request to the SSE endpoint has been made
         processor.awaitFirstContact();
@@ -415,8 +450,12 @@ public class EventSource implements EventListener {
      */
     public boolean close(final long timeout, final TimeUnit unit) {
         shutdown();
+        if (ownExecutor == null) {
+            // the connection has been closed, the shared client executor is not terminated
+            return true;
+        }
         try {
-            if (!executor.awaitTermination(timeout, unit)) {
+            if (!ownExecutor.awaitTermination(timeout, unit)) {
                 LOGGER.log(CONNECTION_ERROR_LEVEL,
                         LocalizationMessages.EVENT_SOURCE_SHUTDOWN_TIMEOUT(target.getUri().toString()));
                 return false;
@@ -434,7 +473,11 @@ public class EventSource implements EventListener {
         if (state.getAndSet(EventProcessor.State.CLOSED) != EventProcessor.State.CLOSED) {
             // shut down only if has not been shut down before
             LOGGER.debugLog("Shutting down event processing.");
-            executor.close();
+            if (ownExecutor != null) {
+                ownExecutor.close();
+            } else if (processor != null) {
+                processor.closeConnection();
+            }
         }
     }
 
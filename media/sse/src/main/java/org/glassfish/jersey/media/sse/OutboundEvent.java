@@ -41,6 +41,7 @@
 package org.glassfish.jersey.media.sse;
 
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.MediaType;
@@ -64,6 +65,16 @@ public final class OutboundEvent implements OutboundSseEvent {
     private final Object data;
     private final long reconnectDelay;
 
+    /**
+     * Event frame serialized by the {@link OutboundEventWriter}, see {@link SseFeature#BROADCAST_SERIALIZE_ONCE}.
+     */
+    private volatile SerializedFrame frame;
+
+    /**
+     * {@code true} once the event has been broadcast by an {@link SseBroadcaster}.
+     */
+    private volatile boolean broadcast;
+
     /**
      * Used for creating {@link OutboundEvent} instances.
      */
@@ -411,4 +422,53 @@ public final class OutboundEvent implements OutboundSseEvent {
     public Object getData() {
         return data;
     }
+
+    /**
+     * Check whether the event has been broadcast by an {@link SseBroadcaster}. Only broadcast events retain their
+     * serialized frame.
+     *
+     * @return {@code true} if the event has been broadcast.
+     */
+    boolean isBroadcast() {
+        return broadcast;
+    }
+
+    /**
+     * Mark the event as broadcast by an {@link SseBroadcaster}.
+     */
+    void setBroadcast() {
+        broadcast = true;
+    }
+
+    /**
+     * Get the event frame serialized using the given charset.
+     *
+     * @param charset charset used to serialize the event frame.
+     * @return serialized event frame or {@code null} if the event has not been serialized using the charset yet.
+     */
+    byte[] getFrame(final Charset charset) {
+        final SerializedFrame current = frame;
+        return current != null && current.charset.equals(charset) ? current.bytes : null;
+    }
+
+    /**
+     * Store the serialized event frame so that it can be written again without serializing the event.
+     *
+     * @param charset charset used to serialize the event frame.
+     * @param bytes   serialized event frame, must not be modified once stored.
+     */
+    void setFrame(final Charset charset, final byte[] bytes) {
+        frame = new SerializedFrame(charset, bytes);
+    }
+
+    private static final class SerializedFrame {
+
+        private final Charset charset;
+        private final byte[] bytes;
+
+        private SerializedFrame(final Charset charset, final byte[] bytes) {
+            this.charset = charset;
+            this.bytes = bytes;
+        }
+    }
 }
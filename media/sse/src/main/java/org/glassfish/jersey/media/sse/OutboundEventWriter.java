@@ -40,6 +40,7 @@
 
 package org.glassfish.jersey.media.sse;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
@@ -47,6 +48,8 @@ import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyWriter;
@@ -55,6 +58,8 @@ import javax.ws.rs.sse.OutboundSseEvent;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.media.sse.internal.BroadcastEvent;
 import org.glassfish.jersey.message.MessageBodyWorkers;
 import org.glassfish.jersey.message.MessageUtils;
 
@@ -79,6 +84,11 @@ class OutboundEventWriter implements MessageBodyWriter<OutboundSseEvent> {
     @Inject
     private Provider<MessageBodyWorkers> workersProvider;
 
+    @Context
+    private Configuration configuration;
+
+    private volatile Boolean serializeOnce;
+
     @Override
     public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
                                final MediaType mediaType) {
@@ -95,7 +105,6 @@ class OutboundEventWriter implements MessageBodyWriter<OutboundSseEvent> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void writeTo(final OutboundSseEvent outboundEvent,
                         final Class<?> type,
                         final Type genericType,
@@ -105,6 +114,55 @@ class OutboundEventWriter implements MessageBodyWriter<OutboundSseEvent> {
                         final OutputStream entityStream) throws IOException, WebApplicationException {
 
         final Charset charset = MessageUtils.getCharset(mediaType);
+        if (outboundEvent instanceof BroadcastEvent && isSerializeOnce()) {
+            final BroadcastEvent event = (BroadcastEvent) outboundEvent;
+
+            byte[] frame = event.getFrame(charset);
+            if (frame == null) {
+                frame = serialize(event.getEvent(), annotations, charset, httpHeaders);
+                event.setFrame(charset, frame);
+            }
+            entityStream.write(frame);
+        } else if (outboundEvent instanceof OutboundEvent && ((OutboundEvent) outboundEvent).isBroadcast() && isSerializeOnce()) {
+            final OutboundEvent event = (OutboundEvent) outboundEvent;
+
+            byte[] frame = event.getFrame(charset);
+            if (frame == null) {
+                frame = serialize(event, annotations, charset, httpHeaders);
+                event.setFrame(charset, frame);
+            }
+            entityStream.write(frame);
+        } else {
+            writeEvent(outboundEvent, annotations, charset, httpHeaders, entityStream);
+        }
+    }
+
+    private byte[] serialize(final OutboundSseEvent outboundEvent,
+                             final Annotation[] annotations,
+                             final Charset charset,
+                             final MultivaluedMap<String, Object> httpHeaders) throws IOException {
+        // concurrent first writes may serialize the event more than once, the frames are equal
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writeEvent(outboundEvent, annotations, charset, httpHeaders, buffer);
+        return buffer.toByteArray();
+    }
+
+    private boolean isSerializeOnce() {
+        Boolean result = serializeOnce;
+        if (result == null) {
+            result = configuration != null && PropertiesHelper.isProperty(
+                    configuration.getProperties(), SseFeature.BROADCAST_SERIALIZE_ONCE);
+            serializeOnce = result;
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeEvent(final OutboundSseEvent outboundEvent,
+                            final Annotation[] annotations,
+                            final Charset charset,
+                            final MultivaluedMap<String, Object> httpHeaders,
+                            final OutputStream entityStream) throws IOException {
         if (outboundEvent.getComment() != null) {
             for (final String comment : outboundEvent.getComment().split("\n")) {
                 entityStream.write(COMMENT_LEAD);
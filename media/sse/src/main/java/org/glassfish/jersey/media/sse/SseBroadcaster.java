@@ -74,4 +74,12 @@ public class SseBroadcaster extends Broadcaster<OutboundEvent> {
     protected SseBroadcaster(final Class<? extends SseBroadcaster> subclass) {
         super(subclass);
     }
+
+    @Override
+    public void broadcast(final OutboundEvent chunk) {
+        if (chunk != null) {
+            chunk.setBroadcast();
+        }
+        super.broadcast(chunk);
+    }
 }
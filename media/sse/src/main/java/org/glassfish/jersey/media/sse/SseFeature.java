@@ -115,6 +115,91 @@ public class SseFeature implements Feature {
     @Property
     public static final String DISABLE_SSE_SERVER = "jersey.config.server.media.sse.disable";
 
+    /**
+     * If {@code true}, {@link EventSource event sources} do not create their own internal single-threaded
+     * scheduled executor service. Instead, the incoming events are processed by tasks submitted to the
+     * {@link org.glassfish.jersey.client.ClientConfig#getClientExecutor() executor of the client} the event source target
+     * belongs to and the reconnects are scheduled by the client's single background scheduler, which is shared by all
+     * the event sources of the client.
+     * <p>
+     * The incoming events of an open connection are read by a blocking task, the client
+     * {@link org.glassfish.jersey.client.ClientProperties#ASYNC_THREADPOOL_SIZE async executor} therefore has to provide
+     * enough threads for all the concurrently connected event sources. Event sources that are waiting for a reconnect do
+     * not occupy any thread. Closing an event source closes its connection and returns without waiting for the shared
+     * executor.
+     * </p>
+     * <p>
+     * The property is only supported for {@link org.glassfish.jersey.client.JerseyWebTarget Jersey web targets}.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    @Property
+    public static final String EVENT_SOURCE_SHARED_EXECUTOR = "jersey.config.client.sse.eventSource.sharedExecutor";
+
+    /**
+     * If {@code true}, each event broadcast by an {@link javax.ws.rs.sse.SseBroadcaster} or an {@link SseBroadcaster}
+     * is serialized into the SSE event frame only once and the serialized frame is then written to all the event sinks
+     * (or {@link EventOutput event outputs}) of the broadcaster. Events sent directly to an event sink or an event output
+     * are always serialized.
+     * <p>
+     * The serialized frame is retained by the event instance, events should therefore not be modified by their data
+     * entity after they have been broadcast.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    @Property
+    public static final String BROADCAST_SERIALIZE_ONCE = "jersey.config.server.sse.broadcast.serializeOnce";
+
+    /**
+     * Maximum number of events buffered for each event sink registered to an {@link javax.ws.rs.sse.SseBroadcaster}
+     * before the {@link #BROADCAST_SLOW_CONSUMER_POLICY slow consumer policy} is applied to the sink.
+     * <p>
+     * The value MUST be a positive {@link Integer}; the value is rounded up to the nearest power of two.
+     * </p>
+     * <p>
+     * The default value is {@code 256}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    @Property
+    public static final String BROADCAST_BUFFER_SIZE = "jersey.config.server.sse.broadcast.bufferSize";
+
+    /**
+     * {@link SlowConsumerPolicy Policy} applied to the event sinks registered to an {@link javax.ws.rs.sse.SseBroadcaster}
+     * whose event buffer is full.
+     * <p>
+     * The value MUST be an instance of {@link SlowConsumerPolicy} or its name.
+     * </p>
+     * <p>
+     * The default value is {@link SlowConsumerPolicy#DISCONNECT}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.27
+     */
+    @Property
+    public static final String BROADCAST_SLOW_CONSUMER_POLICY = "jersey.config.server.sse.broadcast.slowConsumerPolicy";
+
     /**
      * A "reconnection not set" value for the SSE reconnect delay set via {@code retry} field.
      *
@@ -0,0 +1,153 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.sse.internal;
+
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.sse.OutboundSseEvent;
+
+/**
+ * Event sent by the {@link JerseySseBroadcaster} to all its event sinks. The event retains its frame serialized by
+ * the {@code OutboundEventWriter}, see {@link org.glassfish.jersey.media.sse.SseFeature#BROADCAST_SERIALIZE_ONCE}.
+ */
+public final class BroadcastEvent implements OutboundSseEvent {
+
+    private final OutboundSseEvent event;
+
+    private volatile SerializedFrame frame;
+
+    /**
+     * Create a new broadcast event.
+     *
+     * @param event broadcast event.
+     */
+    BroadcastEvent(final OutboundSseEvent event) {
+        this.event = event;
+    }
+
+    /**
+     * Get the broadcast event.
+     *
+     * @return broadcast event.
+     */
+    public OutboundSseEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * Get the event frame serialized using the given charset.
+     *
+     * @param charset charset used to serialize the event frame.
+     * @return serialized event frame or {@code null} if the event has not been serialized using the charset yet.
+     */
+    public byte[] getFrame(final Charset charset) {
+        final SerializedFrame current = frame;
+        return current != null && current.charset.equals(charset) ? current.bytes : null;
+    }
+
+    /**
+     * Store the serialized event frame so that it can be written to the other event sinks without serializing the event.
+     *
+     * @param charset charset used to serialize the event frame.
+     * @param bytes   serialized event frame, must not be modified once stored.
+     */
+    public void setFrame(final Charset charset, final byte[] bytes) {
+        frame = new SerializedFrame(charset, bytes);
+    }
+
+    @Override
+    public Class<?> getType() {
+        return event.getType();
+    }
+
+    @Override
+    public Type getGenericType() {
+        return event.getGenericType();
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return event.getMediaType();
+    }
+
+    @Override
+    public Object getData() {
+        return event.getData();
+    }
+
+    @Override
+    public String getId() {
+        return event.getId();
+    }
+
+    @Override
+    public String getName() {
+        return event.getName();
+    }
+
+    @Override
+    public String getComment() {
+        return event.getComment();
+    }
+
+    @Override
+    public long getReconnectDelay() {
+        return event.getReconnectDelay();
+    }
+
+    @Override
+    public boolean isReconnectDelaySet() {
+        return event.isReconnectDelaySet();
+    }
+
+    private static final class SerializedFrame {
+
+        private final Charset charset;
+        private final byte[] bytes;
+
+        private SerializedFrame(final Charset charset, final byte[] bytes) {
+            this.charset = charset;
+            this.bytes = bytes;
+        }
+    }
+}
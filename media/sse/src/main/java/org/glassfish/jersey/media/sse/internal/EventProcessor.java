@@ -45,8 +45,11 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -56,7 +59,10 @@ import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.sse.SseEvent;
 
+import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.ClientExecutor;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.JerseyWebTarget;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
 import org.glassfish.jersey.media.sse.EventInput;
 import org.glassfish.jersey.media.sse.EventListener;
@@ -122,6 +128,27 @@ public class EventProcessor implements Runnable, EventListener {
      */
     private final EventListener eventListener;
 
+    /**
+     * Currently open event input, shared by all the (reconnecting) event processors of the event source.
+     */
+    private final AtomicReference<EventInput> connection;
+
+    /**
+     * Number of the connected event sources per executor, counted only for the executors with a limited number of
+     * threads.
+     */
+    private static final Map<ClientExecutor, AtomicInteger> CONNECTED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Maximal number of the event sources connected using the {@link #executor}, a negative value means no limit.
+     */
+    private final int maxConnected;
+    /**
+     * Flag indicating that the event source is counted among the {@link #CONNECTED connected event sources}, shared by
+     * all the (reconnecting) event processors of the event source.
+     */
+    private final AtomicBoolean counted;
+
     private EventProcessor(final EventProcessor that) {
         this.firstContactSignal = null;
 
@@ -135,6 +162,9 @@ public class EventProcessor implements Runnable, EventListener {
         this.unboundListeners = that.unboundListeners;
         this.eventListener = that.eventListener;
         this.shutdownHandler = that.shutdownHandler;
+        this.connection = that.connection;
+        this.maxConnected = that.maxConnected;
+        this.counted = that.counted;
     }
 
     private EventProcessor(Builder builder) {
@@ -152,6 +182,9 @@ public class EventProcessor implements Runnable, EventListener {
         this.unboundListeners = builder.unboundListeners == null ? Collections.EMPTY_LIST : builder.unboundListeners;
         this.eventListener = builder.eventListener;
         this.shutdownHandler = builder.shutdownHandler;
+        this.connection = new AtomicReference<>();
+        this.maxConnected = builder.maxConnected;
+        this.counted = new AtomicBoolean();
     }
 
     /**
@@ -173,6 +206,49 @@ public class EventProcessor implements Runnable, EventListener {
         return new Builder(target, state, clientExecutor, eventListener, shutdownHandler);
     }
 
+    /**
+     * Get the number of threads of the client async executor used to process the requests of the given target.
+     *
+     * @param target Jersey web target.
+     * @return configured {@link ClientProperties#ASYNC_THREADPOOL_SIZE async thread pool size}, or {@code -1} if the
+     * number of threads is not limited or not known (e.g. the client uses a custom executor service).
+     */
+    public static int clientExecutorThreads(final JerseyWebTarget target) {
+        final ClientConfig config = target.getConfiguration();
+        if (config.getClient() != null && config.getClient().getExecutorService() != null) {
+            return -1;
+        }
+        final Integer threads = ClientProperties.getValue(config.getProperties(), ClientProperties.ASYNC_THREADPOOL_SIZE,
+                Integer.class);
+        return threads != null && threads > 0 ? threads : -1;
+    }
+
+    /**
+     * Start processing the events of an event source which has just been {@link State#OPEN opened}: submit the event
+     * processor to the executor.
+     * <p>
+     * A connected event source occupies one executor thread as its events are read using a blocking read. If the number
+     * of the event sources connected using the executor is {@link Builder#maxConnected(int) limited} and the limit has
+     * been reached, the event source is not started and returns to the {@link State#READY ready} state, as the event
+     * processor would wait for an executor thread until another event source is closed.
+     * </p>
+     *
+     * @throws IllegalStateException if the maximal number of event sources connected using the executor has been
+     *                               reached.
+     */
+    public void start() {
+        if (maxConnected >= 0) {
+            final AtomicInteger connected = CONNECTED.computeIfAbsent(executor, e -> new AtomicInteger());
+            if (connected.incrementAndGet() > maxConnected) {
+                connected.decrementAndGet();
+                state.compareAndSet(State.OPEN, State.READY);
+                throw new IllegalStateException(LocalizationMessages.EVENT_SOURCE_EXECUTOR_EXHAUSTED(maxConnected));
+            }
+            counted.set(true);
+        }
+        executor.submit(this);
+    }
+
     @Override
     public void run() {
         LOGGER.debugLog("Listener task started.");
@@ -184,7 +260,15 @@ public class EventProcessor implements Runnable, EventListener {
                 if (state.get() == State.OPEN) { // attempt to connect only if even source is open
                     LOGGER.debugLog("Connecting...");
                     eventInput = request.get(EventInput.class);
-                    LOGGER.debugLog("Connected!");
+                    // publish the connection before re-checking the state, so that either the closing thread sees
+                    // the connection or this thread sees the closed state
+                    connection.set(eventInput);
+                    if (state.get() != State.OPEN && connection.compareAndSet(eventInput, null)) {
+                        LOGGER.debugLog("Event source closed while connecting.");
+                        eventInput.close();
+                    } else {
+                        LOGGER.debugLog("Connected!");
+                    }
                 }
             } finally {
                 if (firstContactSignal != null) {
@@ -224,8 +308,11 @@ public class EventProcessor implements Runnable, EventListener {
             // if we're here, an unrecoverable error has occurred - just turn off the lights...
             shutdownHandler.shutdown();
         } finally {
-            if (eventInput != null && !eventInput.isClosed()) {
-                eventInput.close();
+            if (eventInput != null) {
+                connection.compareAndSet(eventInput, null);
+                if (!eventInput.isClosed()) {
+                    eventInput.close();
+                }
             }
             LOGGER.debugLog("Listener task finished.");
         }
@@ -306,7 +393,11 @@ public class EventProcessor implements Runnable, EventListener {
         // propagate the current reconnectDelay, but schedule based on the delay parameter
         final EventProcessor processor = new EventProcessor(this);
         if (delay > 0) {
-            executor.schedule(processor, delay, TimeUnit.MILLISECONDS);
+            // the scheduler (possibly shared by many event sources) only dispatches the reconnect task, it must not be
+            // blocked by reading the events
+            executor.schedule(() -> {
+                executor.submit(processor);
+            }, delay, TimeUnit.MILLISECONDS);
         } else {
             executor.submit(processor);
         }
@@ -323,6 +414,24 @@ public class EventProcessor implements Runnable, EventListener {
         return request;
     }
 
+    /**
+     * Close the currently open connection to the SSE endpoint, if any.
+     * <p>
+     * Closing the connection releases the thread blocked by reading the incoming events. The event processor (or any of
+     * its reconnecting successors) reconnects afterwards only if the event source is still {@link State#OPEN open}.
+     * The event source is no longer counted among the event sources connected using the executor.
+     * </p>
+     */
+    public void closeConnection() {
+        final EventInput eventInput = connection.getAndSet(null);
+        if (eventInput != null) {
+            eventInput.close();
+        }
+        if (counted.compareAndSet(true, false)) {
+            CONNECTED.get(executor).decrementAndGet();
+        }
+    }
+
     /**
      * Await the initial contact with the SSE endpoint.
      */
@@ -376,9 +485,9 @@ public class EventProcessor implements Runnable, EventListener {
         private final ShutdownHandler shutdownHandler;
 
         private long reconnectDelay;
-        private TimeUnit reconnectUnit;
         private String lastEventId;
         private boolean disableKeepAlive;
+        private int maxConnected = -1;
         private List<EventListener> unboundListeners;
         private Map<String, List<EventListener>> boundListeners;
 
@@ -405,8 +514,7 @@ public class EventProcessor implements Runnable, EventListener {
          * @return updated builder instance.
          */
         public Builder reconnectDelay(long reconnectDelay, TimeUnit unit) {
-            this.reconnectDelay = reconnectDelay;
-            this.reconnectUnit = reconnectUnit;
+            this.reconnectDelay = unit.toMillis(reconnectDelay);
             return this;
         }
 
@@ -444,6 +552,19 @@ public class EventProcessor implements Runnable, EventListener {
             return this;
         }
 
+        /**
+         * Limit the number of event sources connected using the same executor, e.g. to the number of threads of a shared
+         * client executor. See {@link EventProcessor#start()}.
+         *
+         * @param maxConnected maximal number of the connected event sources sharing the executor, a negative value
+         *                     means no limit.
+         * @return updated builder instance.
+         */
+        public Builder maxConnected(int maxConnected) {
+            this.maxConnected = maxConnected;
+            return this;
+        }
+
         /**
          * Build the {@link EventProcessor}.
          *
@@ -40,15 +40,22 @@
 
 package org.glassfish.jersey.media.sse.internal;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
 
+import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.sse.OutboundSseEvent;
 import javax.ws.rs.sse.Sse;
 import javax.ws.rs.sse.SseBroadcaster;
 
+import org.glassfish.jersey.internal.util.JerseyPublisher;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SlowConsumerPolicy;
+import org.glassfish.jersey.media.sse.SseFeature;
 
 /**
  * Implementation of server-side injectable Server-Sent Event "context".
@@ -60,6 +67,9 @@ class JerseySse implements Sse {
     @Context
     private ExecutorService executorService;
 
+    @Context
+    private Configuration configuration;
+
     @Override
     public OutboundSseEvent.Builder newEventBuilder() {
         return new OutboundEvent.Builder();
@@ -67,6 +77,27 @@ class JerseySse implements Sse {
 
     @Override
     public SseBroadcaster newBroadcaster() {
-        return new JerseySseBroadcaster(executorService);
+        final Map<String, Object> properties = configuration == null
+                ? Collections.<String, Object>emptyMap() : configuration.getProperties();
+
+        final int bufferSize = PropertiesHelper.getValue(properties, SseFeature.BROADCAST_BUFFER_SIZE,
+                JerseyPublisher.DEFAULT_BUFFER_CAPACITY, Integer.class, null);
+        final SlowConsumerPolicy policy = PropertiesHelper.getValue(properties, SseFeature.BROADCAST_SLOW_CONSUMER_POLICY,
+                SlowConsumerPolicy.DISCONNECT, SlowConsumerPolicy.class, null);
+
+        return new JerseySseBroadcaster(executorService, bufferSize > 0 ? bufferSize : JerseyPublisher.DEFAULT_BUFFER_CAPACITY,
+                toPublisherStrategy(policy),
+                PropertiesHelper.isProperty(properties, SseFeature.BROADCAST_SERIALIZE_ONCE));
+    }
+
+    private static JerseyPublisher.PublisherStrategy toPublisherStrategy(final SlowConsumerPolicy policy) {
+        switch (policy) {
+            case DROP:
+                return JerseyPublisher.PublisherStrategy.DROP;
+            case BLOCK:
+                return JerseyPublisher.PublisherStrategy.BLOCKING;
+            default:
+                return JerseyPublisher.PublisherStrategy.BEST_EFFORT;
+        }
     }
 }
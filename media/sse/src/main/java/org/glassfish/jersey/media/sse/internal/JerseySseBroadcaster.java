@@ -74,6 +74,11 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
      */
     private final CopyOnWriteArrayList<BiConsumer<SseEventSink, Throwable>> onExceptionListeners;
 
+    /**
+     * If {@code true}, the events are wrapped in a {@link BroadcastEvent} so that they are serialized only once.
+     */
+    private final boolean serializeOnce;
+
     /**
      * Package-private constructor.
      * <p>
@@ -82,6 +87,7 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
     JerseySseBroadcaster() {
         onExceptionListeners = new CopyOnWriteArrayList<>();
         onCloseListeners = new CopyOnWriteArrayList<>();
+        serializeOnce = false;
     }
 
     /**
@@ -96,6 +102,27 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
         super(executorService);
         onExceptionListeners = new CopyOnWriteArrayList<>();
         onCloseListeners = new CopyOnWriteArrayList<>();
+        serializeOnce = false;
+    }
+
+    /**
+     * Package-private constructor.
+     * <p>
+     * The broadcaster instance should be obtained by calling {@link Sse#newBroadcaster()}, not directly.
+     *
+     * @param executorService {@code ExecutorService} the executor to use for async delivery,
+     *                        supporting creation of at least one independent thread
+     * @param bufferSize      maximum number of events buffered for each registered event sink
+     * @param strategy        strategy applied to the event sinks with full buffers
+     * @param serializeOnce   if {@code true}, the broadcast events retain their serialized frame, see
+     *                        {@link org.glassfish.jersey.media.sse.SseFeature#BROADCAST_SERIALIZE_ONCE}
+     */
+    JerseySseBroadcaster(final ExecutorService executorService, final int bufferSize, final PublisherStrategy strategy,
+                         final boolean serializeOnce) {
+        super(executorService, bufferSize, strategy);
+        onExceptionListeners = new CopyOnWriteArrayList<>();
+        onCloseListeners = new CopyOnWriteArrayList<>();
+        this.serializeOnce = serializeOnce;
     }
 
     @Override
@@ -126,7 +153,7 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
         if (event == null) {
             throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("event"));
         }
-        publish(event);
+        publish(serializeOnce ? new BroadcastEvent(event) : event);
 
         // TODO JAX-RS 2.1
         return null;
@@ -58,6 +58,13 @@ import org.glassfish.jersey.media.sse.LocalizationMessages;
 
 /**
  * {@code SseEventSource} implementation.
+ * <p>
+ * The events of a connected event source are read by a blocking task which occupies one thread of the client async
+ * executor, the events are delivered to the subscribers by tasks submitted to the same executor. If the number of the
+ * executor threads is limited by {@link org.glassfish.jersey.client.ClientProperties#ASYNC_THREADPOOL_SIZE}, at most one
+ * event source less than there are threads can be connected at a time, an attempt to {@link #open() open} another one
+ * fails with an {@link IllegalStateException}.
+ * </p>
  */
 public class JerseySseEventSource implements SseEventSource {
 
@@ -95,6 +102,10 @@ public class JerseySseEventSource implements SseEventSource {
      * Client provided executor facade.
      */
     private final ClientExecutor clientExecutor;
+    /**
+     * Event processor of the open event source.
+     */
+    private volatile EventProcessor processor;
 
     /**
      * Private constructor.
@@ -193,16 +204,29 @@ public class JerseySseEventSource implements SseEventSource {
         }
 
 
-        EventProcessor processor = EventProcessor
+        processor = EventProcessor
                 .builder(endpoint, state, clientExecutor, this::onEvent, this::close)
                 .reconnectDelay(reconnectDelay, reconnectTimeUnit)
+                .maxConnected(maxConnected())
                 .build();
-        clientExecutor.submit(processor);
+        processor.start();
 
         // return only after the first request to the SSE endpoint has been made
         processor.awaitFirstContact();
     }
 
+    /**
+     * Get the maximal number of event sources connected using the client executor. Each connected event source occupies
+     * one executor thread by reading the events and one thread has to remain available to deliver the events to
+     * the subscribers.
+     *
+     * @return maximal number of connected event sources, {@code -1} if not limited.
+     */
+    private int maxConnected() {
+        final int threads = EventProcessor.clientExecutorThreads(endpoint);
+        return threads < 0 ? -1 : threads - 1;
+    }
+
     @Override
     public boolean isOpen() {
         return state.get() == EventProcessor.State.OPEN;
@@ -211,6 +235,11 @@ public class JerseySseEventSource implements SseEventSource {
     @Override
     public boolean close(final long timeout, final TimeUnit unit) {
         if (state.getAndSet(EventProcessor.State.CLOSED) != EventProcessor.State.CLOSED) {
+            final EventProcessor current = processor;
+            if (current != null) {
+                // release the shared executor thread blocked by reading the events
+                current.closeConnection();
+            }
             publisher.close();
         }
         return true;
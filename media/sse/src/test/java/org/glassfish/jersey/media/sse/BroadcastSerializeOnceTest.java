@@ -0,0 +1,257 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.sse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that broadcast events are serialized only once if {@link SseFeature#BROADCAST_SERIALIZE_ONCE} is enabled and
+ * that events sent directly to an event output are still serialized on each send.
+ */
+public class BroadcastSerializeOnceTest extends JerseyTest {
+
+    private static final int SUBSCRIBERS = 3;
+    private static final AtomicInteger WRITES = new AtomicInteger();
+    private static final SseBroadcaster BROADCASTER = new SseBroadcaster();
+
+    public static class Message {
+
+        private final String text;
+
+        public Message(final String text) {
+            this.text = text;
+        }
+    }
+
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class MessageWriter implements MessageBodyWriter<Message> {
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            return type == Message.class;
+        }
+
+        @Override
+        public void writeTo(final Message message, final Class<?> type, final Type genericType,
+                            final Annotation[] annotations, final MediaType mediaType,
+                            final MultivaluedMap<String, Object> httpHeaders,
+                            final OutputStream entityStream) throws IOException {
+            WRITES.incrementAndGet();
+            entityStream.write(("message:" + message.text).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Path("broadcast")
+    public static class BroadcastResource {
+
+        @GET
+        @Produces(SseFeature.SERVER_SENT_EVENTS)
+        public EventOutput subscribe() {
+            final EventOutput output = new EventOutput();
+            BROADCASTER.add(output);
+            return output;
+        }
+
+        @POST
+        public void broadcast(final String text) {
+            BROADCASTER.broadcast(new OutboundEvent.Builder()
+                    .name("message")
+                    .data(Message.class, new Message(text))
+                    .build());
+        }
+    }
+
+    @Path("sse-broadcast")
+    public static class SseBroadcastResource {
+
+        private static volatile javax.ws.rs.sse.SseBroadcaster broadcaster;
+
+        @Context
+        private Sse sse;
+
+        @GET
+        @Produces(SseFeature.SERVER_SENT_EVENTS)
+        public void subscribe(@Context final SseEventSink sink) {
+            broadcaster().register(sink);
+        }
+
+        @POST
+        public void broadcast(final String text) {
+            broadcaster().broadcast(sse.newEventBuilder()
+                    .name("message")
+                    .data(Message.class, new Message(text))
+                    .build());
+        }
+
+        private javax.ws.rs.sse.SseBroadcaster broadcaster() {
+            synchronized (SseBroadcastResource.class) {
+                if (broadcaster == null) {
+                    broadcaster = sse.newBroadcaster();
+                }
+                return broadcaster;
+            }
+        }
+    }
+
+    @Path("unicast")
+    public static class UnicastResource {
+
+        @GET
+        @Produces(SseFeature.SERVER_SENT_EVENTS)
+        public EventOutput send() {
+            final EventOutput output = new EventOutput();
+            final OutboundEvent event = new OutboundEvent.Builder()
+                    .name("message")
+                    .data(Message.class, new Message("hello"))
+                    .build();
+            new Thread(() -> {
+                try (EventOutput out = output) {
+                    out.write(event);
+                    out.write(event);
+                } catch (final IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+            return output;
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(BroadcastResource.class, SseBroadcastResource.class, UnicastResource.class,
+                MessageWriter.class, SseFeature.class)
+                .property(SseFeature.BROADCAST_SERIALIZE_ONCE, true);
+    }
+
+    @Override
+    protected void configureClient(final ClientConfig config) {
+        config.register(SseFeature.class);
+    }
+
+    @Before
+    public void resetWrites() {
+        WRITES.set(0);
+    }
+
+    @Test
+    public void testEventSerializedOnce() throws Exception {
+        testBroadcastSerializedOnce("broadcast");
+    }
+
+    @Test
+    public void testSseBroadcasterEventSerializedOnce() throws Exception {
+        testBroadcastSerializedOnce("sse-broadcast");
+    }
+
+    private void testBroadcastSerializedOnce(final String path) throws Exception {
+        final CountDownLatch latch = new CountDownLatch(SUBSCRIBERS);
+        final List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+        final List<EventSource> eventSources = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            final EventSource eventSource = EventSource.target(target(path)).build();
+            eventSource.register(event -> {
+                received.add(event.readData());
+                latch.countDown();
+            }, "message");
+            eventSource.open();
+            eventSources.add(eventSource);
+        }
+
+        try {
+            target(path).request().post(Entity.text("hello")).close();
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(Collections.nCopies(SUBSCRIBERS, "message:hello"), received);
+            assertEquals(1, WRITES.get());
+        } finally {
+            eventSources.forEach(EventSource::close);
+        }
+    }
+
+    /**
+     * Events sent directly to an event output are serialized each time they are sent.
+     */
+    @Test
+    public void testUnicastEventSerializedOnEachSend() throws Exception {
+        final EventInput input = target("unicast").request().get(EventInput.class);
+        try {
+            assertEquals("message:hello", input.read().readData());
+            assertEquals("message:hello", input.read().readData());
+            assertEquals(2, WRITES.get());
+        } finally {
+            input.close();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.media.sse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.sse.SseEventSource;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.Test;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests event sources sharing the client executor (see {@link SseFeature#EVENT_SOURCE_SHARED_EXECUTOR}).
+ */
+public class SharedExecutorEventSourceTest extends JerseyTest {
+
+    private static final int EVENT_SOURCES = 10;
+    private static final int THREADS = 3;
+
+    @Path("events")
+    public static class EventsResource {
+
+        @GET
+        @Produces(SseFeature.SERVER_SENT_EVENTS)
+        public EventOutput get() {
+            final EventOutput output = new EventOutput();
+            new Thread(() -> {
+                try {
+                    output.write(new OutboundEvent.Builder().name("message").data(String.class, "hello").build());
+                } catch (final IOException e) {
+                    // ignore
+                } finally {
+                    try {
+                        output.close();
+                    } catch (final IOException e) {
+                        // ignore
+                    }
+                }
+            }).start();
+            return output;
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(EventsResource.class, SseFeature.class);
+    }
+
+    @Override
+    protected void configureClient(final ClientConfig config) {
+        config.register(SseFeature.class);
+        config.property(SseFeature.EVENT_SOURCE_SHARED_EXECUTOR, true);
+    }
+
+    @Test
+    public void testReconnectingEventSources() throws Exception {
+        // every event source receives the event before and after the reconnect
+        final CountDownLatch latch = new CountDownLatch(2 * EVENT_SOURCES);
+
+        final List<EventSource> eventSources = new ArrayList<>();
+        for (int i = 0; i < EVENT_SOURCES; i++) {
+            final EventSource eventSource = EventSource.target(target("events"))
+                    .reconnectingEvery(100, TimeUnit.MILLISECONDS)
+                    .build();
+            final CountDownLatch received = new CountDownLatch(2);
+            eventSource.register(event -> {
+                if (received.getCount() > 0) {
+                    received.countDown();
+                    latch.countDown();
+                }
+            }, "message");
+            eventSource.open();
+            eventSources.add(eventSource);
+        }
+
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            for (final EventSource eventSource : eventSources) {
+                assertTrue(eventSource.close(1, TimeUnit.SECONDS));
+                assertFalse(eventSource.isOpen());
+            }
+        }
+    }
+
+    private Client boundedClient() {
+        return ClientBuilder.newClient(new ClientConfig()
+                .register(SseFeature.class)
+                .property(SseFeature.EVENT_SOURCE_SHARED_EXECUTOR, true)
+                .property(ClientProperties.ASYNC_THREADPOOL_SIZE, THREADS));
+    }
+
+    @Test
+    public void testMoreEventSourcesThanThreads() throws Exception {
+        final Client client = boundedClient();
+        final List<EventSource> eventSources = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                final EventSource eventSource = EventSource.target(client.target(getBaseUri()).path("events")).build();
+                eventSource.open();
+                eventSources.add(eventSource);
+            }
+
+            // the event source would wait for an executor thread forever
+            final EventSource rejected = EventSource.target(client.target(getBaseUri()).path("events")).build();
+            try {
+                rejected.open();
+                fail("IllegalStateException expected.");
+            } catch (final IllegalStateException e) {
+                assertFalse(rejected.isOpen());
+            }
+
+            // a thread is available once another event source is closed
+            assertTrue(eventSources.remove(0).close(1, TimeUnit.SECONDS));
+            rejected.open();
+            eventSources.add(rejected);
+            assertTrue(rejected.isOpen());
+        } finally {
+            for (final EventSource eventSource : eventSources) {
+                eventSource.close(1, TimeUnit.SECONDS);
+            }
+            client.close();
+        }
+    }
+
+    @Test
+    public void testMoreSseEventSourcesThanThreads() throws Exception {
+        final Client client = boundedClient();
+        final List<SseEventSource> eventSources = new ArrayList<>();
+        try {
+            // one of the threads delivers the events to the subscribers
+            for (int i = 0; i < THREADS - 1; i++) {
+                final SseEventSource eventSource = SseEventSource.target(client.target(getBaseUri()).path("events")).build();
+                eventSource.open();
+                eventSources.add(eventSource);
+            }
+
+            final SseEventSource rejected = SseEventSource.target(client.target(getBaseUri()).path("events")).build();
+            try {
+                rejected.open();
+                fail("IllegalStateException expected.");
+            } catch (final IllegalStateException e) {
+                assertFalse(rejected.isOpen());
+            }
+        } finally {
+            for (final SseEventSource eventSource : eventSources) {
+                eventSource.close();
+            }
+            client.close();
+        }
+    }
+}
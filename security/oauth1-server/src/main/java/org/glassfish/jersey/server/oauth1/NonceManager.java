@@ -40,24 +40,38 @@
 
 package org.glassfish.jersey.server.oauth1;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Tracks the nonces for a given consumer key and/or token. Automagically
  * ensures timestamp is monotonically increasing and tracks all nonces
  * for a given timestamp.
+ * <p>
+ * The nonces are kept in time-bucketed segments, each of them covering a fixed interval of timestamps. The segments
+ * are concurrent sets, so the verification does not require any global lock. Expired segments are dropped as a whole
+ * during the garbage collection, only the nonces of the segment overlapping the expiration boundary are inspected
+ * one by one.
+ * </p>
  *
  * @author Paul C. Bryan
  * @author Martin Matula
  * @author Thomas Meire
  */
-final class NonceManager {
+final class NonceManager implements OAuth1NonceStore {
+
+    /**
+     * Number of segments covering the maximum valid age of a nonce timestamp.
+     */
+    private static final int SEGMENTS_PER_MAX_AGE = 16;
+
     /**
      * The maximum valid age of a nonce timestamp, in milliseconds.
      */
@@ -71,18 +85,28 @@ final class NonceManager {
     /**
      * Counts number of verification requests performed to schedule garbage collection.
      */
-    private int gcCounter = 0;
+    private final AtomicInteger gcCounter = new AtomicInteger();
+
+    /**
+     * Ensures that only a single garbage collection runs at a time.
+     */
+    private final AtomicBoolean gcRunning = new AtomicBoolean();
 
     private final TimeUnit timestampUnit;
 
     private final long maximumMapSize;
 
     /**
-     * Maps timestamps to key-nonce pairs.
+     * Interval of timestamps (in milliseconds) covered by a single segment.
      */
-    private final SortedMap<Long, Map<String, Set<String>>> tsToKeyNoncePairs = new TreeMap<>();
+    private final long segmentWidth;
 
-    private volatile long mapSize = 0;
+    /**
+     * Maps segment indexes to segments of timestamp-key-nonce tuples.
+     */
+    private final ConcurrentNavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong mapSize = new AtomicLong();
 
     /**
      * Create a new nonce manager configured with maximum age, old nonce cleaning period and a time
@@ -104,6 +128,7 @@ final class NonceManager {
         this.gcPeriod = gcPeriod;
         this.timestampUnit = timestampUnit;
         this.maximumMapSize = maximumCacheSize;
+        this.segmentWidth = Math.max(1, maxAge / SEGMENTS_PER_MAX_AGE);
     }
 
 
@@ -120,13 +145,13 @@ final class NonceManager {
      * @param now       current time in milliseconds
      * @return true if the timestamp/nonce are valid.
      */
-    synchronized boolean verify(final String key, final String timestamp, final String nonce, final long now) {
+    boolean verify(final String key, final String timestamp, final String nonce, final long now) {
         // convert timestamp to milliseconds since epoch to deal with uniformly
         final long stamp = timestampUnit.toMillis(longValue(timestamp));
 
-        if (mapSize + 1 > maximumMapSize) {
+        if (mapSize.get() + 1 > maximumMapSize) {
             gc(now);
-            if (mapSize + 1 > maximumMapSize) {
+            if (mapSize.get() + 1 > maximumMapSize) {
                 // cannot keep another nonce (prevents exhausting memory)
                 return false;
             }
@@ -137,29 +162,17 @@ final class NonceManager {
             return false;
         }
 
-        Map<String, Set<String>> keyToNonces = tsToKeyNoncePairs.get(stamp);
-        if (keyToNonces == null) {
-            keyToNonces = new HashMap<>();
-            tsToKeyNoncePairs.put(stamp, keyToNonces);
-        }
+        final Segment segment = segments.computeIfAbsent(Math.floorDiv(stamp, segmentWidth), index -> new Segment());
+        final Nonce entry = new Nonce(stamp, key, nonce);
 
-        Set<String> nonces = keyToNonces.get(key);
-        if (nonces == null) {
-            nonces = new HashSet<>();
-            keyToNonces.put(key, nonces);
-        }
-
-        final boolean result = nonces.add(nonce);
-        if (result) {
-            mapSize++;
-        }
+        // returns false if nonce already encountered for given timestamp
+        final boolean result = segment.add(entry);
 
         // perform garbage collection if counter is up to established number of passes
-        if (++gcCounter >= gcPeriod) {
+        if (gcCounter.incrementAndGet() >= gcPeriod) {
             gc(now);
         }
 
-        // returns false if nonce already encountered for given timestamp
         return result;
     }
 
@@ -172,7 +185,8 @@ final class NonceManager {
      * @param nonce     the oauth_nonce value for a given consumer request.
      * @return true if the timestamp/nonce are valid.
      */
-    public synchronized boolean verify(final String key, final String timestamp, final String nonce) {
+    @Override
+    public boolean verify(final String key, final String timestamp, final String nonce) {
         return verify(key, timestamp, nonce, System.currentTimeMillis());
     }
 
@@ -183,15 +197,31 @@ final class NonceManager {
      * @param now milliseconds since epoch representing "now"
      */
     void gc(final long now) {
-        gcCounter = 0;
-        final SortedMap<Long, Map<String, Set<String>>> headMap = tsToKeyNoncePairs.headMap(now - maxAge);
-        for (final Map.Entry<Long, Map<String, Set<String>>> entry : headMap.entrySet()) {
-            for (final Map.Entry<String, Set<String>> timeEntry : entry.getValue().entrySet()) {
-                mapSize -= timeEntry.getValue().size();
-            }
+        if (!gcRunning.compareAndSet(false, true)) {
+            // another thread is collecting the old nonces
+            return;
         }
+        try {
+            gcCounter.set(0);
+            final long oldest = now - maxAge;
+            final long boundary = Math.floorDiv(oldest, segmentWidth);
 
-        headMap.clear();
+            // whole segments of expired nonces
+            final Map<Long, Segment> headMap = segments.headMap(boundary);
+            for (final Map.Entry<Long, Segment> entry : headMap.entrySet()) {
+                if (segments.remove(entry.getKey(), entry.getValue())) {
+                    entry.getValue().expire();
+                }
+            }
+
+            // segment containing both expired and valid nonces
+            final Segment segment = segments.get(boundary);
+            if (segment != null) {
+                segment.removeOlderThan(oldest);
+            }
+        } finally {
+            gcRunning.set(false);
+        }
     }
 
     /**
@@ -200,11 +230,11 @@ final class NonceManager {
      */
     long checkAndGetSize() {
         long size = 0;
-        for (final Map<String, Set<String>> keyToNonces : tsToKeyNoncePairs.values()) {
-            size += keyToNonces.values().size();
+        for (final Segment segment : segments.values()) {
+            size += segment.nonces.size();
         }
-        assert mapSize == size;
-        return mapSize;
+        assert mapSize.get() == size;
+        return mapSize.get();
     }
 
     private static long longValue(final String value) {
@@ -214,5 +244,104 @@ final class NonceManager {
             return -1;
         }
     }
-}
 
+    /**
+     * Segment of timestamp-key-nonce tuples with timestamps within a {@link #segmentWidth single interval}.
+     */
+    private final class Segment {
+
+        /**
+         * Value of the {@link #size} once the segment has been dropped.
+         */
+        private static final int EXPIRED = Integer.MIN_VALUE;
+
+        private final Set<Nonce> nonces = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Number of the nonces of this segment counted in the {@link #mapSize}, {@link #EXPIRED} once the segment has
+         * been dropped.
+         */
+        private final AtomicInteger size = new AtomicInteger();
+
+        /**
+         * Add the nonce to the segment.
+         *
+         * @return {@code false} if the nonce is already present in the segment.
+         */
+        private boolean add(final Nonce nonce) {
+            if (!nonces.add(nonce)) {
+                return false;
+            }
+
+            int current;
+            do {
+                current = size.get();
+                if (current == EXPIRED) {
+                    // the segment has been dropped by a concurrent garbage collection (the nonce will expire anyway)
+                    return true;
+                }
+            } while (!size.compareAndSet(current, current + 1));
+            mapSize.incrementAndGet();
+            return true;
+        }
+
+        private void remove(final Nonce nonce) {
+            if (nonces.remove(nonce)) {
+                size.decrementAndGet();
+                mapSize.decrementAndGet();
+            }
+        }
+
+        /**
+         * Drop the segment. The nonces are not inspected, the segment is only counted off the {@link #mapSize} and
+         * its nonce set is released together with the segment.
+         */
+        private void expire() {
+            mapSize.addAndGet(-size.getAndSet(EXPIRED));
+        }
+
+        private void removeOlderThan(final long oldest) {
+            for (final Nonce nonce : nonces) {
+                if (nonce.stamp < oldest) {
+                    remove(nonce);
+                }
+            }
+        }
+    }
+
+    /**
+     * Timestamp-key-nonce tuple.
+     */
+    private static final class Nonce {
+
+        private final long stamp;
+        private final String key;
+        private final String nonce;
+
+        private Nonce(final long stamp, final String key, final String nonce) {
+            this.stamp = stamp;
+            this.key = key;
+            this.nonce = nonce;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Nonce)) {
+                return false;
+            }
+            final Nonce other = (Nonce) o;
+            return stamp == other.stamp && key.equals(other.key) && nonce.equals(other.nonce);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Long.hashCode(stamp);
+            result = 31 * result + key.hashCode();
+            result = 31 * result + nonce.hashCode();
+            return result;
+        }
+    }
+}
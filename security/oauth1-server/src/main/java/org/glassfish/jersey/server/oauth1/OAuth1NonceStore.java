@@ -0,0 +1,77 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.server.oauth1;
+
+import org.glassfish.jersey.spi.Contract;
+
+/**
+ * Contract for a store of the OAuth nonces that have already been used by the consumers.
+ * <p>
+ * By default, the nonces are tracked in an in-memory store of each server instance. An implementation of this contract
+ * registered as a standard provider replaces the default store, e.g. by a store shared by all the nodes of a cluster.
+ * Only one nonce store is used; if more nonce stores are registered, the one with the highest priority is used.
+ * </p>
+ * <p>
+ * The implementation must be thread-safe, it is invoked concurrently for every OAuth signed request once the request
+ * signature has been successfully verified.
+ * </p>
+ *
+ * @since 2.27
+ */
+@Contract
+public interface OAuth1NonceStore {
+
+    /**
+     * Evaluate the timestamp/nonce combination for validity and store the nonce so that it cannot be used again.
+     * <p>
+     * The nonce is valid if the timestamp is within the accepted age (see {@link OAuth1ServerProperties#MAX_AGE}) and
+     * the nonce has not been used with the same key and timestamp before.
+     * </p>
+     *
+     * @param key       key of the consumer ({@code "c:"} prefixed consumer key) or of the access token ({@code "t:"}
+     *                  prefixed token) the request has been signed by.
+     * @param timestamp the {@code oauth_timestamp} value of the request (see
+     *                  {@link OAuth1ServerProperties#TIMESTAMP_UNIT}).
+     * @param nonce     the {@code oauth_nonce} value of the request.
+     * @return {@code true} if the timestamp/nonce combination is valid, {@code false} otherwise.
+     */
+    boolean verify(String key, String timestamp, String nonce);
+}
@@ -61,6 +61,9 @@ import org.glassfish.jersey.server.oauth1.internal.RequestTokenResource;
  * which will be used to retrieve Request Tokens, Access tokens, etc. The implementation should be configured
  * in this feature or registered as a standard provider.
  * <p/>
+ * Used nonces are tracked in memory by default. A custom {@link OAuth1NonceStore nonce store} (e.g. a store shared
+ * by multiple server nodes) can be registered as a standard provider.
+ * <p/>
  * Feature can be created and configured by various constructors. Beside that, the feature behaviour
  * can be overwritten by configuration properties {@link OAuth1ServerProperties#ENABLE_TOKEN_RESOURCES},
  * {@link OAuth1ServerProperties#REQUEST_TOKEN_URI} and {@link OAuth1ServerProperties#ACCESS_TOKEN_URI}.
@@ -44,6 +44,7 @@ import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
@@ -58,6 +59,8 @@ import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.internal.inject.Providers;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.oauth1.signature.OAuth1Parameters;
 import org.glassfish.jersey.oauth1.signature.OAuth1Secrets;
@@ -83,7 +86,7 @@ class OAuth1ServerFilter implements ContainerRequestFilter {
     private OAuth1Provider provider;
 
     /** Manages and validates incoming nonces. */
-    private final NonceManager nonces;
+    private final OAuth1NonceStore nonces;
 
     /** Value to return in www-authenticate header when 401 response returned. */
     private final String wwwAuthenticateHeader;
@@ -105,9 +108,10 @@ class OAuth1ServerFilter implements ContainerRequestFilter {
     /**
      * Create a new filter.
      * @param rc Resource config.
+     * @param injectionManager injection manager used to look up a custom {@link OAuth1NonceStore nonce store}.
      */
     @Inject
-    public OAuth1ServerFilter(Configuration rc) {
+    public OAuth1ServerFilter(Configuration rc, InjectionManager injectionManager) {
         // establish supported OAuth protocol versions
         HashSet<String> v = new HashSet<String>();
         v.add(null);
@@ -132,7 +136,9 @@ class OAuth1ServerFilter implements ContainerRequestFilter {
         final int maxCacheSize = OAuth1ServerProperties.getValue(rc.getProperties(), OAuth1ServerProperties.MAX_NONCE_CACHE_SIZE,
                 2000000);
 
-        nonces = new NonceManager(maxAge, gcPeriod, timeUnit, maxCacheSize);
+        final Iterator<OAuth1NonceStore> nonceStores = Providers
+                .getAllRankedSortedProviders(injectionManager, OAuth1NonceStore.class).iterator();
+        nonces = nonceStores.hasNext() ? nonceStores.next() : new NonceManager(maxAge, gcPeriod, timeUnit, maxCacheSize);
 
         // www-authenticate header for the life of the object
         wwwAuthenticateHeader = "OAuth realm=\"" + realm + "\"";
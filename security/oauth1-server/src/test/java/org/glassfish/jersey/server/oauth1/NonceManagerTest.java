@@ -41,6 +41,12 @@
 package org.glassfish.jersey.server.oauth1;
 
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
@@ -206,4 +212,42 @@ public class NonceManagerTest {
         assertFalse(nonces.verify("a", "1", "1", 300000));
         assertEquals(3, nonces.checkAndGetSize());
     }
+
+    @Test
+    public void testConcurrentVerification() throws Exception {
+        final NonceManager nonces = new NonceManager(60000, 100, TimeUnit.MILLISECONDS, 2000000);
+        final long now = System.currentTimeMillis();
+        final int threads = 8;
+        final int count = 1000;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                // all the threads try to use the same nonces
+                results.add(executor.submit((Callable<Integer>) () -> {
+                    int accepted = 0;
+                    for (int i = 0; i < count; i++) {
+                        if (nonces.verify("key", Long.toString(now - i * 10), Integer.toString(i), now)) {
+                            accepted++;
+                        }
+                    }
+                    return accepted;
+                }));
+            }
+
+            int accepted = 0;
+            for (final Future<Integer> result : results) {
+                accepted += result.get();
+            }
+            assertEquals(count, accepted);
+            assertEquals(count, nonces.checkAndGetSize());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // nonces older than 5 seconds expire
+        nonces.gc(now + 55000);
+        assertEquals(501, nonces.checkAndGetSize());
+    }
 }
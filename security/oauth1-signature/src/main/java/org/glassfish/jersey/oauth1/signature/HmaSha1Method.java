@@ -40,18 +40,24 @@
 
 package org.glassfish.jersey.oauth1.signature;
 
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
+import org.glassfish.jersey.internal.guava.Cache;
+import org.glassfish.jersey.internal.guava.CacheBuilder;
 import org.glassfish.jersey.uri.UriComponent;
 
 
 /**
  * An OAuth signature method that implements HMAC-SHA1.
+ * <p>
+ * Keys derived from the secrets are cached and {@link Mac} instances are reused per thread.
+ * </p>
  *
  * @author Hubert A. Le Van Gong <hubert.levangong at Sun.COM>
  * @author Paul C. Bryan <pbryan@sun.com>
@@ -62,6 +68,18 @@ public final class HmaSha1Method implements OAuth1SignatureMethod {
 
     private static final String SIGNATURE_ALGORITHM = "HmacSHA1";
 
+    private static final int KEY_CACHE_SIZE = 1024;
+
+    private final Cache<SecretsKey, SecretKeySpec> keys = CacheBuilder.newBuilder().maximumSize(KEY_CACHE_SIZE).build();
+
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance(SIGNATURE_ALGORITHM);
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException(nsae);
+        }
+    });
+
     @Override
     public String name() {
         return NAME;
@@ -77,46 +95,40 @@ public final class HmaSha1Method implements OAuth1SignatureMethod {
     @Override
     public String sign(String baseString, OAuth1Secrets secrets) {
 
-        Mac mac;
+        Mac mac = macs.get();
 
         try {
-            mac = Mac.getInstance(SIGNATURE_ALGORITHM);
-        } catch (NoSuchAlgorithmException nsae) {
-            throw new IllegalStateException(nsae);
-        }
-
-        StringBuilder buf = new StringBuilder();
-
-        // null secrets are interpreted as blank per OAuth specification
-        String secret = secrets.getConsumerSecret();
-        if (secret != null) {
-            buf.append(UriComponent.encode(secret, UriComponent.Type.UNRESERVED));
+            mac.init(getKey(secrets.getConsumerSecret(), secrets.getTokenSecret()));
+        } catch (InvalidKeyException ike) {
+            throw new IllegalStateException(ike);
         }
 
-        buf.append('&');
+        return Base64.encode(mac.doFinal(baseString.getBytes()));
+    }
 
-        secret = secrets.getTokenSecret();
-        if (secret != null) {
-            buf.append(UriComponent.encode(secret, UriComponent.Type.UNRESERVED));
+    private SecretKeySpec getKey(String consumerSecret, String tokenSecret) {
+        final SecretsKey secretsKey = new SecretsKey(consumerSecret, tokenSecret);
+        SecretKeySpec spec = keys.getIfPresent(secretsKey);
+        if (spec != null) {
+            return spec;
         }
 
-        byte[] key;
+        StringBuilder buf = new StringBuilder();
 
-        try {
-            key = buf.toString().getBytes("UTF-8");
-        } catch (UnsupportedEncodingException uee) {
-            throw new IllegalStateException(uee);
+        // null secrets are interpreted as blank per OAuth specification
+        if (consumerSecret != null) {
+            buf.append(UriComponent.encode(consumerSecret, UriComponent.Type.UNRESERVED));
         }
 
-        SecretKeySpec spec = new SecretKeySpec(key, SIGNATURE_ALGORITHM);
+        buf.append('&');
 
-        try {
-            mac.init(spec);
-        } catch (InvalidKeyException ike) {
-            throw new IllegalStateException(ike);
+        if (tokenSecret != null) {
+            buf.append(UriComponent.encode(tokenSecret, UriComponent.Type.UNRESERVED));
         }
 
-        return Base64.encode(mac.doFinal(baseString.getBytes()));
+        spec = new SecretKeySpec(buf.toString().getBytes(StandardCharsets.UTF_8), SIGNATURE_ALGORITHM);
+        keys.put(secretsKey, spec);
+        return spec;
     }
 
     /**
@@ -131,5 +143,35 @@ public final class HmaSha1Method implements OAuth1SignatureMethod {
         // with symmetric cryptography, simply sign again and compare
         return sign(elements, secrets).equals(signature);
     }
-}
 
+    /**
+     * Consumer and token secret pair the signing key is derived from.
+     */
+    private static final class SecretsKey {
+
+        private final String consumerSecret;
+        private final String tokenSecret;
+
+        private SecretsKey(final String consumerSecret, final String tokenSecret) {
+            this.consumerSecret = consumerSecret;
+            this.tokenSecret = tokenSecret;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SecretsKey)) {
+                return false;
+            }
+            final SecretsKey other = (SecretsKey) o;
+            return Objects.equals(consumerSecret, other.consumerSecret) && Objects.equals(tokenSecret, other.tokenSecret);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(consumerSecret, tokenSecret);
+        }
+    }
+}
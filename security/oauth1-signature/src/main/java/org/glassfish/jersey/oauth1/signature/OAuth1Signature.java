@@ -87,6 +87,29 @@ import org.glassfish.jersey.uri.UriComponent;
  */
 public class OAuth1Signature {
 
+    /**
+     * Initial capacity of the reusable string builders.
+     */
+    private static final int BUILDER_CAPACITY = 256;
+
+    /**
+     * Maximum capacity of a string builder that is kept for reuse.
+     */
+    private static final int MAX_BUILDER_CAPACITY = 8192;
+
+    /**
+     * String builders reused for the construction of the request base strings.
+     */
+    private static final ThreadLocal<StringBuilder> BUILDERS = ThreadLocal.withInitial(() -> new StringBuilder(BUILDER_CAPACITY));
+
+    /**
+     * Orders name-value pairs by name and value.
+     */
+    private static final Comparator<String[]> PARAMETER_COMPARATOR = (t, t1) -> {
+        final int c = t[0].compareTo(t1[0]);
+        return c == 0 ? t[1].compareTo(t1[1]) : c;
+    };
+
     private final HashMap<String, OAuth1SignatureMethod> methods;
 
     /**
@@ -197,15 +220,9 @@ public class OAuth1Signature {
         }
 
         // sort name-value pairs by name
-        Collections.sort(list, new Comparator<String[]>() {
-            @Override
-            public int compare(final String[] t, final String[] t1) {
-                final int c = t[0].compareTo(t1[0]);
-                return c == 0 ? t[1].compareTo(t1[1]) : c;
-            }
-        });
+        Collections.sort(list, PARAMETER_COMPARATOR);
 
-        final StringBuilder buf = new StringBuilder();
+        final StringBuilder buf = builder();
 
         // append each name-value pair, delimited with ampersand
         for (final Iterator<String[]> i = list.iterator(); i.hasNext(); ) {
@@ -232,7 +249,7 @@ public class OAuth1Signature {
             if (url == null) {
                 throw new OAuth1SignatureException();
             }
-            final StringBuilder builder = new StringBuilder(url.getProtocol()).append("://").append(url.getHost().toLowerCase());
+            final StringBuilder builder = builder().append(url.getProtocol()).append("://").append(url.getHost().toLowerCase());
             final int port = url.getPort();
             if (port > 0 && port != url.getDefaultPort()) {
                 builder.append(':').append(port);
@@ -255,18 +272,37 @@ public class OAuth1Signature {
      */
     private String baseString(final OAuth1Request request,
                               final OAuth1Parameters params) throws OAuth1SignatureException {
-        // HTTP request method
-        final StringBuilder builder = new StringBuilder(request.getRequestMethod().toUpperCase());
-
         // request URL, see section 3.4.1.2 http://tools.ietf.org/html/draft-hammer-oauth-10#section-3.4.1.2
-        builder.append('&').append(UriComponent.encode(constructRequestURL(request).toASCIIString(),
-                UriComponent.Type.UNRESERVED));
+        final String requestUrl = UriComponent.encode(constructRequestURL(request).toASCIIString(),
+                UriComponent.Type.UNRESERVED);
 
         // normalized request parameters, see section 3.4.1.3.2 http://tools.ietf.org/html/draft-hammer-oauth-10#section-3.4.1.3.2
-        builder.append('&').append(UriComponent.encode(normalizeParameters(request, params),
-                UriComponent.Type.UNRESERVED));
+        final String normalizedParameters = UriComponent.encode(normalizeParameters(request, params),
+                UriComponent.Type.UNRESERVED);
 
-        return builder.toString();
+        // HTTP request method
+        return builder().append(request.getRequestMethod().toUpperCase())
+                .append('&').append(requestUrl)
+                .append('&').append(normalizedParameters)
+                .toString();
+    }
+
+    /**
+     * Get an empty string builder of the current thread. The builder must not be used after another invocation
+     * of this method.
+     *
+     * @return empty reusable string builder.
+     */
+    private static StringBuilder builder() {
+        StringBuilder builder = BUILDERS.get();
+        if (builder.capacity() > MAX_BUILDER_CAPACITY) {
+            // do not keep builders grown by extremely long requests
+            builder = new StringBuilder(BUILDER_CAPACITY);
+            BUILDERS.set(builder);
+        } else {
+            builder.setLength(0);
+        }
+        return builder;
     }
 
     /**
@@ -58,10 +58,17 @@ import java.security.spec.PKCS8EncodedKeySpec;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.glassfish.jersey.internal.guava.Cache;
+import org.glassfish.jersey.internal.guava.CacheBuilder;
 import org.glassfish.jersey.oauth1.signature.internal.LocalizationMessages;
 
 /**
  * An OAuth signature method that implements RSA-SHA1.
+ * <p>
+ * Keys parsed from the secrets are cached (keyed by the secret value) and {@link Signature} instances are reused
+ * per thread, so that signing or verifying a request with already known secrets neither decodes the key nor looks up
+ * the security providers.
+ * </p>
  *
  * @author Hubert A. Le Van Gong <hubert.levangong at Sun.COM>
  * @author Paul C. Bryan <pbryan@sun.com>
@@ -78,6 +85,20 @@ public final class RsaSha1Method implements OAuth1SignatureMethod {
 
     private static final String BEGIN_CERT = "-----BEGIN CERTIFICATE";
 
+    private static final int KEY_CACHE_SIZE = 256;
+
+    private final Cache<String, RSAPrivateKey> privateKeys = CacheBuilder.newBuilder().maximumSize(KEY_CACHE_SIZE).build();
+
+    private final Cache<String, RSAPublicKey> publicKeys = CacheBuilder.newBuilder().maximumSize(KEY_CACHE_SIZE).build();
+
+    private final ThreadLocal<Signature> signatures = ThreadLocal.withInitial(() -> {
+        try {
+            return Signature.getInstance(SIGNATURE_ALGORITHM);
+        } catch (final NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException(nsae);
+        }
+    });
+
     @Override
     public String name() {
         return NAME;
@@ -94,16 +115,42 @@ public final class RsaSha1Method implements OAuth1SignatureMethod {
     @Override
     public String sign(final String baseString, final OAuth1Secrets secrets) throws InvalidSecretException {
 
-        final Signature signature;
+        final Signature signature = signatures.get();
+
+        final RSAPrivateKey rsaPrivateKey = getPrivateKey(secrets.getConsumerSecret());
+
         try {
-            signature = Signature.getInstance(SIGNATURE_ALGORITHM);
-        } catch (final NoSuchAlgorithmException nsae) {
-            throw new IllegalStateException(nsae);
+            signature.initSign(rsaPrivateKey);
+        } catch (final InvalidKeyException ike) {
+            throw new IllegalStateException(ike);
+        }
+
+        try {
+            signature.update(baseString.getBytes());
+        } catch (final SignatureException se) {
+            throw new IllegalStateException(se);
+        }
+
+        final byte[] rsasha1;
+
+        try {
+            rsasha1 = signature.sign();
+        } catch (final SignatureException se) {
+            throw new IllegalStateException(se);
+        }
+
+        return Base64.encode(rsasha1);
+    }
+
+    private RSAPrivateKey getPrivateKey(final String consumerSecret) throws InvalidSecretException {
+        RSAPrivateKey rsaPrivateKey = privateKeys.getIfPresent(consumerSecret);
+        if (rsaPrivateKey != null) {
+            return rsaPrivateKey;
         }
 
         byte[] decodedPrivateKey;
         try {
-            decodedPrivateKey = Base64.decode(secrets.getConsumerSecret());
+            decodedPrivateKey = Base64.decode(consumerSecret);
         } catch (final IOException ioe) {
             throw new InvalidSecretException(LocalizationMessages.ERROR_INVALID_CONSUMER_SECRET(ioe));
         }
@@ -117,34 +164,14 @@ public final class RsaSha1Method implements OAuth1SignatureMethod {
 
         final EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(decodedPrivateKey);
 
-        final RSAPrivateKey rsaPrivateKey;
         try {
             rsaPrivateKey = (RSAPrivateKey) keyFactory.generatePrivate(keySpec);
         } catch (final InvalidKeySpecException ikse) {
             throw new IllegalStateException(ikse);
         }
 
-        try {
-            signature.initSign(rsaPrivateKey);
-        } catch (final InvalidKeyException ike) {
-            throw new IllegalStateException(ike);
-        }
-
-        try {
-            signature.update(baseString.getBytes());
-        } catch (final SignatureException se) {
-            throw new IllegalStateException(se);
-        }
-
-        final byte[] rsasha1;
-
-        try {
-            rsasha1 = signature.sign();
-        } catch (final SignatureException se) {
-            throw new IllegalStateException(se);
-        }
-
-        return Base64.encode(rsasha1);
+        privateKeys.put(consumerSecret, rsaPrivateKey);
+        return rsaPrivateKey;
     }
 
     /**
@@ -159,30 +186,28 @@ public final class RsaSha1Method implements OAuth1SignatureMethod {
     public boolean verify(final String elements, final OAuth1Secrets secrets, final String signature)
             throws InvalidSecretException {
 
-        final Signature sig;
-
-        try {
-            sig = Signature.getInstance(SIGNATURE_ALGORITHM);
-        } catch (final NoSuchAlgorithmException nsae) {
-            throw new IllegalStateException(nsae);
-        }
+        final Signature sig = signatures.get();
 
         RSAPublicKey rsaPubKey = null;
 
         final String tmpkey = secrets.getConsumerSecret();
         if (tmpkey.startsWith(BEGIN_CERT)) {
-            try {
-                Certificate cert = null;
-                final ByteArrayInputStream bais = new ByteArrayInputStream(tmpkey.getBytes());
-                final BufferedInputStream bis = new BufferedInputStream(bais);
-                final CertificateFactory certfac = CertificateFactory.getInstance("X.509");
-                while (bis.available() > 0) {
-                    cert = certfac.generateCertificate(bis);
+            rsaPubKey = publicKeys.getIfPresent(tmpkey);
+            if (rsaPubKey == null) {
+                try {
+                    Certificate cert = null;
+                    final ByteArrayInputStream bais = new ByteArrayInputStream(tmpkey.getBytes());
+                    final BufferedInputStream bis = new BufferedInputStream(bais);
+                    final CertificateFactory certfac = CertificateFactory.getInstance("X.509");
+                    while (bis.available() > 0) {
+                        cert = certfac.generateCertificate(bis);
+                    }
+                    rsaPubKey = (RSAPublicKey) cert.getPublicKey();
+                } catch (final Exception ex) {
+                    LOGGER.log(Level.SEVERE, LocalizationMessages.ERROR_CANNOT_OBTAIN_PUBLIC_KEY(), ex);
+                    return false;
                 }
-                rsaPubKey = (RSAPublicKey) cert.getPublicKey();
-            } catch (final Exception ex) {
-                LOGGER.log(Level.SEVERE, LocalizationMessages.ERROR_CANNOT_OBTAIN_PUBLIC_KEY(), ex);
-                return false;
+                publicKeys.put(tmpkey, rsaPubKey);
             }
         }
 
@@ -46,6 +46,8 @@ import org.glassfish.jersey.uri.UriComponent;
 
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -316,6 +318,30 @@ public class SignatureTest {
      * parameters which were incorrectly encoded (as '+' instead of "%20") with
      * the original encoding routine.
      */
+    @Test
+    public void testCachedSecrets() throws InvalidSecretException {
+        final String baseString = "GET&http%3A%2F%2Fphotos.example.net%2Fphotos&size%3Doriginal";
+
+        final HmaSha1Method hmac = new HmaSha1Method();
+        final OAuth1Secrets secrets = new OAuth1Secrets().consumerSecret("kd94hf93k423kf44").tokenSecret("pfkkdhi9sl3r4s00");
+        final OAuth1Secrets otherSecrets = secrets.clone().tokenSecret("pfkkdhi9sl3r4s01");
+
+        final String signature = hmac.sign(baseString, secrets);
+        assertNotEquals(signature, hmac.sign(baseString, otherSecrets));
+        assertEquals(signature, hmac.sign(baseString, secrets));
+        assertEquals(signature, new HmaSha1Method().sign(baseString, secrets.clone()));
+
+        final RsaSha1Method rsa = new RsaSha1Method();
+        final OAuth1Secrets privateKey = new OAuth1Secrets().consumerSecret(RSA_PRIVKEY);
+        final OAuth1Secrets certificate = new OAuth1Secrets().consumerSecret(RSA_CERTIFICATE);
+
+        final String rsaSignature = rsa.sign(baseString, privateKey);
+        assertEquals(rsaSignature, rsa.sign(baseString, privateKey));
+        assertTrue(rsa.verify(baseString, certificate, rsaSignature));
+        assertTrue(rsa.verify(baseString, certificate, rsaSignature));
+        assertFalse(rsa.verify(baseString + "&", certificate, rsaSignature));
+    }
+
     @Test
     public void testTwitterSig() {
         final OAuth1Signature oauth1Signature = getoAuthSignature();
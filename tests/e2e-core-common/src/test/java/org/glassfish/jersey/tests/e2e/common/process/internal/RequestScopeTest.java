@@ -41,9 +41,15 @@
 package org.glassfish.jersey.tests.e2e.common.process.internal;
 
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.glassfish.jersey.inject.hk2.Hk2RequestScope;
 import org.glassfish.jersey.internal.inject.ForeignDescriptor;
+import org.glassfish.jersey.process.internal.RequestContext;
 import org.glassfish.jersey.process.internal.RequestScope;
 
 import org.glassfish.hk2.api.ServiceHandle;
@@ -52,6 +58,7 @@ import org.glassfish.hk2.utilities.AbstractActiveDescriptor;
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -164,6 +171,91 @@ public class RequestScopeTest {
         assertNull(instance.get(inhab));
     }
 
+    @Test
+    public void testNestedScopeWithSameInstance() throws Exception {
+        final AtomicInteger activations = new AtomicInteger();
+        final RequestScope requestScope = countingScope(activations);
+        ForeignDescriptor inhab = ForeignDescriptor.wrap(new TestProvider("a"));
+        final Hk2RequestScope.Instance instance = (Hk2RequestScope.Instance) requestScope.createContext();
+        instance.put(inhab, "1");
+        requestScope.runInScope(instance, () -> {
+            requestScope.runInScope(instance, () -> assertSame(instance, requestScope.current()));
+            instance.release();
+            assertEquals("1", instance.get(inhab));
+        });
+        assertEquals(1, activations.get());
+        assertNull(instance.get(inhab));
+    }
+
+    @Test
+    public void testContextExecutor() throws Exception {
+        final AtomicInteger activations = new AtomicInteger();
+        final RequestScope requestScope = countingScope(activations);
+        ForeignDescriptor inhab = ForeignDescriptor.wrap(new TestProvider("a"));
+        final Hk2RequestScope.Instance instance = suspendedInstance(requestScope, inhab);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<String> result = new CompletableFuture<>();
+            requestScope.contextExecutor(instance, executor).execute(() -> result.complete(currentValue(requestScope, inhab)));
+            assertEquals("1", result.get());
+
+            activations.set(0);
+            requestScope.runInScope(instance, () -> requestScope.contextExecutor(instance, Runnable::run)
+                    .execute(() -> assertSame(instance, requestScope.current())));
+            assertEquals(1, activations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        instance.release();
+        assertNull(instance.get(inhab));
+    }
+
+    @Test
+    public void testContextStage() throws Exception {
+        final AtomicInteger activations = new AtomicInteger();
+        final RequestScope requestScope = countingScope(activations);
+        ForeignDescriptor inhab = ForeignDescriptor.wrap(new TestProvider("a"));
+        final Hk2RequestScope.Instance instance = suspendedInstance(requestScope, inhab);
+
+        final CompletableFuture<String> source = new CompletableFuture<>();
+        final CompletionStage<String> stage = requestScope.contextStage(instance, source)
+                .thenApplyAsync(value -> value + currentValue(requestScope, inhab))
+                .thenApply(value -> value + currentValue(requestScope, inhab))
+                .thenCompose(value -> CompletableFuture.completedFuture(value + currentValue(requestScope, inhab)));
+
+        activations.set(0);
+        source.complete("0");
+        assertEquals("0111", stage.toCompletableFuture().get());
+        // the synchronous stages are executed in the scope activated for the asynchronous stage
+        assertEquals(1, activations.get());
+
+        instance.release();
+        assertNull(instance.get(inhab));
+    }
+
+    private static RequestScope countingScope(final AtomicInteger activations) {
+        return new Hk2RequestScope() {
+            @Override
+            protected void activate(final RequestContext context, final RequestContext oldContext) {
+                activations.incrementAndGet();
+                super.activate(context, oldContext);
+            }
+        };
+    }
+
+    private static Hk2RequestScope.Instance suspendedInstance(final RequestScope requestScope,
+                                                              final ForeignDescriptor inhab) throws Exception {
+        return requestScope.runInScope(() -> {
+            final Hk2RequestScope.Instance instance = (Hk2RequestScope.Instance) requestScope.suspendCurrent();
+            instance.put(inhab, "1");
+            return instance;
+        });
+    }
+
+    private static String currentValue(final RequestScope requestScope, final ForeignDescriptor inhab) {
+        return ((Hk2RequestScope.Instance) requestScope.current()).get(inhab);
+    }
+
     /**
      * Test request scope inhabitant.
      */
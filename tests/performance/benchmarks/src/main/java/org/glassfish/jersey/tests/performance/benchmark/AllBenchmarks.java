@@ -59,6 +59,12 @@ public class AllBenchmarks {
                 .include(ClientBenchmark.class.getSimpleName())
                 .include(JacksonBenchmark.class.getSimpleName())
                 .include(LocatorBenchmark.class.getSimpleName())
+                .include(DispatchBenchmark.class.getSimpleName())
+                .include(RoutingBenchmark.class.getSimpleName())
+                .include(FilterChainBenchmark.class.getSimpleName())
+                .include(ParameterInjectionBenchmark.class.getSimpleName())
+                .include(EntityBenchmark.class.getSimpleName())
+                .include(MonitoringBenchmark.class.getSimpleName())
                 .include(JerseyUriBuilderBenchmark.class.getSimpleName())
                 // Measure throughput in seconds (ops/s).
                 .mode(Mode.Throughput)
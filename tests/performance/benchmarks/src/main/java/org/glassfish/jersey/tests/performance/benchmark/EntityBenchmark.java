@@ -0,0 +1,166 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.CommonProperties;
+import org.glassfish.jersey.message.internal.NullOutputStream;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entity reading and writing {@link org.glassfish.jersey.server.ApplicationHandler} benchmark.
+ * <p>
+ * Measures the message body reader/writer selection (with and without
+ * {@link ServerProperties#PINNED_ENTITY_PROVIDERS_ENABLED pinned entity providers}) and the response entity buffering and
+ * writing (with and without {@link CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOL pooled buffers}) for entities of
+ * different sizes. A new request is created for every invocation, as the request entity stream can be read only once.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityBenchmark {
+
+    private static volatile String stringEntity;
+
+    @Path("entity")
+    public static class EntityResource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String get() {
+            return stringEntity;
+        }
+
+        @POST
+        @Consumes(MediaType.APPLICATION_OCTET_STREAM)
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public byte[] echo(final byte[] entity) {
+            return entity;
+        }
+    }
+
+    @Param(value = {"16", "8192", "65536"})
+    private int size;
+
+    @Param(value = {"GET", "POST"})
+    private String method;
+
+    @Param(value = {"false", "true"})
+    private boolean pinned;
+
+    @Param(value = {"false", "true"})
+    private boolean pooled;
+
+    private volatile ApplicationHandler handler;
+    private volatile byte[] entity;
+
+    @Setup
+    public void start() throws Exception {
+        final char[] chars = new char[size];
+        Arrays.fill(chars, 'x');
+        stringEntity = new String(chars);
+        entity = stringEntity.getBytes();
+
+        handler = new ApplicationHandler(new ResourceConfig(EntityResource.class)
+                .property(ServerProperties.PINNED_ENTITY_PROVIDERS_ENABLED, pinned)
+                .property(CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER_POOL, pooled)
+                // buffer all the entities to measure the buffering
+                .property(ServerProperties.OUTBOUND_CONTENT_LENGTH_BUFFER, 65536));
+    }
+
+    @Benchmark
+    public Future<ContainerResponse> measure() throws Exception {
+        final ContainerRequest request;
+        if ("GET".equals(method)) {
+            request = ContainerRequestBuilder.from("entity", "GET").build();
+        } else {
+            request = ContainerRequestBuilder.from("entity", "POST")
+                    .entity(new ByteArrayInputStream(entity))
+                    .type(MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                    .build();
+        }
+        return handler.apply(request, new NullOutputStream());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(EntityBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}